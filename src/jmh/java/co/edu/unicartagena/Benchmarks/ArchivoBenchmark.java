@@ -0,0 +1,80 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoSegmento;
+import co.edu.unicartagena.Almacenamiento.ArchivoMatriz;
+import co.edu.unicartagena.Matriz;
+import co.edu.unicartagena.Operaciones.Sumador;
+import co.edu.unicartagena.Operaciones.Sumas;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks del formato binario: guardar, abrir con y sin verificación de los datos, y sumar directamente
+ * sobre el archivo proyectado en memoria.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArchivoBenchmark {
+    @Param({"1000", "8000"})
+    private int n;
+
+    private Matriz matriz;
+    private Path archivo;
+    private AlmacenamientoSegmento proyectada;
+
+    @Setup
+    public void preparar() throws IOException {
+        matriz = new Matriz(new AlmacenamientoPlano(n, n));
+        archivo = Files.createTempFile("matriz", ".mtrz");
+        matriz.guardar(archivo);
+        proyectada = ArchivoMatriz.abrir(archivo);
+    }
+
+    @TearDown
+    public void limpiar() throws IOException {
+        proyectada.close();
+        Files.deleteIfExists(archivo);
+    }
+
+    @Benchmark
+    public Path guardar() throws IOException {
+        matriz.guardar(archivo);
+        return archivo;
+    }
+
+    @Benchmark
+    public int abrir() throws IOException {
+        try (var almacenamiento = ArchivoMatriz.abrir(archivo)) {
+            return almacenamiento.filas();
+        }
+    }
+
+    @Benchmark
+    public int abrirVerificando() throws IOException {
+        try (var almacenamiento = ArchivoMatriz.abrir(archivo, true)) {
+            return almacenamiento.filas();
+        }
+    }
+
+    @Benchmark
+    public Sumas sumarProyectada() {
+        return Sumador.sumar(proyectada);
+    }
+}
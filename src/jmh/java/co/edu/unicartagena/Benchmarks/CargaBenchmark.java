@@ -0,0 +1,92 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import co.edu.unicartagena.Entrada.Cargador;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la carga de una matriz desde un archivo de texto: {@link Cargador} frente a la lectura por
+ * líneas con {@code split} e {@code Integer.parseInt} que se usaba antes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CargaBenchmark {
+    @Param({"100", "1000", "4000"})
+    private int n;
+
+    @Param({"SIN_CERO", "RANGO_AMPLIO"})
+    private Distribucion distribucion;
+
+    private Path archivo;
+
+    @Setup
+    public void preparar() throws IOException {
+        archivo = Files.createTempFile("matriz", ".txt");
+        var datos = distribucion.generar(n, n, 42);
+
+        try (var escritor = Files.newBufferedWriter(archivo)) {
+            for (int[] fila : datos) {
+                for (int j = 0; j < fila.length; j++) {
+                    if (j > 0) {
+                        escritor.write(' ');
+                    }
+
+                    escritor.write(Integer.toString(fila[j]));
+                }
+
+                escritor.write('\n');
+            }
+        }
+    }
+
+    @TearDown
+    public void limpiar() throws IOException {
+        Files.deleteIfExists(archivo);
+    }
+
+    @Benchmark
+    public Almacenamiento cargador() throws IOException {
+        return Cargador.cargar(archivo, n, n, false, Ubicacion.HEAP);
+    }
+
+    @Benchmark
+    public Almacenamiento cargadorDimensionesDeducidas() throws IOException {
+        return Cargador.cargar(archivo, false, Ubicacion.HEAP);
+    }
+
+    @Benchmark
+    public int[][] splitParseInt() throws IOException {
+        var matriz = new int[n][n];
+
+        try (BufferedReader lector = Files.newBufferedReader(archivo)) {
+            for (int i = 0; i < n; i++) {
+                var fila = lector.readLine().split(" ");
+
+                for (int j = 0; j < n; j++) {
+                    matriz[i][j] = Integer.parseInt(fila[j]);
+                }
+            }
+        }
+
+        return matriz;
+    }
+}
@@ -0,0 +1,96 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoCsr;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoDisperso;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Operaciones.Multiplicador;
+import co.edu.unicartagena.Operaciones.MultiplicadorDisperso;
+import co.edu.unicartagena.Operaciones.Sumador;
+import co.edu.unicartagena.Operaciones.Sumas;
+import co.edu.unicartagena.Operaciones.Transformador;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de las operaciones sobre matrices dispersas: el mismo contenido en un {@link AlmacenamientoPlano} y
+ * en un {@link AlmacenamientoCsr}. La matriz tiene la diagonal principal llena y, fuera de ella, una proporción
+ * {@code densidad} de celdas distintas de cero; con densidad 0 es una matriz diagonal.
+ * <p>
+ * La multiplicación densa tarda alrededor de un minuto con {@code n=4096} y varios con {@code n=8192}; para
+ * medir solo las sumas se puede usar {@code DispersoBenchmark.sumar}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DispersoBenchmark {
+    @Param({"1024", "4096", "8192"})
+    private int n;
+
+    @Param({"0", "0.001", "0.01"})
+    private double densidad;
+
+    @Param({"PLANO", "CSR"})
+    private String formato;
+
+    private Almacenamiento matriz;
+
+    @Setup
+    public void preparar() {
+        var plano = new AlmacenamientoPlano(n, n);
+        var random = new SplittableRandom(42);
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i == j || random.nextDouble() < densidad) {
+                    plano.set(i, j, random.nextInt(1, 10));
+                }
+            }
+        }
+
+        matriz = formato.equals("CSR") ? AlmacenamientoCsr.desde(plano) : plano;
+    }
+
+    @Benchmark
+    public Sumas sumar() {
+        return Sumador.sumar(matriz);
+    }
+
+    @Benchmark
+    public long sumarDiagonal() {
+        return Sumador.sumarDiagonal(matriz);
+    }
+
+    @Benchmark
+    public Almacenamiento transponer() {
+        if (matriz instanceof AlmacenamientoDisperso disperso) {
+            return disperso.transpuesta();
+        }
+
+        var destino = new AlmacenamientoPlano(n, n);
+        Transformador.transponer(matriz, destino);
+        return destino;
+    }
+
+    @Benchmark
+    public Object multiplicar() {
+        if (matriz instanceof AlmacenamientoDisperso) {
+            return MultiplicadorDisperso.multiplicar(matriz, matriz);
+        }
+
+        return Multiplicador.multiplicar(matriz, matriz);
+    }
+}
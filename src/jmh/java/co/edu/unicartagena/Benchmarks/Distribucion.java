@@ -0,0 +1,62 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import java.util.SplittableRandom;
+
+/**
+ * Distribución de los valores de las matrices usadas en los benchmarks.
+ */
+public enum Distribucion {
+    /**
+     * Valores entre 25 y 75, como en la opción de ordenar los elementos.
+     */
+    RANGO_CORTO,
+
+    /**
+     * Valores en todo el rango de los enteros.
+     */
+    RANGO_AMPLIO,
+
+    /**
+     * Valores entre -50 y 50 sin el cero, como en la opción de operaciones aritméticas.
+     */
+    SIN_CERO,
+
+    /**
+     * Aproximadamente el 95 % de las celdas en cero.
+     */
+    DISPERSA;
+
+    /**
+     * Genera una matriz con esta distribución. La misma semilla siempre produce la misma matriz.
+     *
+     * @param n       Número de filas.
+     * @param m       Número de columnas.
+     * @param semilla Semilla del generador.
+     * @return Matriz de tipo entero.
+     */
+    public int[][] generar(int n, int m, long semilla) {
+        var random = new SplittableRandom(semilla);
+        var matriz = new int[n][m];
+
+        for (int[] fila : matriz) {
+            for (int j = 0; j < m; j++) {
+                fila[j] = switch (this) {
+                    case RANGO_CORTO -> random.nextInt(25, 76);
+                    case RANGO_AMPLIO -> random.nextInt();
+                    case SIN_CERO -> random.nextInt(1, 51) * (random.nextBoolean() ? 1 : -1);
+                    case DISPERSA -> random.nextInt(20) == 0 ? random.nextInt(1, 100) : 0;
+                };
+            }
+        }
+
+        return matriz;
+    }
+}
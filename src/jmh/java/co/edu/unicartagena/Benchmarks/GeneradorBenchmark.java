@@ -0,0 +1,92 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import co.edu.unicartagena.Entrada.Generador;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la generación de matrices aleatorias sin el cero y con negativos, como en la opción de
+ * operaciones aritméticas: {@link Generador} frente al ciclo con {@link Random} y reintentos que se usaba antes.
+ * <p>
+ * El parámetro {@code hilos} permite medir la escalabilidad, por ejemplo con {@code -p hilos=1,2,4,8}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class GeneradorBenchmark {
+    @Param({"1000", "10000"})
+    private int n;
+
+    @Param({"HEAP", "FUERA_DEL_HEAP"})
+    private Ubicacion ubicacion;
+
+    @Param({"1"})
+    private int hilos;
+
+    private Generador generador;
+    private Almacenamiento destino;
+    private ForkJoinPool pool;
+    private long semilla;
+
+    @Setup
+    public void preparar() {
+        generador = Generador.semiabierto(-50, 50).sinCero().conNegativos();
+        destino = ubicacion.crear(n, n);
+        pool = new ForkJoinPool(hilos);
+    }
+
+    @TearDown
+    public void liberar() throws Exception {
+        pool.shutdown();
+
+        if (destino instanceof AutoCloseable cerrable) {
+            cerrable.close();
+        }
+    }
+
+    @Benchmark
+    public Almacenamiento generador() {
+        generador.llenar(destino, semilla++, pool);
+        return destino;
+    }
+
+    @Benchmark
+    public Almacenamiento randomConReintentos() {
+        var random = new Random(semilla++);
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                var aleatorio = random.nextInt(100) - 50;
+
+                if (aleatorio == 0) {
+                    --j;
+                    continue;
+                }
+
+                if (random.nextBoolean()) {
+                    aleatorio *= -1;
+                }
+
+                destino.set(i, j, aleatorio);
+            }
+        }
+
+        return destino;
+    }
+}
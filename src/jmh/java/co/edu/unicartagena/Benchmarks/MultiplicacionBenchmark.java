@@ -0,0 +1,105 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Operaciones.Multiplicador;
+import co.edu.unicartagena.Operaciones.Strassen;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la multiplicación de matrices: el algoritmo por bloques de {@link Multiplicador} frente al
+ * triple ciclo {@code i-j-k} directo sobre los vectores y frente a {@link Strassen}, y el producto por un vector.
+ * <p>
+ * El triple ciclo con {@code n=8192} tarda horas; para comparar solo los tamaños pequeños se puede usar
+ * {@code -p n=256,512,1024}. El parámetro {@code hilos} permite medir la escalabilidad, por ejemplo con
+ * {@code -p hilos=1,2,4,8}, y {@code corte} el lado desde el que Strassen usa el núcleo por bloques.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class MultiplicacionBenchmark {
+    @Param({"256", "512", "1024", "2048", "4096", "8192"})
+    private int n;
+
+    @Param({"1"})
+    private int hilos;
+
+    @Param({"256"})
+    private int corte;
+
+    private AlmacenamientoPlano a;
+    private AlmacenamientoPlano b;
+    private int[] vector;
+    private ForkJoinPool pool;
+    private Strassen strassen;
+
+    @Setup
+    public void preparar() {
+        a = AlmacenamientoPlano.desde(Distribucion.SIN_CERO.generar(n, n, 42));
+        b = AlmacenamientoPlano.desde(Distribucion.SIN_CERO.generar(n, n, 43));
+        vector = Distribucion.SIN_CERO.generar(1, n, 44)[0];
+        pool = new ForkJoinPool(hilos);
+        strassen = new Strassen(corte, pool);
+    }
+
+    @TearDown
+    public void liberar() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long[] porBloques() {
+        return Multiplicador.multiplicar(a, b, pool, hilos == 1 ? Long.MAX_VALUE : Multiplicador.UMBRAL_PARALELO);
+    }
+
+    /**
+     * Strassen con la misma instancia en todas las invocaciones, de modo que los vectores auxiliares se reservan
+     * solo en la primera.
+     */
+    @Benchmark
+    public long[] porStrassen() {
+        return strassen.multiplicar(a, b);
+    }
+
+    /**
+     * Triple ciclo sin bloques: recorre {@code b} por columnas, por lo que falla en caché con cada elemento.
+     */
+    @Benchmark
+    public long[] tripleCiclo() {
+        var x = a.datos();
+        var y = b.datos();
+        var c = new long[n * n];
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                long suma = 0;
+
+                for (int k = 0; k < n; k++) {
+                    suma += (long) x[i * n + k] * y[k * n + j];
+                }
+
+                c[i * n + j] = suma;
+            }
+        }
+
+        return c;
+    }
+
+    @Benchmark
+    public long[] porVector() {
+        return Multiplicador.multiplicar(a, vector, pool, hilos == 1 ? Long.MAX_VALUE : Multiplicador.UMBRAL_PARALELO);
+    }
+}
@@ -0,0 +1,141 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Extra.Pointer;
+import co.edu.unicartagena.Main;
+import co.edu.unicartagena.MatrizCuadrada;
+import co.edu.unicartagena.Operaciones.Orden;
+import co.edu.unicartagena.Operaciones.Triangulo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks del ordenamiento de los elementos por debajo y por encima de la diagonal principal.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrdenamientoBenchmark {
+    @Param({"10", "100", "1000", "2000"})
+    private int n;
+
+    @Param({"RANGO_CORTO", "RANGO_AMPLIO"})
+    private Distribucion distribucion;
+
+    private int[][] original;
+    private MatrizCuadrada enSitio;
+
+    @Setup(Level.Trial)
+    public void generar() {
+        original = distribucion.generar(n, n, 42);
+        enSitio = new MatrizCuadrada(original);
+    }
+
+    /**
+     * Restaura los valores originales sin reservar memoria, para que {@code gc.alloc.rate.norm} refleje solo lo
+     * que reserva el ordenamiento.
+     */
+    @Setup(Level.Invocation)
+    public void restaurar() {
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                enSitio.set(i, j, original[i][j]);
+            }
+        }
+    }
+
+    /**
+     * Vectores de punteros con los elementos de cada triángulo, como los construía {@code Main.ordenarElementos}.
+     */
+    @State(Scope.Benchmark)
+    public static class Punteros {
+        private Pointer[] inferior;
+        private Pointer[] superior;
+
+        @Setup(Level.Invocation)
+        public void preparar(OrdenamientoBenchmark benchmark) {
+            var n = benchmark.n;
+            var nout = n * (n - 1) / 2;
+            inferior = new Pointer[nout];
+            superior = new Pointer[nout];
+
+            int sup = 0;
+            int inf = 0;
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (j > i) {
+                        superior[sup++] = new Pointer(benchmark.original[i][j], i, j);
+                    } else if (j < i) {
+                        inferior[inf++] = new Pointer(benchmark.original[i][j], i, j);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Pool donde se ordenan los triángulos en paralelo. Solo lo usa {@link #ordenarTriangulosParalelo(Pool)},
+     * por lo que el parámetro {@code hilos} no multiplica los demás benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class Pool {
+        @Param({"1", "2", "4", "8"})
+        private int hilos;
+
+        private ForkJoinPool pool;
+
+        @Setup(Level.Trial)
+        public void crear() {
+            pool = new ForkJoinPool(hilos);
+        }
+
+        @TearDown(Level.Trial)
+        public void liberar() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public Pointer[] ordenarAscendente(Punteros punteros) {
+        Main.ordenarAscendente(punteros.inferior);
+        return punteros.inferior;
+    }
+
+    @Benchmark
+    public Pointer[] ordenarDescendiente(Punteros punteros) {
+        Main.ordenarDescendiente(punteros.superior);
+        return punteros.superior;
+    }
+
+    /**
+     * Ordenamiento en el lugar de los dos triángulos.
+     */
+    @Benchmark
+    public MatrizCuadrada ordenarTriangulos() {
+        enSitio.ordenarTriangulo(Triangulo.INFERIOR, Orden.ASCENDENTE);
+        enSitio.ordenarTriangulo(Triangulo.SUPERIOR, Orden.DESCENDENTE);
+        return enSitio;
+    }
+
+    /**
+     * Ordenamiento de los dos triángulos en paralelo en un pool de {@code hilos} hilos, comparable con
+     * {@link #ordenarTriangulos()}.
+     */
+    @Benchmark
+    public MatrizCuadrada ordenarTriangulosParalelo(Pool pool) {
+        enSitio.ordenarTriangulosParalelo(Orden.ASCENDENTE, Orden.DESCENDENTE, pool.pool);
+        return enSitio;
+    }
+}
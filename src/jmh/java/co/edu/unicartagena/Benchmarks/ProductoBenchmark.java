@@ -0,0 +1,88 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Operaciones.ProductoExacto;
+import co.edu.unicartagena.Operaciones.Secuencia;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks del producto exacto de una diagonal de {@code n} elementos en {@code [-50, 50]} sin ceros,
+ * comparado con una cadena de multiplicaciones de {@link BigInteger}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductoBenchmark {
+    @Param({"100", "10000", "100000"})
+    private int n;
+
+    private int[] diagonal;
+    private Secuencia secuencia;
+
+    @Setup
+    public void preparar() {
+        var random = new SplittableRandom(42);
+        diagonal = new int[n];
+
+        for (int k = 0; k < n; k++) {
+            var valor = random.nextInt(1, 51);
+            diagonal[k] = random.nextBoolean() ? valor : -valor;
+        }
+
+        secuencia = new Secuencia() {
+            @Override
+            public int tamano() {
+                return diagonal.length;
+            }
+
+            @Override
+            public int get(int k) {
+                return diagonal[k];
+            }
+
+            @Override
+            public void set(int k, int valor) {
+                diagonal[k] = valor;
+            }
+        };
+    }
+
+    /**
+     * Multiplicación en cadena, un factor a la vez.
+     */
+    @Benchmark
+    public BigInteger cadena() {
+        var producto = BigInteger.ONE;
+
+        for (int valor : diagonal) {
+            producto = producto.multiply(BigInteger.valueOf(valor));
+        }
+
+        return producto;
+    }
+
+    @Benchmark
+    public BigInteger arbol() {
+        return ProductoExacto.multiplicar(secuencia);
+    }
+
+    @Benchmark
+    public BigInteger arbolParalelo() {
+        return ProductoExacto.multiplicar(secuencia, ForkJoinPool.commonPool(), ProductoExacto.UMBRAL_PARALELO);
+    }
+}
@@ -0,0 +1,72 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.MatrizCuadrada;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la conversión de las matrices a texto. Con {@code -prof gc} se mide la tasa de asignación.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderBenchmark {
+    // El texto de una matriz de 10000x10000 ocupa varios GB, por lo que el tamaño máximo es menor.
+    @Param({"10", "100", "1000"})
+    private int n;
+
+    @Param({"RANGO_CORTO", "SIN_CERO"})
+    private Distribucion distribucion;
+
+    private MatrizCuadrada matriz;
+    private Writer descarte;
+
+    @Setup
+    public void preparar() {
+        matriz = new MatrizCuadrada(distribucion.generar(n, n, 42));
+        descarte = Writer.nullWriter();
+    }
+
+    @Benchmark
+    public String toStringMatriz() {
+        return matriz.toString();
+    }
+
+    @Benchmark
+    public String procesarSuma() {
+        return matriz.procesarSuma();
+    }
+
+    @Benchmark
+    public String diagonalPrincipal() {
+        return matriz.getDiagonalPrincipal();
+    }
+
+    @Benchmark
+    public String diagonalSecundaria() {
+        return matriz.getDiagonalSecundaria();
+    }
+
+    /**
+     * Escritura directa en un {@link Writer}, sin construir el texto completo.
+     */
+    @Benchmark
+    public Writer escribirMatriz() throws IOException {
+        matriz.escribir(descarte);
+        return descarte;
+    }
+}
@@ -0,0 +1,106 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.MatrizCuadrada;
+import co.edu.unicartagena.Operaciones.Direccion;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de la rotación de anillos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class RotacionBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    private int n;
+
+    @Param({"RANGO_CORTO"})
+    private Distribucion distribucion;
+
+    @Param({"90", "180", "270"})
+    private int grados;
+
+    /**
+     * Número de rotaciones consecutivas en los benchmarks que comparan la rotación inmediata con la diferida.
+     */
+    private static final int ROTACIONES = 8;
+
+    private MatrizCuadrada matriz;
+    private MatrizCuadrada diferida;
+    private int[] pasos;
+
+    @Setup
+    public void preparar() {
+        matriz = new MatrizCuadrada(distribucion.generar(n, n, 42));
+        diferida = new MatrizCuadrada(distribucion.generar(n, n, 42));
+        diferida.setRotacionDiferida(true);
+        pasos = new int[(n + 1) / 2];
+
+        for (int i = 0; i < pasos.length; i++) {
+            pasos[i] = 2 * i + 1;
+        }
+    }
+
+    @Benchmark
+    public MatrizCuadrada rotarAnilloExterior() {
+        matriz.rotarAnillo(1, "derecha", grados);
+        return matriz;
+    }
+
+    @Benchmark
+    public MatrizCuadrada rotarTodosLosAnillos() {
+        for (int anillo = 1; anillo <= n / 2; anillo++) {
+            matriz.rotarAnillo(anillo, "derecha", grados);
+        }
+
+        return matriz;
+    }
+
+    /**
+     * Desplazamiento de todos los anillos por un número arbitrario de posiciones en una sola llamada.
+     */
+    @Benchmark
+    public MatrizCuadrada desplazarTodosLosAnillos() {
+        matriz.rotarAnillos(Direccion.DERECHA, pasos);
+        return matriz;
+    }
+
+    /**
+     * Varias rotaciones consecutivas de todos los anillos, aplicadas inmediatamente.
+     */
+    @Benchmark
+    public MatrizCuadrada rotarVariasVeces() {
+        for (int k = 0; k < ROTACIONES; k++) {
+            matriz.rotarAnillos(Direccion.DERECHA, pasos);
+        }
+
+        return matriz;
+    }
+
+    /**
+     * Las mismas rotaciones de {@link #rotarVariasVeces()} con la rotación diferida: se componen los
+     * desplazamientos y los datos se mueven una sola vez al materializar.
+     */
+    @Benchmark
+    public MatrizCuadrada rotarVariasVecesDiferido() {
+        for (int k = 0; k < ROTACIONES; k++) {
+            diferida.rotarAnillos(Direccion.DERECHA, pasos);
+        }
+
+        diferida.materializar();
+        return diferida;
+    }
+}
@@ -0,0 +1,116 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import co.edu.unicartagena.Matriz;
+import co.edu.unicartagena.Operaciones.Sumador;
+import co.edu.unicartagena.Operaciones.Sumas;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de las sumas de filas, columnas y diagonal.
+ * <p>
+ * El parámetro {@code hilos} mide la escalabilidad del algoritmo paralelo; por defecto se prueba con 1, 2, 4 y 8
+ * hilos. Con {@code hilos=1} se usa el camino secuencial, por lo que la comparación incluye el costo de repartir
+ * el trabajo. Los resultados solo muestran escalabilidad si la máquina tiene al menos tantos núcleos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SumasBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    private int n;
+
+    @Param({"RANGO_CORTO", "RANGO_AMPLIO"})
+    private Distribucion distribucion;
+
+    @Param({"HEAP", "FUERA_DEL_HEAP"})
+    private Ubicacion ubicacion;
+
+    @Param({"1", "2", "4", "8"})
+    private int hilos;
+
+    private int[][] jagged;
+    private Almacenamiento almacenamiento;
+    private Matriz matriz;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void preparar() {
+        jagged = distribucion.generar(n, n, 42);
+        almacenamiento = ubicacion.crear(n, n);
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                almacenamiento.set(i, j, jagged[i][j]);
+            }
+        }
+
+        matriz = new Matriz(almacenamiento);
+        matriz.setUmbralParalelo(hilos == 1 ? Long.MAX_VALUE : Sumador.UMBRAL_PARALELO);
+        pool = new ForkJoinPool(hilos);
+    }
+
+    @TearDown
+    public void liberar() {
+        pool.shutdown();
+        matriz.close();
+    }
+
+    /**
+     * Cálculo completo de las sumas, sin usar las sumas guardadas por la matriz.
+     */
+    @Benchmark
+    public Sumas calcularSumas() {
+        return Sumador.sumar(almacenamiento, pool, matriz.getUmbralParalelo());
+    }
+
+    /**
+     * Modificación de una celda seguida de una consulta de las sumas, que la matriz mantiene al día sin
+     * recalcularlas.
+     */
+    @Benchmark
+    public Sumas actualizarYConsultar() {
+        matriz.set(n / 2, n / 2, matriz.get(n / 2, n / 2) + 1);
+        return matriz.calcularSumas(pool);
+    }
+
+    @Benchmark
+    public long sumarDiagonal() {
+        return Sumador.sumarDiagonal(almacenamiento);
+    }
+
+    /**
+     * Suma de columnas original: recorrido por columnas sobre la matriz {@code int[][]}.
+     */
+    @Benchmark
+    public long[] columnasJagged() {
+        var sumas = new long[n];
+
+        for (int j = 0; j < n; j++) {
+            long suma = 0;
+
+            for (int[] fila : jagged) {
+                suma += fila[j];
+            }
+
+            sumas[j] = suma;
+        }
+
+        return sumas;
+    }
+}
@@ -0,0 +1,57 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.TipoElemento;
+import co.edu.unicartagena.Entrada.Generador;
+import co.edu.unicartagena.Matriz;
+import co.edu.unicartagena.Operaciones.Sumador;
+import co.edu.unicartagena.Operaciones.Sumas;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de las operaciones que recorren toda la matriz según el tipo de sus celdas, con valores entre 25 y
+ * 75 como los de la opción de ordenar, que caben en cualquiera de los tipos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TipoElementoBenchmark {
+    @Param({"100", "1000", "4000"})
+    private int n;
+
+    @Param({"LONG", "INT", "SHORT", "BYTE"})
+    private TipoElemento tipo;
+
+    private Almacenamiento almacenamiento;
+    private Matriz matriz;
+
+    @Setup
+    public void preparar() {
+        almacenamiento = tipo.crear(n, n);
+        Generador.cerrado(25, 75).llenar(almacenamiento, 42);
+        matriz = new Matriz(almacenamiento);
+    }
+
+    @Benchmark
+    public Sumas sumar() {
+        return Sumador.sumar(almacenamiento);
+    }
+
+    @Benchmark
+    public Matriz transponer() {
+        return matriz.transponer();
+    }
+}
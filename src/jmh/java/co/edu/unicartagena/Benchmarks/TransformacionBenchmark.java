@@ -0,0 +1,75 @@
+package co.edu.unicartagena.Benchmarks;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Matriz;
+import co.edu.unicartagena.MatrizCuadrada;
+import co.edu.unicartagena.Operaciones.Direccion;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de las transformaciones de la matriz completa, comparadas con la rotación anillo por anillo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TransformacionBenchmark {
+    @Param({"100", "1000", "4000", "16000"})
+    private int n;
+
+    @Param({"RANGO_CORTO"})
+    private Distribucion distribucion;
+
+    private MatrizCuadrada matriz;
+
+    @Setup
+    public void preparar() {
+        matriz = new MatrizCuadrada(distribucion.generar(n, n, 42));
+    }
+
+    @Benchmark
+    public MatrizCuadrada rotar90() {
+        matriz.rotar(Direccion.DERECHA, 90);
+        return matriz;
+    }
+
+    /**
+     * Rotación de 90 grados de la matriz completa usando {@code rotarAnillo} en cada anillo.
+     */
+    @Benchmark
+    public MatrizCuadrada rotar90PorAnillos() {
+        for (int anillo = 1; anillo <= n / 2; anillo++) {
+            matriz.rotarAnillo(anillo, "derecha", 90);
+        }
+
+        return matriz;
+    }
+
+    @Benchmark
+    public MatrizCuadrada rotar180() {
+        matriz.rotar(Direccion.DERECHA, 180);
+        return matriz;
+    }
+
+    @Benchmark
+    public MatrizCuadrada transponerEnSitio() {
+        matriz.transponerEnSitio();
+        return matriz;
+    }
+
+    @Benchmark
+    public Matriz transponer() {
+        return matriz.transponer();
+    }
+}
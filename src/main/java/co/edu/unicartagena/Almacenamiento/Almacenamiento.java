@@ -0,0 +1,114 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Interfaz para representar el almacenamiento de los datos de una matriz.
+ * <p>
+ * Las operaciones de {@code Matriz} y {@code MatrizCuadrada} acceden a los datos únicamente a través de esta
+ * interfaz, de modo que la disposición en memoria puede cambiar sin modificar los algoritmos.
+ */
+public interface Almacenamiento {
+
+    /**
+     * Obtiene el número de filas del almacenamiento.
+     *
+     * @return Número de filas.
+     */
+    int filas();
+
+    /**
+     * Obtiene el número de columnas del almacenamiento.
+     *
+     * @return Número de columnas.
+     */
+    int columnas();
+
+    /**
+     * Obtiene el valor de una celda.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return Valor de la celda.
+     * @throws IndexOutOfBoundsException Si la posición está fuera del almacenamiento.
+     */
+    int get(int fila, int columna);
+
+    /**
+     * Modifica el valor de una celda.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @param valor   Nuevo valor de la celda.
+     * @throws IndexOutOfBoundsException Si la posición está fuera del almacenamiento.
+     */
+    void set(int fila, int columna, int valor);
+
+    /**
+     * Obtiene el valor de una celda como {@code long}. Los almacenamientos cuyas celdas pueden no caber en un
+     * {@code int}, como {@link AlmacenamientoLong}, lo sobrescriben; en los demás equivale a {@link #get(int, int)}.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return Valor de la celda.
+     * @throws IndexOutOfBoundsException Si la posición está fuera del almacenamiento.
+     */
+    default long getLong(int fila, int columna) {
+        return get(fila, columna);
+    }
+
+    /**
+     * Modifica el valor de una celda a partir de un {@code long}. Por defecto el valor debe caber en un
+     * {@code int}; {@link AlmacenamientoLong} lo guarda completo.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @param valor   Nuevo valor de la celda.
+     * @throws IndexOutOfBoundsException Si la posición está fuera del almacenamiento.
+     * @throws IllegalArgumentException  Si el valor no cabe en las celdas del almacenamiento.
+     */
+    default void setLong(int fila, int columna, long valor) throws IllegalArgumentException {
+        if (valor != (int) valor) {
+            throw new IllegalArgumentException("El valor %d no cabe en un int.".formatted(valor));
+        }
+
+        set(fila, columna, (int) valor);
+    }
+
+    /**
+     * Obtiene una vista rectangular que comparte los datos con este almacenamiento.
+     *
+     * @param fila     Fila inicial de la vista.
+     * @param columna  Columna inicial de la vista.
+     * @param filas    Número de filas de la vista.
+     * @param columnas Número de columnas de la vista.
+     * @return Vista del almacenamiento.
+     * @throws IndexOutOfBoundsException Si la vista no cabe en el almacenamiento.
+     */
+    Almacenamiento subVista(int fila, int columna, int filas, int columnas);
+
+    /**
+     * Obtiene el número total de celdas del almacenamiento.
+     *
+     * @return Número de celdas.
+     */
+    default long celdas() {
+        return (long) filas() * columnas();
+    }
+
+    /**
+     * Indica si el almacenamiento no admite modificaciones. En ese caso {@link #set(int, int, int)} lanza
+     * {@link UnsupportedOperationException}.
+     *
+     * @return true si el almacenamiento es de solo lectura.
+     */
+    default boolean esSoloLectura() {
+        return false;
+    }
+}
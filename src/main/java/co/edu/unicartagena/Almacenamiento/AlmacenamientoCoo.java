@@ -0,0 +1,302 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Almacenamiento disperso por lista de coordenadas (COO).
+ * <p>
+ * Cada celda distinta de cero se guarda como una terna (fila, columna, valor) en tres vectores paralelos, sin
+ * un orden particular. Una tabla hash de direccionamiento abierto con las posiciones de las ternas permite leer,
+ * agregar y quitar celdas en tiempo constante, por lo que es el formato adecuado para construir o modificar una
+ * matriz dispersa en cualquier orden. Para recorrerla por filas se convierte con {@link #comprimir()}.
+ */
+public class AlmacenamientoCoo implements AlmacenamientoDisperso {
+    /**
+     * Número de filas.
+     */
+    private final int filas;
+
+    /**
+     * Número de columnas.
+     */
+    private final int columnas;
+
+    /**
+     * Fila de cada terna.
+     */
+    private int[] filasCeldas;
+
+    /**
+     * Columna de cada terna.
+     */
+    private int[] columnasCeldas;
+
+    /**
+     * Valor de cada terna.
+     */
+    private int[] valores;
+
+    /**
+     * Número de ternas guardadas.
+     */
+    private int noCeros;
+
+    /**
+     * Tabla hash con la posición de cada terna más uno; cero indica una entrada libre. Su largo es una potencia
+     * de dos, al menos el doble del número de ternas.
+     */
+    private int[] tabla;
+
+    /**
+     * Constructor de la clase. Crea un almacenamiento lleno de ceros.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @throws IllegalArgumentException Si las dimensiones son negativas.
+     */
+    public AlmacenamientoCoo(int filas, int columnas) throws IllegalArgumentException {
+        this(filas, columnas, 16);
+    }
+
+    /**
+     * Constructor de la clase. Crea un almacenamiento lleno de ceros con espacio para la cantidad indicada de
+     * celdas distintas de cero.
+     *
+     * @param filas     Número de filas.
+     * @param columnas  Número de columnas.
+     * @param capacidad Número de celdas distintas de cero que se esperan.
+     * @throws IllegalArgumentException Si las dimensiones o la capacidad son negativas.
+     */
+    public AlmacenamientoCoo(int filas, int columnas, int capacidad) throws IllegalArgumentException {
+        if (filas < 0 || columnas < 0 || capacidad < 0) {
+            throw new IllegalArgumentException("Las dimensiones y la capacidad no pueden ser negativas.");
+        }
+
+        this.filas = filas;
+        this.columnas = columnas;
+        this.filasCeldas = new int[capacidad];
+        this.columnasCeldas = new int[capacidad];
+        this.valores = new int[capacidad];
+        this.tabla = new int[largoTabla(capacidad)];
+    }
+
+    @Override
+    public int filas() {
+        return filas;
+    }
+
+    @Override
+    public int columnas() {
+        return columnas;
+    }
+
+    @Override
+    public int get(int fila, int columna) {
+        var entrada = buscar(fila, columna);
+        return entrada >= 0 ? valores[tabla[entrada] - 1] : 0;
+    }
+
+    @Override
+    public void set(int fila, int columna, int valor) {
+        var entrada = buscar(fila, columna);
+
+        if (entrada >= 0) {
+            if (valor != 0) {
+                valores[tabla[entrada] - 1] = valor;
+            } else {
+                quitar(entrada);
+            }
+        } else if (valor != 0) {
+            agregar(-entrada - 1, fila, columna, valor);
+        }
+    }
+
+    @Override
+    public Almacenamiento subVista(int fila, int columna, int filas, int columnas) {
+        return new Vista(this, fila, columna, filas, columnas);
+    }
+
+    @Override
+    public int noCeros() {
+        return noCeros;
+    }
+
+    @Override
+    public void recorrer(Visitante visitante) {
+        for (int k = 0; k < noCeros; k++) {
+            visitante.visitar(filasCeldas[k], columnasCeldas[k], valores[k]);
+        }
+    }
+
+    @Override
+    public AlmacenamientoCoo transpuesta() {
+        var transpuesta = new AlmacenamientoCoo(columnas, filas, noCeros);
+
+        for (int k = 0; k < noCeros; k++) {
+            var entrada = transpuesta.buscar(columnasCeldas[k], filasCeldas[k]);
+            transpuesta.agregar(-entrada - 1, columnasCeldas[k], filasCeldas[k], valores[k]);
+        }
+
+        return transpuesta;
+    }
+
+    /**
+     * Convierte las ternas a {@link AlmacenamientoCsr}: se cuentan las celdas de cada fila, se reparten por filas
+     * y se ordena cada fila por columnas.
+     *
+     * @return Copia en formato CSR.
+     */
+    @Override
+    public AlmacenamientoCsr comprimir() {
+        var inicios = new int[filas + 1];
+
+        for (int k = 0; k < noCeros; k++) {
+            inicios[filasCeldas[k] + 1]++;
+        }
+
+        for (int i = 0; i < filas; i++) {
+            inicios[i + 1] += inicios[i];
+        }
+
+        // Columna y valor en un mismo long, con la columna en los bits altos, para ordenar cada fila con
+        // Arrays.sort sin vectores auxiliares.
+        var siguiente = Arrays.copyOf(inicios, filas);
+        var celdas = new long[noCeros];
+
+        for (int k = 0; k < noCeros; k++) {
+            celdas[siguiente[filasCeldas[k]]++] = (long) columnasCeldas[k] << 32 | valores[k] & 0xFFFFFFFFL;
+        }
+
+        var indices = new int[noCeros];
+        var valoresCsr = new int[noCeros];
+
+        for (int i = 0; i < filas; i++) {
+            Arrays.sort(celdas, inicios[i], inicios[i + 1]);
+        }
+
+        for (int k = 0; k < noCeros; k++) {
+            indices[k] = (int) (celdas[k] >>> 32);
+            valoresCsr[k] = (int) celdas[k];
+        }
+
+        return new AlmacenamientoCsr(filas, columnas, inicios, indices, valoresCsr);
+    }
+
+    /**
+     * Busca la entrada de la tabla que corresponde a una celda.
+     *
+     * @return Entrada de la tabla con la posición de la celda, o {@code -(entrada libre donde se agregaría) - 1}
+     * si la celda no está guardada.
+     */
+    private int buscar(int fila, int columna) {
+        Objects.checkIndex(fila, filas);
+        Objects.checkIndex(columna, columnas);
+
+        var mascara = tabla.length - 1;
+
+        for (int entrada = dispersar(fila, columna, mascara); ; entrada = entrada + 1 & mascara) {
+            var posicion = tabla[entrada] - 1;
+
+            if (posicion < 0) {
+                return -entrada - 1;
+            }
+
+            if (filasCeldas[posicion] == fila && columnasCeldas[posicion] == columna) {
+                return entrada;
+            }
+        }
+    }
+
+    private void agregar(int entrada, int fila, int columna, int valor) {
+        if (noCeros == valores.length) {
+            var capacidad = AlmacenamientoCsr.crecer(noCeros);
+            filasCeldas = Arrays.copyOf(filasCeldas, capacidad);
+            columnasCeldas = Arrays.copyOf(columnasCeldas, capacidad);
+            valores = Arrays.copyOf(valores, capacidad);
+        }
+
+        filasCeldas[noCeros] = fila;
+        columnasCeldas[noCeros] = columna;
+        valores[noCeros] = valor;
+        noCeros++;
+
+        if (largoTabla(noCeros) > tabla.length) {
+            redimensionar(largoTabla(noCeros));
+        } else {
+            tabla[entrada] = noCeros;
+        }
+    }
+
+    /**
+     * Quita la celda de una entrada de la tabla. La última terna ocupa su lugar en los vectores, y las entradas
+     * siguientes de la tabla se desplazan hacia atrás para no dejar huecos en sus secuencias de búsqueda.
+     */
+    private void quitar(int entrada) {
+        var posicion = tabla[entrada] - 1;
+        var mascara = tabla.length - 1;
+        var libre = entrada;
+
+        tabla[libre] = 0;
+
+        for (int siguiente = libre + 1 & mascara; tabla[siguiente] != 0; siguiente = siguiente + 1 & mascara) {
+            var otra = tabla[siguiente] - 1;
+            var ideal = dispersar(filasCeldas[otra], columnasCeldas[otra], mascara);
+
+            // La entrada puede ocupar el hueco si su posición ideal no está entre el hueco y ella.
+            if ((siguiente - ideal & mascara) >= (siguiente - libre & mascara)) {
+                tabla[libre] = tabla[siguiente];
+                tabla[siguiente] = 0;
+                libre = siguiente;
+            }
+        }
+
+        var ultima = --noCeros;
+
+        if (posicion != ultima) {
+            filasCeldas[posicion] = filasCeldas[ultima];
+            columnasCeldas[posicion] = columnasCeldas[ultima];
+            valores[posicion] = valores[ultima];
+            tabla[buscar(filasCeldas[posicion], columnasCeldas[posicion])] = posicion + 1;
+        }
+    }
+
+    private void redimensionar(int largo) {
+        tabla = new int[largo];
+        var mascara = largo - 1;
+
+        for (int k = 0; k < noCeros; k++) {
+            var entrada = dispersar(filasCeldas[k], columnasCeldas[k], mascara);
+
+            while (tabla[entrada] != 0) {
+                entrada = entrada + 1 & mascara;
+            }
+
+            tabla[entrada] = k + 1;
+        }
+    }
+
+    /**
+     * Calcula la entrada inicial de una celda en la tabla, mezclando los bits de la fila y la columna.
+     */
+    private static int dispersar(int fila, int columna, int mascara) {
+        var clave = ((long) fila << 32 | columna) * 0x9E3779B97F4A7C15L;
+        return (int) (clave ^ clave >>> 32) & mascara;
+    }
+
+    /**
+     * Calcula el largo de la tabla para la cantidad indicada de ternas: la menor potencia de dos que es al menos
+     * el doble.
+     */
+    private static int largoTabla(int noCeros) {
+        return Math.max(16, Integer.highestOneBit(Math.max(1, noCeros) * 2 - 1) << 1);
+    }
+}
@@ -0,0 +1,372 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Almacenamiento disperso por filas comprimidas (CSR).
+ * <p>
+ * Las celdas distintas de cero se guardan por filas y, dentro de cada fila, por columnas crecientes: la fila
+ * {@code i} ocupa las posiciones {@code [inicios[i], inicios[i + 1])} de los vectores {@code indices} (columna
+ * de cada celda) y {@code valores}. Ocupa 8 bytes por celda distinta de cero más 4 por fila, y una celda se
+ * encuentra con una búsqueda binaria dentro de su fila.
+ * <p>
+ * Cambiar el valor de una celda guardada es inmediato, pero agregar o quitar una celda desplaza todas las
+ * siguientes, por lo que para construir una matriz en desorden conviene usar {@link AlmacenamientoCoo} y
+ * comprimirla al final. Agregar celdas en orden de filas y columnas solo desplaza los inicios de las filas
+ * siguientes.
+ */
+public class AlmacenamientoCsr implements AlmacenamientoDisperso {
+    /**
+     * Número de filas.
+     */
+    private final int filas;
+
+    /**
+     * Número de columnas.
+     */
+    private final int columnas;
+
+    /**
+     * Posición de la primera celda de cada fila; {@code inicios[filas]} es el número de celdas guardadas.
+     */
+    private final int[] inicios;
+
+    /**
+     * Columna de cada celda guardada.
+     */
+    private int[] indices;
+
+    /**
+     * Valor de cada celda guardada.
+     */
+    private int[] valores;
+
+    /**
+     * Constructor de la clase. Crea un almacenamiento lleno de ceros.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @throws IllegalArgumentException Si las dimensiones son negativas.
+     */
+    public AlmacenamientoCsr(int filas, int columnas) throws IllegalArgumentException {
+        this(filas, columnas, new int[Math.max(filas, 0) + 1], new int[0], new int[0]);
+    }
+
+    /**
+     * Constructor de la clase sobre vectores existentes, que no se copian.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @param inicios  Posición de la primera celda de cada fila, con {@code filas + 1} elementos no decrecientes.
+     * @param indices  Columna de cada celda, creciente dentro de cada fila.
+     * @param valores  Valor de cada celda, distinto de cero.
+     * @throws IllegalArgumentException Si los vectores no describen una matriz CSR válida de ese tamaño.
+     */
+    public AlmacenamientoCsr(int filas, int columnas, int[] inicios, int[] indices, int[] valores)
+            throws IllegalArgumentException {
+        if (filas < 0 || columnas < 0) {
+            throw new IllegalArgumentException("Las dimensiones no pueden ser negativas.");
+        }
+
+        if (inicios.length != filas + 1 || inicios[0] != 0) {
+            throw new IllegalArgumentException("Se esperaban %d inicios de fila comenzando en 0.".formatted(filas + 1));
+        }
+
+        var noCeros = inicios[filas];
+
+        if (indices.length < noCeros || valores.length < noCeros) {
+            throw new IllegalArgumentException("Los vectores no tienen espacio para %d celdas.".formatted(noCeros));
+        }
+
+        for (int i = 0; i < filas; i++) {
+            if (inicios[i] > inicios[i + 1]) {
+                throw new IllegalArgumentException("Los inicios de las filas %d y %d no son crecientes."
+                        .formatted(i, i + 1));
+            }
+
+            for (int k = inicios[i]; k < inicios[i + 1]; k++) {
+                if (indices[k] < 0 || indices[k] >= columnas || k > inicios[i] && indices[k] <= indices[k - 1]) {
+                    throw new IllegalArgumentException("Columna no válida en la fila %d: %d.".formatted(i, indices[k]));
+                }
+
+                if (valores[k] == 0) {
+                    throw new IllegalArgumentException("La celda (%d, %d) está guardada con valor cero."
+                            .formatted(i, indices[k]));
+                }
+            }
+        }
+
+        this.filas = filas;
+        this.columnas = columnas;
+        this.inicios = inicios;
+        this.indices = indices;
+        this.valores = valores;
+    }
+
+    /**
+     * Crea un almacenamiento CSR copiando las celdas distintas de cero de una matriz de tipo {@code int[][]}.
+     *
+     * @param matriz Matriz de tipo entero.
+     * @return Almacenamiento con una copia de los datos.
+     * @throws IllegalArgumentException Si las filas de la matriz no tienen la misma cantidad de columnas.
+     */
+    public static AlmacenamientoCsr desde(int[][] matriz) throws IllegalArgumentException {
+        var columnas = matriz.length == 0 ? 0 : matriz[0].length;
+        var inicios = new int[matriz.length + 1];
+
+        for (int i = 0; i < matriz.length; i++) {
+            if (matriz[i].length != columnas) {
+                throw new IllegalArgumentException("La fila %d tiene %d columnas, se esperaban %d."
+                        .formatted(i, matriz[i].length, columnas));
+            }
+
+            var noCeros = 0;
+
+            for (var valor : matriz[i]) {
+                if (valor != 0) {
+                    noCeros++;
+                }
+            }
+
+            inicios[i + 1] = Math.addExact(inicios[i], noCeros);
+        }
+
+        var indices = new int[inicios[matriz.length]];
+        var valores = new int[indices.length];
+        var k = 0;
+
+        for (var fila : matriz) {
+            for (int j = 0; j < columnas; j++) {
+                if (fila[j] != 0) {
+                    indices[k] = j;
+                    valores[k++] = fila[j];
+                }
+            }
+        }
+
+        return new AlmacenamientoCsr(matriz.length, columnas, inicios, indices, valores);
+    }
+
+    /**
+     * Crea un almacenamiento CSR copiando las celdas distintas de cero de otro almacenamiento. Si el origen es
+     * disperso, solo se recorren sus celdas guardadas.
+     *
+     * @param origen Almacenamiento a copiar.
+     * @return Almacenamiento CSR con una copia de los datos.
+     */
+    public static AlmacenamientoCsr desde(Almacenamiento origen) {
+        if (origen instanceof AlmacenamientoDisperso disperso) {
+            var csr = disperso.comprimir();
+            return csr == origen ? csr.copiar() : csr;
+        }
+
+        var inicios = new int[origen.filas() + 1];
+        var indices = new int[16];
+        var valores = new int[16];
+        var k = 0;
+
+        for (int i = 0; i < origen.filas(); i++) {
+            for (int j = 0; j < origen.columnas(); j++) {
+                var valor = origen.get(i, j);
+
+                if (valor != 0) {
+                    if (k == indices.length) {
+                        var capacidad = crecer(k);
+                        indices = Arrays.copyOf(indices, capacidad);
+                        valores = Arrays.copyOf(valores, capacidad);
+                    }
+
+                    indices[k] = j;
+                    valores[k++] = valor;
+                }
+            }
+
+            inicios[i + 1] = k;
+        }
+
+        return new AlmacenamientoCsr(origen.filas(), origen.columnas(), inicios, indices, valores);
+    }
+
+    private AlmacenamientoCsr copiar() {
+        var noCeros = noCeros();
+        return new AlmacenamientoCsr(filas, columnas, inicios.clone(), Arrays.copyOf(indices, noCeros),
+                Arrays.copyOf(valores, noCeros));
+    }
+
+    @Override
+    public int filas() {
+        return filas;
+    }
+
+    @Override
+    public int columnas() {
+        return columnas;
+    }
+
+    @Override
+    public int get(int fila, int columna) {
+        var posicion = buscar(fila, columna);
+        return posicion >= 0 ? valores[posicion] : 0;
+    }
+
+    @Override
+    public void set(int fila, int columna, int valor) {
+        var posicion = buscar(fila, columna);
+
+        if (posicion >= 0) {
+            if (valor != 0) {
+                valores[posicion] = valor;
+            } else {
+                quitar(fila, posicion);
+            }
+        } else if (valor != 0) {
+            agregar(fila, -posicion - 1, columna, valor);
+        }
+    }
+
+    @Override
+    public Almacenamiento subVista(int fila, int columna, int filas, int columnas) {
+        return new Vista(this, fila, columna, filas, columnas);
+    }
+
+    @Override
+    public int noCeros() {
+        return inicios[filas];
+    }
+
+    @Override
+    public void recorrer(Visitante visitante) {
+        for (int i = 0; i < filas; i++) {
+            for (int k = inicios[i]; k < inicios[i + 1]; k++) {
+                visitante.visitar(i, indices[k], valores[k]);
+            }
+        }
+    }
+
+    @Override
+    public AlmacenamientoCsr transpuesta() {
+        var noCeros = noCeros();
+        var iniciosT = new int[columnas + 1];
+
+        for (int k = 0; k < noCeros; k++) {
+            iniciosT[indices[k] + 1]++;
+        }
+
+        for (int j = 0; j < columnas; j++) {
+            iniciosT[j + 1] += iniciosT[j];
+        }
+
+        // Al recorrer las filas en orden, cada fila de la transpuesta recibe sus columnas ya ordenadas.
+        var siguiente = Arrays.copyOf(iniciosT, columnas);
+        var indicesT = new int[noCeros];
+        var valoresT = new int[noCeros];
+
+        for (int i = 0; i < filas; i++) {
+            for (int k = inicios[i]; k < inicios[i + 1]; k++) {
+                var destino = siguiente[indices[k]]++;
+                indicesT[destino] = i;
+                valoresT[destino] = valores[k];
+            }
+        }
+
+        return new AlmacenamientoCsr(columnas, filas, iniciosT, indicesT, valoresT);
+    }
+
+    @Override
+    public AlmacenamientoCsr comprimir() {
+        return this;
+    }
+
+    /**
+     * Obtiene la posición de la primera celda guardada de una fila. Las celdas de la fila {@code i} ocupan las
+     * posiciones {@code [inicio(i), inicio(i + 1))} de {@link #indices()} y {@link #valores()}.
+     *
+     * @param fila Índice de la fila, hasta {@code filas()} inclusive.
+     * @return Posición de la primera celda de la fila.
+     */
+    public int inicio(int fila) {
+        return inicios[Objects.checkIndex(fila, filas + 1)];
+    }
+
+    /**
+     * Obtiene el vector con la columna de cada celda guardada. El vector puede tener más posiciones que
+     * {@link #noCeros()}, y se reemplaza al agregar celdas si no tiene espacio.
+     *
+     * @return Vector de columnas.
+     */
+    public int[] indices() {
+        return indices;
+    }
+
+    /**
+     * Obtiene el vector con el valor de cada celda guardada, en el mismo orden que {@link #indices()}.
+     *
+     * @return Vector de valores.
+     */
+    public int[] valores() {
+        return valores;
+    }
+
+    /**
+     * Busca una celda dentro de su fila.
+     *
+     * @return Posición de la celda, o {@code -(posición donde se insertaría) - 1} si no está guardada.
+     */
+    private int buscar(int fila, int columna) {
+        Objects.checkIndex(fila, filas);
+        Objects.checkIndex(columna, columnas);
+
+        return Arrays.binarySearch(indices, inicios[fila], inicios[fila + 1], columna);
+    }
+
+    private void agregar(int fila, int posicion, int columna, int valor) {
+        var noCeros = noCeros();
+
+        if (noCeros == indices.length) {
+            var capacidad = crecer(noCeros);
+            indices = Arrays.copyOf(indices, capacidad);
+            valores = Arrays.copyOf(valores, capacidad);
+        }
+
+        System.arraycopy(indices, posicion, indices, posicion + 1, noCeros - posicion);
+        System.arraycopy(valores, posicion, valores, posicion + 1, noCeros - posicion);
+        indices[posicion] = columna;
+        valores[posicion] = valor;
+
+        for (int i = fila + 1; i <= filas; i++) {
+            inicios[i]++;
+        }
+    }
+
+    private void quitar(int fila, int posicion) {
+        var noCeros = noCeros();
+
+        System.arraycopy(indices, posicion + 1, indices, posicion, noCeros - posicion - 1);
+        System.arraycopy(valores, posicion + 1, valores, posicion, noCeros - posicion - 1);
+
+        for (int i = fila + 1; i <= filas; i++) {
+            inicios[i]--;
+        }
+    }
+
+    /**
+     * Calcula la nueva capacidad de los vectores de celdas, un 50% mayor que la actual. El cálculo se hace en
+     * {@code long} para que no se desborde con capacidades cercanas al máximo.
+     */
+    static int crecer(int capacidad) {
+        if (capacidad >= Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("No caben más celdas distintas de cero.");
+        }
+
+        return (int) Math.min(Integer.MAX_VALUE - 8L, Math.max(16L, capacidad + (long) (capacidad >> 1)));
+    }
+}
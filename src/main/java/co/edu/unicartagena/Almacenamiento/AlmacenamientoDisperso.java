@@ -0,0 +1,153 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Almacenamiento que guarda solo las celdas distintas de cero, de modo que la memoria y el tiempo de los
+ * recorridos dependen del número de esas celdas y no del tamaño de la matriz.
+ * <p>
+ * Las operaciones que conocen esta interfaz recorren solo las celdas guardadas con
+ * {@link #recorrer(Visitante)}; las demás siguen funcionando a través de {@link #get(int, int)}, aunque cada
+ * acceso es más lento que en un almacenamiento denso.
+ * <p>
+ * Escribir una celda puede cambiar la estructura compartida por todas (los vectores de {@link AlmacenamientoCsr}
+ * o la tabla de {@link AlmacenamientoCoo}), por lo que {@link #set(int, int, int)} no se puede llamar desde
+ * varios hilos a la vez, aunque las celdas sean distintas; las operaciones de las matrices que escriben en
+ * paralelo usan el camino secuencial con estos almacenamientos. En CSR, además, cada celda que pasa de cero a
+ * distinta de cero, o al revés, cuesta tiempo proporcional al número de celdas guardadas, así que reescribir
+ * una parte grande de la matriz (ordenar un triángulo, rotar anillos) cuesta O(noCeros) por celda escrita;
+ * para esas operaciones conviene copiar antes la matriz a un almacenamiento denso.
+ */
+public interface AlmacenamientoDisperso extends Almacenamiento {
+    /**
+     * Proporción máxima de celdas distintas de cero con la que {@link #compactar(Almacenamiento)} elige un
+     * almacenamiento disperso. Con esta densidad, {@link AlmacenamientoCsr} ocupa menos de la quinta parte que
+     * un almacenamiento denso y los recorridos visitan una de cada diez celdas, lo que compensa el acceso
+     * indirecto a las columnas.
+     */
+    double DENSIDAD_MAXIMA = 0.1;
+
+    /**
+     * Obtiene el número de celdas guardadas, todas distintas de cero.
+     *
+     * @return Número de celdas distintas de cero.
+     */
+    int noCeros();
+
+    /**
+     * Visita cada celda distinta de cero una vez. El orden depende de la implementación.
+     *
+     * @param visitante Función que recibe la fila, la columna y el valor de cada celda.
+     */
+    void recorrer(Visitante visitante);
+
+    /**
+     * Crea la transpuesta en un almacenamiento del mismo tipo, en tiempo proporcional al número de celdas
+     * distintas de cero más el de filas y columnas.
+     *
+     * @return Almacenamiento de {@code columnas x filas} con la transpuesta.
+     */
+    AlmacenamientoDisperso transpuesta();
+
+    /**
+     * Obtiene los datos en formato {@link AlmacenamientoCsr}, que es el que usan los algoritmos que recorren
+     * la matriz por filas.
+     *
+     * @return Este almacenamiento si ya es CSR, o una copia.
+     */
+    AlmacenamientoCsr comprimir();
+
+    /**
+     * Indica si una matriz con la cantidad de celdas distintas de cero indicada conviene guardarla dispersa.
+     *
+     * @param noCeros Número de celdas distintas de cero.
+     * @param celdas  Número total de celdas.
+     * @return true si la densidad no supera {@link #DENSIDAD_MAXIMA}.
+     */
+    static boolean conviene(long noCeros, long celdas) {
+        return noCeros <= celdas * DENSIDAD_MAXIMA;
+    }
+
+    /**
+     * Crea el almacenamiento más adecuado para una matriz de tipo {@code int[][]} según su densidad: un
+     * {@link AlmacenamientoCsr} si conviene guardarla dispersa, o un {@link AlmacenamientoPlano} en otro caso.
+     *
+     * @param matriz Matriz de tipo entero.
+     * @return Almacenamiento con una copia de los datos.
+     * @throws IllegalArgumentException Si las filas de la matriz no tienen la misma cantidad de columnas.
+     */
+    static Almacenamiento compactar(int[][] matriz) throws IllegalArgumentException {
+        var columnas = matriz.length == 0 ? 0 : matriz[0].length;
+        long noCeros = 0;
+
+        for (int i = 0; i < matriz.length; i++) {
+            if (matriz[i].length != columnas) {
+                throw new IllegalArgumentException("La fila %d tiene %d columnas, se esperaban %d."
+                        .formatted(i, matriz[i].length, columnas));
+            }
+
+            for (var valor : matriz[i]) {
+                if (valor != 0) {
+                    noCeros++;
+                }
+            }
+        }
+
+        return conviene(noCeros, (long) matriz.length * columnas)
+                ? AlmacenamientoCsr.desde(matriz)
+                : AlmacenamientoPlano.desde(matriz);
+    }
+
+    /**
+     * Elige la representación de un almacenamiento existente según su densidad. Un almacenamiento denso que
+     * conviene guardar disperso se copia a un {@link AlmacenamientoCsr}; uno disperso demasiado denso se copia a
+     * un {@link AlmacenamientoPlano}; en los demás casos se devuelve el mismo almacenamiento.
+     *
+     * @param origen Almacenamiento a revisar.
+     * @return Almacenamiento con la representación elegida.
+     */
+    static Almacenamiento compactar(Almacenamiento origen) {
+        if (origen instanceof AlmacenamientoDisperso disperso) {
+            if (conviene(disperso.noCeros(), disperso.celdas())) {
+                return origen;
+            }
+
+            var denso = new AlmacenamientoPlano(origen.filas(), origen.columnas());
+            disperso.recorrer(denso::set);
+            return denso;
+        }
+
+        long noCeros = 0;
+
+        for (int i = 0; i < origen.filas(); i++) {
+            for (int j = 0; j < origen.columnas(); j++) {
+                if (origen.get(i, j) != 0) {
+                    noCeros++;
+                }
+            }
+        }
+
+        return conviene(noCeros, origen.celdas()) ? AlmacenamientoCsr.desde(origen) : origen;
+    }
+
+    /**
+     * Función que recibe las celdas distintas de cero de un {@link AlmacenamientoDisperso}.
+     */
+    @FunctionalInterface
+    interface Visitante {
+        /**
+         * Recibe una celda.
+         *
+         * @param fila    Índice de la fila.
+         * @param columna Índice de la columna.
+         * @param valor   Valor de la celda, distinto de cero.
+         */
+        void visitar(int fila, int columna, int valor);
+    }
+}
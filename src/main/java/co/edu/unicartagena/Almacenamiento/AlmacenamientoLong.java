@@ -0,0 +1,157 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import java.util.Objects;
+
+/**
+ * Almacenamiento contiguo por filas sobre un único vector {@code long[]}, con la misma disposición que
+ * {@link AlmacenamientoPlano}: la celda {@code (i, j)} se encuentra en {@code datos[offset + i * stride + j]}.
+ * <p>
+ * Cada celda ocupa ocho bytes y admite cualquier {@code long}. Los valores completos se leen y escriben con
+ * {@link #getLong(int, int)} y {@link #setLong(int, int, long)}; {@link #get(int, int)} lanza
+ * {@link ArithmeticException} si el valor de la celda no cabe en un {@code int}, en lugar de truncarlo.
+ */
+public class AlmacenamientoLong extends AlmacenamientoPorFilas {
+    /**
+     * Vector con los datos de la matriz.
+     */
+    private final long[] datos;
+
+    /**
+     * Constructor de la clase. Crea un almacenamiento lleno de ceros.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @throws IllegalArgumentException Si las dimensiones son negativas o superan la capacidad de un vector.
+     */
+    public AlmacenamientoLong(int filas, int columnas) throws IllegalArgumentException {
+        this(new long[tamano(filas, columnas, "long")], 0, columnas, filas, columnas);
+    }
+
+    /**
+     * Constructor de la clase sobre un vector existente.
+     *
+     * @param datos    Vector con los datos.
+     * @param offset   Posición de la celda (0, 0) dentro del vector.
+     * @param stride   Distancia entre el inicio de dos filas consecutivas.
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @throws IllegalArgumentException Si la disposición indicada no cabe en el vector.
+     */
+    public AlmacenamientoLong(long[] datos, int offset, int stride, int filas, int columnas)
+            throws IllegalArgumentException {
+        super(Objects.requireNonNull(datos).length, offset, stride, filas, columnas);
+        this.datos = datos;
+    }
+
+    /**
+     * Crea un almacenamiento copiando los datos de una matriz de tipo {@code int[][]}.
+     *
+     * @param matriz Matriz de tipo entero.
+     * @return Almacenamiento con una copia de los datos.
+     * @throws IllegalArgumentException Si las filas de la matriz no tienen la misma cantidad de columnas.
+     */
+    public static AlmacenamientoLong desde(int[][] matriz) throws IllegalArgumentException {
+        var columnas = columnas(matriz.length, i -> matriz[i].length);
+        var almacenamiento = new AlmacenamientoLong(matriz.length, columnas);
+
+        for (int i = 0; i < matriz.length; i++) {
+            for (int j = 0; j < columnas; j++) {
+                almacenamiento.datos[i * columnas + j] = matriz[i][j];
+            }
+        }
+
+        return almacenamiento;
+    }
+
+    /**
+     * Crea un almacenamiento copiando los datos de una matriz de tipo {@code long[][]}.
+     *
+     * @param matriz Matriz de tipo {@code long}.
+     * @return Almacenamiento con una copia de los datos.
+     * @throws IllegalArgumentException Si las filas de la matriz no tienen la misma cantidad de columnas.
+     */
+    public static AlmacenamientoLong desde(long[][] matriz) throws IllegalArgumentException {
+        var columnas = columnas(matriz.length, i -> matriz[i].length);
+        var almacenamiento = new AlmacenamientoLong(matriz.length, columnas);
+
+        for (int i = 0; i < matriz.length; i++) {
+            System.arraycopy(matriz[i], 0, almacenamiento.datos, i * columnas, columnas);
+        }
+
+        return almacenamiento;
+    }
+
+    /**
+     * Obtiene el valor de una celda como {@code int}.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return Valor de la celda.
+     * @throws IndexOutOfBoundsException Si la posición está fuera del almacenamiento.
+     * @throws ArithmeticException       Si el valor de la celda no cabe en un {@code int}.
+     */
+    @Override
+    public int get(int fila, int columna) throws ArithmeticException {
+        var valor = datos[indice(fila, columna)];
+
+        if (valor != (int) valor) {
+            throw new ArithmeticException("El valor %d de la celda (%d, %d) no cabe en un int."
+                    .formatted(valor, fila, columna));
+        }
+
+        return (int) valor;
+    }
+
+    @Override
+    public void set(int fila, int columna, int valor) {
+        datos[indice(fila, columna)] = valor;
+    }
+
+    @Override
+    public long getLong(int fila, int columna) {
+        return datos[indice(fila, columna)];
+    }
+
+    @Override
+    public void setLong(int fila, int columna, long valor) {
+        datos[indice(fila, columna)] = valor;
+    }
+
+    @Override
+    public long sumarFila(int fila, long[] sumasColumnas) {
+        // La suma es exacta siempre que el resultado quepa en un long, aunque un parcial se desborde
+        var base = inicioFila(fila);
+        var m = columnas();
+        long suma = 0;
+
+        for (int j = 0; j < m; j++) {
+            var dato = datos[base + j];
+            suma += dato;
+            sumasColumnas[j] += dato;
+        }
+
+        return suma;
+    }
+
+    @Override
+    public AlmacenamientoLong subVista(int fila, int columna, int filas, int columnas) {
+        return new AlmacenamientoLong(datos, offsetVista(fila, columna, filas, columnas), stride(), filas, columnas);
+    }
+
+    /**
+     * Obtiene el vector con los datos. Los cambios en el vector se reflejan en el almacenamiento.
+     *
+     * @return Vector de datos.
+     */
+    public long[] datos() {
+        return datos;
+    }
+}
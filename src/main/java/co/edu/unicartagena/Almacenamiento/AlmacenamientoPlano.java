@@ -0,0 +1,107 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import java.util.Objects;
+
+/**
+ * Almacenamiento contiguo por filas sobre un único vector {@code int[]}.
+ * <p>
+ * La celda {@code (i, j)} se encuentra en {@code datos[offset + i * stride + j]}, por lo que una sub-vista solo
+ * necesita un {@code offset} y un {@code stride} distintos, sin copiar datos.
+ */
+public class AlmacenamientoPlano extends AlmacenamientoPorFilas {
+    /**
+     * Vector con los datos de la matriz.
+     */
+    private final int[] datos;
+
+    /**
+     * Constructor de la clase. Crea un almacenamiento lleno de ceros.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @throws IllegalArgumentException Si las dimensiones son negativas o superan la capacidad de un vector.
+     */
+    public AlmacenamientoPlano(int filas, int columnas) throws IllegalArgumentException {
+        this(new int[tamano(filas, columnas, "enteros")], 0, columnas, filas, columnas);
+    }
+
+    /**
+     * Constructor de la clase sobre un vector existente.
+     *
+     * @param datos    Vector con los datos.
+     * @param offset   Posición de la celda (0, 0) dentro del vector.
+     * @param stride   Distancia entre el inicio de dos filas consecutivas.
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @throws IllegalArgumentException Si la disposición indicada no cabe en el vector.
+     */
+    public AlmacenamientoPlano(int[] datos, int offset, int stride, int filas, int columnas) throws IllegalArgumentException {
+        super(Objects.requireNonNull(datos).length, offset, stride, filas, columnas);
+        this.datos = datos;
+    }
+
+    /**
+     * Crea un almacenamiento plano copiando los datos de una matriz de tipo {@code int[][]}.
+     *
+     * @param matriz Matriz de tipo entero.
+     * @return Almacenamiento con una copia de los datos.
+     * @throws IllegalArgumentException Si las filas de la matriz no tienen la misma cantidad de columnas.
+     */
+    public static AlmacenamientoPlano desde(int[][] matriz) throws IllegalArgumentException {
+        var columnas = columnas(matriz.length, i -> matriz[i].length);
+        var almacenamiento = new AlmacenamientoPlano(matriz.length, columnas);
+
+        for (int i = 0; i < matriz.length; i++) {
+            System.arraycopy(matriz[i], 0, almacenamiento.datos, i * columnas, columnas);
+        }
+
+        return almacenamiento;
+    }
+
+    @Override
+    public int get(int fila, int columna) {
+        return datos[indice(fila, columna)];
+    }
+
+    @Override
+    public void set(int fila, int columna, int valor) {
+        datos[indice(fila, columna)] = valor;
+    }
+
+    @Override
+    public long sumarFila(int fila, long[] sumasColumnas) {
+        var base = inicioFila(fila);
+        var m = columnas();
+        long suma = 0;
+
+        for (int j = 0; j < m; j++) {
+            var dato = datos[base + j];
+            suma += dato;
+            sumasColumnas[j] += dato;
+        }
+
+        return suma;
+    }
+
+    @Override
+    public AlmacenamientoPlano subVista(int fila, int columna, int filas, int columnas) {
+        return new AlmacenamientoPlano(datos, offsetVista(fila, columna, filas, columnas), stride(), filas, columnas);
+    }
+
+    /**
+     * Obtiene el vector con los datos. Los cambios en el vector se reflejan en el almacenamiento.
+     *
+     * @return Vector de datos.
+     */
+    public int[] datos() {
+        return datos;
+    }
+}
@@ -0,0 +1,200 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Base de los almacenamientos contiguos por filas sobre un vector primitivo: la celda {@code (i, j)} se encuentra
+ * en la posición {@code offset + i * stride + j} del vector.
+ * <p>
+ * Reúne la disposición (offset, stride y dimensiones), su validación y el cálculo de posiciones y sub-vistas; cada
+ * subclase solo declara el vector de su tipo, la lectura y escritura de una celda y el recorrido de una fila con
+ * {@link #sumarFila(int, long[])}, que lee su vector directamente.
+ */
+public abstract class AlmacenamientoPorFilas implements Almacenamiento {
+    /**
+     * Posición de la celda (0, 0) dentro del vector.
+     */
+    private final int offset;
+
+    /**
+     * Distancia entre el inicio de dos filas consecutivas.
+     */
+    private final int stride;
+
+    /**
+     * Número de filas.
+     */
+    private final int filas;
+
+    /**
+     * Número de columnas.
+     */
+    private final int columnas;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param largo    Número de elementos del vector con los datos.
+     * @param offset   Posición de la celda (0, 0) dentro del vector.
+     * @param stride   Distancia entre el inicio de dos filas consecutivas.
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @throws IllegalArgumentException Si la disposición indicada no cabe en el vector.
+     */
+    protected AlmacenamientoPorFilas(int largo, int offset, int stride, int filas, int columnas)
+            throws IllegalArgumentException {
+        if (filas < 0 || columnas < 0 || offset < 0 || stride < columnas) {
+            throw new IllegalArgumentException("Disposición no válida: offset=%d, stride=%d, filas=%d, columnas=%d."
+                    .formatted(offset, stride, filas, columnas));
+        }
+
+        if (filas > 0 && columnas > 0 && offset + (long) (filas - 1) * stride + columnas > largo) {
+            throw new IllegalArgumentException("La disposición indicada no cabe en un vector de %d elementos."
+                    .formatted(largo));
+        }
+
+        this.offset = offset;
+        this.stride = stride;
+        this.filas = filas;
+        this.columnas = columnas;
+    }
+
+    /**
+     * Calcula el número de elementos del vector para una matriz de las dimensiones indicadas.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @param tipo     Nombre del tipo del vector, para el mensaje de error.
+     * @return Número de elementos.
+     * @throws IllegalArgumentException Si las dimensiones son negativas o superan la capacidad de un vector.
+     */
+    static int tamano(int filas, int columnas, String tipo) throws IllegalArgumentException {
+        if (filas < 0 || columnas < 0) {
+            throw new IllegalArgumentException("Las dimensiones no pueden ser negativas.");
+        }
+
+        var tamano = (long) filas * columnas;
+
+        if (tamano > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Una matriz de %dx%d no cabe en un vector de %s."
+                    .formatted(filas, columnas, tipo));
+        }
+
+        return (int) tamano;
+    }
+
+    /**
+     * Comprueba que todas las filas de una matriz tengan la misma cantidad de columnas.
+     *
+     * @param filas Número de filas de la matriz.
+     * @param largo Función que obtiene el número de columnas de cada fila.
+     * @return Número de columnas de la matriz.
+     * @throws IllegalArgumentException Si alguna fila tiene una cantidad distinta de columnas.
+     */
+    static int columnas(int filas, IntUnaryOperator largo) throws IllegalArgumentException {
+        var columnas = filas == 0 ? 0 : largo.applyAsInt(0);
+
+        for (int i = 1; i < filas; i++) {
+            if (largo.applyAsInt(i) != columnas) {
+                throw new IllegalArgumentException("La fila %d tiene %d columnas, se esperaban %d."
+                        .formatted(i, largo.applyAsInt(i), columnas));
+            }
+        }
+
+        return columnas;
+    }
+
+    @Override
+    public int filas() {
+        return filas;
+    }
+
+    @Override
+    public int columnas() {
+        return columnas;
+    }
+
+    @Override
+    public abstract AlmacenamientoPorFilas subVista(int fila, int columna, int filas, int columnas);
+
+    /**
+     * Comprueba que una sub-vista quepa en el almacenamiento y calcula su offset.
+     *
+     * @param fila     Fila inicial de la vista.
+     * @param columna  Columna inicial de la vista.
+     * @param filas    Número de filas de la vista.
+     * @param columnas Número de columnas de la vista.
+     * @return Posición de la celda (0, 0) de la vista dentro del vector.
+     * @throws IndexOutOfBoundsException Si la vista no cabe en el almacenamiento.
+     */
+    protected int offsetVista(int fila, int columna, int filas, int columnas) {
+        Objects.checkFromIndexSize(fila, filas, this.filas);
+        Objects.checkFromIndexSize(columna, columnas, this.columnas);
+
+        return offset + fila * stride + columna;
+    }
+
+    /**
+     * Suma los elementos de una fila y acumula cada uno en la posición de su columna. Cada subclase recorre su
+     * propio vector, de modo que el ciclo lee un tipo primitivo conocido y el compilador lo optimiza sin llamadas
+     * por celda.
+     *
+     * @param fila          Índice de la fila.
+     * @param sumasColumnas Vector donde se acumulan las sumas de las columnas.
+     * @return Suma de la fila.
+     * @throws IndexOutOfBoundsException Si la fila está fuera del almacenamiento.
+     */
+    public abstract long sumarFila(int fila, long[] sumasColumnas);
+
+    /**
+     * Obtiene la posición del inicio de una fila dentro del vector de datos.
+     *
+     * @param fila Índice de la fila.
+     * @return Posición de la celda {@code (fila, 0)}.
+     * @throws IndexOutOfBoundsException Si la fila está fuera del almacenamiento.
+     */
+    protected int inicioFila(int fila) {
+        return offset + Objects.checkIndex(fila, filas) * stride;
+    }
+
+    /**
+     * Obtiene la posición de una celda dentro del vector de datos.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return Posición de la celda en el vector.
+     */
+    public int indice(int fila, int columna) {
+        Objects.checkIndex(fila, filas);
+        Objects.checkIndex(columna, columnas);
+
+        return offset + fila * stride + columna;
+    }
+
+    /**
+     * Obtiene la posición de la celda (0, 0) dentro del vector.
+     *
+     * @return Offset del almacenamiento.
+     */
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * Obtiene la distancia entre el inicio de dos filas consecutivas.
+     *
+     * @return Stride del almacenamiento.
+     */
+    public int stride() {
+        return stride;
+    }
+}
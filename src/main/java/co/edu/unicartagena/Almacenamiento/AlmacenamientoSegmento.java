@@ -0,0 +1,192 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+/**
+ * Almacenamiento por filas fuera del heap, sobre un {@link MemorySegment}.
+ * <p>
+ * Los índices se calculan con {@code long}, por lo que admite matrices con más de {@code Integer.MAX_VALUE}
+ * celdas. La memoria pertenece a un {@link Arena} y se libera explícitamente con {@link #close()}; las
+ * sub-vistas comparten el segmento pero no lo liberan.
+ */
+public class AlmacenamientoSegmento implements Almacenamiento, AutoCloseable {
+    /**
+     * Segmento con los datos de la matriz.
+     */
+    private final MemorySegment segmento;
+
+    /**
+     * Arena dueña del segmento, o {@code null} si el almacenamiento es una vista.
+     */
+    private final Arena arena;
+
+    /**
+     * Posición (en elementos) de la celda (0, 0) dentro del segmento.
+     */
+    private final long offset;
+
+    /**
+     * Distancia (en elementos) entre el inicio de dos filas consecutivas.
+     */
+    private final long stride;
+
+    /**
+     * Número de filas.
+     */
+    private final int filas;
+
+    /**
+     * Número de columnas.
+     */
+    private final int columnas;
+
+    /**
+     * Constructor de la clase sobre un segmento existente.
+     *
+     * @param segmento Segmento con los datos.
+     * @param arena    Arena dueña del segmento, o {@code null} si no debe liberarse al cerrar.
+     * @param offset   Posición (en elementos) de la celda (0, 0).
+     * @param stride   Distancia (en elementos) entre filas consecutivas.
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @throws IllegalArgumentException Si la disposición indicada no cabe en el segmento.
+     */
+    public AlmacenamientoSegmento(MemorySegment segmento, Arena arena, long offset, long stride, int filas, int columnas)
+            throws IllegalArgumentException {
+        this.segmento = Objects.requireNonNull(segmento);
+
+        if (filas < 0 || columnas < 0 || offset < 0 || stride < columnas) {
+            throw new IllegalArgumentException("Disposición no válida: offset=%d, stride=%d, filas=%d, columnas=%d."
+                    .formatted(offset, stride, filas, columnas));
+        }
+
+        if (filas > 0 && columnas > 0
+                && (offset + (filas - 1) * stride + columnas) * Integer.BYTES > segmento.byteSize()) {
+            throw new IllegalArgumentException("La disposición indicada no cabe en un segmento de %d bytes."
+                    .formatted(segmento.byteSize()));
+        }
+
+        this.arena = arena;
+        this.offset = offset;
+        this.stride = stride;
+        this.filas = filas;
+        this.columnas = columnas;
+    }
+
+    /**
+     * Crea un almacenamiento lleno de ceros en una arena compartida propia, que se libera con {@link #close()}.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @return Almacenamiento fuera del heap.
+     */
+    public static AlmacenamientoSegmento crear(int filas, int columnas) {
+        var arena = Arena.ofShared();
+
+        try {
+            return new AlmacenamientoSegmento(reservar(arena, filas, columnas), arena, 0, columnas, filas, columnas);
+        } catch (RuntimeException | Error e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Crea un almacenamiento lleno de ceros dentro de una arena administrada por quien llama. Cerrar el
+     * almacenamiento no cierra la arena.
+     *
+     * @param arena    Arena donde se reserva la memoria.
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @return Almacenamiento fuera del heap.
+     */
+    public static AlmacenamientoSegmento crear(Arena arena, int filas, int columnas) {
+        return new AlmacenamientoSegmento(reservar(arena, filas, columnas), null, 0, columnas, filas, columnas);
+    }
+
+    private static MemorySegment reservar(Arena arena, int filas, int columnas) {
+        if (filas < 0 || columnas < 0) {
+            throw new IllegalArgumentException("Las dimensiones no pueden ser negativas.");
+        }
+
+        return arena.allocate((long) filas * columnas * Integer.BYTES, Integer.BYTES);
+    }
+
+    @Override
+    public int filas() {
+        return filas;
+    }
+
+    @Override
+    public int columnas() {
+        return columnas;
+    }
+
+    @Override
+    public int get(int fila, int columna) {
+        return segmento.getAtIndex(ValueLayout.JAVA_INT, indice(fila, columna));
+    }
+
+    @Override
+    public void set(int fila, int columna, int valor) {
+        segmento.setAtIndex(ValueLayout.JAVA_INT, indice(fila, columna), valor);
+    }
+
+    @Override
+    public AlmacenamientoSegmento subVista(int fila, int columna, int filas, int columnas) {
+        Objects.checkFromIndexSize(fila, filas, this.filas);
+        Objects.checkFromIndexSize(columna, columnas, this.columnas);
+
+        return new AlmacenamientoSegmento(segmento, null, offset + fila * stride + columna, stride, filas, columnas);
+    }
+
+    @Override
+    public boolean esSoloLectura() {
+        return segmento.isReadOnly();
+    }
+
+    /**
+     * Obtiene la posición (en elementos) de una celda dentro del segmento.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return Posición de la celda en el segmento.
+     */
+    public long indice(int fila, int columna) {
+        Objects.checkIndex(fila, filas);
+        Objects.checkIndex(columna, columnas);
+
+        return offset + fila * stride + columna;
+    }
+
+    /**
+     * Obtiene el segmento con los datos.
+     *
+     * @return Segmento de memoria.
+     */
+    public MemorySegment segmento() {
+        return segmento;
+    }
+
+    /**
+     * Libera la memoria del almacenamiento si este es dueño de su arena. Después de cerrarlo, cualquier acceso
+     * lanza {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (arena != null) {
+            arena.close();
+        }
+    }
+}
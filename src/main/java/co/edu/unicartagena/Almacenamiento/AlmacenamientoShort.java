@@ -0,0 +1,129 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import java.util.Objects;
+
+/**
+ * Almacenamiento contiguo por filas sobre un único vector {@code short[]}, con la misma disposición que
+ * {@link AlmacenamientoPlano}: la celda {@code (i, j)} se encuentra en {@code datos[offset + i * stride + j]}.
+ * <p>
+ * Cada celda ocupa dos bytes, por lo que solo admite valores entre {@value Short#MIN_VALUE} y
+ * {@value Short#MAX_VALUE}; los recorridos leen la mitad de memoria que sobre un {@code int[]}. Los valores se
+ * leen y escriben como {@code int}, y los algoritmos que acumulan lo hacen en {@code long}.
+ */
+public class AlmacenamientoShort extends AlmacenamientoPorFilas {
+    /**
+     * Vector con los datos de la matriz.
+     */
+    private final short[] datos;
+
+    /**
+     * Constructor de la clase. Crea un almacenamiento lleno de ceros.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @throws IllegalArgumentException Si las dimensiones son negativas o superan la capacidad de un vector.
+     */
+    public AlmacenamientoShort(int filas, int columnas) throws IllegalArgumentException {
+        this(new short[tamano(filas, columnas, "short")], 0, columnas, filas, columnas);
+    }
+
+    /**
+     * Constructor de la clase sobre un vector existente.
+     *
+     * @param datos    Vector con los datos.
+     * @param offset   Posición de la celda (0, 0) dentro del vector.
+     * @param stride   Distancia entre el inicio de dos filas consecutivas.
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @throws IllegalArgumentException Si la disposición indicada no cabe en el vector.
+     */
+    public AlmacenamientoShort(short[] datos, int offset, int stride, int filas, int columnas) throws IllegalArgumentException {
+        super(Objects.requireNonNull(datos).length, offset, stride, filas, columnas);
+        this.datos = datos;
+    }
+
+    /**
+     * Crea un almacenamiento copiando los datos de una matriz de tipo {@code int[][]}.
+     *
+     * @param matriz Matriz de tipo entero.
+     * @return Almacenamiento con una copia de los datos.
+     * @throws IllegalArgumentException Si las filas de la matriz no tienen la misma cantidad de columnas, o si
+     *                                  algún valor no cabe en un {@code short}.
+     */
+    public static AlmacenamientoShort desde(int[][] matriz) throws IllegalArgumentException {
+        var columnas = columnas(matriz.length, i -> matriz[i].length);
+        var almacenamiento = new AlmacenamientoShort(matriz.length, columnas);
+
+        for (int i = 0; i < matriz.length; i++) {
+            for (int j = 0; j < columnas; j++) {
+                almacenamiento.datos[i * columnas + j] = convertir(matriz[i][j]);
+            }
+        }
+
+        return almacenamiento;
+    }
+
+    private static short convertir(int valor) throws IllegalArgumentException {
+        if (valor != (short) valor) {
+            throw new IllegalArgumentException("El valor %d no cabe en un short.".formatted(valor));
+        }
+
+        return (short) valor;
+    }
+
+    @Override
+    public int get(int fila, int columna) {
+        return datos[indice(fila, columna)];
+    }
+
+    /**
+     * Modifica el valor de una celda.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @param valor   Nuevo valor de la celda.
+     * @throws IndexOutOfBoundsException Si la posición está fuera del almacenamiento.
+     * @throws IllegalArgumentException  Si el valor no cabe en un {@code short}.
+     */
+    @Override
+    public void set(int fila, int columna, int valor) throws IllegalArgumentException {
+        datos[indice(fila, columna)] = convertir(valor);
+    }
+
+    @Override
+    public long sumarFila(int fila, long[] sumasColumnas) {
+        var base = inicioFila(fila);
+        var m = columnas();
+        long suma = 0;
+
+        for (int j = 0; j < m; j++) {
+            int dato = datos[base + j];
+            suma += dato;
+            sumasColumnas[j] += dato;
+        }
+
+        return suma;
+    }
+
+    @Override
+    public AlmacenamientoShort subVista(int fila, int columna, int filas, int columnas) {
+        return new AlmacenamientoShort(datos, offsetVista(fila, columna, filas, columnas), stride(), filas, columnas);
+    }
+
+    /**
+     * Obtiene el vector con los datos. Los cambios en el vector se reflejan en el almacenamiento.
+     *
+     * @return Vector de datos.
+     */
+    public short[] datos() {
+        return datos;
+    }
+}
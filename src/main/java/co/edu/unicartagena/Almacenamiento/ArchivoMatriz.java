@@ -0,0 +1,398 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.zip.CRC32C;
+
+/**
+ * Formato binario para guardar matrices en disco y abrirlas proyectadas en memoria.
+ * <p>
+ * El archivo tiene un encabezado de {@value #ENCABEZADO} bytes seguido de los datos por filas, todo en orden
+ * little-endian:
+ * <pre>
+ *  0  "MTRZ"
+ *  4  versión del formato (u16)
+ *  6  tipo de elemento (u16, 1 = int de 32 bits)
+ *  8  filas (i32)
+ * 12  columnas (i32)
+ * 16  CRC-32C de los datos
+ * 20  reservado (8 bytes en cero)
+ * 28  CRC-32C de los bytes 0 a 27
+ * 32  datos
+ * </pre>
+ * {@link #abrir(Path)} proyecta el archivo con {@link FileChannel#map} y devuelve un
+ * {@link AlmacenamientoSegmento} de solo lectura sobre las páginas del archivo, sin copiar los datos, por lo
+ * que el tiempo de apertura no depende del tamaño de la matriz. Por la misma razón, al abrir el CRC de los
+ * datos solo se comprueba si se pide con {@link #abrir(Path, boolean)}; {@link #cargar(Path, Ubicacion)}, que
+ * lee todos los datos para copiarlos, siempre lo comprueba.
+ */
+public final class ArchivoMatriz {
+    /**
+     * Tamaño del encabezado en bytes. Es múltiplo de 4 para que los datos queden alineados.
+     */
+    public static final int ENCABEZADO = 32;
+
+    /**
+     * Versión del formato que escribe esta clase.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * "MTRZ" leído como entero little-endian.
+     */
+    private static final int MAGICO = 'M' | 'T' << 8 | 'R' << 16 | 'Z' << 24;
+
+    /**
+     * Código del tipo de elemento {@code int} de 32 bits.
+     */
+    private static final int TIPO_INT = 1;
+
+    private static final ValueLayout.OfInt ENTERO = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfShort CORTO = ValueLayout.JAVA_SHORT.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Tamaño de los trozos con que se calcula el CRC, por debajo del límite de un {@link java.nio.ByteBuffer}.
+     */
+    private static final long TROZO_CRC = 1 << 30;
+
+    private ArchivoMatriz() {
+    }
+
+    /**
+     * Guarda un almacenamiento en un archivo, reemplazándolo si existe.
+     * <p>
+     * Los datos se escriben primero en un archivo temporal del mismo directorio, que después reemplaza al destino.
+     * Así se puede guardar una matriz en el mismo archivo del que se abrió con {@link #abrir(Path)}: la proyección
+     * sigue leyendo el contenido anterior mientras se escribe el nuevo. Si la escritura falla, el archivo original
+     * queda intacto.
+     * <p>
+     * El formato solo tiene celdas {@code int}, por lo que no se guardan almacenamientos {@link TipoElemento#LONG}.
+     *
+     * @param almacenamiento Datos a guardar.
+     * @param archivo        Ruta del archivo.
+     * @throws IOException                   Si el archivo no se puede escribir.
+     * @throws UnsupportedOperationException Si las celdas del almacenamiento son {@link TipoElemento#LONG}.
+     */
+    public static void guardar(Almacenamiento almacenamiento, Path archivo)
+            throws IOException, UnsupportedOperationException {
+        if (TipoElemento.de(almacenamiento) == TipoElemento.LONG) {
+            throw new UnsupportedOperationException("El formato binario no admite celdas long.");
+        }
+
+        var directorio = archivo.toAbsolutePath().getParent();
+        var temporal = Files.createTempFile(directorio, archivo.getFileName().toString(), ".tmp");
+
+        try {
+            escribir(almacenamiento, temporal);
+            copiarPermisos(archivo, temporal);
+
+            try {
+                Files.move(temporal, archivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    /**
+     * Da al archivo temporal los permisos del archivo que va a reemplazar o, si no existe, los permisos habituales
+     * de lectura para todos y escritura para el dueño. Los archivos temporales se crean solo para el dueño.
+     */
+    private static void copiarPermisos(Path archivo, Path temporal) throws IOException {
+        if (!temporal.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+
+        var permisos = Files.exists(archivo)
+                ? Files.getPosixFilePermissions(archivo)
+                : PosixFilePermissions.fromString("rw-r--r--");
+        Files.setPosixFilePermissions(temporal, permisos);
+    }
+
+    /**
+     * Escribe un almacenamiento en un archivo nuevo y vacío.
+     */
+    private static void escribir(Almacenamiento almacenamiento, Path archivo) throws IOException {
+        var filas = almacenamiento.filas();
+        var columnas = almacenamiento.columnas();
+        var largoFila = (long) columnas * Integer.BYTES;
+
+        try (var canal = FileChannel.open(archivo, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+             var arena = Arena.ofConfined()) {
+            var destino = canal.map(FileChannel.MapMode.READ_WRITE, 0, ENCABEZADO + filas * largoFila, arena);
+            var crc = new CRC32C();
+
+            for (int i = 0; i < filas && columnas > 0; i++) {
+                var fila = destino.asSlice(ENCABEZADO + i * largoFila, largoFila);
+                copiarFila(almacenamiento, i, fila);
+                actualizar(crc, fila);
+            }
+
+            destino.set(ENTERO, 0, MAGICO);
+            destino.set(CORTO, 4, (short) VERSION);
+            destino.set(CORTO, 6, (short) TIPO_INT);
+            destino.set(ENTERO, 8, filas);
+            destino.set(ENTERO, 12, columnas);
+            destino.set(ENTERO, 16, (int) crc.getValue());
+            destino.set(ENTERO, 20, 0);
+            destino.set(ENTERO, 24, 0);
+            destino.set(ENTERO, 28, crcEncabezado(destino));
+            destino.force();
+        }
+    }
+
+    /**
+     * Abre un archivo como un almacenamiento de solo lectura, comprobando solo el encabezado. Cerrar el
+     * almacenamiento libera la proyección del archivo.
+     *
+     * @param archivo Ruta del archivo.
+     * @return Almacenamiento de solo lectura con los datos del archivo.
+     * @throws IOException Si el archivo no se puede leer o no tiene el formato esperado.
+     */
+    public static AlmacenamientoSegmento abrir(Path archivo) throws IOException {
+        return abrir(archivo, false);
+    }
+
+    /**
+     * Abre un archivo como un almacenamiento de solo lectura. Cerrar el almacenamiento libera la proyección
+     * del archivo.
+     *
+     * @param archivo        Ruta del archivo.
+     * @param verificarDatos true para comprobar también el CRC de los datos, lo que obliga a leer el archivo
+     *                       completo.
+     * @return Almacenamiento de solo lectura con los datos del archivo.
+     * @throws IOException Si el archivo no se puede leer, no tiene el formato esperado o sus datos no
+     *                     coinciden con el CRC.
+     */
+    public static AlmacenamientoSegmento abrir(Path archivo, boolean verificarDatos) throws IOException {
+        try (var canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            var encabezado = leerEncabezado(canal, archivo);
+
+            if (verificarDatos) {
+                // Los ByteBuffer de una arena compartida no sirven para CRC32C, así que se usa una proyección
+                // confinada solo para la verificación.
+                try (var arena = Arena.ofConfined()) {
+                    var crc = new CRC32C();
+                    actualizar(crc, canal.map(FileChannel.MapMode.READ_ONLY, ENCABEZADO, canal.size() - ENCABEZADO,
+                            arena));
+                    verificar(crc, encabezado, archivo);
+                }
+            }
+
+            return proyectar(canal, encabezado.filas(), encabezado.columnas());
+        }
+    }
+
+    /**
+     * Carga un archivo en un almacenamiento nuevo que sí admite modificaciones. Como los datos se leen completos
+     * para copiarlos, el CRC de los datos se comprueba en el mismo recorrido.
+     *
+     * @param archivo   Ruta del archivo.
+     * @param ubicacion Ubicación en memoria del almacenamiento creado.
+     * @return Almacenamiento con una copia de los datos del archivo.
+     * @throws IOException Si el archivo no se puede leer, no tiene el formato esperado o sus datos no
+     *                     coinciden con el CRC.
+     */
+    public static Almacenamiento cargar(Path archivo, Ubicacion ubicacion) throws IOException {
+        try (var canal = FileChannel.open(archivo, StandardOpenOption.READ);
+             var arena = Arena.ofConfined()) {
+            var encabezado = leerEncabezado(canal, archivo);
+            var filas = encabezado.filas();
+            var columnas = encabezado.columnas();
+            var largoFila = (long) columnas * Integer.BYTES;
+            var datos = canal.map(FileChannel.MapMode.READ_ONLY, ENCABEZADO, canal.size() - ENCABEZADO, arena);
+            var destino = ubicacion.crear(filas, columnas);
+            var crc = new CRC32C();
+
+            try {
+                for (int i = 0; i < filas && columnas > 0; i++) {
+                    var desde = i * largoFila;
+                    actualizar(crc, datos.asSlice(desde, largoFila));
+
+                    // Las copias con el layout little-endian del archivo invierten los bytes si hace falta.
+                    if (destino instanceof AlmacenamientoPlano plano) {
+                        MemorySegment.copy(datos, ENTERO, desde, plano.datos(), plano.indice(i, 0), columnas);
+                    } else if (destino instanceof AlmacenamientoSegmento segmento) {
+                        MemorySegment.copy(datos, ENTERO, desde, segmento.segmento(), ValueLayout.JAVA_INT,
+                                segmento.indice(i, 0) * Integer.BYTES, columnas);
+                    } else {
+                        for (int j = 0; j < columnas; j++) {
+                            destino.set(i, j, datos.getAtIndex(ENTERO, i * (long) columnas + j));
+                        }
+                    }
+                }
+
+                verificar(crc, encabezado, archivo);
+            } catch (IOException | RuntimeException | Error e) {
+                if (destino instanceof AlmacenamientoSegmento segmento) {
+                    segmento.close();
+                }
+
+                throw e;
+            }
+
+            return destino;
+        }
+    }
+
+    /**
+     * Indica si un archivo empieza con el número mágico de este formato. No comprueba el resto del encabezado.
+     *
+     * @param archivo Ruta del archivo.
+     * @return true si el archivo parece una matriz binaria.
+     * @throws IOException Si el archivo no se puede leer.
+     */
+    public static boolean reconocer(Path archivo) throws IOException {
+        try (var canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            var magico = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+            while (magico.hasRemaining() && canal.read(magico) >= 0) {
+                // Se lee hasta completar el número mágico o llegar al final del archivo.
+            }
+
+            return !magico.hasRemaining() && magico.getInt(0) == MAGICO;
+        }
+    }
+
+    /**
+     * Datos del encabezado que hacen falta para leer el archivo.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @param crcDatos CRC-32C de los datos.
+     */
+    private record Encabezado(int filas, int columnas, int crcDatos) {
+    }
+
+    /**
+     * Lee y comprueba el encabezado: número mágico, CRC del encabezado, versión, tipo de elemento y tamaño.
+     */
+    private static Encabezado leerEncabezado(FileChannel canal, Path archivo) throws IOException {
+        var tamano = canal.size();
+        var encabezado = ByteBuffer.allocate(ENCABEZADO).order(ByteOrder.LITTLE_ENDIAN);
+
+        while (encabezado.hasRemaining() && canal.read(encabezado, encabezado.position()) >= 0) {
+            // Se lee hasta completar el encabezado o llegar al final del archivo.
+        }
+
+        if (encabezado.hasRemaining()) {
+            throw new IOException("El archivo '%s' es demasiado pequeño para ser una matriz (%d bytes)."
+                    .formatted(archivo, tamano));
+        }
+
+        if (encabezado.getInt(0) != MAGICO) {
+            throw new IOException("El archivo '%s' no es una matriz binaria.".formatted(archivo));
+        }
+
+        var crc = new CRC32C();
+        crc.update(encabezado.array(), 0, 28);
+
+        if ((int) crc.getValue() != encabezado.getInt(28)) {
+            throw new IOException("El encabezado del archivo '%s' está dañado.".formatted(archivo));
+        }
+
+        var version = Short.toUnsignedInt(encabezado.getShort(4));
+        var tipo = Short.toUnsignedInt(encabezado.getShort(6));
+        var filas = encabezado.getInt(8);
+        var columnas = encabezado.getInt(12);
+
+        if (version != VERSION) {
+            throw new IOException("Versión %d del formato no soportada.".formatted(version));
+        }
+
+        if (tipo != TIPO_INT) {
+            throw new IOException("Tipo de elemento %d no soportado.".formatted(tipo));
+        }
+
+        if (filas < 0 || columnas < 0 || tamano != ENCABEZADO + (long) filas * columnas * Integer.BYTES) {
+            throw new IOException("El tamaño del archivo '%s' (%d bytes) no corresponde a una matriz de %dx%d."
+                    .formatted(archivo, tamano, filas, columnas));
+        }
+
+        return new Encabezado(filas, columnas, encabezado.getInt(16));
+    }
+
+    /**
+     * Compara el CRC calculado sobre los datos con el del encabezado.
+     */
+    private static void verificar(CRC32C crc, Encabezado encabezado, Path archivo) throws IOException {
+        if ((int) crc.getValue() != encabezado.crcDatos()) {
+            throw new IOException("Los datos del archivo '%s' están dañados.".formatted(archivo));
+        }
+    }
+
+    /**
+     * Proyecta los datos del archivo en una arena compartida, propiedad del almacenamiento devuelto.
+     */
+    private static AlmacenamientoSegmento proyectar(FileChannel canal, int filas, int columnas) throws IOException {
+        var arena = Arena.ofShared();
+
+        try {
+            var datos = canal.map(FileChannel.MapMode.READ_ONLY, ENCABEZADO, canal.size() - ENCABEZADO, arena);
+
+            if (ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN) {
+                // Los datos no se pueden leer directamente con el orden nativo; se copian invirtiendo los bytes.
+                var copia = arena.allocate(datos.byteSize(), Integer.BYTES);
+                MemorySegment.copy(datos, ENTERO, 0, copia, ValueLayout.JAVA_INT, 0, datos.byteSize() / Integer.BYTES);
+                datos = copia.asReadOnly();
+            }
+
+            return new AlmacenamientoSegmento(datos, arena, 0, columnas, filas, columnas);
+        } catch (IOException | RuntimeException | Error e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Copia una fila del almacenamiento al segmento destino en orden little-endian.
+     */
+    private static void copiarFila(Almacenamiento origen, int fila, MemorySegment destino) {
+        var columnas = origen.columnas();
+
+        if (origen instanceof AlmacenamientoPlano plano) {
+            MemorySegment.copy(plano.datos(), plano.indice(fila, 0), destino, ENTERO, 0, columnas);
+        } else if (origen instanceof AlmacenamientoSegmento segmento) {
+            MemorySegment.copy(segmento.segmento(), ValueLayout.JAVA_INT, segmento.indice(fila, 0) * Integer.BYTES,
+                    destino, ENTERO, 0, columnas);
+        } else {
+            for (int j = 0; j < columnas; j++) {
+                destino.setAtIndex(ENTERO, j, origen.get(fila, j));
+            }
+        }
+    }
+
+    private static int crcEncabezado(MemorySegment segmento) {
+        var crc = new CRC32C();
+        crc.update(segmento.asSlice(0, 28).toArray(ValueLayout.JAVA_BYTE));
+        return (int) crc.getValue();
+    }
+
+    private static void actualizar(CRC32C crc, MemorySegment segmento) {
+        for (long inicio = 0; inicio < segmento.byteSize(); inicio += TROZO_CRC) {
+            crc.update(segmento.asSlice(inicio, Math.min(TROZO_CRC, segmento.byteSize() - inicio)).asByteBuffer());
+        }
+    }
+}
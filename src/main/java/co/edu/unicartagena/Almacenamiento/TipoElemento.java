@@ -0,0 +1,149 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Tipo primitivo con el que se guardan las celdas de una matriz en el heap.
+ * <p>
+ * Las matrices se leen y escriben como {@code int}, pero una matriz cuyos valores caben en un tipo más pequeño
+ * puede guardarse con él: una matriz con valores entre 25 y 75 ocupa un byte por celda en lugar de cuatro, y sus
+ * recorridos leen la cuarta parte de memoria. {@link #LONG} guarda valores que no caben en un {@code int}, que se
+ * leen y escriben con {@code getLong} y {@code setLong}. Las sumas y productos se acumulan siempre en {@code long},
+ * por lo que el tipo de las celdas no cambia los resultados. {@link #INT} es el tipo por defecto.
+ * <p>
+ * Las matrices {@link #LONG} se pueden leer, escribir, sumar, multiplicar, transponer, rotar y mostrar. Ordenarlas
+ * y guardarlas en el formato binario de {@link ArchivoMatriz} lanza {@link UnsupportedOperationException}, porque
+ * esos algoritmos y el formato trabajan con valores {@code int}. No hay celdas de punto flotante: todas las
+ * operaciones son exactas sobre enteros, y un tipo {@code double} cambiaría los resultados de las sumas.
+ */
+public enum TipoElemento {
+    /**
+     * Un byte por celda ({@link AlmacenamientoByte}).
+     */
+    BYTE(Byte.MIN_VALUE, Byte.MAX_VALUE, Byte.BYTES),
+
+    /**
+     * Dos bytes por celda ({@link AlmacenamientoShort}).
+     */
+    SHORT(Short.MIN_VALUE, Short.MAX_VALUE, Short.BYTES),
+
+    /**
+     * Cuatro bytes por celda ({@link AlmacenamientoPlano}).
+     */
+    INT(Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.BYTES),
+
+    /**
+     * Ocho bytes por celda ({@link AlmacenamientoLong}).
+     */
+    LONG(Long.MIN_VALUE, Long.MAX_VALUE, Long.BYTES);
+
+    private final long minimo;
+    private final long maximo;
+    private final int bytes;
+
+    TipoElemento(long minimo, long maximo, int bytes) {
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Obtiene el tipo más pequeño que admite todos los valores de un intervalo.
+     *
+     * @param minimo Menor valor del intervalo.
+     * @param maximo Mayor valor del intervalo, incluido.
+     * @return Tipo de las celdas.
+     * @throws IllegalArgumentException Si el intervalo está vacío.
+     */
+    public static TipoElemento para(long minimo, long maximo) throws IllegalArgumentException {
+        if (minimo > maximo) {
+            throw new IllegalArgumentException("El intervalo [%d, %d] está vacío.".formatted(minimo, maximo));
+        }
+
+        for (var tipo : values()) {
+            if (minimo >= tipo.minimo && maximo <= tipo.maximo) {
+                return tipo;
+            }
+        }
+
+        return LONG;
+    }
+
+    /**
+     * Obtiene el tipo de las celdas de un almacenamiento existente. Las implementaciones que no son
+     * {@link AlmacenamientoByte}, {@link AlmacenamientoShort} ni {@link AlmacenamientoLong} se consideran
+     * {@link #INT}.
+     *
+     * @param almacenamiento Almacenamiento a consultar.
+     * @return Tipo de las celdas.
+     */
+    public static TipoElemento de(Almacenamiento almacenamiento) {
+        if (almacenamiento instanceof AlmacenamientoByte) {
+            return BYTE;
+        }
+
+        if (almacenamiento instanceof AlmacenamientoLong) {
+            return LONG;
+        }
+
+        return almacenamiento instanceof AlmacenamientoShort ? SHORT : INT;
+    }
+
+    /**
+     * Obtiene el número de bytes que ocupa cada celda.
+     *
+     * @return Bytes por celda.
+     */
+    public int bytes() {
+        return bytes;
+    }
+
+    /**
+     * Indica si un valor cabe en este tipo.
+     *
+     * @param valor Valor a revisar.
+     * @return true si el valor está entre el mínimo y el máximo del tipo.
+     */
+    public boolean admite(int valor) {
+        return valor >= minimo && valor <= maximo;
+    }
+
+    /**
+     * Crea un almacenamiento lleno de ceros con este tipo de celdas, en el heap.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @return Almacenamiento creado.
+     */
+    public Almacenamiento crear(int filas, int columnas) {
+        return switch (this) {
+            case BYTE -> new AlmacenamientoByte(filas, columnas);
+            case SHORT -> new AlmacenamientoShort(filas, columnas);
+            case INT -> new AlmacenamientoPlano(filas, columnas);
+            case LONG -> new AlmacenamientoLong(filas, columnas);
+        };
+    }
+
+    /**
+     * Crea un almacenamiento con este tipo de celdas copiando los datos de una matriz de tipo {@code int[][]}.
+     *
+     * @param matriz Matriz de tipo entero.
+     * @return Almacenamiento con una copia de los datos.
+     * @throws IllegalArgumentException Si las filas de la matriz no tienen la misma cantidad de columnas, o si
+     *                                  algún valor no cabe en este tipo.
+     */
+    public Almacenamiento desde(int[][] matriz) throws IllegalArgumentException {
+        return switch (this) {
+            case BYTE -> AlmacenamientoByte.desde(matriz);
+            case SHORT -> AlmacenamientoShort.desde(matriz);
+            case INT -> AlmacenamientoPlano.desde(matriz);
+            case LONG -> AlmacenamientoLong.desde(matriz);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Ubicación en memoria de los datos de una matriz.
+ */
+public enum Ubicacion {
+    /**
+     * Vector {@code int[]} dentro del heap de Java ({@link AlmacenamientoPlano}).
+     */
+    HEAP,
+
+    /**
+     * Segmento de memoria nativa fuera del heap ({@link AlmacenamientoSegmento}).
+     */
+    FUERA_DEL_HEAP;
+
+    /**
+     * Obtiene la ubicación de un almacenamiento existente. Las implementaciones que no son fuera del heap se
+     * consideran {@link #HEAP}.
+     *
+     * @param almacenamiento Almacenamiento a consultar.
+     * @return Ubicación del almacenamiento.
+     */
+    public static Ubicacion de(Almacenamiento almacenamiento) {
+        return almacenamiento instanceof AlmacenamientoSegmento ? FUERA_DEL_HEAP : HEAP;
+    }
+
+    /**
+     * Crea un almacenamiento lleno de ceros en esta ubicación.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @return Almacenamiento creado.
+     */
+    public Almacenamiento crear(int filas, int columnas) {
+        return switch (this) {
+            case HEAP -> new AlmacenamientoPlano(filas, columnas);
+            case FUERA_DEL_HEAP -> AlmacenamientoSegmento.crear(filas, columnas);
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import java.util.Objects;
+
+/**
+ * Vista rectangular sobre cualquier almacenamiento, que traslada cada acceso a la celda correspondiente del
+ * almacenamiento base. La usan las implementaciones que no pueden expresar una sub-vista con sus propios datos.
+ */
+final class Vista implements Almacenamiento {
+    private final Almacenamiento base;
+    private final int fila;
+    private final int columna;
+    private final int filas;
+    private final int columnas;
+
+    Vista(Almacenamiento base, int fila, int columna, int filas, int columnas) {
+        Objects.checkFromIndexSize(fila, filas, base.filas());
+        Objects.checkFromIndexSize(columna, columnas, base.columnas());
+
+        this.base = base;
+        this.fila = fila;
+        this.columna = columna;
+        this.filas = filas;
+        this.columnas = columnas;
+    }
+
+    @Override
+    public int filas() {
+        return filas;
+    }
+
+    @Override
+    public int columnas() {
+        return columnas;
+    }
+
+    @Override
+    public int get(int fila, int columna) {
+        Objects.checkIndex(fila, filas);
+        Objects.checkIndex(columna, columnas);
+
+        return base.get(this.fila + fila, this.columna + columna);
+    }
+
+    @Override
+    public void set(int fila, int columna, int valor) {
+        Objects.checkIndex(fila, filas);
+        Objects.checkIndex(columna, columnas);
+
+        base.set(this.fila + fila, this.columna + columna, valor);
+    }
+
+    @Override
+    public long getLong(int fila, int columna) {
+        Objects.checkIndex(fila, filas);
+        Objects.checkIndex(columna, columnas);
+
+        return base.getLong(this.fila + fila, this.columna + columna);
+    }
+
+    @Override
+    public void setLong(int fila, int columna, long valor) throws IllegalArgumentException {
+        Objects.checkIndex(fila, filas);
+        Objects.checkIndex(columna, columnas);
+
+        base.setLong(this.fila + fila, this.columna + columna, valor);
+    }
+
+    @Override
+    public Almacenamiento subVista(int fila, int columna, int filas, int columnas) {
+        Objects.checkFromIndexSize(fila, filas, this.filas);
+        Objects.checkFromIndexSize(columna, columnas, this.columnas);
+
+        return new Vista(base, this.fila + fila, this.columna + columna, filas, columnas);
+    }
+
+    @Override
+    public boolean esSoloLectura() {
+        return base.esSoloLectura();
+    }
+}
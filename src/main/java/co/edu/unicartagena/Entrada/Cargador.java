@@ -0,0 +1,337 @@
+package co.edu.unicartagena.Entrada;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Carga matrices escritas como texto: una fila por línea y los valores separados por espacios o tabulaciones.
+ * Se admiten signos {@code +} y {@code -}, finales de línea {@code \n} o {@code \r\n} y líneas en blanco.
+ * <p>
+ * El texto se lee por bloques desde un {@link ReadableByteChannel} y los enteros se interpretan directamente a
+ * partir de los bytes, sin crear objetos por cada valor, escribiéndolos en el almacenamiento a medida que se
+ * leen. Los errores se informan con {@link FormatoInvalidoException}, indicando la línea y la columna. Para leer
+ * la entrada estándar se puede usar {@code Channels.newChannel(System.in)}.
+ */
+public final class Cargador {
+    /**
+     * Tamaño de los bloques de lectura, en bytes.
+     */
+    private static final int BLOQUE = 1 << 16;
+
+    /**
+     * Número de filas esperado, o -1 si se deduce del texto.
+     */
+    private final int filas;
+
+    /**
+     * Número de columnas esperado, o -1 mientras no se haya leído la primera fila.
+     */
+    private int columnas;
+
+    private final boolean excluirCero;
+
+    /**
+     * Almacenamiento de destino cuando las dimensiones se conocen de antemano.
+     */
+    private final Almacenamiento destino;
+
+    /**
+     * Valores leídos cuando las dimensiones se deducen del texto.
+     */
+    private int[] valores;
+    private int cantidad;
+
+    private long linea = 1;
+    private long columna;
+    private int fila;
+    private int columnaDato;
+
+    private boolean enNumero;
+    private boolean negativo;
+    private int digitos;
+    private long acumulado;
+    private long inicioNumero;
+
+    private Cargador(int filas, int columnas, boolean excluirCero, Almacenamiento destino) {
+        this.filas = filas;
+        this.columnas = columnas;
+        this.excluirCero = excluirCero;
+        this.destino = destino;
+        this.valores = destino == null ? new int[1024] : null;
+    }
+
+    /**
+     * Carga una matriz de dimensiones conocidas desde un archivo.
+     *
+     * @param archivo     Ruta del archivo.
+     * @param filas       Número de filas esperado.
+     * @param columnas    Número de columnas esperado.
+     * @param excluirCero true si el cero no está permitido.
+     * @param ubicacion   Ubicación en memoria del almacenamiento creado.
+     * @return Almacenamiento con los datos del archivo.
+     * @throws IOException              Si el archivo no se puede leer.
+     * @throws FormatoInvalidoException Si el contenido no es una matriz válida de las dimensiones indicadas.
+     */
+    public static Almacenamiento cargar(Path archivo, int filas, int columnas, boolean excluirCero, Ubicacion ubicacion)
+            throws IOException, FormatoInvalidoException {
+        try (var canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            return cargar(canal, filas, columnas, excluirCero, ubicacion);
+        }
+    }
+
+    /**
+     * Carga una matriz desde un archivo deduciendo sus dimensiones: el número de columnas es el de la primera
+     * fila y el número de filas el de líneas con datos.
+     *
+     * @param archivo     Ruta del archivo.
+     * @param excluirCero true si el cero no está permitido.
+     * @param ubicacion   Ubicación en memoria del almacenamiento creado.
+     * @return Almacenamiento con los datos del archivo.
+     * @throws IOException              Si el archivo no se puede leer.
+     * @throws FormatoInvalidoException Si el contenido no es una matriz válida.
+     */
+    public static Almacenamiento cargar(Path archivo, boolean excluirCero, Ubicacion ubicacion)
+            throws IOException, FormatoInvalidoException {
+        try (var canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            return cargar(canal, excluirCero, ubicacion);
+        }
+    }
+
+    /**
+     * Carga una matriz de dimensiones conocidas desde un canal. El canal no se cierra.
+     *
+     * @param canal       Canal con el texto de la matriz.
+     * @param filas       Número de filas esperado.
+     * @param columnas    Número de columnas esperado.
+     * @param excluirCero true si el cero no está permitido.
+     * @param ubicacion   Ubicación en memoria del almacenamiento creado.
+     * @return Almacenamiento con los datos leídos.
+     * @throws IOException              Si el canal no se puede leer.
+     * @throws FormatoInvalidoException Si el contenido no es una matriz válida de las dimensiones indicadas.
+     */
+    public static Almacenamiento cargar(ReadableByteChannel canal, int filas, int columnas, boolean excluirCero,
+                                        Ubicacion ubicacion) throws IOException, FormatoInvalidoException {
+        if (filas <= 0 || columnas <= 0) {
+            throw new IllegalArgumentException("Las dimensiones de la matriz deben ser positivas (%dx%d)."
+                    .formatted(filas, columnas));
+        }
+
+        var destino = ubicacion.crear(filas, columnas);
+
+        try {
+            new Cargador(filas, columnas, excluirCero, destino).leer(canal);
+        } catch (IOException | RuntimeException e) {
+            cerrar(destino);
+            throw e;
+        }
+
+        return destino;
+    }
+
+    /**
+     * Carga una matriz desde un canal deduciendo sus dimensiones. El canal no se cierra.
+     *
+     * @param canal       Canal con el texto de la matriz.
+     * @param excluirCero true si el cero no está permitido.
+     * @param ubicacion   Ubicación en memoria del almacenamiento creado.
+     * @return Almacenamiento con los datos leídos.
+     * @throws IOException              Si el canal no se puede leer.
+     * @throws FormatoInvalidoException Si el contenido no es una matriz válida.
+     */
+    public static Almacenamiento cargar(ReadableByteChannel canal, boolean excluirCero, Ubicacion ubicacion)
+            throws IOException, FormatoInvalidoException {
+        var cargador = new Cargador(-1, -1, excluirCero, null);
+        cargador.leer(canal);
+
+        var filas = cargador.fila;
+        var columnas = cargador.columnas;
+        var datos = cargador.valores.length == cargador.cantidad
+                ? cargador.valores
+                : Arrays.copyOf(cargador.valores, cargador.cantidad);
+        var plano = new AlmacenamientoPlano(datos, 0, columnas, filas, columnas);
+
+        if (ubicacion == Ubicacion.HEAP) {
+            return plano;
+        }
+
+        var destino = ubicacion.crear(filas, columnas);
+
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                destino.set(i, j, plano.get(i, j));
+            }
+        }
+
+        return destino;
+    }
+
+    private static void cerrar(Almacenamiento almacenamiento) throws IOException {
+        if (almacenamiento instanceof AutoCloseable cerrable) {
+            try {
+                cerrable.close();
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Lee el canal completo por bloques.
+     */
+    private void leer(ReadableByteChannel canal) throws IOException {
+        var buffer = ByteBuffer.allocate(BLOQUE);
+        var bytes = buffer.array();
+
+        while (canal.read(buffer) >= 0) {
+            procesar(bytes, buffer.position());
+            buffer.clear();
+        }
+
+        terminarNumero();
+        terminarLinea();
+
+        if (filas < 0 && fila == 0) {
+            throw new FormatoInvalidoException(linea, 0, "el texto no contiene datos.");
+        }
+
+        if (filas >= 0 && fila < filas) {
+            throw new FormatoInvalidoException(linea, 0, "se esperaban %d filas y se encontraron %d."
+                    .formatted(filas, fila));
+        }
+    }
+
+    /**
+     * Interpreta los bytes {@code [0, largo)} de un bloque. Un número puede quedar a medias al final del bloque y
+     * continuar en el siguiente.
+     */
+    private void procesar(byte[] bytes, int largo) {
+        for (int k = 0; k < largo; k++) {
+            var b = bytes[k];
+            columna++;
+
+            if (b >= '0' && b <= '9') {
+                if (!enNumero) {
+                    iniciarNumero();
+                }
+
+                acumulado = acumulado * 10 + (b - '0');
+                digitos++;
+
+                if (acumulado > 1L + Integer.MAX_VALUE) {
+                    throw new FormatoInvalidoException(linea, inicioNumero, "el valor no cabe en un entero.");
+                }
+            } else if (b == ' ' || b == '\t' || b == '\r') {
+                terminarNumero();
+            } else if (b == '\n') {
+                terminarNumero();
+                terminarLinea();
+                linea++;
+                columna = 0;
+            } else if ((b == '-' || b == '+') && !enNumero) {
+                iniciarNumero();
+                negativo = b == '-';
+            } else {
+                throw new FormatoInvalidoException(linea, columna, "carácter no válido '%s'."
+                        .formatted(b >= 32 && b < 127 ? String.valueOf((char) b) : "\\x%02X".formatted(b & 0xFF)));
+            }
+        }
+    }
+
+    private void iniciarNumero() {
+        enNumero = true;
+        negativo = false;
+        digitos = 0;
+        acumulado = 0;
+        inicioNumero = columna;
+    }
+
+    private void terminarNumero() {
+        if (!enNumero) {
+            return;
+        }
+
+        enNumero = false;
+
+        if (digitos == 0) {
+            throw new FormatoInvalidoException(linea, inicioNumero, "se esperaba un dígito después del signo.");
+        }
+
+        var valor = negativo ? -acumulado : acumulado;
+
+        if (valor > Integer.MAX_VALUE) {
+            throw new FormatoInvalidoException(linea, inicioNumero, "el valor no cabe en un entero.");
+        }
+
+        if (valor == 0 && excluirCero) {
+            throw new FormatoInvalidoException(linea, inicioNumero, "el cero no está permitido.");
+        }
+
+        guardar((int) valor);
+    }
+
+    private void guardar(int valor) {
+        if (columnas >= 0 && columnaDato == columnas) {
+            throw new FormatoInvalidoException(linea, inicioNumero, "la fila tiene más de %d valores."
+                    .formatted(columnas));
+        }
+
+        if (filas >= 0 && fila == filas) {
+            throw new FormatoInvalidoException(linea, inicioNumero, "la matriz tiene más de %d filas."
+                    .formatted(filas));
+        }
+
+        if (destino != null) {
+            destino.set(fila, columnaDato, valor);
+        } else {
+            if (cantidad == valores.length) {
+                if (cantidad >= Integer.MAX_VALUE - 8) {
+                    throw new FormatoInvalidoException(linea, inicioNumero, "la matriz no cabe en un vector de enteros.");
+                }
+
+                valores = Arrays.copyOf(valores, (int) Math.min(2L * cantidad, Integer.MAX_VALUE - 8));
+            }
+
+            valores[cantidad++] = valor;
+        }
+
+        columnaDato++;
+    }
+
+    /**
+     * Cierra la fila de la línea actual; las líneas en blanco se ignoran.
+     */
+    private void terminarLinea() {
+        if (columnaDato == 0) {
+            return;
+        }
+
+        if (columnas < 0) {
+            columnas = columnaDato;
+        } else if (columnaDato < columnas) {
+            throw new FormatoInvalidoException(linea, 0, "la fila tiene %d valores, se esperaban %d."
+                    .formatted(columnaDato, columnas));
+        }
+
+        fila++;
+        columnaDato = 0;
+    }
+}
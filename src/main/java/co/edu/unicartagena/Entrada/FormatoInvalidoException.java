@@ -0,0 +1,72 @@
+package co.edu.unicartagena.Entrada;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Error en el contenido de un archivo de matriz, con la posición donde se encontró.
+ */
+public class FormatoInvalidoException extends IllegalArgumentException {
+    /**
+     * Línea del error, desde 1.
+     */
+    private final long linea;
+
+    /**
+     * Columna del error dentro de la línea, desde 1, o 0 si el error corresponde a la línea completa.
+     */
+    private final long columna;
+
+    /**
+     * Descripción del error, sin la posición.
+     */
+    private final String descripcion;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param linea   Línea del error, desde 1.
+     * @param columna Columna del error, desde 1, o 0 si el error corresponde a la línea completa.
+     * @param mensaje Descripción del error.
+     */
+    public FormatoInvalidoException(long linea, long columna, String mensaje) {
+        super(columna > 0
+                ? "Línea %d, columna %d: %s".formatted(linea, columna, mensaje)
+                : "Línea %d: %s".formatted(linea, mensaje));
+        this.linea = linea;
+        this.columna = columna;
+        this.descripcion = mensaje;
+    }
+
+    /**
+     * Obtiene la línea del error.
+     *
+     * @return Línea del error, desde 1.
+     */
+    public long getLinea() {
+        return linea;
+    }
+
+    /**
+     * Obtiene la columna del error.
+     *
+     * @return Columna del error, desde 1, o 0 si el error corresponde a la línea completa.
+     */
+    public long getColumna() {
+        return columna;
+    }
+
+    /**
+     * Obtiene la descripción del error sin la posición.
+     *
+     * @return Descripción del error.
+     */
+    public String getDescripcion() {
+        return descripcion;
+    }
+}
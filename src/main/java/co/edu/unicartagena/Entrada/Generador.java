@@ -0,0 +1,352 @@
+package co.edu.unicartagena.Entrada;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoByte;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoDisperso;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoSegmento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoShort;
+import co.edu.unicartagena.Almacenamiento.TipoElemento;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generador de matrices aleatorias reproducibles.
+ * <p>
+ * La matriz se divide en bandas de filas de unas {@value #CELDAS_POR_BANDA} celdas, cuyo tamaño depende solo del
+ * número de columnas. Cada banda recibe su propio {@link SplittableRandom}, obtenido con {@code split()} en orden
+ * a partir de la semilla, y las bandas se llenan en paralelo. Así, la misma semilla produce siempre la misma
+ * matriz, sin importar cuántos hilos se usen.
+ * <p>
+ * Cada valor se elige uniformemente entre los valores permitidos del intervalo: si el cero está excluido, se
+ * sortea entre un valor menos y los resultados no negativos se corren una posición, sin reintentos. Con
+ * {@link #conNegativos()}, el signo de cada valor se invierte con probabilidad 1/2.
+ */
+public final class Generador {
+    /**
+     * Número aproximado de celdas de cada banda de filas.
+     */
+    public static final int CELDAS_POR_BANDA = 1 << 16;
+
+    /**
+     * Número de celdas a partir del cual la matriz se llena en paralelo.
+     */
+    public static final long UMBRAL_PARALELO = 1L << 18;
+
+    /**
+     * Menor valor del intervalo.
+     */
+    private final int minimo;
+
+    /**
+     * Mayor valor del intervalo, incluido.
+     */
+    private final int maximo;
+
+    private final boolean excluirCero;
+    private final boolean negativos;
+
+    /**
+     * Número de valores que se sortean.
+     */
+    private final long cantidad;
+
+    /**
+     * 1 si los valores no negativos se corren una posición para saltar el cero, 0 en caso contrario.
+     */
+    private final int salto;
+
+    private Generador(int minimo, int maximo, boolean excluirCero, boolean negativos) {
+        var cantidad = (long) maximo - minimo + 1;
+        var contieneCero = minimo <= 0 && maximo >= 0;
+
+        if (excluirCero && contieneCero) {
+            cantidad--;
+        }
+
+        if (cantidad <= 0) {
+            throw new IllegalArgumentException("El intervalo [%d, %d]%s no contiene valores."
+                    .formatted(minimo, maximo, excluirCero ? " sin el cero" : ""));
+        }
+
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.excluirCero = excluirCero;
+        this.negativos = negativos;
+        this.cantidad = cantidad;
+        this.salto = excluirCero && contieneCero ? 1 : 0;
+    }
+
+    /**
+     * Crea un generador de valores en el intervalo cerrado {@code [minimo, maximo]}.
+     *
+     * @param minimo Menor valor, incluido.
+     * @param maximo Mayor valor, incluido.
+     * @return Generador del intervalo.
+     * @throws IllegalArgumentException Si {@code minimo > maximo}.
+     */
+    public static Generador cerrado(int minimo, int maximo) throws IllegalArgumentException {
+        if (minimo > maximo) {
+            throw new IllegalArgumentException("El valor mínimo (%d) no puede ser mayor al valor máximo (%d)."
+                    .formatted(minimo, maximo));
+        }
+
+        return new Generador(minimo, maximo, false, false);
+    }
+
+    /**
+     * Crea un generador de valores en el intervalo semiabierto {@code [minimo, maximo)}, como
+     * {@code Random.nextInt(minimo, maximo)}.
+     *
+     * @param minimo Menor valor, incluido.
+     * @param maximo Valor siguiente al mayor, excluido.
+     * @return Generador del intervalo.
+     * @throws IllegalArgumentException Si {@code minimo >= maximo}.
+     */
+    public static Generador semiabierto(int minimo, int maximo) throws IllegalArgumentException {
+        if (minimo >= maximo) {
+            throw new IllegalArgumentException("El intervalo [%d, %d) no contiene valores.".formatted(minimo, maximo));
+        }
+
+        return new Generador(minimo, maximo - 1, false, false);
+    }
+
+    /**
+     * Obtiene un generador igual a este que nunca produce el cero.
+     *
+     * @return Generador sin el cero.
+     * @throws IllegalArgumentException Si el cero es el único valor del intervalo.
+     */
+    public Generador sinCero() throws IllegalArgumentException {
+        return new Generador(minimo, maximo, true, negativos);
+    }
+
+    /**
+     * Obtiene un generador igual a este que invierte el signo de cada valor con probabilidad 1/2.
+     *
+     * @return Generador con negativos.
+     */
+    public Generador conNegativos() {
+        return new Generador(minimo, maximo, excluirCero, true);
+    }
+
+    /**
+     * Obtiene el tipo de celdas más pequeño que admite todos los valores que produce el generador. Por ejemplo,
+     * los valores entre 25 y 75 caben en un {@link TipoElemento#BYTE}.
+     *
+     * @return Tipo de las celdas.
+     */
+    public TipoElemento tipo() {
+        if (!negativos) {
+            return TipoElemento.para(minimo, maximo);
+        }
+
+        var limite = Math.max(Math.abs((long) minimo), Math.abs((long) maximo));
+        return TipoElemento.para(Math.max(-limite, Integer.MIN_VALUE), Math.min(limite, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Crea y llena un almacenamiento en el heap con el tipo de celdas más pequeño que admite los valores del
+     * generador (ver {@link #tipo()}), usando el pool común.
+     *
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @param semilla  Semilla del generador.
+     * @return Almacenamiento con valores aleatorios.
+     */
+    public Almacenamiento generar(int filas, int columnas, long semilla) {
+        var destino = tipo().crear(filas, columnas);
+        llenar(destino, semilla, ForkJoinPool.commonPool());
+        return destino;
+    }
+
+    /**
+     * Crea y llena un almacenamiento con valores aleatorios, usando el pool común.
+     *
+     * @param filas     Número de filas.
+     * @param columnas  Número de columnas.
+     * @param semilla   Semilla del generador.
+     * @param ubicacion Ubicación en memoria del almacenamiento.
+     * @return Almacenamiento con valores aleatorios.
+     */
+    public Almacenamiento generar(int filas, int columnas, long semilla, Ubicacion ubicacion) {
+        var destino = ubicacion.crear(filas, columnas);
+        llenar(destino, semilla, ForkJoinPool.commonPool());
+        return destino;
+    }
+
+    /**
+     * Llena un almacenamiento con valores aleatorios, usando el pool común.
+     *
+     * @param destino Almacenamiento a llenar.
+     * @param semilla Semilla del generador.
+     */
+    public void llenar(Almacenamiento destino, long semilla) {
+        llenar(destino, semilla, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Llena un almacenamiento con valores aleatorios. El resultado depende solo de la semilla y de las
+     * dimensiones, no del pool.
+     *
+     * @param destino Almacenamiento a llenar.
+     * @param semilla Semilla del generador.
+     * @param pool    Pool donde se llenan las bandas en paralelo.
+     * @throws IllegalArgumentException Si los valores del generador no caben en el tipo de celdas del destino.
+     */
+    public void llenar(Almacenamiento destino, long semilla, ForkJoinPool pool) throws IllegalArgumentException {
+        var tipo = TipoElemento.de(destino);
+
+        if (tipo().bytes() > tipo.bytes()) {
+            throw new IllegalArgumentException("Los valores del intervalo [%d, %d] no caben en celdas de tipo %s."
+                    .formatted(minimo, maximo, tipo));
+        }
+
+        var filas = destino.filas();
+        var columnas = destino.columnas();
+
+        if (filas == 0 || columnas == 0) {
+            return;
+        }
+
+        var filasPorBanda = Math.max(1, CELDAS_POR_BANDA / columnas);
+        var bandas = (filas + filasPorBanda - 1) / filasPorBanda;
+        var aleatorios = new SplittableRandom[bandas];
+        var raiz = new SplittableRandom(semilla);
+
+        for (int b = 0; b < bandas; b++) {
+            aleatorios[b] = raiz.split();
+        }
+
+        // Los almacenamientos dispersos no admiten escrituras desde varios hilos
+        if (destino.celdas() < UMBRAL_PARALELO || pool.getParallelism() == 1
+                || destino instanceof AlmacenamientoDisperso) {
+            llenarBandas(destino, aleatorios, filasPorBanda, 0, bandas);
+        } else {
+            pool.invoke(new TareaBandas(destino, aleatorios, filasPorBanda, 0, bandas));
+        }
+    }
+
+    /**
+     * Llena las bandas {@code [desde, hasta)} en orden, cada una con su generador.
+     */
+    private void llenarBandas(Almacenamiento destino, SplittableRandom[] aleatorios, int filasPorBanda, int desde,
+                              int hasta) {
+        for (int b = desde; b < hasta; b++) {
+            var inicio = b * filasPorBanda;
+            llenarBanda(destino, aleatorios[b], inicio, Math.min(destino.filas(), inicio + filasPorBanda));
+        }
+    }
+
+    /**
+     * Llena las filas {@code [desde, hasta)} con un único generador, fila por fila.
+     */
+    private void llenarBanda(Almacenamiento destino, SplittableRandom aleatorio, int desde, int hasta) {
+        var columnas = destino.columnas();
+
+        if (destino instanceof AlmacenamientoPlano plano) {
+            for (int i = desde; i < hasta; i++) {
+                llenarFila(aleatorio, plano.datos(), plano.indice(i, 0), columnas);
+            }
+
+            return;
+        }
+
+        var fila = new int[columnas];
+
+        for (int i = desde; i < hasta; i++) {
+            llenarFila(aleatorio, fila, 0, columnas);
+
+            if (destino instanceof AlmacenamientoSegmento segmento) {
+                MemorySegment.copy(fila, 0, segmento.segmento(), ValueLayout.JAVA_INT,
+                        segmento.indice(i, 0) * Integer.BYTES, columnas);
+            } else if (destino instanceof AlmacenamientoByte bytes) {
+                // llenar() ya verificó que los valores caben en el tipo
+                var datos = bytes.datos();
+                var base = bytes.indice(i, 0);
+
+                for (int j = 0; j < columnas; j++) {
+                    datos[base + j] = (byte) fila[j];
+                }
+            } else if (destino instanceof AlmacenamientoShort cortos) {
+                var datos = cortos.datos();
+                var base = cortos.indice(i, 0);
+
+                for (int j = 0; j < columnas; j++) {
+                    datos[base + j] = (short) fila[j];
+                }
+            } else {
+                for (int j = 0; j < columnas; j++) {
+                    destino.set(i, j, fila[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Escribe {@code largo} valores aleatorios en {@code datos} a partir de {@code inicio}.
+     */
+    private void llenarFila(SplittableRandom aleatorio, int[] datos, int inicio, int largo) {
+        var acotado = cantidad <= Integer.MAX_VALUE;
+        long bits = 0;
+
+        for (int j = 0; j < largo; j++) {
+            if ((j & 63) == 0 && negativos) {
+                bits = aleatorio.nextLong();
+            }
+
+            var valor = minimo + (int) (acotado ? aleatorio.nextInt((int) cantidad) : aleatorio.nextLong(cantidad));
+
+            // Salta el cero: los valores no negativos se corren una posición cuando salto es 1.
+            valor += ~(valor >> 31) & salto;
+
+            // Invierte el signo cuando el bit sorteado es 1: -v = (v ^ -1) + 1. Sin negativos, bits es 0.
+            var signo = (int) (bits >>> j) & 1;
+            datos[inicio + j] = (valor ^ -signo) + signo;
+        }
+    }
+
+    /**
+     * Tarea que llena las bandas {@code [desde, hasta)}.
+     */
+    private final class TareaBandas extends RecursiveAction {
+        private final Almacenamiento destino;
+        private final SplittableRandom[] aleatorios;
+        private final int filasPorBanda;
+        private final int desde;
+        private final int hasta;
+
+        TareaBandas(Almacenamiento destino, SplittableRandom[] aleatorios, int filasPorBanda, int desde, int hasta) {
+            this.destino = destino;
+            this.aleatorios = aleatorios;
+            this.filasPorBanda = filasPorBanda;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde == 1) {
+                llenarBandas(destino, aleatorios, filasPorBanda, desde, hasta);
+                return;
+            }
+
+            var mitad = (desde + hasta) >>> 1;
+            invokeAll(new TareaBandas(destino, aleatorios, filasPorBanda, desde, mitad),
+                    new TareaBandas(destino, aleatorios, filasPorBanda, mitad, hasta));
+        }
+    }
+}
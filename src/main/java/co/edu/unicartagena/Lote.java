@@ -0,0 +1,639 @@
+package co.edu.unicartagena;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.ArchivoMatriz;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import co.edu.unicartagena.Entrada.Cargador;
+import co.edu.unicartagena.Entrada.Generador;
+import co.edu.unicartagena.Operaciones.Diagonal;
+import co.edu.unicartagena.Operaciones.Direccion;
+import co.edu.unicartagena.Operaciones.Orden;
+import co.edu.unicartagena.Operaciones.Rotador;
+import co.edu.unicartagena.Operaciones.Triangulo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Punto de entrada no interactivo: carga o genera una matriz una sola vez y ejecuta sobre ella una lista de
+ * operaciones indicadas en los argumentos o en un guion, sin hacer preguntas ni limpiar la consola.
+ * <p>
+ * Por ejemplo:
+ * <pre>
+ * java --enable-preview --add-modules jdk.incubator.vector -cp target/classes co.edu.unicartagena.Lote \
+ *     --archivo matriz.txt --formato json --tiempos sumas diagonales rotar 1 derecha 90 mostrar
+ * </pre>
+ * El programa termina con {@link #EXITO}, {@link #FALLO_OPERACION}, {@link #USO_INCORRECTO} o
+ * {@link #ERROR_ENTRADA}. Ver {@link #USO} para la lista completa de opciones y operaciones.
+ */
+public final class Lote {
+    /**
+     * Código de salida cuando todas las operaciones terminan bien.
+     */
+    public static final int EXITO = 0;
+
+    /**
+     * Código de salida cuando una operación no se puede aplicar a la matriz, por ejemplo una diagonal de una
+     * matriz que no es cuadrada. Las operaciones anteriores ya se escribieron en la salida.
+     */
+    public static final int FALLO_OPERACION = 1;
+
+    /**
+     * Código de salida cuando los argumentos o el guion no son válidos. En ese caso no se carga la matriz.
+     */
+    public static final int USO_INCORRECTO = 2;
+
+    /**
+     * Código de salida cuando la matriz no se puede leer o la salida no se puede escribir.
+     */
+    public static final int ERROR_ENTRADA = 3;
+
+    /**
+     * Texto de ayuda.
+     */
+    public static final String USO = """
+            Uso: Lote (--archivo <ruta|-> | --generar <filas>x<columnas>) [opciones] [operación...]
+
+            Entrada:
+              --archivo <ruta|->      Archivo de texto (una fila por línea) o binario (Matriz.guardar).
+                                      Con "-" se lee texto de la entrada estándar.
+              --generar <f>x<c>       Genera una matriz aleatoria.
+              --rango <min>:<max>     Intervalo cerrado de los valores generados (por defecto -50:50).
+              --semilla <n>           Semilla del generador (por defecto 0).
+              --sin-cero              No genera el cero y rechaza archivos de texto que lo contengan.
+              --negativos             Invierte el signo de cada valor generado con probabilidad 1/2.
+              --fuera-del-heap        Guarda la matriz fuera del heap.
+              --verificar             Comprueba el CRC de los datos de un archivo binario aunque se abra sin
+                                      copiarlo. Si alguna operación modifica la matriz, siempre se comprueba.
+
+            Salida:
+              --formato texto|json    Formato de los resultados (por defecto texto). En json se escribe un
+                                      objeto por operación y por línea.
+              --salida <ruta>         Archivo de resultados (por defecto la salida estándar).
+              --tiempos               Escribe en la salida de errores el tiempo de cada paso, en json.
+              --guion <ruta|->        Lee las operaciones de un archivo, una por línea ('#' inicia un
+                                      comentario), después de las indicadas en los argumentos.
+
+            Operaciones:
+              mostrar                                     Matriz completa.
+              sumas                                       Sumas de filas y columnas.
+              diagonales                                  Suma de la principal, producto de la secundaria y
+                                                          su división.
+              ordenar <inferior|superior> <ascendente|descendente>
+              rotar <anillo|matriz> <izquierda|derecha> <90|180|270>
+              guardar <ruta>                              Guarda la matriz en formato binario.
+
+            Códigos de salida: 0 éxito, 1 operación fallida, 2 uso incorrecto, 3 error de entrada o salida.
+            """;
+
+    private Lote() {
+    }
+
+    /**
+     * Ejecuta el lote con los argumentos de la línea de comandos y termina el programa con su código de salida.
+     *
+     * @param args Argumentos de la línea de comandos.
+     */
+    public static void main(String[] args) {
+        System.exit(ejecutar(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Ejecuta el lote sin terminar el programa.
+     *
+     * @param args     Argumentos.
+     * @param entrada  Entrada usada por {@code --archivo -} y {@code --guion -}.
+     * @param salida   Destino de los resultados cuando no se indica {@code --salida}.
+     * @param errores  Destino de los mensajes de error y de los tiempos.
+     * @return Código de salida.
+     */
+    public static int ejecutar(String[] args, InputStream entrada, PrintStream salida, PrintStream errores) {
+        Opciones opciones;
+
+        try {
+            opciones = Opciones.leer(args, entrada);
+        } catch (IllegalArgumentException e) {
+            errores.println("Error: " + e.getMessage());
+            errores.println();
+            errores.print(USO);
+            return USO_INCORRECTO;
+        } catch (IOException | UncheckedIOException e) {
+            errores.println("Error: no se pudo leer el guion. " + mensaje(e));
+            return ERROR_ENTRADA;
+        }
+
+        var inicio = System.nanoTime();
+        Matriz matriz;
+
+        try {
+            matriz = opciones.cargar(entrada);
+        } catch (IOException | UncheckedIOException e) {
+            errores.println("Error: no se pudo leer la matriz. " + mensaje(e));
+            return ERROR_ENTRADA;
+        } catch (IllegalArgumentException e) {
+            errores.println("Error: " + e.getMessage());
+            return ERROR_ENTRADA;
+        }
+
+        if (opciones.tiempos) {
+            tiempo(errores, "\"carga\"", null, System.nanoTime() - inicio);
+        }
+
+        try (matriz; var destino = opciones.abrirSalida(salida)) {
+            var json = opciones.json;
+
+            for (int k = 0; k < opciones.pasos.size(); k++) {
+                var paso = opciones.pasos.get(k);
+                var antes = System.nanoTime();
+
+                try {
+                    paso.ejecutar(matriz, destino, json);
+                } catch (IllegalArgumentException | IllegalStateException | UnsupportedOperationException e) {
+                    destino.flush();
+                    errores.println("Error en la operación %d (%s): %s".formatted(k + 1, paso, e.getMessage()));
+                    return FALLO_OPERACION;
+                }
+
+                if (opciones.tiempos) {
+                    tiempo(errores, Integer.toString(k + 1), paso.operacion.nombre, System.nanoTime() - antes);
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            errores.println("Error: no se pudo escribir el resultado. " + mensaje(e));
+            return ERROR_ENTRADA;
+        }
+
+        if (opciones.tiempos) {
+            tiempo(errores, "\"total\"", null, System.nanoTime() - inicio);
+        }
+
+        return EXITO;
+    }
+
+    private static void tiempo(PrintStream errores, String paso, String operacion, long nanos) {
+        errores.println(operacion == null
+                ? "{\"paso\":%s,\"nanos\":%d}".formatted(paso, nanos)
+                : "{\"paso\":%s,\"operacion\":\"%s\",\"nanos\":%d}".formatted(paso, operacion, nanos));
+    }
+
+    private static String mensaje(Exception e) {
+        var causa = e instanceof UncheckedIOException sinComprobar ? sinComprobar.getCause() : e;
+
+        if (causa instanceof NoSuchFileException) {
+            return "No existe el archivo '%s'.".formatted(causa.getMessage());
+        }
+
+        return causa.getMessage() == null ? causa.getClass().getSimpleName() : causa.getMessage();
+    }
+
+    /**
+     * Convierte una palabra en una constante de un enum, sin distinguir mayúsculas.
+     */
+    private static <E extends Enum<E>> E constante(Class<E> tipo, String palabra, String descripcion) {
+        for (E constante : tipo.getEnumConstants()) {
+            if (constante.name().equalsIgnoreCase(palabra)) {
+                return constante;
+            }
+        }
+
+        throw new IllegalArgumentException("%s no válido: '%s'. Valores posibles: %s."
+                .formatted(descripcion, palabra, Arrays.toString(tipo.getEnumConstants()).toLowerCase(Locale.ROOT)));
+    }
+
+    private static int entero(String palabra, String descripcion) {
+        try {
+            return Integer.parseInt(palabra);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("%s no válido: '%s'.".formatted(descripcion, palabra));
+        }
+    }
+
+    /**
+     * Operaciones disponibles, con el número de argumentos que recibe cada una.
+     */
+    private enum Operacion {
+        MOSTRAR("mostrar", 0),
+        SUMAS("sumas", 0),
+        DIAGONALES("diagonales", 0),
+        ORDENAR("ordenar", 2),
+        ROTAR("rotar", 3),
+        GUARDAR("guardar", 1);
+
+        private final String nombre;
+        private final int argumentos;
+
+        Operacion(String nombre, int argumentos) {
+            this.nombre = nombre;
+            this.argumentos = argumentos;
+        }
+
+        static Operacion desde(String nombre) {
+            for (Operacion operacion : values()) {
+                if (operacion.nombre.equalsIgnoreCase(nombre)) {
+                    return operacion;
+                }
+            }
+
+            throw new IllegalArgumentException("Operación desconocida: '%s'.".formatted(nombre));
+        }
+    }
+
+    /**
+     * Una operación con sus argumentos ya validados.
+     *
+     * @param operacion  Operación a ejecutar.
+     * @param argumentos Argumentos tal como se escribieron.
+     */
+    private record Paso(Operacion operacion, String[] argumentos) {
+        Paso {
+            switch (operacion) {
+                case ORDENAR -> {
+                    constante(Triangulo.class, argumentos[0], "Triángulo");
+                    constante(Orden.class, argumentos[1], "Orden");
+                }
+                case ROTAR -> {
+                    if (!argumentos[0].equalsIgnoreCase("matriz") && entero(argumentos[0], "Anillo") < 1) {
+                        throw new IllegalArgumentException("Anillo no válido: '%s'.".formatted(argumentos[0]));
+                    }
+
+                    Direccion.desde(argumentos[1]);
+                    var grados = entero(argumentos[2], "Grados");
+
+                    if (grados != 90 && grados != 180 && grados != 270) {
+                        throw new IllegalArgumentException("Grados no válidos: %d. Solo se permiten 90, 180 y 270."
+                                .formatted(grados));
+                    }
+                }
+                case GUARDAR -> Path.of(argumentos[0]);
+                default -> {
+                }
+            }
+        }
+
+        /**
+         * Convierte una secuencia de palabras en pasos, tomando después de cada operación tantas palabras como
+         * argumentos reciba.
+         */
+        static void leer(List<String> palabras, String origen, List<Paso> pasos) {
+            for (int k = 0; k < palabras.size(); ) {
+                var operacion = Operacion.desde(palabras.get(k++));
+
+                if (k + operacion.argumentos > palabras.size()) {
+                    throw new IllegalArgumentException("%sla operación '%s' necesita %d argumentos."
+                            .formatted(origen, operacion.nombre, operacion.argumentos));
+                }
+
+                try {
+                    pasos.add(new Paso(operacion, palabras.subList(k, k + operacion.argumentos).toArray(String[]::new)));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(origen + e.getMessage(), e);
+                }
+
+                k += operacion.argumentos;
+            }
+        }
+
+        void ejecutar(Matriz matriz, Writer destino, boolean json) throws IOException {
+            switch (operacion) {
+                case MOSTRAR -> mostrar(matriz, destino, json);
+                case SUMAS -> sumas(matriz, destino, json);
+                case DIAGONALES -> diagonales(cuadrada(matriz), destino, json);
+                case ORDENAR -> cuadrada(matriz).ordenarTriangulo(constante(Triangulo.class, argumentos[0], "Triángulo"),
+                        constante(Orden.class, argumentos[1], "Orden"));
+                case ROTAR -> rotar(cuadrada(matriz));
+                case GUARDAR -> matriz.guardar(Path.of(argumentos[0]));
+            }
+
+            if (json && (operacion == Operacion.ORDENAR || operacion == Operacion.ROTAR
+                    || operacion == Operacion.GUARDAR)) {
+                destino.append("{\"operacion\":\"").append(operacion.nombre).append("\",\"version\":")
+                        .append(Long.toString(matriz.getVersion())).append("}\n");
+            }
+        }
+
+        private void rotar(MatrizCuadrada matriz) {
+            var direccion = Direccion.desde(argumentos[1]);
+            var grados = Integer.parseInt(argumentos[2]);
+
+            if (argumentos[0].equalsIgnoreCase("matriz")) {
+                matriz.rotar(direccion, grados);
+                return;
+            }
+
+            var n = matriz.getFilas();
+            var anillo = Integer.parseInt(argumentos[0]);
+
+            if (anillo > Rotador.anillos(n)) {
+                throw new IllegalArgumentException("Anillo no válido: %d. Debe estar entre 1 y %d."
+                        .formatted(anillo, Rotador.anillos(n)));
+            }
+
+            matriz.rotarAnillo(anillo, direccion, grados / 90 * (n - 2 * anillo + 1));
+        }
+
+        private static MatrizCuadrada cuadrada(Matriz matriz) {
+            if (matriz instanceof MatrizCuadrada cuadrada) {
+                return cuadrada;
+            }
+
+            throw new IllegalArgumentException("La matriz debe ser cuadrada (%dx%d)."
+                    .formatted(matriz.getFilas(), matriz.getColumnas()));
+        }
+
+        private static void mostrar(Matriz matriz, Writer destino, boolean json) throws IOException {
+            if (!json) {
+                matriz.escribir(destino);
+                destino.append('\n');
+                return;
+            }
+
+            destino.append("{\"operacion\":\"mostrar\",\"filas\":").append(Integer.toString(matriz.getFilas()))
+                    .append(",\"columnas\":").append(Integer.toString(matriz.getColumnas())).append(",\"datos\":[");
+
+            for (int i = 0; i < matriz.getFilas(); i++) {
+                destino.append(i == 0 ? "[" : ",[");
+
+                for (int j = 0; j < matriz.getColumnas(); j++) {
+                    if (j > 0) {
+                        destino.append(',');
+                    }
+
+                    destino.append(Long.toString(matriz.getLong(i, j)));
+                }
+
+                destino.append(']');
+            }
+
+            destino.append("]}\n");
+        }
+
+        private static void sumas(Matriz matriz, Writer destino, boolean json) throws IOException {
+            if (!json) {
+                matriz.escribirSumas(destino);
+                destino.append('\n');
+                return;
+            }
+
+            var sumas = matriz.calcularSumas();
+            destino.append("{\"operacion\":\"sumas\",\"filas\":").append(Arrays.toString(sumas.filas()).replace(" ", ""))
+                    .append(",\"columnas\":").append(Arrays.toString(sumas.columnas()).replace(" ", "")).append("}\n");
+        }
+
+        private static void diagonales(MatrizCuadrada matriz, Writer destino, boolean json) throws IOException {
+            var suma = matriz.getSumaDiagonalPrincipalLong();
+            var producto = matriz.getProductoDiagonalSecundariaExacto();
+            var division = Main.dividir(suma, producto);
+
+            if (json) {
+                var cociente = division instanceof BigDecimal decimal
+                        ? decimal.toPlainString()
+                        : "\"" + division + "\"";
+
+                destino.append("{\"operacion\":\"diagonales\",\"sumaPrincipal\":").append(Long.toString(suma))
+                        .append(",\"productoSecundaria\":").append(producto.toString())
+                        .append(",\"division\":").append(cociente).append("}\n");
+                return;
+            }
+
+            destino.append("DIAGONAL PRINCIPAL\n");
+            matriz.escribirDiagonal(Diagonal.PRINCIPAL, destino);
+            destino.append("\nSuma de los elementos de la diagonal principal: %d.\n\n".formatted(suma));
+            destino.append("DIAGONAL SECUNDARIA\n");
+            matriz.escribirDiagonal(Diagonal.SECUNDARIA, destino);
+            destino.append("\nProducto de los elementos de la diagonal secundaria: %d.\n\n".formatted(producto));
+            destino.append("%d/%d = %.4f\n\n".formatted(suma, producto, division));
+        }
+
+        @Override
+        public String toString() {
+            return argumentos.length == 0 ? operacion.nombre : operacion.nombre + " " + String.join(" ", argumentos);
+        }
+    }
+
+    /**
+     * Opciones de la línea de comandos.
+     */
+    private static final class Opciones {
+        private String archivo;
+        private int[] dimensiones;
+        private Generador generador;
+        private int minimo = -50;
+        private int maximo = 50;
+        private long semilla;
+        private boolean sinCero;
+        private boolean negativos;
+        private Ubicacion ubicacion = Ubicacion.HEAP;
+        private boolean json;
+        private String rutaSalida;
+        private boolean tiempos;
+        private boolean verificar;
+        private final List<Paso> pasos = new ArrayList<>();
+
+        static Opciones leer(String[] args, InputStream entrada) throws IOException {
+            var opciones = new Opciones();
+            var operaciones = new ArrayList<String>();
+            String guion = null;
+
+            for (int k = 0; k < args.length; k++) {
+                var opcion = args[k];
+
+                if (!opcion.startsWith("--")) {
+                    operaciones.add(opcion);
+                    continue;
+                }
+
+                switch (opcion) {
+                    case "--sin-cero" -> opciones.sinCero = true;
+                    case "--negativos" -> opciones.negativos = true;
+                    case "--fuera-del-heap" -> opciones.ubicacion = Ubicacion.FUERA_DEL_HEAP;
+                    case "--tiempos" -> opciones.tiempos = true;
+                    case "--verificar" -> opciones.verificar = true;
+                    case "--archivo", "--generar", "--rango", "--semilla", "--formato", "--salida", "--guion" -> {
+                        if (++k == args.length) {
+                            throw new IllegalArgumentException("Falta el valor de la opción %s.".formatted(opcion));
+                        }
+
+                        var valor = args[k];
+
+                        switch (opcion) {
+                            case "--archivo" -> opciones.archivo = valor;
+                            case "--generar" -> opciones.dimensiones = dimensiones(valor);
+                            case "--rango" -> opciones.rango(valor);
+                            case "--semilla" -> opciones.semilla = semilla(valor);
+                            case "--formato" -> opciones.json = formato(valor);
+                            case "--salida" -> opciones.rutaSalida = valor;
+                            default -> guion = valor;
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Opción desconocida: %s.".formatted(opcion));
+                }
+            }
+
+            if ((opciones.archivo == null) == (opciones.dimensiones == null)) {
+                throw new IllegalArgumentException("Se debe indicar exactamente una entrada: --archivo o --generar.");
+            }
+
+            if (opciones.dimensiones != null) {
+                opciones.generador = Generador.cerrado(opciones.minimo, opciones.maximo);
+
+                if (opciones.sinCero) {
+                    opciones.generador = opciones.generador.sinCero();
+                }
+
+                if (opciones.negativos) {
+                    opciones.generador = opciones.generador.conNegativos();
+                }
+            }
+
+            if ("-".equals(opciones.archivo) && "-".equals(guion)) {
+                throw new IllegalArgumentException("La matriz y el guion no pueden leerse ambos de la entrada estándar.");
+            }
+
+            Paso.leer(operaciones, "", opciones.pasos);
+
+            if (guion != null) {
+                var lineas = "-".equals(guion)
+                        ? new String(entrada.readAllBytes(), StandardCharsets.UTF_8).lines().toList()
+                        : Files.readAllLines(Path.of(guion));
+
+                for (int l = 0; l < lineas.size(); l++) {
+                    var linea = lineas.get(l);
+                    var comentario = linea.indexOf('#');
+                    var contenido = (comentario < 0 ? linea : linea.substring(0, comentario)).strip();
+
+                    if (!contenido.isEmpty()) {
+                        Paso.leer(List.of(contenido.split("\\s+")), "Guion, línea %d: ".formatted(l + 1), opciones.pasos);
+                    }
+                }
+            }
+
+            if (opciones.pasos.isEmpty()) {
+                throw new IllegalArgumentException("No se indicó ninguna operación.");
+            }
+
+            return opciones;
+        }
+
+        private static int[] dimensiones(String valor) {
+            var partes = valor.toLowerCase(Locale.ROOT).split("x", -1);
+
+            if (partes.length != 2) {
+                throw new IllegalArgumentException("Dimensiones no válidas: '%s'. Se esperaba <filas>x<columnas>."
+                        .formatted(valor));
+            }
+
+            var filas = entero(partes[0], "Número de filas");
+            var columnas = entero(partes[1], "Número de columnas");
+
+            if (filas <= 0 || columnas <= 0) {
+                throw new IllegalArgumentException("Las dimensiones de la matriz deben ser positivas (%s)."
+                        .formatted(valor));
+            }
+
+            return new int[]{filas, columnas};
+        }
+
+        private void rango(String valor) {
+            var separador = valor.indexOf(':', 1);
+
+            if (separador < 0) {
+                throw new IllegalArgumentException("Rango no válido: '%s'. Se esperaba <min>:<max>.".formatted(valor));
+            }
+
+            minimo = entero(valor.substring(0, separador), "Valor mínimo");
+            maximo = entero(valor.substring(separador + 1), "Valor máximo");
+        }
+
+        private static long semilla(String valor) {
+            try {
+                return Long.parseLong(valor);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Semilla no válida: '%s'.".formatted(valor));
+            }
+        }
+
+        private static boolean formato(String valor) {
+            return switch (valor.toLowerCase(Locale.ROOT)) {
+                case "texto" -> false;
+                case "json" -> true;
+                default -> throw new IllegalArgumentException("Formato no válido: '%s'.".formatted(valor));
+            };
+        }
+
+        /**
+         * Carga o genera la matriz. Si es cuadrada se crea una {@link MatrizCuadrada} con rotación diferida, de
+         * modo que varias rotaciones seguidas no recorren la matriz hasta que otra operación lo necesite.
+         */
+        Matriz cargar(InputStream entrada) throws IOException {
+            Almacenamiento almacenamiento;
+
+            if (dimensiones != null) {
+                almacenamiento = generador.generar(dimensiones[0], dimensiones[1], semilla, ubicacion);
+            } else if (archivo.equals("-")) {
+                almacenamiento = Cargador.cargar(Channels.newChannel(entrada), sinCero, ubicacion);
+            } else {
+                var ruta = Path.of(archivo);
+
+                almacenamiento = ArchivoMatriz.reconocer(ruta)
+                        ? abrirBinario(ruta)
+                        : Cargador.cargar(ruta, sinCero, ubicacion);
+            }
+
+            if (almacenamiento.filas() != almacenamiento.columnas()) {
+                return new Matriz(almacenamiento);
+            }
+
+            var matriz = new MatrizCuadrada(almacenamiento);
+            matriz.setRotacionDiferida(!almacenamiento.esSoloLectura());
+            return matriz;
+        }
+
+        /**
+         * Abre un archivo binario sin copiarlo si ninguna operación modifica la matriz. Al copiarlo, el CRC de los
+         * datos se comprueba siempre; sin copiarlo, solo con {@code --verificar}.
+         */
+        private Almacenamiento abrirBinario(Path ruta) throws IOException {
+            var modifica = pasos.stream()
+                    .anyMatch(paso -> paso.operacion == Operacion.ORDENAR || paso.operacion == Operacion.ROTAR);
+
+            return modifica ? ArchivoMatriz.cargar(ruta, ubicacion) : ArchivoMatriz.abrir(ruta, verificar);
+        }
+
+        Writer abrirSalida(PrintStream salida) throws IOException {
+            if (rutaSalida == null) {
+                // No se cierra la salida estándar al terminar, solo se vacía.
+                return new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8), 1 << 16) {
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                };
+            }
+
+            return Files.newBufferedWriter(Path.of(rutaSalida));
+        }
+    }
+}
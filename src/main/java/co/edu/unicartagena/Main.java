@@ -8,12 +8,31 @@ package co.edu.unicartagena;
 ;==========================================
 */
 
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import co.edu.unicartagena.Entrada.Cargador;
+import co.edu.unicartagena.Entrada.FormatoInvalidoException;
+import co.edu.unicartagena.Entrada.Generador;
 import co.edu.unicartagena.Extra.Pointer;
-
+import co.edu.unicartagena.Operaciones.Orden;
+import co.edu.unicartagena.Operaciones.Ordenador;
+import co.edu.unicartagena.Operaciones.Triangulo;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.InputMismatchException;
 import java.util.Optional;
-import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class Main {
 
@@ -120,74 +139,78 @@ public class Main {
     }
 
     /**
-     * Método para obtener los datos de la matriz nxm.
+     * Método para obtener los datos de la matriz nxm desde la consola. Cada fila se interpreta con
+     * {@link Cargador}, que informa la columna del primer valor no válido.
      *
      * @param n Número de filas
      * @param m Número de columnas
-     * @return Matriz de tipo entero.
+     * @return Matriz de tipo entero, o null si el usuario cancela la operación.
      */
-    private static int[][] obtenerDatos(int n, int m, boolean excludeZero) {
+    private static Almacenamiento obtenerDatos(int n, int m, boolean excludeZero) {
         if (n <= 0 || m <= 0) {
             throw new IllegalArgumentException("Las dimensiones de la matriz no pueden ser negativas o cero.");
         }
 
-        int[][] matriz = new int[n][m];
+        var matriz = new AlmacenamientoPlano(n, m);
 
         // Llenar la matriz
         for (int i = 0; i < n; i++) {
-            var messageError = "¿Desea corregir la fila %d?".formatted(i);
-
             System.out.printf("Ingrese los %d datos(m) de la fila n=%d separados por espacios: ", m, i);
-            var row = sc.nextLine().split(" ");
+            var linea = sc.nextLine().getBytes(StandardCharsets.UTF_8);
 
-            // Validar la cantidad de datos por fila
-            if (row.length > m) {
-                if (handleInputError(String.format("\nLa fila %d tiene más datos de los esperados(%d de %d).\n", i, row.length, m),
-                        messageError)) {
-                    --i;
-                    continue;
-                } else {
-                    return null;
+            try {
+                var fila = Cargador.cargar(Channels.newChannel(new ByteArrayInputStream(linea)), 1, m, excludeZero,
+                        Ubicacion.HEAP);
+
+                for (int j = 0; j < m; j++) {
+                    matriz.set(i, j, fila.get(0, j));
                 }
+            } catch (FormatoInvalidoException e) {
+                var posicion = e.getColumna() > 0 ? " (columna %d)".formatted(e.getColumna()) : "";
 
-            } else if (row.length < m) {
-                if (handleInputError(String.format("\nLa fila %d tiene menos datos de los esperados(%d de %d).\n", i, row.length, m),
-                        messageError)) {
+                if (handleInputError("\nLa fila %d no es válida%s: %s\n".formatted(i, posicion, e.getDescripcion()),
+                        "¿Desea corregir la fila %d?".formatted(i))) {
                     --i;
                 } else {
                     return null;
                 }
-            }
-
-            // Validar que los datos sean números
-            for (int j = 0; j < n; j++) {
-                messageError = "¿Desea corregir la fila %d?".formatted(i);
-
-                try {
-                    matriz[i][j] = Integer.parseInt(row[j]);
-
-                    // Validar que los datos sean enteros positivos o negativos
-                    if (matriz[i][j] == 0 && excludeZero) {
-                        if (handleInputError("\nLa matriz solo puede contener números enteros positivos o negativos. El cero no está permitido.\n",
-                                messageError)) {
-                            --i;
-                        } else {
-                            return null;
-                        }
-                    }
-                } catch (NumberFormatException ignore) {
-                    if (handleInputError(String.format("\nEl valor %s no es un número válido.\n", row[j]), messageError)) {
-                        --i;
-                    } else {
-                        return null;
-                    }
-                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
         }
 
         return matriz;
     }
 
+    /**
+     * Método para cargar los datos de la matriz nxm desde un archivo de texto, con una fila por línea y los
+     * valores separados por espacios.
+     *
+     * @param n Número de filas
+     * @param m Número de columnas
+     * @return Matriz de tipo entero, o null si el usuario cancela la operación.
+     */
+    private static Almacenamiento cargarArchivo(int n, int m, boolean excludeZero) {
+        do {
+            System.out.print("Ruta del archivo: ");
+            var ruta = sc.nextLine().strip();
+
+            try {
+                return Cargador.cargar(Path.of(ruta), n, m, excludeZero, Ubicacion.HEAP);
+            } catch (FormatoInvalidoException e) {
+                if (!handleInputError("\nEl archivo no es válido. %s\n".formatted(e.getMessage()),
+                        "¿Desea indicar otro archivo?")) {
+                    return null;
+                }
+            } catch (IOException | InvalidPathException e) {
+                if (!handleInputError("\nNo se pudo leer el archivo '%s'.\n".formatted(ruta),
+                        "¿Desea indicar otro archivo?")) {
+                    return null;
+                }
+            }
+        } while (true);
+    }
+
     /**
      * Método para generar una matriz aleatoria.
      *
@@ -197,7 +220,7 @@ public class Main {
      * @param max valor máximo de los datos de la matriz.
      * @return Matriz de tipo entero.
      */
-    private static int[][] generarMatrizAleatoria(int n, int m, int min, int max, boolean excludeZero, boolean includeNegatives) {
+    private static Almacenamiento generarMatrizAleatoria(int n, int m, int min, int max, boolean excludeZero, boolean includeNegatives) {
         if (n <= 0 || m <= 0) {
             throw new IllegalArgumentException("""
                     Las dimensiones de la matriz no pueden ser negativas o cero.
@@ -213,27 +236,19 @@ public class Main {
                     """.formatted(min, max));
         }
 
-        int[][] matrizAleatoria = new int[n][m];
-        Random random = new Random();
+        // Los valores se sortean en [min, max), como se hacía con Random.nextInt(max - min) + min.
+        var generador = Generador.semiabierto(min, max);
 
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < m; j++) {
-                var aleatorio = random.nextInt(max - min) + min;
-
-                if (excludeZero && aleatorio == 0) {
-                    --j;
-                    continue;
-                }
-
-                if (includeNegatives && random.nextBoolean()) {
-                    aleatorio *= -1;
-                }
+        if (excludeZero) {
+            generador = generador.sinCero();
+        }
 
-                matrizAleatoria[i][j] = aleatorio;
-            }
+        if (includeNegatives) {
+            generador = generador.conNegativos();
         }
 
-        return matrizAleatoria;
+        // Se usa el tipo de celdas más pequeño que admite el intervalo; los valores de 25 a 75 ocupan un byte.
+        return generador.generar(n, m, ThreadLocalRandom.current().nextLong());
     }
 
     /**
@@ -247,8 +262,8 @@ public class Main {
      * @return Optional con la matriz generada o vacío si el usuario cancela la
      * operación.
      */
-    private static Optional<int[][]> preguntarFormaDeLlenado(int n, int m, int min, int max, boolean excludeZero, boolean includeNegatives) {
-        int[][] matriz = null;
+    private static Optional<Almacenamiento> preguntarFormaDeLlenado(int n, int m, int min, int max, boolean excludeZero, boolean includeNegatives) {
+        Almacenamiento matriz = null;
         menu:
         do {
             System.out.print("""
@@ -256,6 +271,7 @@ public class Main {
                     ¿Qué desea hacer?
                     1. Generar datos aleatoriamente.
                     2. Ingresar datos manualmente.
+                    3. Cargar datos desde un archivo.
                     0. Cancelar operación.
                                     
                     Opción:""");
@@ -268,6 +284,8 @@ public class Main {
 
                     case 2 -> matriz = obtenerDatos(n, m, excludeZero);
 
+                    case 3 -> matriz = cargarArchivo(n, m, excludeZero);
+
                     case 0 -> {
                         break menu;
                     }
@@ -353,9 +371,10 @@ public class Main {
      *
      * @param value Matriz de tipo entero.
      */
-    private static void procesarOperaciones(int[][] value) {
+    private static void procesarOperaciones(Almacenamiento value) {
         cleanConsole();
         MatrizCuadrada matriz = new MatrizCuadrada(value);
+        BigInteger producto = matriz.getProductoDiagonalSecundariaExacto();
 
         System.out.printf("""
                         MATRIZ GENERADA
@@ -377,10 +396,28 @@ public class Main {
                         %s = %.4f
                         """,
                 matriz,
-                matriz.getDiagonalPrincipal(), matriz.getSumaDiagonalPrincipal(),
-                matriz.getDiagonalSecundaria(), matriz.getProductoDiagonalSecundaria(),
-                matriz.getSumaDiagonalPrincipal() + "/" + matriz.getProductoDiagonalSecundaria(),
-                matriz.getSumaDiagonalPrincipal() / (double) matriz.getProductoDiagonalSecundaria());
+                matriz.getDiagonalPrincipal(), matriz.getSumaDiagonalPrincipalLong(),
+                matriz.getDiagonalSecundaria(), producto,
+                matriz.getSumaDiagonalPrincipalLong() + "/" + producto,
+                dividir(matriz.getSumaDiagonalPrincipalLong(), producto));
+    }
+
+    /**
+     * Método para dividir la suma de la diagonal principal entre el producto exacto de la diagonal secundaria.
+     * La división se hace con precisión decimal, porque el producto puede ser mucho más grande que un
+     * {@code double}; si el producto es cero, el resultado es infinito o NaN como en la división entre
+     * {@code double}.
+     *
+     * @param suma     Suma de la diagonal principal.
+     * @param producto Producto de la diagonal secundaria.
+     * @return Cociente redondeado a cuatro decimales.
+     */
+    static Number dividir(long suma, BigInteger producto) {
+        if (producto.signum() == 0) {
+            return suma / 0.0;
+        }
+
+        return new BigDecimal(suma).divide(new BigDecimal(producto), 4, RoundingMode.HALF_UP);
     }
 
     /**
@@ -403,43 +440,11 @@ public class Main {
             int n = sc.nextInt();
             sc.nextLine();
 
-            int[][] matriz;
+            Almacenamiento matriz;
 
             // se genera la matriz
             matriz = generarMatrizAleatoria(n, n, 25, 75, false, false);
 
-            // Número de elementos arriba o abajo de la diagonal
-            int nout = 0;
-            for (int i = 0; i < n; i++) {
-                nout += i;
-            }
-
-            // Vectores de elementos no diagonales
-            Pointer[] vectorSuperiorDP = new Pointer[nout];
-            Pointer[] vectorInferiorDP = new Pointer[nout];
-
-
-            // Llenar los vectores
-            int countSupDP = 0;
-            int countInfDP = 0;
-            for (int i = 0; i <= n - 1; i++) {
-                for (int j = 0; j <= n - 1; j++) {
-                    if (j > i) {
-                        vectorSuperiorDP[countSupDP] = new Pointer(matriz[i][j], i, j);
-                        countSupDP++;
-                    }
-
-                    if (j < i) {
-                        vectorInferiorDP[countInfDP] = new Pointer(matriz[i][j], i, j);
-                        countInfDP++;
-                    }
-                }
-            }
-
-            // Ordenar los vectores
-            ordenarAscendente(vectorInferiorDP);
-            ordenarDescendiente(vectorSuperiorDP);
-
             // Matriz Original
             MatrizCuadrada original = new MatrizCuadrada(matriz);
 
@@ -450,7 +455,7 @@ public class Main {
                                         
                     """, original);
 
-            original.replace(vectorInferiorDP);
+            original.ordenarTriangulo(Triangulo.INFERIOR, Orden.ASCENDENTE);
             System.out.printf("""
                     ELEMENTOS POR DEBAJO DE LA DIAGONAL ORDENADOS DE MENOR A MAYOR
                                         
@@ -458,7 +463,7 @@ public class Main {
                                         
                     """, original);
 
-            original.replace(vectorSuperiorDP);
+            original.ordenarTriangulo(Triangulo.SUPERIOR, Orden.DESCENDENTE);
             System.out.printf("""
                     ELEMENTOS POR ARRIBA DE LA DIAGONAL ORDENADOS DE MAYOR A MENOR
                                         
@@ -480,16 +485,7 @@ public class Main {
      * @param pointers vector de tipo Pointer.
      */
     public static void ordenarAscendente(Pointer[] pointers) {
-        for (int i = 0; i < pointers.length; i++) {
-            for (int j = 0; j < pointers.length - 1; j++) {
-                if (pointers[j].getValue() > pointers[j + 1].getValue()) {
-                    int temp = pointers[j].getValue();
-
-                    pointers[j].setValue(pointers[j + 1].getValue());
-                    pointers[j + 1].setValue(temp);
-                }
-            }
-        }
+        ordenar(pointers, Orden.ASCENDENTE);
     }
 
     /**
@@ -498,15 +494,27 @@ public class Main {
      * @param pointers vector de tipo Pointer.
      */
     public static void ordenarDescendiente(Pointer[] pointers) {
+        ordenar(pointers, Orden.DESCENDENTE);
+    }
+
+    /**
+     * Método para ordenar los valores de un vector de punteros. Los valores se copian a un vector de enteros, se
+     * ordenan y se vuelven a asignar en el mismo orden de los punteros.
+     *
+     * @param pointers vector de tipo Pointer.
+     * @param orden    orden deseado.
+     */
+    private static void ordenar(Pointer[] pointers, Orden orden) {
+        int[] valores = new int[pointers.length];
+
         for (int i = 0; i < pointers.length; i++) {
-            for (int j = 0; j < pointers.length - 1; j++) {
-                if (pointers[j].getValue() < pointers[j + 1].getValue()) {
-                    int temp = pointers[j].getValue();
+            valores[i] = pointers[i].getValue();
+        }
 
-                    pointers[j].setValue(pointers[j + 1].getValue());
-                    pointers[j + 1].setValue(temp);
-                }
-            }
+        Ordenador.ordenar(valores, orden);
+
+        for (int i = 0; i < pointers.length; i++) {
+            pointers[i].setValue(valores[i]);
         }
     }
 
@@ -8,147 +8,668 @@ package co.edu.unicartagena;
 ;==========================================
 */
 
-import java.util.IllegalFormatException;
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoCsr;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoDisperso;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoLong;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Almacenamiento.ArchivoMatriz;
+import co.edu.unicartagena.Almacenamiento.TipoElemento;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import co.edu.unicartagena.Operaciones.Multiplicador;
+import co.edu.unicartagena.Operaciones.MultiplicadorDisperso;
+import co.edu.unicartagena.Operaciones.SecuenciaBloque;
+import co.edu.unicartagena.Operaciones.Sumador;
+import co.edu.unicartagena.Operaciones.Sumas;
+import co.edu.unicartagena.Operaciones.Transformador;
+import co.edu.unicartagena.Presentacion.Renderizador;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 
-public class Matriz {
+public class Matriz implements AutoCloseable {
     /**
      * Espacio entre los datos de la matriz
      */
-    protected static final int SPACING = 8;
+    protected static final int SPACING = Renderizador.ANCHO;
 
     /**
      * Espacio entre los datos de la matriz para encabezados especiales
      */
-    protected static final int specialSpacing = 14;
+    protected static final int specialSpacing = Renderizador.ANCHO_ESPECIAL;
 
     /**
      * Matriz de datos
      */
-    protected final int[][] matriz;
+    protected final Almacenamiento matriz;
 
+    /**
+     * Número de celdas a partir del cual las sumas se calculan en paralelo.
+     */
+    private long umbralParalelo = Sumador.UMBRAL_PARALELO;
+
+    /**
+     * Número de modificaciones hechas a los datos a través de los métodos de la matriz.
+     */
+    private long version;
+
+    /**
+     * Sumas de filas y columnas calculadas por {@link #calcularSumas(ForkJoinPool)} y mantenidas al modificar
+     * celdas, o {@code null} si hay que recalcularlas.
+     */
+    private Sumas sumas;
+
+    /**
+     * Matriz de la que esta es una vista, o {@code null} si la matriz tiene datos propios.
+     */
+    private final Matriz padre;
+
+    /**
+     * Fila y columna del padre donde empieza la vista.
+     */
+    private final int filaEnPadre;
+    private final int columnaEnPadre;
+
+    /**
+     * Versión del padre con la que se calcularon las sumas guardadas de la vista.
+     */
+    private long versionPadre;
 
     /**
-     * Constructor de la clase
+     * Constructor de la clase. Los datos se copian a un almacenamiento plano por filas, porque las filas de un
+     * {@code int[][]} son vectores separados; la copia recorre toda la matriz y ocupa tanta memoria como ella. Para
+     * usar un vector existente sin copiarlo ver {@link #sobre(int[], int, int)}.
      *
      * @param matriz Matriz de tipo entero.
-     * @throws IllegalArgumentException Si la matriz está vacía.
+     * @throws IllegalArgumentException Si la matriz está vacía o sus filas no tienen el mismo tamaño.
      */
     public Matriz(int[][] matriz) throws IllegalArgumentException {
-        if (matriz.length == 0) {
+        this(AlmacenamientoPlano.desde(matriz));
+    }
+
+    /**
+     * Constructor de la clase. Los datos se copian a un almacenamiento por filas con el tipo de celdas indicado.
+     *
+     * @param matriz Matriz de tipo entero.
+     * @param tipo   Tipo primitivo de las celdas.
+     * @throws IllegalArgumentException Si la matriz está vacía, sus filas no tienen el mismo tamaño o algún
+     *                                  valor no cabe en el tipo.
+     */
+    public Matriz(int[][] matriz, TipoElemento tipo) throws IllegalArgumentException {
+        this(tipo.desde(matriz));
+    }
+
+    /**
+     * Crea una matriz con una copia de los datos, eligiendo según su densidad entre un almacenamiento disperso
+     * ({@link AlmacenamientoCsr}) y uno plano. Ver {@link AlmacenamientoDisperso#compactar(int[][])}.
+     *
+     * @param matriz Matriz de tipo entero.
+     * @return Matriz con la representación elegida.
+     * @throws IllegalArgumentException Si la matriz está vacía o sus filas no tienen el mismo tamaño.
+     */
+    public static Matriz compacta(int[][] matriz) throws IllegalArgumentException {
+        return new Matriz(AlmacenamientoDisperso.compactar(matriz));
+    }
+
+    /**
+     * Crea una matriz sobre un vector con los datos por filas, sin copiarlo: la celda {@code (i, j)} es
+     * {@code datos[i * columnas + j]}. Los cambios hechos a través de la matriz se ven en el vector; los hechos
+     * directamente en el vector no corrigen las sumas que la matriz ya tenga guardadas.
+     *
+     * @param datos    Vector con los datos por filas.
+     * @param filas    Número de filas.
+     * @param columnas Número de columnas.
+     * @return Matriz que usa el vector como almacenamiento.
+     * @throws IllegalArgumentException Si la matriz está vacía o el vector no tiene {@code filas * columnas}
+     *                                  elementos.
+     */
+    public static Matriz sobre(int[] datos, int filas, int columnas) throws IllegalArgumentException {
+        return new Matriz(plano(datos, filas, columnas));
+    }
+
+    /**
+     * Envuelve un vector con los datos por filas en un almacenamiento plano sin copiarlo.
+     */
+    static AlmacenamientoPlano plano(int[] datos, int filas, int columnas) throws IllegalArgumentException {
+        if (filas < 0 || columnas < 0 || datos.length != (long) filas * columnas) {
+            throw new IllegalArgumentException("Un vector de %d elementos no contiene una matriz de %dx%d."
+                    .formatted(datos.length, filas, columnas));
+        }
+
+        return new AlmacenamientoPlano(datos, 0, columnas, filas, columnas);
+    }
+
+    /**
+     * Constructor de la clase sobre un almacenamiento existente. Los datos no se copian.
+     *
+     * @param matriz Almacenamiento con los datos de la matriz.
+     * @throws IllegalArgumentException Si la matriz está vacía.
+     */
+    public Matriz(Almacenamiento matriz) throws IllegalArgumentException {
+        if (matriz.filas() == 0) {
             throw new IllegalArgumentException("La matriz no puede ser vacía");
         }
 
         this.matriz = matriz;
+        this.padre = null;
+        this.filaEnPadre = 0;
+        this.columnaEnPadre = 0;
     }
 
     /**
-     * Método recibir el string de la matriz.
+     * Constructor de una vista rectangular sobre otra matriz.
      *
-     * @return matriz en forma de String.
+     * @param padre    Matriz que contiene los datos.
+     * @param fila     Fila del padre donde empieza la vista.
+     * @param columna  Columna del padre donde empieza la vista.
+     * @param filas    Número de filas de la vista.
+     * @param columnas Número de columnas de la vista.
+     * @throws IndexOutOfBoundsException Si el bloque no está dentro del padre.
+     * @throws IllegalArgumentException  Si el bloque no tiene filas.
      */
-    @Override
-    public String toString() {
-        StringBuilder str = new StringBuilder();
-        str.append(llenarEncabezado()).append("\n");
+    private Matriz(Matriz padre, int fila, int columna, int filas, int columnas)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (filas == 0) {
+            throw new IllegalArgumentException("La matriz no puede ser vacía");
+        }
+
+        padre.sincronizar();
+
+        this.matriz = padre.matriz.subVista(fila, columna, filas, columnas);
+        this.padre = padre;
+        this.filaEnPadre = fila;
+        this.columnaEnPadre = columna;
+        this.umbralParalelo = padre.umbralParalelo;
+        this.versionPadre = padre.getVersion();
+    }
+
+    /**
+     * Constructor de la clase. Crea una matriz llena de ceros en la ubicación indicada.
+     *
+     * @param filas     Número de filas.
+     * @param columnas  Número de columnas.
+     * @param ubicacion Ubicación en memoria de los datos.
+     * @throws IllegalArgumentException Si la matriz está vacía.
+     */
+    public Matriz(int filas, int columnas, Ubicacion ubicacion) throws IllegalArgumentException {
+        this(ubicacion.crear(filas, columnas));
+    }
+
+    /**
+     * Obtiene el número de filas de la matriz.
+     *
+     * @return Número de filas.
+     */
+    public int getFilas() {
+        return matriz.filas();
+    }
+
+    /**
+     * Obtiene el número de columnas de la matriz.
+     *
+     * @return Número de columnas.
+     */
+    public int getColumnas() {
+        return matriz.columnas();
+    }
+
+    /**
+     * Indica si los datos de la matriz no se pueden modificar, por ejemplo si provienen de un archivo abierto
+     * con {@link ArchivoMatriz#abrir(Path)}.
+     *
+     * @return true si la matriz es de solo lectura.
+     */
+    public boolean esSoloLectura() {
+        return matriz.esSoloLectura();
+    }
+
+    /**
+     * Obtiene el tipo primitivo con el que se guardan las celdas. Al modificar la matriz, los valores deben
+     * caber en ese tipo.
+     *
+     * @return Tipo de las celdas.
+     */
+    public TipoElemento getTipoElemento() {
+        return TipoElemento.de(matriz);
+    }
+
+    /**
+     * Indica si la matriz guarda solo sus celdas distintas de cero.
+     *
+     * @return true si el almacenamiento es disperso.
+     */
+    public boolean esDispersa() {
+        return matriz instanceof AlmacenamientoDisperso;
+    }
+
+    /**
+     * Obtiene el valor de una celda de la matriz.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return Valor de la celda.
+     */
+    public int get(int fila, int columna) {
+        if (padre != null) {
+            padre.sincronizar();
+        }
+
+        return matriz.get(fila, columna);
+    }
+
+    /**
+     * Obtiene el valor de una celda de la matriz como {@code long}, para las matrices con celdas de tipo
+     * {@link TipoElemento#LONG}.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return Valor de la celda.
+     */
+    public long getLong(int fila, int columna) {
+        if (padre != null) {
+            padre.sincronizar();
+        }
+
+        return matriz.getLong(fila, columna);
+    }
+
+    /**
+     * Modifica el valor de una celda de la matriz.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @param valor   Nuevo valor de la celda.
+     * @throws UnsupportedOperationException Si la matriz es de solo lectura.
+     * @throws IllegalArgumentException      Si el valor no cabe en el tipo de las celdas.
+     */
+    public void set(int fila, int columna, int valor) {
+        setLong(fila, columna, valor);
+    }
 
-        for (int i = 0; i < Objects.requireNonNull(matriz).length; i++) {
-            str.append(String.format("%" + specialSpacing + "d ", i));
+    /**
+     * Modifica el valor de una celda de la matriz a partir de un {@code long}.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @param valor   Nuevo valor de la celda.
+     * @throws UnsupportedOperationException Si la matriz es de solo lectura.
+     * @throws IllegalArgumentException      Si el valor no cabe en el tipo de las celdas.
+     */
+    public void setLong(int fila, int columna, long valor) {
+        if (padre != null) {
+            padre.sincronizar();
+        }
 
-            for (int j = 0; j < matriz[i].length; j++) {
-                var datoFormat = " %" + SPACING + "d ";
+        var anterior = matriz.getLong(fila, columna);
+        matriz.setLong(fila, columna, valor);
+        celdaModificada(fila, columna, anterior, valor);
+    }
 
-                str.append(String.format(datoFormat, matriz[i][j]));
+    /**
+     * Obtiene la versión de los datos de la matriz, un número que aumenta con cada modificación hecha a través
+     * de sus métodos. Sirve para saber si un valor derivado de la matriz sigue vigente sin recalcularlo.
+     * <p>
+     * En una vista también cuentan los cambios hechos a través de la matriz de la que se obtuvo. Los cambios
+     * hechos directamente sobre el almacenamiento, o sobre otra matriz que lo comparta, no se detectan.
+     *
+     * @return Versión de los datos.
+     */
+    public long getVersion() {
+        return padre != null ? version + padre.getVersion() : version;
+    }
+
+    /**
+     * Indica si los datos de la matriz cambiaron después de la versión indicada.
+     *
+     * @param version Versión obtenida antes con {@link #getVersion()}.
+     * @return true si la matriz fue modificada desde esa versión.
+     */
+    public boolean haCambiadoDesde(long version) {
+        return getVersion() != version;
+    }
+
+    /**
+     * Registra el cambio de una celda. Las sumas de filas y columnas guardadas se actualizan en tiempo
+     * constante; las subclases que mantienen otros valores derivados la sobrescriben. En una vista, el cambio
+     * también se registra en la matriz de la que se obtuvo.
+     *
+     * @param fila     Índice de la fila.
+     * @param columna  Índice de la columna.
+     * @param anterior Valor anterior de la celda.
+     * @param valor    Nuevo valor de la celda.
+     */
+    protected void celdaModificada(int fila, int columna, long anterior, long valor) {
+        version++;
+
+        if (sumas != null) {
+            var diferencia = valor - anterior;
+            sumas.filas()[fila] += diferencia;
+            sumas.columnas()[columna] += diferencia;
+        }
+
+        if (padre != null) {
+            var vigente = padre.getVersion() == versionPadre;
+            padre.celdaModificada(filaEnPadre + fila, columnaEnPadre + columna, anterior, valor);
+
+            // El cambio propio ya está reflejado en las sumas de la vista
+            if (vigente) {
+                versionPadre = padre.getVersion();
             }
-            str.append("\n");
         }
+    }
 
-        return str.toString();
+    /**
+     * Registra un cambio que puede afectar a muchas celdas, como una rotación o un ordenamiento. Los valores
+     * derivados guardados se descartan y se recalculan cuando se vuelvan a pedir.
+     */
+    protected void datosModificados() {
+        descartarSumas();
+    }
+
+    /**
+     * Registra un cambio de varias celdas cuyo efecto en las sumas se puede calcular sin recorrer la matriz, como
+     * la rotación de un anillo. Si hay sumas guardadas, {@code ajuste} recibe los vectores de sumas de filas y
+     * de columnas para corregirlos en el lugar; los demás valores derivados se conservan.
+     *
+     * @param ajuste Función que corrige las sumas de filas y de columnas. No se llama si no hay sumas guardadas
+     *               o si la matriz es una vista, en cuyo caso las sumas se descartan.
+     */
+    protected void datosModificados(BiConsumer<long[], long[]> ajuste) {
+        if (sumas == null || padre != null) {
+            descartarSumas();
+            return;
+        }
+
+        version++;
+        ajuste.accept(sumas.filas(), sumas.columnas());
     }
 
-    private String handleToStringSum(String header) {
-        StringBuilder matrizText = new StringBuilder();
+    private void descartarSumas() {
+        version++;
+        sumas = null;
 
+        if (padre != null) {
+            padre.datosModificados();
+        }
+    }
+
+    /**
+     * Obtiene una vista de un bloque rectangular de la matriz. La vista comparte los datos: los cambios hechos a
+     * través de ella se ven en esta matriz y viceversa, y ambas mantienen sus sumas y demás valores derivados.
+     * Sirve para aplicar a una parte de la matriz cualquier operación de {@link Matriz} sin copiarla, o para
+     * repartir el trabajo por bloques.
+     *
+     * @param fila     Fila donde empieza el bloque.
+     * @param columna  Columna donde empieza el bloque.
+     * @param filas    Número de filas del bloque.
+     * @param columnas Número de columnas del bloque.
+     * @return Vista del bloque.
+     * @throws IndexOutOfBoundsException Si el bloque no está dentro de la matriz.
+     * @throws IllegalArgumentException  Si el bloque no tiene filas.
+     */
+    public Matriz bloque(int fila, int columna, int filas, int columnas)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        return new Matriz(this, fila, columna, filas, columnas);
+    }
+
+    /**
+     * Obtiene una vista de las filas {@code [desde, hasta)} de la matriz.
+     *
+     * @param desde Primera fila, inclusiva.
+     * @param hasta Última fila, exclusiva.
+     * @return Vista de la banda de filas.
+     * @throws IndexOutOfBoundsException Si el rango no está dentro de la matriz.
+     * @throws IllegalArgumentException  Si el rango está vacío.
+     * @see #bloque(int, int, int, int)
+     */
+    public Matriz bandaFilas(int desde, int hasta) throws IndexOutOfBoundsException, IllegalArgumentException {
+        Objects.checkFromToIndex(desde, hasta, matriz.filas());
+        return bloque(desde, 0, hasta - desde, matriz.columnas());
+    }
 
-        matrizText.append(header);
+    /**
+     * Obtiene una vista de las columnas {@code [desde, hasta)} de la matriz.
+     *
+     * @param desde Primera columna, inclusiva.
+     * @param hasta Última columna, exclusiva.
+     * @return Vista de la banda de columnas.
+     * @throws IndexOutOfBoundsException Si el rango no está dentro de la matriz.
+     * @see #bloque(int, int, int, int)
+     */
+    public Matriz bandaColumnas(int desde, int hasta) throws IndexOutOfBoundsException {
+        Objects.checkFromToIndex(desde, hasta, matriz.columnas());
+        return bloque(0, desde, matriz.filas(), hasta - desde);
+    }
 
-        // Llenar el cuerpo de la matriz
-        for (int i = 0; i < Objects.requireNonNull(matriz).length; i++) {
+    /**
+     * Obtiene todas las celdas de la matriz como una {@link Region}, recorridas por filas. Junto con
+     * {@link #bloque(int, int, int, int)} permite sumar, recorrer u ordenar un bloque como una secuencia.
+     *
+     * @return Región con todas las celdas.
+     * @throws IllegalArgumentException Si la matriz tiene más de {@code Integer.MAX_VALUE} celdas.
+     */
+    public Region celdas() throws IllegalArgumentException {
+        return new Region(this, new SecuenciaBloque(matriz));
+    }
 
-            // Indice de la fila
-            StringBuilder filaText = llenarFila(i);
+    /**
+     * Obtiene la transpuesta de la matriz en un almacenamiento nuevo, en la misma ubicación en memoria y con el
+     * mismo tipo de celdas que esta. La copia se hace por bloques para aprovechar la caché.
+     *
+     * @return Matriz transpuesta de {@code columnas x filas}.
+     */
+    public Matriz transponer() {
+        return new Matriz(transpuesta());
+    }
 
-            matrizText.append(filaText);
+    /**
+     * Crea un almacenamiento con la transpuesta de la matriz.
+     *
+     * @return Almacenamiento de {@code columnas x filas} con la transpuesta.
+     */
+    protected Almacenamiento transpuesta() {
+        sincronizar();
 
-            // Obtener la suma de la fila
-            matrizText.append(getRowSum(i)).append("\n");
+        if (matriz instanceof AlmacenamientoDisperso disperso) {
+            return disperso.transpuesta();
         }
 
-        return matrizText.toString();
+        var tipo = TipoElemento.de(matriz);
+        var destino = tipo == TipoElemento.INT
+                ? Ubicacion.de(matriz).crear(matriz.columnas(), matriz.filas())
+                : tipo.crear(matriz.columnas(), matriz.filas());
+        Transformador.transponer(matriz, destino);
+        return destino;
     }
 
-    private String handleToString(String header, String footer) {
-        return handleToStringSum(header) + footer;
+    /**
+     * Multiplica esta matriz por otra. Los productos se acumulan en {@code long}, por lo que con celdas
+     * {@code int} solo falla si un elemento del resultado no cabe en un {@code int}. El resultado queda en la
+     * misma ubicación en memoria que esta matriz; si alguno de los factores tiene celdas {@link TipoElemento#LONG},
+     * el resultado también, y falla si una suma parcial no cabe en un {@code long}.
+     *
+     * @param otra Factor derecho, con tantas filas como columnas tiene esta matriz.
+     * @return Producto de {@code getFilas() x otra.getColumnas()}.
+     * @throws IllegalArgumentException Si las dimensiones no son compatibles.
+     * @throws ArithmeticException      Si un elemento del producto no cabe en las celdas del resultado o una suma
+     *                                  parcial no cabe en un {@code long}.
+     */
+    public Matriz multiplicar(Matriz otra) throws IllegalArgumentException, ArithmeticException {
+        return new Matriz(producto(otra));
     }
 
     /**
-     * Método para llenar una determinada fila de la matriz, con el formato adecuado y sus índices.
+     * Multiplica esta matriz por un vector columna.
      *
-     * @param index Índice de la fila a llenar.
-     * @return Fila de la matriz en forma de StringBuilder.
+     * @param vector Vector con tantos elementos como columnas tiene la matriz.
+     * @return Producto, con un elemento por fila de la matriz.
+     * @throws IllegalArgumentException Si el largo del vector no es el número de columnas.
+     * @throws ArithmeticException      Si una suma parcial del producto no cabe en un {@code long}.
      */
-    private StringBuilder llenarFila(int index) {
-        // Indice de la fila
-        StringBuilder filaText = new StringBuilder(String.format("%" + specialSpacing + "d ", index));
+    public long[] multiplicar(int[] vector) throws IllegalArgumentException, ArithmeticException {
+        sincronizar();
 
-        // Obtención de valores
-        for (int dato : Objects.requireNonNull(matriz)[index]) {
-            var datoText = String.format(" %" + SPACING + "s ", dato);
+        if (matriz instanceof AlmacenamientoDisperso disperso) {
+            return MultiplicadorDisperso.multiplicar(disperso, vector);
+        }
+
+        return Multiplicador.multiplicar(matriz, vector);
+    }
 
-            filaText.append(datoText);
+    /**
+     * Crea un almacenamiento con el producto de esta matriz por otra. Si alguno de los factores es disperso, el
+     * producto se calcula con {@link MultiplicadorDisperso} y se guarda disperso o denso según su densidad.
+     *
+     * @param otra Factor derecho.
+     * @return Almacenamiento con el producto.
+     */
+    protected Almacenamiento producto(Matriz otra) {
+        sincronizar();
+        otra.sincronizar();
+
+        if (matriz instanceof AlmacenamientoDisperso || otra.matriz instanceof AlmacenamientoDisperso) {
+            return AlmacenamientoDisperso.compactar(MultiplicadorDisperso.multiplicar(matriz, otra.matriz));
+        }
+
+        // Cada bloque se escribe en el destino al terminarlo, sin reservar el producto completo en long
+        var destino = destinoProducto(otra, matriz.filas(), otra.matriz.columnas());
+
+        try {
+            Multiplicador.multiplicar(matriz, otra.matriz, destino);
+        } catch (ArithmeticException e) {
+            cerrar(destino);
+            throw e;
         }
 
-        return filaText;
+        return destino;
     }
 
     /**
-     * Método para llenar el encabezado de la matriz.
+     * Crea el almacenamiento de un producto con esta matriz como factor izquierdo: de celdas
+     * {@link TipoElemento#LONG} si alguno de los factores las tiene, y si no, de celdas {@code int} en la misma
+     * ubicación en memoria que esta matriz.
+     */
+    private Almacenamiento destinoProducto(Matriz otra, int filas, int columnas) {
+        if (getTipoElemento() == TipoElemento.LONG || otra.getTipoElemento() == TipoElemento.LONG) {
+            return new AlmacenamientoLong(filas, columnas);
+        }
+
+        return Ubicacion.de(matriz).crear(filas, columnas);
+    }
+
+    /**
+     * Crea un almacenamiento, en la misma ubicación en memoria que esta matriz, con un producto calculado en
+     * {@code long}. Si alguno de los factores tiene celdas {@link TipoElemento#LONG}, el producto también.
      *
-     * @return Encabezado de la matriz en forma de StringBuilder.
+     * @param producto Producto por filas.
+     * @param otra     Factor derecho del producto.
+     * @param filas    Número de filas del producto.
+     * @param columnas Número de columnas del producto.
+     * @return Almacenamiento con el producto.
+     * @throws ArithmeticException Si las celdas del producto son {@code int} y un elemento no cabe en ellas.
      */
-    protected StringBuilder llenarEncabezado() {
-        // Llenar el encabezado
-        var headerFormat = "Filas/Columnas %s";
-        var header = new StringBuilder();
-        var headerHeaders = new StringBuilder();
+    protected Almacenamiento almacenar(long[] producto, Matriz otra, int filas, int columnas)
+            throws ArithmeticException {
+        var destino = destinoProducto(otra, filas, columnas);
 
-        for (int i = 0; i < Objects.requireNonNull(matriz)[0].length; i++) {
-            headerHeaders.append(String.format(" %" + SPACING + "d ", i));
+        if (destino instanceof AlmacenamientoLong largo) {
+            System.arraycopy(producto, 0, largo.datos(), 0, producto.length);
+            return largo;
         }
 
-        header.append(String.format(headerFormat, headerHeaders));
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                var valor = producto[i * columnas + j];
 
-        return header;
+                if (valor != (int) valor) {
+                    cerrar(destino);
+                    throw new ArithmeticException("El elemento (%d, %d) del producto (%d) no cabe en un int."
+                            .formatted(i, j, valor));
+                }
+
+                destino.set(i, j, (int) valor);
+            }
+        }
+
+        return destino;
     }
 
     /**
-     * Método para llenar el encabezado de la matriz recibiendo un parámetro adicional (última columna).
+     * Guarda la matriz en un archivo binario que se puede volver a abrir, sin copiar los datos, con
+     * {@link ArchivoMatriz#abrir(Path)}.
      *
-     * @param adicional       Parámetro adicional a agregar al encabezado.
-     * @param adicionalFormat Formato del parámetro adicional.
-     * @return Encabezado de la matriz en forma de StringBuilder.
+     * @param archivo Ruta del archivo. Si existe, se reemplaza.
+     * @throws IOException                   Si el archivo no se puede escribir.
+     * @throws UnsupportedOperationException Si las celdas de la matriz son {@link TipoElemento#LONG}.
+     */
+    public void guardar(Path archivo) throws IOException, UnsupportedOperationException {
+        sincronizar();
+        ArchivoMatriz.guardar(matriz, archivo);
+    }
+
+    /**
+     * Deja el almacenamiento con el mismo contenido que se observa a través de {@link #get(int, int)}. Las
+     * operaciones que recorren el almacenamiento directamente la llaman antes de empezar; las subclases que
+     * difieren cambios la sobrescriben.
+     */
+    protected void sincronizar() {
+        if (padre != null) {
+            padre.sincronizar();
+        }
+    }
+
+    /**
+     * Libera la memoria de la matriz si su almacenamiento está fuera del heap. No tiene efecto en otro caso.
      */
-    protected StringBuilder llenarEncabezado(String adicional, String adicionalFormat) {
-        StringBuilder header = llenarEncabezado();
+    @Override
+    public void close() {
+        cerrar(matriz);
+    }
 
-        header.append(" ");
+    private static void cerrar(Almacenamiento almacenamiento) {
+        if (almacenamiento instanceof AutoCloseable cerrable) {
+            try {
+                cerrable.close();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Método recibir el string de la matriz.
+     *
+     * @return matriz en forma de String.
+     */
+    @Override
+    public String toString() {
+        var str = new StringBuilder(Renderizador.estimarLargo(matriz));
 
         try {
-            adicional = String.format(adicionalFormat, adicional);
-        } catch (IllegalFormatException ignored) {
+            escribir(str);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
-        return header.append(adicional);
+        return str.toString();
+    }
+
+    /**
+     * Escribe la matriz en forma de tabla directamente en el destino, con el mismo formato de
+     * {@link #toString()} pero sin construir el texto completo en memoria.
+     *
+     * @param destino Destino del texto, por ejemplo un {@link java.io.Writer} o {@code System.out}.
+     * @throws IOException Si el destino no se puede escribir.
+     */
+    public void escribir(Appendable destino) throws IOException {
+        sincronizar();
+        new Renderizador(destino).matriz(matriz);
     }
 
     /**
@@ -156,53 +677,86 @@ public class Matriz {
      *
      * @return Matriz procesada en forma de String con las sumas de filas y columnas.
      */
-    public String procesarSuma() throws NullPointerException {
-        var specialSpacing = 14;
+    public String procesarSuma() {
+        var str = new StringBuilder(Renderizador.estimarLargo(matriz));
 
-        // Llenar el encabezado
-        var header = llenarEncabezado("Suma", "%" + specialSpacing + "s").append("\n");
+        try {
+            escribirSumas(str);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
 
-        // Llenar el pie de la matriz con la suma de las columnas
-        var footer = String.format("%" + specialSpacing + "s %s %" + specialSpacing + "s", "Suma", getColSums(), "---");
+        return str.toString();
+    }
 
-        // Retornar la matriz
-        return handleToString(header.toString(), footer);
+    /**
+     * Escribe la matriz con las sumas de filas y columnas directamente en el destino, con el mismo formato de
+     * {@link #procesarSuma()}.
+     *
+     * @param destino Destino del texto, por ejemplo un {@link java.io.Writer} o {@code System.out}.
+     * @throws IOException Si el destino no se puede escribir.
+     */
+    public void escribirSumas(Appendable destino) throws IOException {
+        var sumas = calcularSumas();
+        new Renderizador(destino).sumas(matriz, sumas);
     }
 
     /**
-     * Obtiene la suma de las columnas de la matriz
+     * Calcula la suma de cada fila y de cada columna de la matriz en un único recorrido por filas. Si la matriz
+     * tiene al menos {@link #getUmbralParalelo()} celdas, las bandas de filas se reparten en el pool común.
+     * <p>
+     * Las sumas quedan guardadas y se actualizan en tiempo constante con cada {@link #set(int, int, int)}, por
+     * lo que las llamadas siguientes solo copian el resultado mientras no haya cambios masivos.
      *
-     * @return Suma de las columnas de la matriz
+     * @return Sumas de filas y columnas.
      */
-    private String getColSums() {
-        StringBuilder colSums = new StringBuilder();
-        for (int i = 0; i < Objects.requireNonNull(matriz)[0].length; i++) {
-            int sum = 0;
-            for (int[] col : matriz) {
-                sum += col[i];
-            }
-            colSums.append(String.format(" %" + SPACING + "d ", sum));
+    public Sumas calcularSumas() {
+        return calcularSumas(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calcula la suma de cada fila y de cada columna de la matriz usando el pool indicado si la matriz tiene al
+     * menos {@link #getUmbralParalelo()} celdas.
+     *
+     * @param pool Pool donde se ejecutan las tareas paralelas.
+     * @return Sumas de filas y columnas.
+     */
+    public Sumas calcularSumas(ForkJoinPool pool) {
+        if (padre != null && padre.getVersion() != versionPadre) {
+            sumas = null;
+        }
+
+        if (sumas == null) {
+            sincronizar();
+            versionPadre = padre != null ? padre.getVersion() : 0;
+            sumas = Sumador.sumar(matriz, pool, umbralParalelo);
         }
 
-        return colSums.toString();
+        return new Sumas(sumas.filas().clone(), sumas.columnas().clone());
     }
 
     /**
-     * Obtiene la suma de los elementos de la fila i
+     * Obtiene el número de celdas a partir del cual las operaciones de la matriz se ejecutan en paralelo.
      *
-     * @param i Índice de la fila
-     * @return Suma de los elementos de la fila i
+     * @return Umbral de paralelismo.
      */
-    private String getRowSum(int i) {
-        StringBuilder rowSum = new StringBuilder();
-        int sum = 0;
-        for (int dato : Objects.requireNonNull(matriz)[i]) {
-            sum += dato;
-        }
+    public long getUmbralParalelo() {
+        return umbralParalelo;
+    }
 
-        rowSum.append(String.format(" %" + specialSpacing + "d ", sum));
+    /**
+     * Modifica el número de celdas a partir del cual las operaciones de la matriz se ejecutan en paralelo.
+     * Con {@code Long.MAX_VALUE} siempre se usa el camino secuencial.
+     *
+     * @param umbralParalelo Nuevo umbral de paralelismo.
+     * @throws IllegalArgumentException Si el umbral es negativo.
+     */
+    public void setUmbralParalelo(long umbralParalelo) throws IllegalArgumentException {
+        if (umbralParalelo < 0) {
+            throw new IllegalArgumentException("El umbral de paralelismo no puede ser negativo.");
+        }
 
-        return rowSum.toString();
+        this.umbralParalelo = umbralParalelo;
     }
 
 }
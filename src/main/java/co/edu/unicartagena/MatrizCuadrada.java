@@ -1,78 +1,443 @@
 package co.edu.unicartagena;
 
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoDisperso;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Almacenamiento.TipoElemento;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
 import co.edu.unicartagena.Extra.Pointer;
+import co.edu.unicartagena.Operaciones.Diagonal;
+import co.edu.unicartagena.Operaciones.Direccion;
+import co.edu.unicartagena.Operaciones.Orden;
+import co.edu.unicartagena.Operaciones.Ordenador;
+import co.edu.unicartagena.Operaciones.ProductoAcumulado;
+import co.edu.unicartagena.Operaciones.ProductoExacto;
+import co.edu.unicartagena.Operaciones.SecuenciaAnillo;
+import co.edu.unicartagena.Operaciones.SecuenciaDiagonal;
+import co.edu.unicartagena.Operaciones.SecuenciaTriangulo;
+import co.edu.unicartagena.Operaciones.Rotador;
+import co.edu.unicartagena.Operaciones.Strassen;
+import co.edu.unicartagena.Operaciones.Sumador;
+import co.edu.unicartagena.Operaciones.Transformador;
+import co.edu.unicartagena.Operaciones.Triangulo;
+import co.edu.unicartagena.Presentacion.Renderizador;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 public class MatrizCuadrada extends Matriz {
-    private int sumaDiagonalPrincipal;
-    private long productoDiagonalSecundaria;
+    /**
+     * Suma de la diagonal principal, mantenida con cada modificación de una celda.
+     */
+    private long sumaDiagonalPrincipal;
+
+    /**
+     * Producto de la diagonal secundaria, mantenido con cada modificación de una celda.
+     */
+    private final ProductoAcumulado productoDiagonalSecundaria = new ProductoAcumulado();
 
     /**
-     * Constructor de la clase
+     * Producto exacto de la diagonal secundaria cuando no cabe en un {@code long}, o {@code null} si no se ha
+     * calculado desde el último cambio de la diagonal.
+     */
+    private BigInteger productoExacto;
+
+    /**
+     * Indica si la suma y el producto de las diagonales corresponden a los datos actuales. Los cambios masivos
+     * los invalidan y se recalculan al consultarlos.
+     */
+    private boolean diagonalesVigentes;
+
+    /**
+     * Desplazamientos horarios pendientes de cada anillo cuando la rotación es diferida, o {@code null} si las
+     * rotaciones se aplican inmediatamente. {@code desplazamientos[a - 1]} corresponde al anillo {@code a} y
+     * siempre es menor que su perímetro.
+     */
+    private int[] desplazamientos;
+
+    /**
+     * Número de anillos con un desplazamiento pendiente distinto de cero.
+     */
+    private int pendientes;
+
+    /**
+     * Constructor de la clase. Los datos se copian a un almacenamiento plano por filas; para usar un vector
+     * existente sin copiarlo ver {@link #sobre(int[], int)}.
      *
      * @param matriz Matriz de tipo entero.
-     * @throws IllegalArgumentException Si la matriz está vacía.
+     * @throws IllegalArgumentException Si la matriz está vacía o no es cuadrada.
      */
     public MatrizCuadrada(int[][] matriz) throws IllegalArgumentException {
+        this(AlmacenamientoPlano.desde(matriz));
+    }
+
+    /**
+     * Constructor de la clase. Los datos se copian a un almacenamiento con el tipo de celdas indicado.
+     *
+     * @param matriz Matriz de tipo entero.
+     * @param tipo   Tipo primitivo de las celdas.
+     * @throws IllegalArgumentException Si la matriz está vacía, no es cuadrada o algún valor no cabe en el tipo.
+     */
+    public MatrizCuadrada(int[][] matriz, TipoElemento tipo) throws IllegalArgumentException {
+        this(tipo.desde(matriz));
+    }
+
+    /**
+     * Constructor de la clase sobre un almacenamiento existente. Los datos no se copian.
+     *
+     * @param matriz Almacenamiento con los datos de la matriz.
+     * @throws IllegalArgumentException Si la matriz está vacía o no es cuadrada.
+     */
+    public MatrizCuadrada(Almacenamiento matriz) throws IllegalArgumentException {
         super(matriz);
-        this.sumaDiagonalPrincipal = 0;
-        this.productoDiagonalSecundaria = 1;
+
+        if (matriz.filas() != matriz.columnas()) {
+            throw new IllegalArgumentException("La matriz debe ser cuadrada (%dx%d)."
+                    .formatted(matriz.filas(), matriz.columnas()));
+        }
 
         procesarMatriz();
     }
 
+    /**
+     * Crea una matriz cuadrada sobre un vector con los datos por filas, sin copiarlo. Ver
+     * {@link Matriz#sobre(int[], int, int)}.
+     *
+     * @param datos Vector con los datos por filas.
+     * @param n     Tamaño de la matriz.
+     * @return Matriz cuadrada que usa el vector como almacenamiento.
+     * @throws IllegalArgumentException Si la matriz está vacía o el vector no tiene {@code n * n} elementos.
+     */
+    public static MatrizCuadrada sobre(int[] datos, int n) throws IllegalArgumentException {
+        return new MatrizCuadrada(plano(datos, n, n));
+    }
+
+    /**
+     * Crea una matriz cuadrada con una copia de los datos, eligiendo según su densidad entre un almacenamiento
+     * disperso y uno plano. Ver {@link AlmacenamientoDisperso#compactar(int[][])}.
+     *
+     * @param matriz Matriz de tipo entero.
+     * @return Matriz cuadrada con la representación elegida.
+     * @throws IllegalArgumentException Si la matriz está vacía o no es cuadrada.
+     */
+    public static MatrizCuadrada compacta(int[][] matriz) throws IllegalArgumentException {
+        return new MatrizCuadrada(AlmacenamientoDisperso.compactar(matriz));
+    }
+
+    /**
+     * Constructor de la clase. Crea una matriz de ceros de tamaño {@code n x n} en la ubicación indicada.
+     *
+     * @param n         Tamaño de la matriz.
+     * @param ubicacion Ubicación en memoria de los datos.
+     * @throws IllegalArgumentException Si la matriz está vacía.
+     */
+    public MatrizCuadrada(int n, Ubicacion ubicacion) throws IllegalArgumentException {
+        this(ubicacion.crear(n, n));
+    }
+
+    /**
+     * Calcula la suma de la diagonal principal y el producto de la diagonal secundaria recorriendo ambas.
+     */
     private void procesarMatriz() {
-        for (int i = 0; i < matriz.length; i++) {
-            this.sumaDiagonalPrincipal += matriz[i][i];
-            this.productoDiagonalSecundaria *= matriz[i][matriz.length - 1 - i];
+        var n = matriz.filas();
+
+        if (pendientes == 0) {
+            this.sumaDiagonalPrincipal = Sumador.sumarDiagonal(matriz);
+        } else {
+            this.sumaDiagonalPrincipal = 0;
+
+            for (int i = 0; i < n; i++) {
+                this.sumaDiagonalPrincipal += getLong(i, i);
+            }
+        }
+
+        this.productoDiagonalSecundaria.reiniciar();
+        this.productoExacto = null;
+
+        for (int i = 0; i < n; i++) {
+            this.productoDiagonalSecundaria.agregar(getLong(i, n - 1 - i));
         }
+
+        this.diagonalesVigentes = true;
     }
 
     /**
-     * Obtiene la suma de los elementos de la diagonal principal de la matriz.
+     * Obtiene la suma de los elementos de la diagonal principal de la matriz. La suma se mantiene al modificar
+     * la matriz, por lo que consultarla no recorre la diagonal salvo después de un cambio masivo.
      *
      * @return Suma de los elementos de la diagonal principal de la matriz.
+     * @throws ArithmeticException Si la suma no cabe en un {@code int}; en ese caso se puede obtener con
+     *                             {@link #getSumaDiagonalPrincipalLong()}.
      */
-    public int getSumaDiagonalPrincipal() {
+    public int getSumaDiagonalPrincipal() throws ArithmeticException {
+        return Math.toIntExact(getSumaDiagonalPrincipalLong());
+    }
+
+    /**
+     * Obtiene la suma de los elementos de la diagonal principal como {@code long}, que admite la suma de
+     * cualquier diagonal de valores {@code int}. Se mantiene igual que {@link #getSumaDiagonalPrincipal()}.
+     *
+     * @return Suma de los elementos de la diagonal principal de la matriz.
+     */
+    public long getSumaDiagonalPrincipalLong() {
+        if (!diagonalesVigentes) {
+            procesarMatriz();
+        }
+
         return sumaDiagonalPrincipal;
     }
 
     /**
-     * Obtiene el producto de los elementos de la diagonal secundaria de la matriz.
+     * Obtiene el producto de los elementos de la diagonal secundaria de la matriz. El producto se mantiene al
+     * modificar la matriz, por lo que consultarlo no recorre la diagonal salvo después de un cambio masivo.
+     * <p>
+     * Si el producto no cabe en un {@code long}, el resultado es el producto módulo 2<sup>64</sup>; el valor
+     * exacto se obtiene con {@link #getProductoDiagonalSecundariaExacto()}.
      *
      * @return Producto de los elementos de la diagonal secundaria de la matriz.
      */
     public long getProductoDiagonalSecundaria() {
-        return productoDiagonalSecundaria;
+        if (!diagonalesVigentes) {
+            procesarMatriz();
+        }
+
+        return productoDiagonalSecundaria.valor();
     }
 
     /**
-     * Método para obtener la diagonal principal de la matriz en forma de String.
+     * Obtiene el producto exacto de los elementos de la diagonal secundaria de la matriz.
+     * <p>
+     * Mientras el producto quepa en un {@code long} se obtiene en tiempo constante. Si no cabe, se calcula con
+     * {@link ProductoExacto} (en paralelo para diagonales muy grandes) y se guarda hasta el siguiente cambio de
+     * la diagonal.
      *
-     * @return Diagonal principal de la matriz en forma de String.
+     * @return Producto exacto de la diagonal secundaria.
      */
-    public String getDiagonalPrincipal() {
-        StringBuilder str = new StringBuilder();
-        str.append(llenarEncabezado()).append("\n");
+    public BigInteger getProductoDiagonalSecundariaExacto() {
+        if (!diagonalesVigentes) {
+            procesarMatriz();
+        }
 
-        for (int i = 0; i < Objects.requireNonNull(matriz).length; i++) {
-            str.append(String.format("%" + specialSpacing + "d ", i));
+        if (productoDiagonalSecundaria.esExacto()) {
+            return BigInteger.valueOf(productoDiagonalSecundaria.valor());
+        }
 
-            for (int j = 0; j < matriz[i].length; j++) {
-                var datoFormat = " %" + SPACING + "s ";
+        if (productoExacto == null) {
+            productoExacto = ProductoExacto.multiplicar(vistaDiagonal(Diagonal.SECUNDARIA),
+                    ForkJoinPool.commonPool(), ProductoExacto.UMBRAL_PARALELO);
+        }
 
-                if (i != j) {
-                    str.append(String.format(datoFormat, 0));
-                } else {
-                    str.append(String.format(datoFormat, matriz[i][j]));
-                }
+        return productoExacto;
+    }
+
+    @Override
+    protected void celdaModificada(int fila, int columna, long anterior, long valor) {
+        super.celdaModificada(fila, columna, anterior, valor);
+        actualizarDiagonales(fila, columna, anterior, valor);
+    }
+
+    @Override
+    protected void datosModificados() {
+        super.datosModificados();
+        diagonalesVigentes = false;
+        productoExacto = null;
+    }
+
+    /**
+     * Actualiza la suma y el producto de las diagonales tras el cambio de una celda, en tiempo constante.
+     */
+    private void actualizarDiagonales(int fila, int columna, long anterior, long valor) {
+        if (!diagonalesVigentes || anterior == valor) {
+            return;
+        }
+
+        if (fila == columna) {
+            sumaDiagonalPrincipal += valor - anterior;
+        }
+
+        if (fila + columna == matriz.filas() - 1) {
+            productoDiagonalSecundaria.reemplazar(anterior, valor);
+            productoExacto = null;
+        }
+    }
+
+    /**
+     * Obtiene el valor de una celda de la matriz. Si hay rotaciones diferidas pendientes, la posición se traduce
+     * al lugar donde está guardado el valor, sin mover los datos.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return Valor de la celda.
+     */
+    @Override
+    public int get(int fila, int columna) {
+        if (pendientes == 0) {
+            return matriz.get(fila, columna);
+        }
+
+        return Math.toIntExact(getLong(fila, columna));
+    }
+
+    /**
+     * Obtiene el valor de una celda de la matriz como {@code long}. Si hay rotaciones diferidas pendientes, la
+     * posición se traduce igual que en {@link #get(int, int)}.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return Valor de la celda.
+     */
+    @Override
+    public long getLong(int fila, int columna) {
+        if (pendientes == 0) {
+            return matriz.getLong(fila, columna);
+        }
+
+        var n = matriz.filas();
+        var anillo = Rotador.anillo(n, Objects.checkIndex(fila, n), Objects.checkIndex(columna, n));
+        var desplazamiento = desplazamientos[anillo - 1];
+
+        if (desplazamiento == 0) {
+            return matriz.getLong(fila, columna);
+        }
+
+        return Rotador.leer(matriz, anillo, origen(n, anillo, fila, columna, desplazamiento));
+    }
+
+    /**
+     * Modifica el valor de una celda de la matriz. Si hay rotaciones diferidas pendientes, la posición se
+     * traduce al lugar donde está guardado el valor, sin mover los datos.
+     *
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @param valor   Nuevo valor de la celda.
+     */
+    @Override
+    public void setLong(int fila, int columna, long valor) {
+        if (pendientes == 0) {
+            super.setLong(fila, columna, valor);
+            return;
+        }
+
+        var n = matriz.filas();
+        var anillo = Rotador.anillo(n, Objects.checkIndex(fila, n), Objects.checkIndex(columna, n));
+        var desplazamiento = desplazamientos[anillo - 1];
+
+        if (desplazamiento == 0) {
+            super.setLong(fila, columna, valor);
+            return;
+        }
+
+        var posicion = origen(n, anillo, fila, columna, desplazamiento);
+        var anterior = Rotador.leer(matriz, anillo, posicion);
+        Rotador.escribir(matriz, anillo, posicion, valor);
+        celdaModificada(fila, columna, anterior, valor);
+    }
+
+    /**
+     * Obtiene la posición dentro del anillo donde está guardado el valor que se observa en una celda.
+     */
+    private static int origen(int n, int anillo, int fila, int columna, int desplazamiento) {
+        var posicion = Rotador.posicion(n, anillo, fila, columna) - desplazamiento;
+        return posicion < 0 ? posicion + Rotador.perimetro(n, anillo) : posicion;
+    }
+
+    /**
+     * Activa o desactiva la rotación diferida.
+     * <p>
+     * Con la rotación diferida, rotar un anillo solo acumula su desplazamiento, en tiempo constante y sin mover
+     * datos; rotaciones consecutivas del mismo anillo se componen en un único desplazamiento. {@link #get(int, int)}
+     * y {@link #set(int, int, int)} traducen las posiciones, y las operaciones que recorren toda la matriz
+     * (mostrarla, sumarla, ordenarla) aplican antes los desplazamientos pendientes con {@link #materializar()}.
+     * Las sumas de filas y columnas guardadas se descartan en cada rotación en lugar de corregirse. Al desactivarla
+     * también se aplican los desplazamientos pendientes.
+     *
+     * @param diferida true para diferir las rotaciones.
+     */
+    public void setRotacionDiferida(boolean diferida) {
+        if (diferida) {
+            if (desplazamientos == null) {
+                desplazamientos = new int[Rotador.anillos(matriz.filas())];
             }
+        } else {
+            materializar();
+            desplazamientos = null;
+        }
+    }
+
+    /**
+     * Indica si las rotaciones de la matriz son diferidas.
+     *
+     * @return true si las rotaciones son diferidas.
+     * @see #setRotacionDiferida(boolean)
+     */
+    public boolean isRotacionDiferida() {
+        return desplazamientos != null;
+    }
 
-            str.append("\n");
+    /**
+     * Aplica sobre los datos los desplazamientos pendientes de la rotación diferida. Cada anillo se mueve una
+     * sola vez, sin importar cuántas rotaciones se le hayan acumulado. No tiene efecto si no hay desplazamientos
+     * pendientes.
+     */
+    public void materializar() {
+        if (pendientes == 0) {
+            return;
         }
 
-        return str.toString();
+        for (int anillo = 1; anillo <= desplazamientos.length; anillo++) {
+            if (desplazamientos[anillo - 1] != 0) {
+                Rotador.desplazarAnillo(matriz, anillo, desplazamientos[anillo - 1]);
+                desplazamientos[anillo - 1] = 0;
+            }
+        }
+
+        pendientes = 0;
+    }
+
+    @Override
+    protected void sincronizar() {
+        materializar();
+    }
+
+    /**
+     * Acumula un desplazamiento horario sobre el desplazamiento pendiente de un anillo.
+     *
+     * @param anillo Anillo a desplazar (desde 1).
+     * @param pasos  Número de posiciones; si es negativo el desplazamiento es antihorario.
+     * @throws IllegalArgumentException Si el anillo no existe en la matriz.
+     */
+    private void diferir(int anillo, int pasos) throws IllegalArgumentException {
+        var n = matriz.filas();
+
+        if (anillo < 1 || anillo > desplazamientos.length) {
+            throw new IllegalArgumentException("Anillo no válido: %d. Debe estar entre 1 y %d."
+                    .formatted(anillo, desplazamientos.length));
+        }
+
+        var perimetro = Rotador.perimetro(n, anillo);
+        var anterior = desplazamientos[anillo - 1];
+        var actual = (int) (((long) anterior + Math.floorMod(pasos, perimetro)) % perimetro);
+
+        desplazamientos[anillo - 1] = actual;
+
+        if (anterior == 0 && actual != 0) {
+            pendientes++;
+        } else if (anterior != 0 && actual == 0) {
+            pendientes--;
+        }
+    }
+
+    /**
+     * Método para obtener la diagonal principal de la matriz en forma de String.
+     *
+     * @return Diagonal principal de la matriz en forma de String.
+     */
+    public String getDiagonalPrincipal() {
+        return diagonal(Diagonal.PRINCIPAL);
     }
 
     /**
@@ -81,132 +446,438 @@ public class MatrizCuadrada extends Matriz {
      * @return Diagonal secundaria de la matriz en forma de String.
      */
     public String getDiagonalSecundaria() {
-        StringBuilder ds = new StringBuilder();
-        ds.append(llenarEncabezado()).append("\n");
+        return diagonal(Diagonal.SECUNDARIA);
+    }
 
-        for (int i = 0; i < Objects.requireNonNull(matriz).length; i++) {
-            ds.append(String.format("%" + specialSpacing + "d ", i));
+    private String diagonal(Diagonal diagonal) {
+        var str = new StringBuilder(Renderizador.estimarLargo(matriz));
 
-            for (int j = 0; j < matriz[i].length; j++) {
-                var datoFormat = " %" + SPACING + "s ";
+        try {
+            escribirDiagonal(diagonal, str);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
 
-                if (i + j != matriz.length - 1) {
-                    ds.append(String.format(datoFormat, 0));
-                } else {
-                    ds.append(String.format(datoFormat, matriz[i][j]));
-                }
-            }
+        return str.toString();
+    }
 
-            ds.append("\n");
-        }
+    /**
+     * Escribe la matriz mostrando solo los elementos de una diagonal directamente en el destino, con el mismo
+     * formato de {@link #getDiagonalPrincipal()} y {@link #getDiagonalSecundaria()}.
+     *
+     * @param diagonal Diagonal a mostrar.
+     * @param destino  Destino del texto, por ejemplo un {@link java.io.Writer} o {@code System.out}.
+     * @throws IOException Si el destino no se puede escribir.
+     */
+    public void escribirDiagonal(Diagonal diagonal, Appendable destino) throws IOException {
+        materializar();
+        new Renderizador(destino).diagonal(matriz, diagonal);
+    }
+
+    /**
+     * Obtiene una vista de un anillo de la matriz, recorrido en sentido horario desde la esquina superior
+     * izquierda. La vista comparte los datos con la matriz; ver {@link Region}.
+     *
+     * @param anillo Anillo (desde 1).
+     * @return Región con las celdas del anillo.
+     * @throws IllegalArgumentException Si el anillo no existe en la matriz.
+     */
+    public Region vistaAnillo(int anillo) throws IllegalArgumentException {
+        return new Region(this, new SecuenciaAnillo(matriz, anillo));
+    }
+
+    /**
+     * Obtiene una vista de un triángulo de la matriz, sin la diagonal principal, recorrido por filas de izquierda
+     * a derecha. La vista comparte los datos con la matriz; ver {@link Region}.
+     *
+     * @param triangulo Triángulo.
+     * @return Región con las celdas del triángulo.
+     */
+    public Region vistaTriangulo(Triangulo triangulo) {
+        return new Region(this, new SecuenciaTriangulo(matriz, triangulo));
+    }
+
+    /**
+     * Obtiene una vista de una diagonal de la matriz, de la primera fila a la última. La vista comparte los
+     * datos con la matriz; ver {@link Region}.
+     *
+     * @param diagonal Diagonal.
+     * @return Región con las celdas de la diagonal.
+     */
+    public Region vistaDiagonal(Diagonal diagonal) {
+        return new Region(this, new SecuenciaDiagonal(matriz, diagonal));
+    }
+
+    /**
+     * Método para ordenar los dos triángulos de la matriz al mismo tiempo. Si un triángulo tiene al menos
+     * {@link #getUmbralParalelo()} elementos y un rango de valores amplio, además se ordena con un algoritmo
+     * paralelo sobre una copia de sus elementos. Si el almacenamiento es disperso, los triángulos se ordenan uno
+     * después del otro.
+     *
+     * @param ordenInferior Orden del triángulo inferior.
+     * @param ordenSuperior Orden del triángulo superior.
+     * @throws UnsupportedOperationException Si las celdas de la matriz son {@link TipoElemento#LONG}.
+     */
+    public void ordenarTriangulosParalelo(Orden ordenInferior, Orden ordenSuperior)
+            throws UnsupportedOperationException {
+        ordenarTriangulosParalelo(ordenInferior, ordenSuperior, ForkJoinPool.commonPool());
+    }
 
-        return ds.toString();
+    /**
+     * Método para ordenar los dos triángulos de la matriz al mismo tiempo en el pool indicado.
+     *
+     * @param ordenInferior Orden del triángulo inferior.
+     * @param ordenSuperior Orden del triángulo superior.
+     * @param pool          Pool donde se ejecutan las tareas.
+     * @throws UnsupportedOperationException Si las celdas de la matriz son {@link TipoElemento#LONG}.
+     * @see #ordenarTriangulosParalelo(Orden, Orden)
+     */
+    public void ordenarTriangulosParalelo(Orden ordenInferior, Orden ordenSuperior, ForkJoinPool pool)
+            throws UnsupportedOperationException {
+        materializar();
+        Ordenador.ordenarTriangulosParalelo(matriz, ordenInferior, ordenSuperior, pool, getUmbralParalelo());
+        datosModificados();
     }
 
     /**
-     * Método para reemplazar los valores de una matriz de acuerdo a una lista de punteros.
+     * Método para reemplazar los valores de una matriz de acuerdo a una lista de punteros. Para ordenar los
+     * triángulos de la matriz es preferible {@link #ordenarTriangulo(Triangulo, Orden)}.
      *
      * @param pointers Lista de punteros.
      */
     public void replace(Pointer[] pointers) {
+        materializar();
         for (Pointer pointer : pointers) {
-            matriz[pointer.getX()][pointer.getY()] = pointer.getValue();
+            set(pointer.getX(), pointer.getY(), pointer.getValue());
         }
     }
 
+    /**
+     * Método para ordenar los elementos de un triángulo de la matriz. Los elementos ordenados se escriben
+     * recorriendo el triángulo por filas, de izquierda a derecha. El ordenamiento se hace en el lugar, sin crear
+     * objetos por cada elemento.
+     *
+     * @param triangulo Triángulo a ordenar.
+     * @param orden     Orden deseado.
+     * @throws UnsupportedOperationException Si las celdas de la matriz son {@link TipoElemento#LONG}.
+     */
+    public void ordenarTriangulo(Triangulo triangulo, Orden orden) throws UnsupportedOperationException {
+        materializar();
+        Ordenador.ordenarTriangulo(matriz, triangulo, orden);
+        datosModificados();
+    }
+
     /**
      * Método para rotar un anillo de la matriz.
-     * @param anillo Anillo a rotar.
+     * <p>
+     * La rotación se hace en el lugar: cada posición del lado superior forma un ciclo de cuatro celdas con las
+     * posiciones correspondientes de los lados derecho, inferior e izquierdo, y esas cuatro celdas se
+     * intercambian directamente. No se reserva memoria adicional. Si la rotación es diferida, solo se acumula
+     * el desplazamiento del anillo.
+     * <p>
+     * Si los grados no son 90, 180 o 270, o la dirección no es "derecha" ni "izquierda", la matriz no cambia.
+     *
+     * @param anillo Anillo a rotar (desde 1).
      * @param direction Dirección de la rotación.
      * @param grados Grados de la rotación.
+     * @throws IllegalArgumentException Si los grados y la dirección son válidos pero el anillo no existe en la
+     *                                  matriz.
      */
-    public void rotarAnillo(int anillo, String direction, int grados) {
-        var n = matriz.length;
+    public void rotarAnillo(int anillo, String direction, int grados) throws IllegalArgumentException {
+        if (grados != 90 && grados != 180 && grados != 270) {
+            return;
+        }
 
-        // Guardar las partes superior, derecha, abajo e izquierda del anillo
-        int[] top = new int[n - 2 * anillo + 2];
-        int[] right = new int[n - 2 * anillo + 2];
-        int[] bottom = new int[n - 2 * anillo + 2];
-        int[] left = new int[n - 2 * anillo + 2];
+        // Cantidad de cuartos de vuelta en sentido horario
+        int cuartos;
+        if (direction.equalsIgnoreCase("derecha")) {
+            cuartos = grados / 90;
+        } else if (direction.equalsIgnoreCase("izquierda")) {
+            cuartos = 4 - grados / 90;
+        } else {
+            return;
+        }
 
-        int idx = 0;
-        for (int i = anillo - 1; i < n - anillo + 1; i++) {
-            top[idx] = matriz[anillo - 1][i];
-            right[idx] = matriz[i][n - anillo];
-            bottom[idx] = matriz[n - anillo][n - i - 1];
-            left[idx] = matriz[n - i - 1][anillo - 1];
-            idx++;
+        rotarAnillo(anillo, cuartos * (matriz.filas() - 2 * anillo + 1));
+    }
+
+    /**
+     * Método para desplazar los elementos de un anillo de la matriz un número arbitrario de posiciones, como una
+     * banda transportadora. Desplazar un lado completo ({@code n - 2 * anillo + 1} posiciones) equivale a rotar
+     * 90 grados. El desplazamiento se hace en el lugar, en tiempo proporcional al tamaño del anillo, o en tiempo
+     * constante si la rotación es diferida.
+     *
+     * @param anillo    Anillo a desplazar (desde 1).
+     * @param direccion Dirección del desplazamiento.
+     * @param pasos     Número de posiciones a desplazar.
+     * @throws IllegalArgumentException Si el anillo no existe en la matriz.
+     */
+    public void rotarAnillo(int anillo, Direccion direccion, int pasos) throws IllegalArgumentException {
+        comprobarAnillo(anillo);
+        rotarAnillo(anillo, horario(anillo, direccion, pasos));
+    }
+
+    /**
+     * Convierte un desplazamiento en la dirección indicada en uno en sentido horario. Los pasos se reducen
+     * primero módulo el perímetro del anillo, de modo que cambiar el signo no desborda aunque sean
+     * {@link Integer#MIN_VALUE}.
+     */
+    private int horario(int anillo, Direccion direccion, int pasos) {
+        var reducidos = Math.floorMod(pasos, Rotador.perimetro(matriz.filas(), anillo));
+
+        return direccion == Direccion.DERECHA ? reducidos : -reducidos;
+    }
+
+    private void comprobarAnillo(int anillo) throws IllegalArgumentException {
+        var anillos = Rotador.anillos(matriz.filas());
+
+        if (anillo < 1 || anillo > anillos) {
+            throw new IllegalArgumentException("Anillo no válido: %d. Debe estar entre 1 y %d."
+                    .formatted(anillo, anillos));
         }
+    }
 
-        if (direction.equalsIgnoreCase("derecha")) {
-            switch (grados) {
-                case 90: // Restaurar las partes en la matriz
-                    idx = 0;
-                    for (int i = anillo - 1; i < n - anillo + 1; i++) {
-                        matriz[anillo - 1][i] = left[idx];
-                        matriz[i][n - anillo] = top[idx];
-                        matriz[n - anillo][n - i - 1] = right[idx];
-                        matriz[n - i - 1][anillo - 1] = bottom[idx];
-                        idx++;
-                    }
-                    break;
-                case 180:
-                    // Restaurar las partes en la matriz
-                    idx = 0;
-                    for (int i = anillo - 1; i < n - anillo + 1; i++) {
-                        matriz[anillo - 1][i] = bottom[idx];
-                        matriz[i][n - anillo] = left[idx];
-                        matriz[n - anillo][n - i - 1] = top[idx];
-                        matriz[n - i - 1][anillo - 1] = right[idx];
-                        idx++;
-                    }
-                    break;
-                case 270:
-                    // Restaurar las partes en la matriz
-                    idx = 0;
-                    for (int i = anillo - 1; i < n - anillo + 1; i++) {
-                        matriz[anillo - 1][i] = right[idx];
-                        matriz[i][n - anillo] = bottom[idx];
-                        matriz[n - anillo][n - i - 1] = left[idx];
-                        matriz[n - i - 1][anillo - 1] = top[idx];
-                        idx++;
-                    }
+    /**
+     * Desplaza un anillo en sentido horario y actualiza las diagonales. Un anillo solo tiene cuatro celdas en
+     * las diagonales, sus esquinas, por lo que basta comparar sus valores antes y después del desplazamiento.
+     * Si hay sumas de filas y columnas guardadas, se corrigen recorriendo solo el anillo; con la rotación
+     * diferida se descartan, para que rotar siga costando tiempo constante, y se recalculan al volver a pedirlas.
+     *
+     * @param anillo Anillo a desplazar (desde 1).
+     * @param pasos  Número de posiciones; si es negativo el desplazamiento es antihorario.
+     * @throws IllegalArgumentException Si el anillo no existe en la matriz.
+     */
+    private void rotarAnillo(int anillo, int pasos) throws IllegalArgumentException {
+        comprobarAnillo(anillo);
+
+        var n = matriz.filas();
+        var inicio = anillo - 1;
+        var fin = n - anillo;
+
+        if (inicio == fin) {
+            return;
+        }
+
+        var superiorIzquierda = getLong(inicio, inicio);
+        var superiorDerecha = getLong(inicio, fin);
+        var inferiorDerecha = getLong(fin, fin);
+        var inferiorIzquierda = getLong(fin, inicio);
+
+        desplazar(anillo, pasos);
+
+        if (desplazamientos != null) {
+            super.datosModificados();
+        } else {
+            super.datosModificados((filas, columnas) -> ajustarSumas(anillo, pasos, filas, columnas));
+        }
+
+        actualizarDiagonales(inicio, inicio, superiorIzquierda, getLong(inicio, inicio));
+        actualizarDiagonales(inicio, fin, superiorDerecha, getLong(inicio, fin));
+        actualizarDiagonales(fin, fin, inferiorDerecha, getLong(fin, fin));
+        actualizarDiagonales(fin, inicio, inferiorIzquierda, getLong(fin, inicio));
+    }
+
+    /**
+     * Corrige las sumas de filas y columnas después de desplazar un anillo. Tras el desplazamiento cada celda
+     * tiene el valor que estaba {@code pasos} posiciones antes, por lo que el valor anterior de la posición
+     * {@code t} es el que ahora se ve en {@code t + pasos}, y no hace falta guardar una copia del anillo.
+     */
+    private void ajustarSumas(int anillo, int pasos, long[] filas, long[] columnas) {
+        var celdas = new SecuenciaAnillo(matriz, anillo);
+        var perimetro = celdas.tamano();
+        var s = Math.floorMod(pasos, perimetro);
+
+        for (int t = 0; t < perimetro; t++) {
+            var anterior = t + s < perimetro ? t + s : t + s - perimetro;
+            var fila = celdas.fila(t);
+            var columna = celdas.columna(t);
+            var diferencia = getLong(fila, columna) - getLong(celdas.fila(anterior), celdas.columna(anterior));
+
+            filas[fila] += diferencia;
+            columnas[columna] += diferencia;
+        }
+    }
+
+    /**
+     * Desplaza un anillo válido en sentido horario sin registrar el cambio. Si la rotación es diferida solo se
+     * acumula el desplazamiento.
+     */
+    private void desplazar(int anillo, int pasos) {
+        if (desplazamientos != null) {
+            diferir(anillo, pasos);
+            return;
+        }
+
+        var lado = matriz.filas() - 2 * anillo + 1;
+
+        // Las rotaciones por cuartos de vuelta se hacen con un solo recorrido del anillo
+        if (lado > 0 && pasos % lado == 0) {
+            var cuartos = Math.floorMod(pasos / lado, 4);
+
+            if (cuartos != 0) {
+                rotarCuartos(anillo, cuartos);
             }
+            return;
         }
 
-        if (direction.equalsIgnoreCase("izquierda")) {
-            switch (grados) {
-                case 90: // Restaurar las partes en la matriz
-                    idx = 0;
-                    for (int i = anillo - 1; i < n - anillo + 1; i++) {
-                        matriz[anillo - 1][i] = right[idx];
-                        matriz[i][n - anillo] = bottom[idx];
-                        matriz[n - anillo][n - i - 1] = left[idx];
-                        matriz[n - i - 1][anillo - 1] = top[idx];
-                        idx++;
-                    }
-                    break;
-                case 180:
-                    // Restaurar las partes en la matriz
-                    idx = 0;
-                    for (int i = anillo - 1; i < n - anillo + 1; i++) {
-                        matriz[anillo - 1][i] = bottom[idx];
-                        matriz[i][n - anillo] = left[idx];
-                        matriz[n - anillo][n - i - 1] = top[idx];
-                        matriz[n - i - 1][anillo - 1] = right[idx];
-                        idx++;
-                    }
-                    break;
-                case 270:
-                    // Restaurar las partes en la matriz
-                    idx = 0;
-                    for (int i = anillo - 1; i < n - anillo + 1; i++) {
-                        matriz[anillo - 1][i] = left[idx];
-                        matriz[i][n - anillo] = top[idx];
-                        matriz[n - anillo][n - i - 1] = right[idx];
-                        matriz[n - i - 1][anillo - 1] = bottom[idx];
-                        idx++;
-                    }
+        Rotador.desplazarAnillo(matriz, anillo, pasos);
+    }
+
+    /**
+     * Método para desplazar todos los anillos de la matriz en una sola llamada. Como los anillos no comparten
+     * celdas, si la matriz tiene al menos {@link #getUmbralParalelo()} celdas se desplazan en paralelo, salvo
+     * si su almacenamiento es disperso. Si la rotación es diferida, solo se acumulan los desplazamientos.
+     *
+     * @param direccion Dirección del desplazamiento.
+     * @param pasos     Número de posiciones a desplazar cada anillo; {@code pasos[a - 1]} corresponde al anillo
+     *                  {@code a}. Puede tener menos elementos que anillos la matriz.
+     * @throws IllegalArgumentException Si hay más desplazamientos que anillos.
+     */
+    public void rotarAnillos(Direccion direccion, int[] pasos) throws IllegalArgumentException {
+        if (pasos.length > Rotador.anillos(matriz.filas())) {
+            throw new IllegalArgumentException("La matriz solo tiene %d anillos."
+                    .formatted(Rotador.anillos(matriz.filas())));
+        }
+
+        var anillos = IntStream.rangeClosed(1, pasos.length);
+
+        // Los almacenamientos dispersos no admiten escrituras desde varios hilos, aunque sean en celdas distintas
+        if (desplazamientos == null && matriz.celdas() >= getUmbralParalelo()
+                && !(matriz instanceof AlmacenamientoDisperso)) {
+            anillos = anillos.parallel();
+        }
+
+        anillos.forEach(anillo -> desplazar(anillo, horario(anillo, direccion, pasos[anillo - 1])));
+        datosModificados();
+    }
+
+    /**
+     * Método para rotar la matriz completa en el lugar. Equivale a rotar todos sus anillos los mismos grados,
+     * pero recorre la matriz por bloques y por filas en lugar de recorrer las columnas de cada anillo.
+     *
+     * @param direccion Dirección de la rotación.
+     * @param grados    Grados de la rotación; debe ser múltiplo de 90.
+     * @throws IllegalArgumentException Si los grados no son múltiplo de 90.
+     */
+    public void rotar(Direccion direccion, int grados) throws IllegalArgumentException {
+        if (grados % 90 != 0) {
+            throw new IllegalArgumentException("Grados no válidos: %d. Deben ser múltiplo de 90."
+                    .formatted(grados));
+        }
+
+        materializar();
+        Transformador.rotar(matriz, direccion == Direccion.DERECHA ? grados / 90 : -(grados / 90));
+        datosModificados();
+    }
+
+    /**
+     * Obtiene la transpuesta de la matriz en un almacenamiento nuevo. Para transponer sin reservar memoria se
+     * puede usar {@link #transponerEnSitio()}.
+     *
+     * @return Matriz cuadrada transpuesta.
+     */
+    @Override
+    public MatrizCuadrada transponer() {
+        return new MatrizCuadrada(transpuesta());
+    }
+
+    /**
+     * Multiplica esta matriz por otra matriz cuadrada del mismo tamaño.
+     *
+     * @param otra Factor derecho.
+     * @return Producto como matriz cuadrada.
+     * @throws IllegalArgumentException Si las matrices no tienen el mismo tamaño.
+     * @throws ArithmeticException      Si un elemento del producto no cabe en un {@code int}.
+     * @see Matriz#multiplicar(Matriz)
+     */
+    public MatrizCuadrada multiplicar(MatrizCuadrada otra) throws IllegalArgumentException, ArithmeticException {
+        return new MatrizCuadrada(producto(otra));
+    }
+
+    /**
+     * Multiplica esta matriz por otra matriz cuadrada del mismo tamaño con el algoritmo de Strassen, que para
+     * matrices grandes hace menos multiplicaciones que {@link #multiplicar(MatrizCuadrada)}. Reutilizar la misma
+     * instancia de {@link Strassen} evita reservar los vectores auxiliares en cada multiplicación.
+     *
+     * @param otra     Factor derecho.
+     * @param strassen Multiplicador con el corte y el pool a usar.
+     * @return Producto como matriz cuadrada.
+     * @throws IllegalArgumentException Si las matrices no tienen el mismo tamaño.
+     * @throws ArithmeticException      Si un elemento del producto no cabe en un {@code int}.
+     */
+    public MatrizCuadrada multiplicar(MatrizCuadrada otra, Strassen strassen)
+            throws IllegalArgumentException, ArithmeticException {
+        sincronizar();
+        otra.sincronizar();
+
+        var n = matriz.filas();
+        return new MatrizCuadrada(almacenar(strassen.multiplicar(matriz, otra.matriz), otra, n, n));
+    }
+
+    /**
+     * Método para transponer la matriz en el lugar, por bloques.
+     */
+    public void transponerEnSitio() {
+        materializar();
+        Transformador.transponerEnSitio(matriz);
+        datosModificados();
+    }
+
+    /**
+     * Método para voltear la matriz horizontalmente en el lugar: invierte el orden de las columnas.
+     */
+    public void voltearHorizontal() {
+        materializar();
+        Transformador.voltearHorizontal(matriz);
+        datosModificados();
+    }
+
+    /**
+     * Método para voltear la matriz verticalmente en el lugar: invierte el orden de las filas.
+     */
+    public void voltearVertical() {
+        materializar();
+        Transformador.voltearVertical(matriz);
+        datosModificados();
+    }
+
+    /**
+     * Rota un anillo de la matriz un número de cuartos de vuelta en sentido horario.
+     *
+     * @param anillo  Anillo a rotar.
+     * @param cuartos Cuartos de vuelta (1, 2 o 3).
+     */
+    private void rotarCuartos(int anillo, int cuartos) {
+        var n = matriz.filas();
+        var inicio = anillo - 1;
+        var fin = n - anillo;
+
+        for (int k = 0; k < fin - inicio; k++) {
+            // Celdas del ciclo: superior, derecha, inferior e izquierda
+            var superior = matriz.getLong(inicio, inicio + k);
+            var derecha = matriz.getLong(inicio + k, fin);
+            var inferior = matriz.getLong(fin, fin - k);
+            var izquierda = matriz.getLong(fin - k, inicio);
+
+            switch (cuartos) {
+                case 1 -> {
+                    matriz.setLong(inicio, inicio + k, izquierda);
+                    matriz.setLong(inicio + k, fin, superior);
+                    matriz.setLong(fin, fin - k, derecha);
+                    matriz.setLong(fin - k, inicio, inferior);
+                }
+                case 2 -> {
+                    matriz.setLong(inicio, inicio + k, inferior);
+                    matriz.setLong(inicio + k, fin, izquierda);
+                    matriz.setLong(fin, fin - k, superior);
+                    matriz.setLong(fin - k, inicio, derecha);
+                }
+                case 3 -> {
+                    matriz.setLong(inicio, inicio + k, derecha);
+                    matriz.setLong(inicio + k, fin, inferior);
+                    matriz.setLong(fin, fin - k, izquierda);
+                    matriz.setLong(fin - k, inicio, superior);
+                }
             }
         }
     }
@@ -0,0 +1,36 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Diagonal de una matriz cuadrada.
+ */
+public enum Diagonal {
+    /**
+     * Elementos con {@code i == j}.
+     */
+    PRINCIPAL,
+
+    /**
+     * Elementos con {@code i + j == n - 1}.
+     */
+    SECUNDARIA;
+
+    /**
+     * Indica si una celda pertenece a la diagonal en una matriz de tamaño {@code n x n}.
+     *
+     * @param n       Tamaño de la matriz.
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return true si la celda está en la diagonal.
+     */
+    public boolean contiene(int n, int fila, int columna) {
+        return this == PRINCIPAL ? fila == columna : fila + columna == n - 1;
+    }
+}
@@ -0,0 +1,41 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Dirección de rotación de un anillo.
+ */
+public enum Direccion {
+    /**
+     * Sentido antihorario.
+     */
+    IZQUIERDA,
+
+    /**
+     * Sentido horario.
+     */
+    DERECHA;
+
+    /**
+     * Obtiene la dirección a partir de su nombre, sin importar mayúsculas ni minúsculas.
+     *
+     * @param nombre Nombre de la dirección ("izquierda" o "derecha").
+     * @return Dirección correspondiente.
+     * @throws IllegalArgumentException Si el nombre no corresponde a ninguna dirección.
+     */
+    public static Direccion desde(String nombre) throws IllegalArgumentException {
+        for (Direccion direccion : values()) {
+            if (direccion.name().equalsIgnoreCase(nombre)) {
+                return direccion;
+            }
+        }
+
+        throw new IllegalArgumentException("Dirección no válida: %s.".formatted(nombre));
+    }
+}
@@ -0,0 +1,766 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoLong;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Multiplicación de matrices y de matriz por vector, acumulando en {@code long}.
+ * <p>
+ * El producto de matrices se calcula por bloques: el resultado se divide en bloques de {@value #MC} x
+ * {@value #NC} que se reparten entre los hilos, y para cada tramo de {@value #KC} columnas de {@code a} se copian
+ * los datos de ambos factores, ya convertidos a {@code long}, a vectores contiguos ("empaquetado"), de modo que
+ * el núcleo los lea en orden y quepan en caché. El núcleo calcula bloques de 4x4 del resultado en 16 variables
+ * locales, que el compilador mantiene en registros durante todo el tramo. Como el empaquetado usa
+ * {@link Almacenamiento#getLong}, el mismo algoritmo sirve para cualquier almacenamiento, incluidas las celdas
+ * {@code long}; {@link Strassen} lo usa además sobre bloques de {@code long}.
+ * <p>
+ * Cada bloque del resultado se acumula en un vector del hilo que lo calcula y se escribe en el almacenamiento de
+ * destino al terminarlo, por lo que no se reserva el producto completo en {@code long}. Antes de empezar se
+ * comprueba con el mayor valor absoluto de cada factor que ninguna suma parcial pueda desbordar un {@code long};
+ * si no se puede asegurar, los bloques se calculan con {@link Math#multiplyExact(long, long)} y
+ * {@link Math#addExact(long, long)}, más despacio pero sin resultados truncados en silencio.
+ */
+public final class Multiplicador {
+    /**
+     * Número de multiplicaciones ({@code filas * columnas * comun}) a partir del cual se usa el algoritmo
+     * paralelo.
+     */
+    public static final long UMBRAL_PARALELO = 1L << 21;
+
+    /**
+     * Filas y columnas del bloque del resultado que calcula el núcleo.
+     */
+    private static final int MR = 4;
+    private static final int NR = 4;
+
+    /**
+     * Largo de los tramos de la dimensión común. Un panel de {@code MR x KC} de {@code a} ocupa 8 KiB.
+     */
+    static final int KC = 256;
+
+    /**
+     * Filas de cada bloque del resultado. El bloque empaquetado de {@code a} ocupa 128 KiB.
+     */
+    static final int MC = 64;
+
+    /**
+     * Columnas de cada bloque del resultado. El bloque empaquetado de {@code b} ocupa 1 MiB.
+     */
+    static final int NC = 512;
+
+    /**
+     * Número de filas a partir del cual el producto por un vector se reparte entre los hilos.
+     */
+    private static final int FILAS_POR_TAREA = 256;
+
+    private Multiplicador() {
+    }
+
+    /**
+     * Multiplica dos matrices usando el pool común.
+     *
+     * @param a Factor izquierdo, de {@code m x n}.
+     * @param b Factor derecho, de {@code n x p}.
+     * @return Producto de {@code m x p} por filas.
+     * @throws IllegalArgumentException Si las dimensiones no son compatibles o el producto no cabe en un vector.
+     * @throws ArithmeticException      Si una suma parcial del producto no cabe en un {@code long}.
+     */
+    public static long[] multiplicar(Almacenamiento a, Almacenamiento b)
+            throws IllegalArgumentException, ArithmeticException {
+        return multiplicar(a, b, ForkJoinPool.commonPool(), UMBRAL_PARALELO);
+    }
+
+    /**
+     * Multiplica dos matrices usando el pool común y escribe el producto en {@code destino}.
+     *
+     * @param a       Factor izquierdo, de {@code m x n}.
+     * @param b       Factor derecho, de {@code n x p}.
+     * @param destino Almacenamiento de {@code m x p} donde se escribe el producto.
+     * @throws IllegalArgumentException Si las dimensiones no son compatibles.
+     * @throws ArithmeticException      Si una suma parcial del producto no cabe en un {@code long} o un elemento
+     *                                  no cabe en las celdas del destino.
+     */
+    public static void multiplicar(Almacenamiento a, Almacenamiento b, Almacenamiento destino)
+            throws IllegalArgumentException, ArithmeticException {
+        multiplicar(a, b, destino, ForkJoinPool.commonPool(), UMBRAL_PARALELO);
+    }
+
+    /**
+     * Multiplica dos matrices, en paralelo si el producto requiere al menos {@code umbral} multiplicaciones.
+     *
+     * @param a      Factor izquierdo, de {@code m x n}.
+     * @param b      Factor derecho, de {@code n x p}.
+     * @param pool   Pool donde se ejecutan las tareas paralelas.
+     * @param umbral Número mínimo de multiplicaciones para usar el algoritmo paralelo.
+     * @return Producto de {@code m x p} por filas: el elemento {@code (i, j)} está en la posición
+     * {@code i * p + j}.
+     * @throws IllegalArgumentException Si las dimensiones no son compatibles o el producto no cabe en un vector.
+     * @throws ArithmeticException      Si una suma parcial del producto no cabe en un {@code long}.
+     */
+    public static long[] multiplicar(Almacenamiento a, Almacenamiento b, ForkJoinPool pool, long umbral)
+            throws IllegalArgumentException, ArithmeticException {
+        comprobarDimensiones(a, b);
+
+        if ((long) a.filas() * b.columnas() > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Un producto de %dx%d no cabe en un vector."
+                    .formatted(a.filas(), b.columnas()));
+        }
+
+        var c = new AlmacenamientoLong(a.filas(), b.columnas());
+        multiplicar(a, b, c, pool, umbral);
+
+        return c.datos();
+    }
+
+    /**
+     * Multiplica dos matrices y escribe el producto en {@code destino}, en paralelo si el producto requiere al
+     * menos {@code umbral} multiplicaciones. Si el destino no tiene celdas {@code long}, cada elemento se
+     * comprueba al escribirlo. Si se lanza una excepción, el destino puede quedar escrito en parte.
+     *
+     * @param a       Factor izquierdo, de {@code m x n}.
+     * @param b       Factor derecho, de {@code n x p}.
+     * @param destino Almacenamiento de {@code m x p} donde se escribe el producto. Los bloques se escriben desde
+     *                varios hilos, por lo que no puede ser disperso.
+     * @param pool    Pool donde se ejecutan las tareas paralelas.
+     * @param umbral  Número mínimo de multiplicaciones para usar el algoritmo paralelo.
+     * @throws IllegalArgumentException Si las dimensiones no son compatibles.
+     * @throws ArithmeticException      Si una suma parcial del producto no cabe en un {@code long} o un elemento
+     *                                  no cabe en las celdas del destino.
+     */
+    public static void multiplicar(Almacenamiento a, Almacenamiento b, Almacenamiento destino, ForkJoinPool pool,
+                                   long umbral) throws IllegalArgumentException, ArithmeticException {
+        comprobarDimensiones(a, b);
+
+        var m = a.filas();
+        var n = a.columnas();
+        var p = b.columnas();
+
+        if (destino.filas() != m || destino.columnas() != p) {
+            throw new IllegalArgumentException("El producto es de %dx%d y el destino de %dx%d."
+                    .formatted(m, p, destino.filas(), destino.columnas()));
+        }
+
+        if (m == 0 || p == 0) {
+            return;
+        }
+
+        var bloquesFila = (m + MC - 1) / MC;
+        var bloquesColumna = (p + NC - 1) / NC;
+        var tarea = new TareaBloques(a, b, destino, !acotado(a, b), bloquesColumna, 0, bloquesFila * bloquesColumna);
+
+        if ((long) m * n * p < umbral || pool.getParallelism() == 1) {
+            tarea.calcular();
+        } else {
+            pool.invoke(tarea);
+        }
+    }
+
+    private static void comprobarDimensiones(Almacenamiento a, Almacenamiento b) throws IllegalArgumentException {
+        if (b.filas() != a.columnas()) {
+            throw new IllegalArgumentException("No se puede multiplicar una matriz de %dx%d por una de %dx%d."
+                    .formatted(a.filas(), a.columnas(), b.filas(), b.columnas()));
+        }
+    }
+
+    /**
+     * Indica si ninguna suma parcial del producto de dos matrices puede desbordar un {@code long}, es decir, si
+     * {@code n * max|a| * max|b|} cabe en un {@code long}, donde {@code n} es la dimensión común.
+     *
+     * @param a Factor izquierdo.
+     * @param b Factor derecho.
+     * @return true si el producto se puede acumular en {@code long} sin comprobar cada operación.
+     */
+    static boolean acotado(Almacenamiento a, Almacenamiento b) {
+        return acotado(maximoAbsoluto(a), maximoAbsoluto(b), a.columnas());
+    }
+
+    /**
+     * Indica si {@code n * maximoA * maximoB} cabe en un {@code long}. Un máximo negativo indica que el factor
+     * contiene {@link Long#MIN_VALUE}, cuyo valor absoluto no cabe en un {@code long}.
+     */
+    private static boolean acotado(long maximoA, long maximoB, int n) {
+        if (maximoA < 0 || maximoB < 0 || Math.multiplyHigh(maximoA, maximoB) != 0) {
+            return false;
+        }
+
+        var maximo = maximoA * maximoB;
+
+        return maximo >= 0 && Math.multiplyHigh(maximo, n) == 0 && maximo * n >= 0;
+    }
+
+    /**
+     * Obtiene el mayor valor absoluto de una matriz, o -1 si contiene {@link Long#MIN_VALUE}.
+     */
+    private static long maximoAbsoluto(Almacenamiento matriz) {
+        long maximo = 0;
+
+        if (matriz instanceof AlmacenamientoPlano plano && matriz.columnas() > 0) {
+            var datos = plano.datos();
+
+            for (int i = 0; i < matriz.filas(); i++) {
+                var base = plano.indice(i, 0);
+
+                for (int j = 0; j < matriz.columnas(); j++) {
+                    maximo = Math.max(maximo, Math.abs((long) datos[base + j]));
+                }
+            }
+
+            return maximo;
+        }
+
+        for (int i = 0; i < matriz.filas(); i++) {
+            for (int j = 0; j < matriz.columnas(); j++) {
+                var valor = Math.abs(matriz.getLong(i, j));
+
+                if (valor < 0) {
+                    return -1;
+                }
+
+                maximo = Math.max(maximo, valor);
+            }
+        }
+
+        return maximo;
+    }
+
+    /**
+     * Multiplica una matriz por un vector columna usando el pool común.
+     *
+     * @param a      Matriz de {@code m x n}.
+     * @param vector Vector de {@code n} elementos.
+     * @return Producto de {@code m} elementos.
+     * @throws IllegalArgumentException Si el largo del vector no es el número de columnas de la matriz.
+     * @throws ArithmeticException      Si una suma parcial del producto no cabe en un {@code long}.
+     */
+    public static long[] multiplicar(Almacenamiento a, int[] vector)
+            throws IllegalArgumentException, ArithmeticException {
+        return multiplicar(a, vector, ForkJoinPool.commonPool(), UMBRAL_PARALELO);
+    }
+
+    /**
+     * Multiplica una matriz por un vector columna, en paralelo por bandas de filas si la matriz tiene al menos
+     * {@code umbral} celdas.
+     *
+     * @param a      Matriz de {@code m x n}.
+     * @param vector Vector de {@code n} elementos.
+     * @param pool   Pool donde se ejecutan las tareas paralelas.
+     * @param umbral Número mínimo de celdas para usar el algoritmo paralelo.
+     * @return Producto de {@code m} elementos.
+     * @throws IllegalArgumentException Si el largo del vector no es el número de columnas de la matriz.
+     * @throws ArithmeticException      Si una suma parcial del producto no cabe en un {@code long}.
+     */
+    public static long[] multiplicar(Almacenamiento a, int[] vector, ForkJoinPool pool, long umbral)
+            throws IllegalArgumentException, ArithmeticException {
+        if (vector.length != a.columnas()) {
+            throw new IllegalArgumentException("No se puede multiplicar una matriz de %dx%d por un vector de %d elementos."
+                    .formatted(a.filas(), a.columnas(), vector.length));
+        }
+
+        var resultado = new long[a.filas()];
+        long maximoVector = 0;
+
+        for (var valor : vector) {
+            maximoVector = Math.max(maximoVector, Math.abs((long) valor));
+        }
+
+        // Solo con valores muy grandes: se comprueba cada operación, en el hilo actual
+        if (!acotado(maximoAbsoluto(a), maximoVector, vector.length)) {
+            for (int i = 0; i < a.filas(); i++) {
+                long suma = 0;
+
+                for (int j = 0; j < vector.length; j++) {
+                    suma = Math.addExact(suma, Math.multiplyExact(a.getLong(i, j), vector[j]));
+                }
+
+                resultado[i] = suma;
+            }
+
+            return resultado;
+        }
+
+        if (a.celdas() < umbral || pool.getParallelism() == 1) {
+            multiplicarFilas(a, vector, resultado, 0, a.filas());
+        } else {
+            pool.invoke(new TareaVector(a, vector, resultado, 0, a.filas()));
+        }
+
+        return resultado;
+    }
+
+    /**
+     * Calcula las posiciones {@code [desde, hasta)} del producto de una matriz por un vector.
+     */
+    private static void multiplicarFilas(Almacenamiento a, int[] vector, long[] resultado, int desde, int hasta) {
+        var n = a.columnas();
+
+        if (a instanceof AlmacenamientoPlano plano) {
+            var datos = plano.datos();
+
+            for (int i = desde; i < hasta; i++) {
+                var base = plano.offset() + i * plano.stride();
+                long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+                var j = 0;
+
+                // Cuatro acumuladores independientes para no encadenar cada suma con la anterior.
+                for (; j + 3 < n; j += 4) {
+                    s0 += (long) datos[base + j] * vector[j];
+                    s1 += (long) datos[base + j + 1] * vector[j + 1];
+                    s2 += (long) datos[base + j + 2] * vector[j + 2];
+                    s3 += (long) datos[base + j + 3] * vector[j + 3];
+                }
+
+                for (; j < n; j++) {
+                    s0 += (long) datos[base + j] * vector[j];
+                }
+
+                resultado[i] = s0 + s1 + s2 + s3;
+            }
+
+            return;
+        }
+
+        for (int i = desde; i < hasta; i++) {
+            long suma = 0;
+
+            for (int j = 0; j < n; j++) {
+                suma += a.getLong(i, j) * vector[j];
+            }
+
+            resultado[i] = suma;
+        }
+    }
+
+    /**
+     * Copia las filas {@code [fila, fila + filas)} y columnas {@code [k, k + kc)} de {@code a} en paneles de
+     * {@value #MR} filas: dentro de cada panel, los {@value #MR} valores de una misma columna quedan seguidos.
+     * Las filas que faltan para completar el último panel se rellenan con ceros.
+     */
+    private static void empaquetarA(Almacenamiento a, int fila, int filas, int k, int kc, long[] destino) {
+        var plano = a instanceof AlmacenamientoPlano p ? p : null;
+
+        for (int ip = 0; ip < filas; ip += MR) {
+            var panel = ip * kc;
+
+            for (int r = 0; r < MR; r++) {
+                var i = ip + r;
+
+                if (i >= filas) {
+                    for (int q = 0; q < kc; q++) {
+                        destino[panel + q * MR + r] = 0;
+                    }
+
+                    continue;
+                }
+
+                if (plano != null) {
+                    var datos = plano.datos();
+                    var base = plano.indice(fila + i, k);
+
+                    for (int q = 0; q < kc; q++) {
+                        destino[panel + q * MR + r] = datos[base + q];
+                    }
+                } else {
+                    for (int q = 0; q < kc; q++) {
+                        destino[panel + q * MR + r] = a.getLong(fila + i, k + q);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Copia las filas {@code [k, k + kc)} y columnas {@code [columna, columna + columnas)} de {@code b} en paneles
+     * de {@value #NR} columnas: dentro de cada panel, los {@value #NR} valores de una misma fila quedan seguidos.
+     * Las columnas que faltan para completar el último panel se rellenan con ceros.
+     */
+    private static void empaquetarB(Almacenamiento b, int k, int kc, int columna, int columnas, long[] destino) {
+        var plano = b instanceof AlmacenamientoPlano p ? p : null;
+
+        for (int jp = 0; jp < columnas; jp += NR) {
+            var panel = jp * kc;
+            var ancho = Math.min(NR, columnas - jp);
+
+            for (int q = 0; q < kc; q++) {
+                var posicion = panel + q * NR;
+
+                if (plano != null) {
+                    var datos = plano.datos();
+                    var base = plano.indice(k + q, columna + jp);
+
+                    for (int c = 0; c < ancho; c++) {
+                        destino[posicion + c] = datos[base + c];
+                    }
+                } else {
+                    for (int c = 0; c < ancho; c++) {
+                        destino[posicion + c] = b.getLong(k + q, columna + jp + c);
+                    }
+                }
+
+                for (int c = ancho; c < NR; c++) {
+                    destino[posicion + c] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Igual que {@link #empaquetarA(Almacenamiento, int, int, int, int, long[])}, para un bloque de {@code long}
+     * que empieza en {@code a[inicio]} con filas separadas por {@code salto}.
+     */
+    private static void empaquetarA(long[] a, int inicio, int salto, int fila, int filas, int k, int kc,
+                                    long[] destino) {
+        for (int ip = 0; ip < filas; ip += MR) {
+            var panel = ip * kc;
+
+            for (int r = 0; r < MR; r++) {
+                var i = ip + r;
+                var base = inicio + (fila + i) * salto + k;
+
+                for (int q = 0; q < kc; q++) {
+                    destino[panel + q * MR + r] = i < filas ? a[base + q] : 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Igual que {@link #empaquetarB(Almacenamiento, int, int, int, int, long[])}, para un bloque de {@code long}
+     * que empieza en {@code b[inicio]} con filas separadas por {@code salto}.
+     */
+    private static void empaquetarB(long[] b, int inicio, int salto, int k, int kc, int columna, int columnas,
+                                    long[] destino) {
+        for (int jp = 0; jp < columnas; jp += NR) {
+            var panel = jp * kc;
+            var ancho = Math.min(NR, columnas - jp);
+
+            for (int q = 0; q < kc; q++) {
+                var posicion = panel + q * NR;
+                var base = inicio + (k + q) * salto + columna + jp;
+
+                for (int c = 0; c < NR; c++) {
+                    destino[posicion + c] = c < ancho ? b[base + c] : 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Núcleo del producto: acumula en el bloque de {@code filas x columnas} (como máximo 4x4) del resultado que
+     * empieza en {@code c[inicio]} el producto de un panel de {@code a} por un panel de {@code b}.
+     */
+    private static void nucleo(long[] a, int ia, long[] b, int ib, int kc, long[] c, int inicio, int p,
+                               int filas, int columnas) {
+        long c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        long c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        long c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        long c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+        for (int q = 0; q < kc; q++, ia += MR, ib += NR) {
+            var a0 = a[ia];
+            var a1 = a[ia + 1];
+            var a2 = a[ia + 2];
+            var a3 = a[ia + 3];
+            var b0 = b[ib];
+            var b1 = b[ib + 1];
+            var b2 = b[ib + 2];
+            var b3 = b[ib + 3];
+
+            c00 += a0 * b0;
+            c01 += a0 * b1;
+            c02 += a0 * b2;
+            c03 += a0 * b3;
+            c10 += a1 * b0;
+            c11 += a1 * b1;
+            c12 += a1 * b2;
+            c13 += a1 * b3;
+            c20 += a2 * b0;
+            c21 += a2 * b1;
+            c22 += a2 * b2;
+            c23 += a2 * b3;
+            c30 += a3 * b0;
+            c31 += a3 * b1;
+            c32 += a3 * b2;
+            c33 += a3 * b3;
+        }
+
+        if (filas == MR && columnas == NR) {
+            c[inicio] += c00;
+            c[inicio + 1] += c01;
+            c[inicio + 2] += c02;
+            c[inicio + 3] += c03;
+            inicio += p;
+            c[inicio] += c10;
+            c[inicio + 1] += c11;
+            c[inicio + 2] += c12;
+            c[inicio + 3] += c13;
+            inicio += p;
+            c[inicio] += c20;
+            c[inicio + 1] += c21;
+            c[inicio + 2] += c22;
+            c[inicio + 3] += c23;
+            inicio += p;
+            c[inicio] += c30;
+            c[inicio + 1] += c31;
+            c[inicio + 2] += c32;
+            c[inicio + 3] += c33;
+            return;
+        }
+
+        // Bloque del borde: solo se escriben las posiciones que existen en el resultado.
+        long[] bloque = {
+                c00, c01, c02, c03,
+                c10, c11, c12, c13,
+                c20, c21, c22, c23,
+                c30, c31, c32, c33
+        };
+
+        for (int r = 0; r < filas; r++) {
+            for (int s = 0; s < columnas; s++) {
+                c[inicio + r * p + s] += bloque[r * NR + s];
+            }
+        }
+    }
+
+    /**
+     * Igual que {@link #nucleo}, pero comprobando que ningún producto ni suma parcial desborde un {@code long}.
+     *
+     * @throws ArithmeticException Si algún producto o suma parcial no cabe en un {@code long}.
+     */
+    private static void nucleoExacto(long[] a, int ia, long[] b, int ib, int kc, long[] c, int inicio, int p,
+                                     int filas, int columnas) throws ArithmeticException {
+        for (int r = 0; r < filas; r++) {
+            for (int s = 0; s < columnas; s++) {
+                var suma = c[inicio + r * p + s];
+
+                for (int q = 0; q < kc; q++) {
+                    suma = Math.addExact(suma, Math.multiplyExact(a[ia + q * MR + r], b[ib + q * NR + s]));
+                }
+
+                c[inicio + r * p + s] = suma;
+            }
+        }
+    }
+
+    /**
+     * Acumula en {@code c} el producto de dos bloques de {@code long} guardados por filas: {@code a} de
+     * {@code m x n}, que empieza en {@code a[ia]} con filas separadas por {@code sa}, y {@code b} de {@code n x p},
+     * que empieza en {@code b[ib]} con filas separadas por {@code sb}. El resultado de {@code m x p} empieza en
+     * {@code c[ic]} con filas separadas por {@code sc}. Las operaciones se hacen módulo 2<sup>64</sup>, como
+     * cualquier suma de {@code long}.
+     */
+    static void acumular(long[] a, int ia, int sa, long[] b, int ib, int sb, long[] c, int ic, int sc,
+                         int m, int n, int p) {
+        if (m == 0 || n == 0 || p == 0) {
+            return;
+        }
+
+        var bloquesColumna = (p + NC - 1) / NC;
+
+        calcularBloques(m, n, p, 0, (m + MC - 1) / MC * bloquesColumna, bloquesColumna, false,
+                (fila, filas, k, kc, destino) -> empaquetarA(a, ia, sa, fila, filas, k, kc, destino),
+                (columna, columnas, k, kc, destino) -> empaquetarB(b, ib, sb, k, kc, columna, columnas, destino),
+                (fila, columna, filas, columnas, bloque, ancho) -> {
+                    for (int r = 0; r < filas; r++) {
+                        var base = ic + (fila + r) * sc + columna;
+
+                        for (int s = 0; s < columnas; s++) {
+                            c[base + s] += bloque[r * ancho + s];
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Copia una parte de un factor a un vector empaquetado: {@code cantidad} filas (o columnas) desde
+     * {@code inicio} y {@code kc} posiciones de la dimensión común desde {@code k}.
+     */
+    @FunctionalInterface
+    private interface Empaquetador {
+        void empaquetar(int inicio, int cantidad, int k, int kc, long[] destino);
+    }
+
+    /**
+     * Recibe un bloque terminado del resultado: {@code filas x columnas} valores que empiezan en la celda
+     * {@code (fila, columna)}, guardados por filas en {@code bloque} con filas separadas por {@code ancho}.
+     */
+    @FunctionalInterface
+    private interface Volcador {
+        void volcar(int fila, int columna, int filas, int columnas, long[] bloque, int ancho);
+    }
+
+    /**
+     * Calcula los bloques {@code [desde, hasta)} del resultado, numerados por filas. Cada bloque se acumula en un
+     * vector propio de la llamada y se entrega a {@code volcador} al terminarlo.
+     */
+    private static void calcularBloques(int m, int n, int p, int desde, int hasta, int bloquesColumna,
+                                        boolean exacto, Empaquetador empaquetadorA, Empaquetador empaquetadorB,
+                                        Volcador volcador) {
+        var kcMaximo = Math.min(KC, n);
+        var empaquetadoA = new long[redondear(Math.min(MC, m), MR) * kcMaximo];
+        var empaquetadoB = new long[redondear(Math.min(NC, p), NR) * kcMaximo];
+        var ancho = Math.min(NC, p);
+        var acumulado = new long[Math.min(MC, m) * ancho];
+
+        for (int bloque = desde; bloque < hasta; bloque++) {
+            var fila = bloque / bloquesColumna * MC;
+            var columna = bloque % bloquesColumna * NC;
+            var filas = Math.min(MC, m - fila);
+            var columnas = Math.min(NC, p - columna);
+
+            Arrays.fill(acumulado, 0);
+
+            for (int k = 0; k < n; k += KC) {
+                var kc = Math.min(KC, n - k);
+
+                empaquetadorB.empaquetar(columna, columnas, k, kc, empaquetadoB);
+                empaquetadorA.empaquetar(fila, filas, k, kc, empaquetadoA);
+
+                for (int jp = 0; jp < columnas; jp += NR) {
+                    for (int ip = 0; ip < filas; ip += MR) {
+                        if (exacto) {
+                            nucleoExacto(empaquetadoA, ip * kc, empaquetadoB, jp * kc, kc, acumulado,
+                                    ip * ancho + jp, ancho, Math.min(MR, filas - ip), Math.min(NR, columnas - jp));
+                        } else {
+                            nucleo(empaquetadoA, ip * kc, empaquetadoB, jp * kc, kc, acumulado,
+                                    ip * ancho + jp, ancho, Math.min(MR, filas - ip), Math.min(NR, columnas - jp));
+                        }
+                    }
+                }
+            }
+
+            volcador.volcar(fila, columna, filas, columnas, acumulado, ancho);
+        }
+    }
+
+    /**
+     * Escribe un bloque terminado del resultado en el almacenamiento de destino.
+     *
+     * @throws ArithmeticException Si el destino no tiene celdas {@code long} y un elemento no cabe en un
+     *                             {@code int}.
+     */
+    private static void escribir(Almacenamiento destino, int fila, int columna, int filas, int columnas,
+                                 long[] bloque, int ancho) throws ArithmeticException {
+        if (destino instanceof AlmacenamientoLong largo) {
+            for (int r = 0; r < filas; r++) {
+                System.arraycopy(bloque, r * ancho, largo.datos(), largo.indice(fila + r, columna), columnas);
+            }
+
+            return;
+        }
+
+        var plano = destino instanceof AlmacenamientoPlano p ? p : null;
+
+        for (int r = 0; r < filas; r++) {
+            for (int s = 0; s < columnas; s++) {
+                var valor = bloque[r * ancho + s];
+
+                if (valor != (int) valor) {
+                    throw new ArithmeticException("El elemento (%d, %d) del producto (%d) no cabe en un int."
+                            .formatted(fila + r, columna + s, valor));
+                }
+
+                if (plano != null) {
+                    plano.datos()[plano.indice(fila + r, columna + s)] = (int) valor;
+                } else {
+                    destino.set(fila + r, columna + s, (int) valor);
+                }
+            }
+        }
+    }
+
+    private static int redondear(int valor, int multiplo) {
+        return (valor + multiplo - 1) / multiplo * multiplo;
+    }
+
+    /**
+     * Tarea que calcula los bloques {@code [desde, hasta)} del resultado, numerados por filas. Cada bloque se
+     * escribe en posiciones distintas del resultado, por lo que las tareas no necesitan sincronizarse.
+     */
+    private static final class TareaBloques extends RecursiveAction {
+        private final Almacenamiento a;
+        private final Almacenamiento b;
+        private final Almacenamiento destino;
+        private final boolean exacto;
+        private final int bloquesColumna;
+        private final int desde;
+        private final int hasta;
+
+        TareaBloques(Almacenamiento a, Almacenamiento b, Almacenamiento destino, boolean exacto, int bloquesColumna,
+                     int desde, int hasta) {
+            this.a = a;
+            this.b = b;
+            this.destino = destino;
+            this.exacto = exacto;
+            this.bloquesColumna = bloquesColumna;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde == 1) {
+                calcular();
+                return;
+            }
+
+            var mitad = (desde + hasta) >>> 1;
+            invokeAll(new TareaBloques(a, b, destino, exacto, bloquesColumna, desde, mitad),
+                    new TareaBloques(a, b, destino, exacto, bloquesColumna, mitad, hasta));
+        }
+
+        /**
+         * Calcula los bloques de la tarea en el hilo actual.
+         */
+        void calcular() {
+            calcularBloques(a.filas(), a.columnas(), b.columnas(), desde, hasta, bloquesColumna, exacto,
+                    (fila, filas, k, kc, empaquetado) -> empaquetarA(a, fila, filas, k, kc, empaquetado),
+                    (columna, columnas, k, kc, empaquetado) -> empaquetarB(b, k, kc, columna, columnas, empaquetado),
+                    (fila, columna, filas, columnas, bloque, ancho) ->
+                            escribir(destino, fila, columna, filas, columnas, bloque, ancho));
+        }
+    }
+
+    /**
+     * Tarea que multiplica una banda de filas por el vector.
+     */
+    private static final class TareaVector extends RecursiveAction {
+        private final Almacenamiento a;
+        private final int[] vector;
+        private final long[] resultado;
+        private final int desde;
+        private final int hasta;
+
+        TareaVector(Almacenamiento a, int[] vector, long[] resultado, int desde, int hasta) {
+            this.a = a;
+            this.vector = vector;
+            this.resultado = resultado;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= FILAS_POR_TAREA) {
+                multiplicarFilas(a, vector, resultado, desde, hasta);
+                return;
+            }
+
+            var mitad = (desde + hasta) >>> 1;
+            invokeAll(new TareaVector(a, vector, resultado, desde, mitad),
+                    new TareaVector(a, vector, resultado, mitad, hasta));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoCsr;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoDisperso;
+
+import java.util.Arrays;
+
+/**
+ * Multiplicación de matrices en la que al menos un factor es disperso, con el algoritmo de Gustavson.
+ * <p>
+ * Cada fila {@code i} del producto es la combinación de las filas de {@code b} indicadas por las celdas
+ * distintas de cero de la fila {@code i} de {@code a}: {@code c[i] = suma de a[i][k] * b[k]}. Las filas se
+ * acumulan en un vector denso de {@code long} del ancho del producto, recordando qué columnas se tocaron, de modo
+ * que el tiempo depende del número de multiplicaciones no nulas y no del tamaño de las matrices. El producto se
+ * devuelve en formato {@link AlmacenamientoCsr}. Cada operación se comprueba con {@link Math#multiplyExact} y
+ * {@link Math#addExact}, por lo que un factor con celdas {@code long} no puede desbordar el acumulado en silencio.
+ */
+public final class MultiplicadorDisperso {
+    private MultiplicadorDisperso() {
+    }
+
+    /**
+     * Multiplica dos matrices. Los factores dispersos se recorren por sus celdas guardadas (los que están en
+     * formato {@link co.edu.unicartagena.Almacenamiento.AlmacenamientoCoo} se comprimen antes); los densos, por
+     * filas completas.
+     *
+     * @param a Factor izquierdo, de {@code m x n}.
+     * @param b Factor derecho, de {@code n x p}.
+     * @return Producto de {@code m x p} en formato CSR.
+     * @throws IllegalArgumentException Si las dimensiones no son compatibles.
+     * @throws ArithmeticException      Si un elemento del producto no cabe en un {@code int} o una suma parcial
+     *                                  no cabe en un {@code long}.
+     */
+    public static AlmacenamientoCsr multiplicar(Almacenamiento a, Almacenamiento b)
+            throws IllegalArgumentException, ArithmeticException {
+        var m = a.filas();
+        var n = a.columnas();
+        var p = b.columnas();
+
+        if (b.filas() != n) {
+            throw new IllegalArgumentException("No se puede multiplicar una matriz de %dx%d por una de %dx%d."
+                    .formatted(m, n, b.filas(), p));
+        }
+
+        var filasA = a instanceof AlmacenamientoDisperso disperso ? disperso.comprimir() : null;
+        var filasB = b instanceof AlmacenamientoDisperso disperso ? disperso.comprimir() : null;
+
+        var acumulado = new long[p];
+        var marcas = new int[p];
+        var tocadas = new int[p];
+
+        var inicios = new int[m + 1];
+        var indices = new int[16];
+        var valores = new int[16];
+        var noCeros = 0;
+
+        for (int i = 0; i < m; i++) {
+            var cantidad = 0;
+
+            if (filasA != null) {
+                for (int q = filasA.inicio(i); q < filasA.inicio(i + 1); q++) {
+                    cantidad = acumularFila(filasB, b, filasA.indices()[q], filasA.valores()[q], i,
+                            acumulado, marcas, tocadas, cantidad);
+                }
+            } else {
+                for (int k = 0; k < n; k++) {
+                    var valor = a.getLong(i, k);
+
+                    if (valor != 0) {
+                        cantidad = acumularFila(filasB, b, k, valor, i, acumulado, marcas, tocadas, cantidad);
+                    }
+                }
+            }
+
+            Arrays.sort(tocadas, 0, cantidad);
+
+            if (noCeros + cantidad > indices.length) {
+                var capacidad = Math.max(noCeros + cantidad, indices.length + (indices.length >> 1));
+                indices = Arrays.copyOf(indices, capacidad);
+                valores = Arrays.copyOf(valores, capacidad);
+            }
+
+            for (int t = 0; t < cantidad; t++) {
+                var j = tocadas[t];
+                var valor = acumulado[j];
+                acumulado[j] = 0;
+
+                if (valor == 0) {
+                    continue;
+                }
+
+                if (valor != (int) valor) {
+                    throw new ArithmeticException("El elemento (%d, %d) del producto (%d) no cabe en un int."
+                            .formatted(i, j, valor));
+                }
+
+                indices[noCeros] = j;
+                valores[noCeros++] = (int) valor;
+            }
+
+            inicios[i + 1] = noCeros;
+        }
+
+        return new AlmacenamientoCsr(m, p, inicios, indices, valores);
+    }
+
+    /**
+     * Multiplica una matriz dispersa por un vector columna, recorriendo solo las celdas distintas de cero.
+     *
+     * @param a      Matriz de {@code m x n}.
+     * @param vector Vector de {@code n} elementos.
+     * @return Producto de {@code m} elementos.
+     * @throws IllegalArgumentException Si el largo del vector no es el número de columnas de la matriz.
+     * @throws ArithmeticException      Si una suma parcial del producto no cabe en un {@code long}.
+     */
+    public static long[] multiplicar(AlmacenamientoDisperso a, int[] vector)
+            throws IllegalArgumentException, ArithmeticException {
+        if (vector.length != a.columnas()) {
+            throw new IllegalArgumentException("No se puede multiplicar una matriz de %dx%d por un vector de %d elementos."
+                    .formatted(a.filas(), a.columnas(), vector.length));
+        }
+
+        var resultado = new long[a.filas()];
+        a.recorrer((fila, columna, valor) ->
+                resultado[fila] = Math.addExact(resultado[fila], (long) valor * vector[columna]));
+
+        return resultado;
+    }
+
+    /**
+     * Suma {@code factor} veces la fila {@code k} de {@code b} al acumulado de la fila {@code i} del producto,
+     * anotando en {@code tocadas} las columnas que aparecen por primera vez.
+     *
+     * @return Nuevo número de columnas tocadas.
+     */
+    private static int acumularFila(AlmacenamientoCsr filasB, Almacenamiento b, int k, long factor, int i,
+                                    long[] acumulado, int[] marcas, int[] tocadas, int cantidad) {
+        // Las marcas guardan i + 1 para no tener que limpiarlas entre filas.
+        var marca = i + 1;
+
+        if (filasB != null) {
+            var indices = filasB.indices();
+            var valores = filasB.valores();
+
+            for (int q = filasB.inicio(k); q < filasB.inicio(k + 1); q++) {
+                var j = indices[q];
+
+                if (marcas[j] != marca) {
+                    marcas[j] = marca;
+                    tocadas[cantidad++] = j;
+                }
+
+                acumulado[j] = Math.addExact(acumulado[j], Math.multiplyExact(factor, valores[q]));
+            }
+        } else {
+            for (int j = 0; j < acumulado.length; j++) {
+                var valor = b.getLong(k, j);
+
+                if (valor != 0) {
+                    if (marcas[j] != marca) {
+                        marcas[j] = marca;
+                        tocadas[cantidad++] = j;
+                    }
+
+                    acumulado[j] = Math.addExact(acumulado[j], Math.multiplyExact(factor, valor));
+                }
+            }
+        }
+
+        return cantidad;
+    }
+}
@@ -0,0 +1,24 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Orden en el que se organizan los elementos.
+ */
+public enum Orden {
+    /**
+     * De menor a mayor.
+     */
+    ASCENDENTE,
+
+    /**
+     * De mayor a menor.
+     */
+    DESCENDENTE
+}
@@ -0,0 +1,465 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoDisperso;
+import co.edu.unicartagena.Almacenamiento.TipoElemento;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Clase con los algoritmos para ordenar vectores de enteros, secuencias y los triángulos de una matriz cuadrada.
+ * <p>
+ * Si el rango de valores es pequeño (como los valores entre 25 y 75 de la opción de ordenar) se usa ordenamiento
+ * por conteo, que es O(n + k); en otro caso se usa {@link Arrays#sort(int[], int, int)}, que es O(n log n).
+ * <p>
+ * Los algoritmos comparan y cuentan valores {@code int}, por lo que no se ordenan matrices con celdas
+ * {@link TipoElemento#LONG}.
+ */
+public final class Ordenador {
+    /**
+     * Tamaño máximo del rango de valores para usar ordenamiento por conteo sin importar la cantidad de datos.
+     */
+    static final int RANGO_CONTEO = 1 << 16;
+
+    private Ordenador() {
+    }
+
+    /**
+     * Ordena un vector de enteros.
+     *
+     * @param datos Vector a ordenar.
+     * @param orden Orden deseado.
+     */
+    public static void ordenar(int[] datos, Orden orden) {
+        ordenar(datos, 0, datos.length, orden);
+    }
+
+    /**
+     * Ordena el rango {@code [desde, hasta)} de un vector de enteros.
+     *
+     * @param datos Vector a ordenar.
+     * @param desde Primera posición del rango.
+     * @param hasta Posición siguiente a la última del rango.
+     * @param orden Orden deseado.
+     */
+    public static void ordenar(int[] datos, int desde, int hasta, Orden orden) {
+        if (hasta - desde < 2) {
+            return;
+        }
+
+        var min = Integer.MAX_VALUE;
+        var max = Integer.MIN_VALUE;
+
+        for (int i = desde; i < hasta; i++) {
+            min = Math.min(min, datos[i]);
+            max = Math.max(max, datos[i]);
+        }
+
+        var rango = (long) max - min + 1;
+
+        if (usarConteo(rango, hasta - desde)) {
+            ordenarPorConteo(datos, desde, hasta, min, (int) rango, orden);
+            return;
+        }
+
+        Arrays.sort(datos, desde, hasta);
+
+        if (orden == Orden.DESCENDENTE) {
+            invertir(datos, desde, hasta);
+        }
+    }
+
+    /**
+     * Indica si conviene ordenar por conteo un conjunto de datos.
+     *
+     * @param rango    Cantidad de valores distintos posibles ({@code max - min + 1}).
+     * @param cantidad Cantidad de datos.
+     * @return true si el vector de conteos es pequeño respecto a los datos.
+     */
+    static boolean usarConteo(long rango, int cantidad) {
+        return rango <= RANGO_CONTEO || rango <= cantidad;
+    }
+
+    private static void ordenarPorConteo(int[] datos, int desde, int hasta, int min, int rango, Orden orden) {
+        var conteos = new int[rango];
+
+        for (int i = desde; i < hasta; i++) {
+            conteos[datos[i] - min]++;
+        }
+
+        var pos = desde;
+
+        if (orden == Orden.ASCENDENTE) {
+            for (int v = 0; v < rango; v++) {
+                Arrays.fill(datos, pos, pos + conteos[v], v + min);
+                pos += conteos[v];
+            }
+        } else {
+            for (int v = rango - 1; v >= 0; v--) {
+                Arrays.fill(datos, pos, pos + conteos[v], v + min);
+                pos += conteos[v];
+            }
+        }
+    }
+
+    private static void invertir(int[] datos, int desde, int hasta) {
+        for (int i = desde, j = hasta - 1; i < j; i++, j--) {
+            var temp = datos[i];
+            datos[i] = datos[j];
+            datos[j] = temp;
+        }
+    }
+
+    /**
+     * Ordena una secuencia en el lugar, sin reservar memoria por elemento. Si el rango de valores es pequeño se usa
+     * ordenamiento por conteo; en otro caso, introsort.
+     *
+     * @param secuencia Secuencia a ordenar.
+     * @param orden     Orden deseado.
+     */
+    public static void ordenar(Secuencia secuencia, Orden orden) {
+        var tamano = secuencia.tamano();
+
+        if (tamano < 2) {
+            return;
+        }
+
+        var min = Integer.MAX_VALUE;
+        var max = Integer.MIN_VALUE;
+
+        for (int k = 0; k < tamano; k++) {
+            var valor = secuencia.get(k);
+            min = Math.min(min, valor);
+            max = Math.max(max, valor);
+        }
+
+        var rango = (long) max - min + 1;
+
+        if (rango <= RANGO_CONTEO) {
+            var conteos = new int[(int) rango];
+
+            for (int k = 0; k < tamano; k++) {
+                conteos[secuencia.get(k) - min]++;
+            }
+
+            var v = orden == Orden.ASCENDENTE ? 0 : (int) rango - 1;
+            var paso = orden == Orden.ASCENDENTE ? 1 : -1;
+
+            for (int k = 0; k < tamano; k++) {
+                while (conteos[v] == 0) {
+                    v += paso;
+                }
+
+                conteos[v]--;
+                secuencia.set(k, v + min);
+            }
+
+            return;
+        }
+
+        ordenarComparando(secuencia, orden == Orden.ASCENDENTE);
+    }
+
+    /**
+     * Introsort sobre el rango {@code [desde, hasta)} de la secuencia: quicksort con mediana de tres, que recorre
+     * los datos de forma secuencial, heapsort si la recursión se vuelve muy profunda e inserción para rangos
+     * pequeños.
+     */
+    private static void introsort(Secuencia secuencia, int desde, int hasta, int profundidad, boolean ascendente) {
+        while (hasta - desde > 16) {
+            if (profundidad-- == 0) {
+                heapsort(secuencia, desde, hasta, ascendente);
+                return;
+            }
+
+            var medio = (desde + hasta) >>> 1;
+            var pivote = mediana(secuencia.get(desde), secuencia.get(medio), secuencia.get(hasta - 1));
+
+            // Partición de Hoare
+            var i = desde - 1;
+            var j = hasta;
+
+            while (true) {
+                do {
+                    i++;
+                } while (antes(secuencia.get(i), pivote, ascendente));
+
+                do {
+                    j--;
+                } while (antes(pivote, secuencia.get(j), ascendente));
+
+                if (i >= j) {
+                    break;
+                }
+
+                intercambiar(secuencia, i, j);
+            }
+
+            // Ordenar primero la parte más pequeña para limitar la pila
+            if (j + 1 - desde < hasta - j - 1) {
+                introsort(secuencia, desde, j + 1, profundidad, ascendente);
+                desde = j + 1;
+            } else {
+                introsort(secuencia, j + 1, hasta, profundidad, ascendente);
+                hasta = j + 1;
+            }
+        }
+
+        for (int k = desde + 1; k < hasta; k++) {
+            var valor = secuencia.get(k);
+            var m = k - 1;
+
+            while (m >= desde && antes(valor, secuencia.get(m), ascendente)) {
+                secuencia.set(m + 1, secuencia.get(m));
+                m--;
+            }
+
+            secuencia.set(m + 1, valor);
+        }
+    }
+
+    private static boolean antes(int a, int b, boolean ascendente) {
+        return ascendente ? a < b : a > b;
+    }
+
+    private static int mediana(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void intercambiar(Secuencia secuencia, int i, int j) {
+        var temp = secuencia.get(i);
+        secuencia.set(i, secuencia.get(j));
+        secuencia.set(j, temp);
+    }
+
+    private static void heapsort(Secuencia secuencia, int desde, int hasta, boolean ascendente) {
+        var tamano = hasta - desde;
+
+        for (int k = tamano / 2 - 1; k >= 0; k--) {
+            hundir(secuencia, desde, k, tamano, ascendente);
+        }
+
+        for (int fin = tamano - 1; fin > 0; fin--) {
+            intercambiar(secuencia, desde, desde + fin);
+            hundir(secuencia, desde, 0, fin, ascendente);
+        }
+    }
+
+    /**
+     * Hunde el elemento en la posición {@code k} del montículo {@code [0, tamano)}, que empieza en la posición
+     * {@code base} de la secuencia. Para orden ascendente el montículo es de máximos y para orden descendente,
+     * de mínimos.
+     */
+    private static void hundir(Secuencia secuencia, int base, int k, int tamano, boolean ascendente) {
+        var valor = secuencia.get(base + k);
+
+        while (2 * k + 1 < tamano) {
+            var hijo = 2 * k + 1;
+            var valorHijo = secuencia.get(base + hijo);
+
+            if (hijo + 1 < tamano) {
+                var otro = secuencia.get(base + hijo + 1);
+
+                if (antes(valorHijo, otro, ascendente)) {
+                    hijo++;
+                    valorHijo = otro;
+                }
+            }
+
+            if (!antes(valor, valorHijo, ascendente)) {
+                break;
+            }
+
+            secuencia.set(base + k, valorHijo);
+            k = hijo;
+        }
+
+        secuencia.set(base + k, valor);
+    }
+
+    private static void ordenarComparando(Secuencia secuencia, boolean ascendente) {
+        var tamano = secuencia.tamano();
+        var profundidad = 2 * (32 - Integer.numberOfLeadingZeros(tamano));
+
+        introsort(secuencia, 0, tamano, profundidad, ascendente);
+    }
+
+    /**
+     * Ordena los elementos de un triángulo de la matriz en el lugar. Los elementos ordenados se escriben en el
+     * triángulo recorriéndolo por filas, de izquierda a derecha.
+     * <p>
+     * No se reserva memoria por elemento: si el rango de valores es pequeño se cuentan los valores recorriendo el
+     * triángulo y luego se reescribe; en otro caso se aplica introsort sobre {@link SecuenciaTriangulo}.
+     *
+     * @param matriz    Almacenamiento de una matriz cuadrada.
+     * @param triangulo Triángulo a ordenar.
+     * @param orden     Orden deseado.
+     * @throws UnsupportedOperationException Si las celdas de la matriz son {@link TipoElemento#LONG}.
+     */
+    public static void ordenarTriangulo(Almacenamiento matriz, Triangulo triangulo, Orden orden)
+            throws UnsupportedOperationException {
+        comprobarTipo(matriz);
+        ordenarTriangulo(matriz, triangulo, orden, Long.MAX_VALUE);
+    }
+
+    private static void comprobarTipo(Almacenamiento matriz) throws UnsupportedOperationException {
+        if (TipoElemento.de(matriz) == TipoElemento.LONG) {
+            throw new UnsupportedOperationException("No se pueden ordenar matrices con celdas long.");
+        }
+    }
+
+    /**
+     * Ordena los elementos de un triángulo. Si el rango de valores es amplio y el triángulo tiene al menos
+     * {@code umbral} elementos, se copian a un vector y se ordenan con {@link Arrays#parallelSort(int[])}.
+     */
+    private static void ordenarTriangulo(Almacenamiento matriz, Triangulo triangulo, Orden orden, long umbral) {
+        var n = matriz.filas();
+        var min = Integer.MAX_VALUE;
+        var max = Integer.MIN_VALUE;
+
+        for (int i = 0; i < n; i++) {
+            var desde = triangulo == Triangulo.SUPERIOR ? i + 1 : 0;
+            var hasta = triangulo == Triangulo.SUPERIOR ? n : i;
+
+            for (int j = desde; j < hasta; j++) {
+                var valor = matriz.get(i, j);
+                min = Math.min(min, valor);
+                max = Math.max(max, valor);
+            }
+        }
+
+        var rango = (long) max - min + 1;
+
+        if (rango > RANGO_CONTEO && Triangulo.tamano(n) >= umbral) {
+            var datos = extraer(matriz, triangulo);
+            Arrays.parallelSort(datos);
+
+            if (orden == Orden.DESCENDENTE) {
+                invertir(datos, 0, datos.length);
+            }
+
+            escribir(matriz, triangulo, datos);
+            return;
+        }
+
+        if (rango > RANGO_CONTEO) {
+            ordenarComparando(new SecuenciaTriangulo(matriz, triangulo), orden == Orden.ASCENDENTE);
+            return;
+        }
+
+        var conteos = new int[(int) rango];
+
+        for (int i = 0; i < n; i++) {
+            var desde = triangulo == Triangulo.SUPERIOR ? i + 1 : 0;
+            var hasta = triangulo == Triangulo.SUPERIOR ? n : i;
+
+            for (int j = desde; j < hasta; j++) {
+                conteos[matriz.get(i, j) - min]++;
+            }
+        }
+
+        var v = orden == Orden.ASCENDENTE ? 0 : (int) rango - 1;
+        var paso = orden == Orden.ASCENDENTE ? 1 : -1;
+
+        for (int i = 0; i < n; i++) {
+            var desde = triangulo == Triangulo.SUPERIOR ? i + 1 : 0;
+            var hasta = triangulo == Triangulo.SUPERIOR ? n : i;
+
+            for (int j = desde; j < hasta; j++) {
+                while (conteos[v] == 0) {
+                    v += paso;
+                }
+
+                conteos[v]--;
+                matriz.set(i, j, v + min);
+            }
+        }
+    }
+
+    /**
+     * Ordena los dos triángulos de la matriz al mismo tiempo, uno en cada tarea del pool. Cada triángulo con al
+     * menos {@code umbral} elementos y un rango de valores amplio se copia a un vector y se ordena con
+     * {@link Arrays#parallelSort(int[])}; los demás se ordenan en el lugar con
+     * {@link #ordenarTriangulo(Almacenamiento, Triangulo, Orden)}.
+     * <p>
+     * Un {@link AlmacenamientoDisperso} no admite escrituras desde varios hilos, por lo que sus triángulos se
+     * ordenan uno después del otro.
+     *
+     * @param matriz        Almacenamiento de una matriz cuadrada.
+     * @param ordenInferior Orden del triángulo inferior.
+     * @param ordenSuperior Orden del triángulo superior.
+     * @param pool          Pool donde se ejecutan las tareas.
+     * @param umbral        Número mínimo de elementos de un triángulo para ordenarlo en paralelo.
+     * @throws UnsupportedOperationException Si las celdas de la matriz son {@link TipoElemento#LONG}.
+     */
+    public static void ordenarTriangulosParalelo(Almacenamiento matriz, Orden ordenInferior, Orden ordenSuperior,
+                                                 ForkJoinPool pool, long umbral) throws UnsupportedOperationException {
+        comprobarTipo(matriz);
+
+        if (matriz instanceof AlmacenamientoDisperso) {
+            ordenarTriangulo(matriz, Triangulo.INFERIOR, ordenInferior, umbral);
+            ordenarTriangulo(matriz, Triangulo.SUPERIOR, ordenSuperior, umbral);
+            return;
+        }
+
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(
+                ForkJoinTask.adapt(() -> ordenarTriangulo(matriz, Triangulo.INFERIOR, ordenInferior, umbral)),
+                ForkJoinTask.adapt(() -> ordenarTriangulo(matriz, Triangulo.SUPERIOR, ordenSuperior, umbral))
+        )));
+    }
+
+    /**
+     * Copia los elementos de un triángulo de la matriz a un vector, recorriéndolo por filas.
+     *
+     * @param matriz    Almacenamiento de una matriz cuadrada.
+     * @param triangulo Triángulo a copiar.
+     * @return Vector con los elementos del triángulo.
+     */
+    public static int[] extraer(Almacenamiento matriz, Triangulo triangulo) {
+        var n = matriz.filas();
+        var datos = new int[Triangulo.tamano(n)];
+        var k = 0;
+
+        for (int i = 0; i < n; i++) {
+            var desde = triangulo == Triangulo.SUPERIOR ? i + 1 : 0;
+            var hasta = triangulo == Triangulo.SUPERIOR ? n : i;
+
+            for (int j = desde; j < hasta; j++) {
+                datos[k++] = matriz.get(i, j);
+            }
+        }
+
+        return datos;
+    }
+
+    /**
+     * Escribe los elementos de un vector en un triángulo de la matriz, recorriéndolo por filas.
+     *
+     * @param matriz    Almacenamiento de una matriz cuadrada.
+     * @param triangulo Triángulo a modificar.
+     * @param datos     Vector con los elementos del triángulo.
+     */
+    public static void escribir(Almacenamiento matriz, Triangulo triangulo, int[] datos) {
+        var n = matriz.filas();
+        var k = 0;
+
+        for (int i = 0; i < n; i++) {
+            var desde = triangulo == Triangulo.SUPERIOR ? i + 1 : 0;
+            var hasta = triangulo == Triangulo.SUPERIOR ? n : i;
+
+            for (int j = desde; j < hasta; j++) {
+                matriz.set(i, j, datos[k++]);
+            }
+        }
+    }
+}
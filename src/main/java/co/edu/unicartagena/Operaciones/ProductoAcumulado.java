@@ -0,0 +1,139 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Producto de un multiconjunto de enteros que admite agregar y quitar factores en tiempo constante.
+ * <p>
+ * El resultado es el mismo {@code long} que se obtiene multiplicando los factores con {@code *=}, es decir,
+ * módulo 2<sup>64</sup>. Cada factor distinto de cero se descompone en una potencia de dos y una parte impar; los
+ * impares son invertibles módulo 2<sup>64</sup>, por lo que quitar un factor consiste en multiplicar por el
+ * inverso de su parte impar y restar su potencia de dos. Los ceros solo se cuentan.
+ * <p>
+ * También se lleva la suma de las longitudes en bits de los factores, que acota el valor absoluto del producto
+ * real; mientras no supere 63 bits, el resultado módulo 2<sup>64</sup> es el producto exacto.
+ */
+public final class ProductoAcumulado {
+    /**
+     * Número de factores iguales a cero.
+     */
+    private int ceros;
+
+    /**
+     * Suma de los exponentes de dos de los factores distintos de cero.
+     */
+    private long dos;
+
+    /**
+     * Producto de las partes impares de los factores distintos de cero, módulo 2<sup>64</sup>.
+     */
+    private long impar = 1;
+
+    /**
+     * Suma de las longitudes en bits de los valores absolutos de los factores distintos de cero.
+     */
+    private long bits;
+
+    /**
+     * Agrega un factor al producto.
+     *
+     * @param factor Factor a agregar.
+     */
+    public void agregar(long factor) {
+        if (factor == 0) {
+            ceros++;
+            return;
+        }
+
+        var exponente = Long.numberOfTrailingZeros(factor);
+        dos += exponente;
+        bits += longitud(factor);
+        impar *= factor >> exponente;
+    }
+
+    /**
+     * Quita un factor que fue agregado antes.
+     *
+     * @param factor Factor a quitar.
+     */
+    public void quitar(long factor) {
+        if (factor == 0) {
+            ceros--;
+            return;
+        }
+
+        var exponente = Long.numberOfTrailingZeros(factor);
+        dos -= exponente;
+        bits -= longitud(factor);
+        impar *= inverso(factor >> exponente);
+    }
+
+    /**
+     * Reemplaza un factor por otro.
+     *
+     * @param anterior Factor a quitar.
+     * @param nuevo    Factor a agregar.
+     */
+    public void reemplazar(long anterior, long nuevo) {
+        if (anterior != nuevo) {
+            quitar(anterior);
+            agregar(nuevo);
+        }
+    }
+
+    /**
+     * Vuelve al producto vacío, igual a uno.
+     */
+    public void reiniciar() {
+        ceros = 0;
+        dos = 0;
+        impar = 1;
+        bits = 0;
+    }
+
+    /**
+     * Obtiene el producto de los factores módulo 2<sup>64</sup>.
+     *
+     * @return Producto de los factores.
+     */
+    public long valor() {
+        return ceros > 0 || dos >= Long.SIZE ? 0 : impar << dos;
+    }
+
+    /**
+     * Indica si {@link #valor()} es el producto exacto de los factores, es decir, si el producto cabe en un
+     * {@code long}. Puede responder {@code false} para algunos productos que sí caben, pero nunca al revés.
+     *
+     * @return true si el producto es exacto.
+     */
+    public boolean esExacto() {
+        return ceros > 0 || bits < Long.SIZE;
+    }
+
+    /**
+     * Obtiene la longitud en bits del valor absoluto de un factor.
+     */
+    private static int longitud(long factor) {
+        return Long.SIZE - Long.numberOfLeadingZeros(Math.abs(factor));
+    }
+
+    /**
+     * Calcula el inverso de un número impar módulo 2<sup>64</sup> con el método de Newton: cada iteración
+     * duplica los bits correctos, y {@code x} ya es su propio inverso en los tres bits inferiores.
+     */
+    private static long inverso(long x) {
+        var y = x;
+
+        for (int i = 0; i < 5; i++) {
+            y *= 2 - x * y;
+        }
+
+        return y;
+    }
+}
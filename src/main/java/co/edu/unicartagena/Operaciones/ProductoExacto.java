@@ -0,0 +1,143 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Producto exacto de los elementos de una {@link Secuencia}, sin desbordamiento.
+ * <p>
+ * Los factores se multiplican en un {@code long} mientras el resultado quepa, comprobándolo igual que
+ * {@link Math#multiplyExact(long, long)} pero sin lanzar excepciones; solo cuando no cabe, el acumulado pasa a un
+ * {@link BigInteger}. Los tramos de la secuencia se combinan en forma de árbol, de modo que los números grandes
+ * se multiplican entre sí con tamaños parecidos en lugar de en una cadena, y las ramas del árbol pueden
+ * ejecutarse en paralelo.
+ */
+public final class ProductoExacto {
+    /**
+     * Número de factores a partir del cual {@link #multiplicar(Secuencia, ForkJoinPool, int)} reparte el trabajo
+     * en el pool.
+     */
+    public static final int UMBRAL_PARALELO = 1 << 14;
+
+    /**
+     * Número de factores de un tramo que se multiplica en cadena.
+     */
+    static final int HOJA = 1 << 9;
+
+    private ProductoExacto() {
+    }
+
+    /**
+     * Calcula el producto exacto de los elementos de la secuencia en el hilo actual. El producto de una
+     * secuencia vacía es uno.
+     *
+     * @param secuencia Secuencia de factores.
+     * @return Producto exacto.
+     */
+    public static BigInteger multiplicar(Secuencia secuencia) {
+        return multiplicar(secuencia, 0, secuencia.tamano());
+    }
+
+    /**
+     * Calcula el producto exacto de los elementos de la secuencia, en paralelo si tiene al menos {@code umbral}
+     * elementos. La secuencia se lee desde varios hilos, por lo que no debe modificarse mientras tanto.
+     *
+     * @param secuencia Secuencia de factores.
+     * @param pool      Pool donde se ejecutan las tareas paralelas.
+     * @param umbral    Número mínimo de elementos para usar el algoritmo paralelo.
+     * @return Producto exacto.
+     */
+    public static BigInteger multiplicar(Secuencia secuencia, ForkJoinPool pool, int umbral) {
+        if (secuencia.tamano() < umbral || pool.getParallelism() == 1) {
+            return multiplicar(secuencia);
+        }
+
+        return pool.invoke(new TareaProducto(secuencia, 0, secuencia.tamano()));
+    }
+
+    /**
+     * Multiplica los elementos {@code [desde, hasta)} dividiendo el rango en dos mitades hasta llegar a tramos
+     * de {@link #HOJA} elementos.
+     */
+    private static BigInteger multiplicar(Secuencia secuencia, int desde, int hasta) {
+        if (hasta - desde <= HOJA) {
+            return multiplicarTramo(secuencia, desde, hasta);
+        }
+
+        var medio = (desde + hasta) >>> 1;
+        var izquierda = multiplicar(secuencia, desde, medio);
+
+        if (izquierda.signum() == 0) {
+            return BigInteger.ZERO;
+        }
+
+        return izquierda.multiply(multiplicar(secuencia, medio, hasta));
+    }
+
+    /**
+     * Multiplica en cadena los elementos {@code [desde, hasta)}, acumulando en un {@code long} mientras quepa.
+     */
+    private static BigInteger multiplicarTramo(Secuencia secuencia, int desde, int hasta) {
+        BigInteger grande = null;
+        long parcial = 1;
+
+        for (int k = desde; k < hasta; k++) {
+            var factor = secuencia.getLong(k);
+
+            if (factor == 0) {
+                return BigInteger.ZERO;
+            }
+
+            var bajo = parcial * factor;
+
+            // Hay desbordamiento si la parte alta no es la extensión de signo de la parte baja
+            if (Math.multiplyHigh(parcial, factor) == bajo >> 63) {
+                parcial = bajo;
+            } else {
+                grande = grande == null ? BigInteger.valueOf(parcial) : grande.multiply(BigInteger.valueOf(parcial));
+                parcial = factor;
+            }
+        }
+
+        return grande == null ? BigInteger.valueOf(parcial) : grande.multiply(BigInteger.valueOf(parcial));
+    }
+
+    /**
+     * Tarea que multiplica un rango de la secuencia, dividiéndolo en dos mitades mientras sea más grande que
+     * {@link #UMBRAL_PARALELO}.
+     */
+    private static final class TareaProducto extends RecursiveTask<BigInteger> {
+        private final Secuencia secuencia;
+        private final int desde;
+        private final int hasta;
+
+        TareaProducto(Secuencia secuencia, int desde, int hasta) {
+            this.secuencia = secuencia;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            if (hasta - desde <= UMBRAL_PARALELO) {
+                return multiplicar(secuencia, desde, hasta);
+            }
+
+            var medio = (desde + hasta) >>> 1;
+            var izquierda = new TareaProducto(secuencia, desde, medio);
+            izquierda.fork();
+
+            var derecha = new TareaProducto(secuencia, medio, hasta).compute();
+            return izquierda.join().multiply(derecha);
+        }
+    }
+}
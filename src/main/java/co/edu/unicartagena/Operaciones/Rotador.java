@@ -0,0 +1,172 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+
+/**
+ * Clase con los algoritmos para desplazar los anillos de una matriz cuadrada.
+ * <p>
+ * Las celdas de un anillo se numeran en sentido horario desde su esquina superior izquierda: primero el lado
+ * superior, luego el derecho, el inferior y el izquierdo, sin repetir las esquinas. Desplazar un anillo
+ * {@code s} pasos a la derecha mueve el elemento de la posición {@code t} a la posición {@code t + s}; un
+ * desplazamiento de un lado completo equivale a rotar 90 grados.
+ */
+public final class Rotador {
+
+    private Rotador() {
+    }
+
+    /**
+     * Obtiene el número de anillos de una matriz de tamaño {@code n x n}.
+     *
+     * @param n Tamaño de la matriz.
+     * @return Número de anillos, incluyendo la celda central si {@code n} es impar.
+     */
+    public static int anillos(int n) {
+        return (n + 1) / 2;
+    }
+
+    /**
+     * Obtiene el número de celdas de un anillo.
+     *
+     * @param n      Tamaño de la matriz.
+     * @param anillo Anillo (desde 1).
+     * @return Número de celdas del anillo.
+     */
+    public static int perimetro(int n, int anillo) {
+        var lado = n - 2 * anillo + 1;
+        return lado == 0 ? 1 : 4 * lado;
+    }
+
+    /**
+     * Obtiene el anillo al que pertenece una celda.
+     *
+     * @param n       Tamaño de la matriz.
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return Anillo de la celda (desde 1).
+     */
+    public static int anillo(int n, int fila, int columna) {
+        return Math.min(Math.min(fila, columna), Math.min(n - 1 - fila, n - 1 - columna)) + 1;
+    }
+
+    /**
+     * Obtiene la posición de una celda dentro de su anillo.
+     *
+     * @param n       Tamaño de la matriz.
+     * @param anillo  Anillo de la celda (desde 1).
+     * @param fila    Índice de la fila.
+     * @param columna Índice de la columna.
+     * @return Posición de la celda dentro del anillo.
+     */
+    public static int posicion(int n, int anillo, int fila, int columna) {
+        var inicio = anillo - 1;
+        var fin = n - anillo;
+        var lado = fin - inicio;
+
+        if (fila == inicio && columna < fin) {
+            return columna - inicio;
+        } else if (columna == fin && fila < fin) {
+            return lado + fila - inicio;
+        } else if (fila == fin && columna > inicio) {
+            return 2 * lado + fin - columna;
+        }
+
+        return 3 * lado + fin - fila;
+    }
+
+    /**
+     * Desplaza los elementos de un anillo en sentido horario, en el lugar y sin reservar memoria.
+     *
+     * @param matriz Almacenamiento de una matriz cuadrada.
+     * @param anillo Anillo a desplazar (desde 1).
+     * @param pasos  Número de posiciones; si es negativo el desplazamiento es antihorario.
+     * @throws IllegalArgumentException Si el anillo no existe en la matriz.
+     */
+    public static void desplazarAnillo(Almacenamiento matriz, int anillo, int pasos) throws IllegalArgumentException {
+        var n = matriz.filas();
+
+        if (anillo < 1 || anillo > anillos(n)) {
+            throw new IllegalArgumentException("Anillo no válido: %d. Debe estar entre 1 y %d."
+                    .formatted(anillo, anillos(n)));
+        }
+
+        var perimetro = perimetro(n, anillo);
+        var s = Math.floorMod(pasos, perimetro);
+
+        if (s == 0) {
+            return;
+        }
+
+        // Rotar a la derecha s posiciones: invertir todo, luego los primeros s y luego el resto
+        invertir(matriz, anillo, 0, perimetro);
+        invertir(matriz, anillo, 0, s);
+        invertir(matriz, anillo, s, perimetro);
+    }
+
+    /**
+     * Invierte las posiciones {@code [desde, hasta)} de un anillo.
+     */
+    private static void invertir(Almacenamiento matriz, int anillo, int desde, int hasta) {
+        for (int a = desde, b = hasta - 1; a < b; a++, b--) {
+            var temp = leer(matriz, anillo, a);
+            escribir(matriz, anillo, a, leer(matriz, anillo, b));
+            escribir(matriz, anillo, b, temp);
+        }
+    }
+
+    /**
+     * Obtiene el elemento en la posición {@code t} de un anillo.
+     *
+     * @param matriz Almacenamiento de una matriz cuadrada.
+     * @param anillo Anillo (desde 1).
+     * @param t      Posición dentro del anillo.
+     * @return Valor de la celda, leído con {@link Almacenamiento#getLong(int, int)}.
+     */
+    public static long leer(Almacenamiento matriz, int anillo, int t) {
+        var inicio = anillo - 1;
+        var fin = matriz.filas() - anillo;
+        var lado = fin - inicio;
+
+        if (t < lado) {
+            return matriz.getLong(inicio, inicio + t);
+        } else if (t < 2 * lado) {
+            return matriz.getLong(inicio + t - lado, fin);
+        } else if (t < 3 * lado) {
+            return matriz.getLong(fin, fin - (t - 2 * lado));
+        }
+
+        return matriz.getLong(fin - (t - 3 * lado), inicio);
+    }
+
+    /**
+     * Modifica el elemento en la posición {@code t} de un anillo.
+     *
+     * @param matriz Almacenamiento de una matriz cuadrada.
+     * @param anillo Anillo (desde 1).
+     * @param t      Posición dentro del anillo.
+     * @param valor  Nuevo valor de la celda.
+     */
+    public static void escribir(Almacenamiento matriz, int anillo, int t, long valor) {
+        var inicio = anillo - 1;
+        var fin = matriz.filas() - anillo;
+        var lado = fin - inicio;
+
+        if (t < lado) {
+            matriz.setLong(inicio, inicio + t, valor);
+        } else if (t < 2 * lado) {
+            matriz.setLong(inicio + t - lado, fin, valor);
+        } else if (t < 3 * lado) {
+            matriz.setLong(fin, fin - (t - 2 * lado), valor);
+        } else {
+            matriz.setLong(fin - (t - 3 * lado), inicio, valor);
+        }
+    }
+}
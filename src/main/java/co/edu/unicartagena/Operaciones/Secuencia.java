@@ -0,0 +1,67 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Interfaz para representar una secuencia de celdas de una matriz a la que se accede por posición, sin copiar
+ * los datos.
+ */
+public interface Secuencia {
+
+    /**
+     * Obtiene el número de elementos de la secuencia.
+     *
+     * @return Número de elementos.
+     */
+    int tamano();
+
+    /**
+     * Obtiene el elemento en una posición de la secuencia.
+     *
+     * @param k Posición del elemento.
+     * @return Valor del elemento.
+     */
+    int get(int k);
+
+    /**
+     * Modifica el elemento en una posición de la secuencia.
+     *
+     * @param k     Posición del elemento.
+     * @param valor Nuevo valor del elemento.
+     */
+    void set(int k, int valor);
+
+    /**
+     * Obtiene el elemento en una posición de la secuencia como {@code long}. Las secuencias sobre matrices que
+     * pueden guardar valores fuera del rango de un {@code int} lo sobrescriben; en las demás equivale a
+     * {@link #get(int)}.
+     *
+     * @param k Posición del elemento.
+     * @return Valor del elemento.
+     */
+    default long getLong(int k) {
+        return get(k);
+    }
+
+    /**
+     * Modifica el elemento en una posición de la secuencia a partir de un {@code long}. Por defecto el valor debe
+     * caber en un {@code int}.
+     *
+     * @param k     Posición del elemento.
+     * @param valor Nuevo valor del elemento.
+     * @throws IllegalArgumentException Si el valor no cabe en las celdas de la secuencia.
+     */
+    default void setLong(int k, long valor) throws IllegalArgumentException {
+        if (valor != (int) valor) {
+            throw new IllegalArgumentException("El valor %d no cabe en un int.".formatted(valor));
+        }
+
+        set(k, (int) valor);
+    }
+}
@@ -0,0 +1,104 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+
+import java.util.Objects;
+
+/**
+ * Secuencia con las celdas de un anillo de una matriz cuadrada, en sentido horario desde la esquina superior
+ * izquierda, en el mismo orden que usa {@link Rotador}.
+ */
+public class SecuenciaAnillo implements SecuenciaCeldas {
+    private final Almacenamiento matriz;
+    private final int anillo;
+    private final int tamano;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param matriz Almacenamiento de una matriz cuadrada.
+     * @param anillo Anillo a recorrer (desde 1).
+     * @throws IllegalArgumentException Si el anillo no existe en la matriz.
+     */
+    public SecuenciaAnillo(Almacenamiento matriz, int anillo) throws IllegalArgumentException {
+        var n = matriz.filas();
+
+        if (anillo < 1 || anillo > Rotador.anillos(n)) {
+            throw new IllegalArgumentException("Anillo no válido: %d. Debe estar entre 1 y %d."
+                    .formatted(anillo, Rotador.anillos(n)));
+        }
+
+        this.matriz = matriz;
+        this.anillo = anillo;
+        this.tamano = Rotador.perimetro(n, anillo);
+    }
+
+    @Override
+    public int tamano() {
+        return tamano;
+    }
+
+    @Override
+    public int get(int k) {
+        return Math.toIntExact(getLong(k));
+    }
+
+    @Override
+    public void set(int k, int valor) {
+        Rotador.escribir(matriz, anillo, Objects.checkIndex(k, tamano), valor);
+    }
+
+    @Override
+    public long getLong(int k) {
+        return Rotador.leer(matriz, anillo, Objects.checkIndex(k, tamano));
+    }
+
+    @Override
+    public void setLong(int k, long valor) {
+        Rotador.escribir(matriz, anillo, Objects.checkIndex(k, tamano), valor);
+    }
+
+    @Override
+    public int fila(int k) {
+        var inicio = anillo - 1;
+        var fin = matriz.filas() - anillo;
+        var lado = fin - inicio;
+        Objects.checkIndex(k, tamano);
+
+        if (k < lado) {
+            return inicio;
+        } else if (k < 2 * lado) {
+            return inicio + k - lado;
+        } else if (k < 3 * lado) {
+            return fin;
+        }
+
+        return fin - (k - 3 * lado);
+    }
+
+    @Override
+    public int columna(int k) {
+        var inicio = anillo - 1;
+        var fin = matriz.filas() - anillo;
+        var lado = fin - inicio;
+        Objects.checkIndex(k, tamano);
+
+        if (k < lado) {
+            return inicio + k;
+        } else if (k < 2 * lado) {
+            return fin;
+        } else if (k < 3 * lado) {
+            return fin - (k - 2 * lado);
+        }
+
+        return inicio;
+    }
+}
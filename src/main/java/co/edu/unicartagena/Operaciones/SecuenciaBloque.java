@@ -0,0 +1,100 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+
+import java.util.Objects;
+
+/**
+ * Secuencia con todas las celdas de un almacenamiento, recorrido por filas de izquierda a derecha. Junto con
+ * {@link Almacenamiento#subVista(int, int, int, int)} permite tratar un bloque rectangular como una secuencia.
+ * Sobre un {@link AlmacenamientoPlano} se accede directamente al vector de datos.
+ */
+public class SecuenciaBloque implements SecuenciaCeldas {
+    private final Almacenamiento matriz;
+    private final int columnas;
+    private final int tamano;
+
+    /**
+     * Almacenamiento plano, o {@code null} si el almacenamiento es de otro tipo.
+     */
+    private final AlmacenamientoPlano plano;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param matriz Almacenamiento a recorrer.
+     * @throws IllegalArgumentException Si el almacenamiento tiene más de {@code Integer.MAX_VALUE} celdas.
+     */
+    public SecuenciaBloque(Almacenamiento matriz) throws IllegalArgumentException {
+        if (matriz.celdas() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Una secuencia no puede tener %d elementos.".formatted(matriz.celdas()));
+        }
+
+        this.matriz = matriz;
+        this.columnas = matriz.columnas();
+        this.tamano = (int) matriz.celdas();
+        this.plano = matriz instanceof AlmacenamientoPlano p ? p : null;
+    }
+
+    @Override
+    public int tamano() {
+        return tamano;
+    }
+
+    @Override
+    public int get(int k) {
+        Objects.checkIndex(k, tamano);
+        var fila = k / columnas;
+        var columna = k - fila * columnas;
+
+        return plano != null
+                ? plano.datos()[plano.offset() + fila * plano.stride() + columna]
+                : matriz.get(fila, columna);
+    }
+
+    @Override
+    public void set(int k, int valor) {
+        Objects.checkIndex(k, tamano);
+        var fila = k / columnas;
+        var columna = k - fila * columnas;
+
+        if (plano != null) {
+            plano.datos()[plano.offset() + fila * plano.stride() + columna] = valor;
+        } else {
+            matriz.set(fila, columna, valor);
+        }
+    }
+
+    @Override
+    public long getLong(int k) {
+        return plano != null ? get(k) : matriz.getLong(fila(k), columna(k));
+    }
+
+    @Override
+    public void setLong(int k, long valor) {
+        if (plano != null) {
+            SecuenciaCeldas.super.setLong(k, valor);
+        } else {
+            matriz.setLong(fila(k), columna(k), valor);
+        }
+    }
+
+    @Override
+    public int fila(int k) {
+        return Objects.checkIndex(k, tamano) / columnas;
+    }
+
+    @Override
+    public int columna(int k) {
+        return Objects.checkIndex(k, tamano) % columnas;
+    }
+}
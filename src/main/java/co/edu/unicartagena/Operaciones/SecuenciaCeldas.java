@@ -0,0 +1,31 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Secuencia de celdas de una matriz que además indica en qué fila y columna está cada posición.
+ */
+public interface SecuenciaCeldas extends Secuencia {
+
+    /**
+     * Obtiene la fila de la celda en una posición de la secuencia.
+     *
+     * @param k Posición del elemento.
+     * @return Índice de la fila.
+     */
+    int fila(int k);
+
+    /**
+     * Obtiene la columna de la celda en una posición de la secuencia.
+     *
+     * @param k Posición del elemento.
+     * @return Índice de la columna.
+     */
+    int columna(int k);
+}
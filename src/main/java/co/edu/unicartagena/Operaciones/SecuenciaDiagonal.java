@@ -0,0 +1,70 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+
+import java.util.Objects;
+
+/**
+ * Secuencia con las celdas de una diagonal de una matriz cuadrada, de la primera fila a la última.
+ */
+public class SecuenciaDiagonal implements SecuenciaCeldas {
+    private final Almacenamiento matriz;
+    private final Diagonal diagonal;
+    private final int n;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param matriz   Almacenamiento de una matriz cuadrada.
+     * @param diagonal Diagonal a recorrer.
+     */
+    public SecuenciaDiagonal(Almacenamiento matriz, Diagonal diagonal) {
+        this.matriz = matriz;
+        this.diagonal = diagonal;
+        this.n = matriz.filas();
+    }
+
+    @Override
+    public int tamano() {
+        return n;
+    }
+
+    @Override
+    public int get(int k) {
+        return matriz.get(k, columna(k));
+    }
+
+    @Override
+    public void set(int k, int valor) {
+        matriz.set(k, columna(k), valor);
+    }
+
+    @Override
+    public long getLong(int k) {
+        return matriz.getLong(k, columna(k));
+    }
+
+    @Override
+    public void setLong(int k, long valor) {
+        matriz.setLong(k, columna(k), valor);
+    }
+
+    @Override
+    public int fila(int k) {
+        return Objects.checkIndex(k, n);
+    }
+
+    @Override
+    public int columna(int k) {
+        Objects.checkIndex(k, n);
+        return diagonal == Diagonal.PRINCIPAL ? k : n - 1 - k;
+    }
+}
@@ -0,0 +1,203 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+
+import java.util.Objects;
+
+/**
+ * Secuencia con los elementos de un triángulo de una matriz cuadrada, recorrido por filas de izquierda a
+ * derecha. La posición {@code k} se traduce a la celda {@code (i, j)} con aritmética de índices, sin guardar las
+ * coordenadas de cada elemento.
+ * <p>
+ * Se recuerdan las dos últimas filas consultadas, ya que los ordenamientos recorren la secuencia de forma
+ * secuencial desde ambos extremos; por eso una instancia no debe usarse desde varios hilos a la vez. Sobre un
+ * {@link AlmacenamientoPlano} se accede directamente al vector de datos.
+ */
+public class SecuenciaTriangulo implements SecuenciaCeldas {
+    private final Almacenamiento matriz;
+    private final Triangulo triangulo;
+    private final int n;
+    private final int tamano;
+
+    /**
+     * Vector de datos si el almacenamiento es plano, o {@code null} en otro caso.
+     */
+    private final int[] datos;
+
+    // Filas recordadas: posición del primer elemento, cantidad de elementos, columna del primer elemento y su
+    // posición en el vector de datos.
+    private int filaA = -1;
+    private long inicioA;
+    private int largoA;
+    private int columnaA;
+    private int baseA;
+
+    private int filaB = -1;
+    private long inicioB;
+    private int largoB;
+    private int columnaB;
+    private int baseB;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param matriz    Almacenamiento de una matriz cuadrada.
+     * @param triangulo Triángulo a recorrer.
+     */
+    public SecuenciaTriangulo(Almacenamiento matriz, Triangulo triangulo) {
+        this.matriz = matriz;
+        this.triangulo = triangulo;
+        this.n = matriz.filas();
+        this.tamano = Triangulo.tamano(n);
+        this.datos = matriz instanceof AlmacenamientoPlano plano ? plano.datos() : null;
+    }
+
+    @Override
+    public int tamano() {
+        return tamano;
+    }
+
+    @Override
+    public int get(int k) {
+        if (k - inicioA < 0 || k - inicioA >= largoA) {
+            if (k - inicioB >= 0 && k - inicioB < largoB) {
+                var desplazamiento = (int) (k - inicioB);
+                return datos != null ? datos[baseB + desplazamiento] : matriz.get(filaB, columnaB + desplazamiento);
+            }
+
+            recordar(k);
+        }
+
+        var desplazamiento = (int) (k - inicioA);
+        return datos != null ? datos[baseA + desplazamiento] : matriz.get(filaA, columnaA + desplazamiento);
+    }
+
+    @Override
+    public void set(int k, int valor) {
+        if (k - inicioA < 0 || k - inicioA >= largoA) {
+            if (k - inicioB >= 0 && k - inicioB < largoB) {
+                var desplazamiento = (int) (k - inicioB);
+
+                if (datos != null) {
+                    datos[baseB + desplazamiento] = valor;
+                } else {
+                    matriz.set(filaB, columnaB + desplazamiento, valor);
+                }
+                return;
+            }
+
+            recordar(k);
+        }
+
+        var desplazamiento = (int) (k - inicioA);
+
+        if (datos != null) {
+            datos[baseA + desplazamiento] = valor;
+        } else {
+            matriz.set(filaA, columnaA + desplazamiento, valor);
+        }
+    }
+
+    @Override
+    public long getLong(int k) {
+        return datos != null ? get(k) : matriz.getLong(fila(k), columna(k));
+    }
+
+    @Override
+    public void setLong(int k, long valor) {
+        if (datos != null) {
+            SecuenciaCeldas.super.setLong(k, valor);
+        } else {
+            matriz.setLong(fila(k), columna(k), valor);
+        }
+    }
+
+    @Override
+    public int fila(int k) {
+        if (k - inicioB >= 0 && k - inicioB < largoB) {
+            return filaB;
+        }
+
+        if (k - inicioA < 0 || k - inicioA >= largoA) {
+            recordar(k);
+        }
+
+        return filaA;
+    }
+
+    @Override
+    public int columna(int k) {
+        if (k - inicioB >= 0 && k - inicioB < largoB) {
+            return columnaB + (int) (k - inicioB);
+        }
+
+        if (k - inicioA < 0 || k - inicioA >= largoA) {
+            recordar(k);
+        }
+
+        return columnaA + (int) (k - inicioA);
+    }
+
+    /**
+     * Calcula la fila de la posición {@code k} y la guarda como fila A; la fila A anterior pasa a ser la B.
+     *
+     * @param k Posición en la secuencia.
+     */
+    private void recordar(int k) {
+        Objects.checkIndex(k, tamano);
+
+        filaB = filaA;
+        inicioB = inicioA;
+        largoB = largoA;
+        columnaB = columnaA;
+        baseB = baseA;
+
+        if (triangulo == Triangulo.INFERIOR) {
+            // La fila i tiene i elementos y empieza en i(i-1)/2
+            filaA = filaInferior(k);
+            inicioA = (long) filaA * (filaA - 1) / 2;
+            largoA = filaA;
+            columnaA = 0;
+        } else {
+            // Recorrido desde el final: la fila n-2 tiene un elemento, la n-3 tiene dos, etc.
+            var r = filaInferior(tamano - 1 - k);
+            filaA = n - 1 - r;
+            largoA = r;
+            inicioA = (long) filaA * (n - 1) - (long) filaA * (filaA - 1) / 2;
+            columnaA = filaA + 1;
+        }
+
+        if (datos != null && largoA > 0) {
+            baseA = ((AlmacenamientoPlano) matriz).indice(filaA, columnaA);
+        }
+    }
+
+    /**
+     * Obtiene la fila {@code i} tal que {@code i(i-1)/2 <= k < i(i+1)/2}.
+     *
+     * @param k Posición en el triángulo inferior.
+     * @return Fila de la posición.
+     */
+    private static int filaInferior(int k) {
+        var i = (int) ((1 + Math.sqrt(1 + 8.0 * k)) / 2);
+
+        // Corregir el posible error de redondeo de la raíz
+        while ((long) i * (i - 1) / 2 > k) {
+            i--;
+        }
+        while ((long) i * (i + 1) / 2 <= k) {
+            i++;
+        }
+
+        return i;
+    }
+}
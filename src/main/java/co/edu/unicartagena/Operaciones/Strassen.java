@@ -0,0 +1,428 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Multiplicación de matrices cuadradas con el algoritmo de Strassen.
+ * <p>
+ * Cada nivel divide los factores en cuadrantes y obtiene el producto con siete productos de la mitad del tamaño
+ * en lugar de ocho, a cambio de dieciocho sumas de cuadrantes. Cuando el lado llega al corte, los cuadrantes se
+ * multiplican con el núcleo por bloques de {@link Multiplicador}. Las matrices cuyo lado no es el corte por una
+ * potencia de dos se rellenan con ceros hasta el menor tamaño que se puede dividir: con {@code k} niveles se
+ * añaden menos de 2<sup>k</sup> filas y columnas.
+ * <p>
+ * Las sumas de cuadrantes ya no caben en un {@code int}, por lo que todo el cálculo se hace con {@code long}.
+ * Las sumas y productos de {@code long} son exactos módulo 2<sup>64</sup>, y las identidades de Strassen se
+ * cumplen en esa aritmética, así que el resultado es exacto siempre que cada elemento del producto quepa en un
+ * {@code long}. Como eso no se puede saber a partir de un resultado módulo 2<sup>64</sup>, antes de empezar se
+ * comprueba con el mayor valor absoluto de cada factor que ningún elemento pueda desbordar; si no se puede
+ * asegurar, se usa {@link Multiplicador}, que comprueba cada operación.
+ * <p>
+ * En los primeros niveles los siete productos se ejecutan como tareas del pool, cada una con su propio
+ * resultado; en los demás se calculan uno tras otro y se acumulan en el resultado, usando tres vectores
+ * auxiliares por nivel. Los vectores auxiliares se toman de una reserva de la instancia y se devuelven al
+ * terminar, de modo que ningún nivel reserva memoria una vez que la reserva tiene los tamaños necesarios, ni
+ * siquiera entre multiplicaciones sucesivas. Por eso conviene reutilizar la instancia.
+ */
+public final class Strassen {
+    /**
+     * Lado por defecto a partir del cual se deja de dividir y se usa el núcleo por bloques.
+     */
+    public static final int CORTE = 256;
+
+    /**
+     * Cuadrantes de un bloque, en el orden que usan {@link #PRODUCTOS} y {@link #APORTES}.
+     */
+    private static final int C11 = 0;
+    private static final int C12 = 1;
+    private static final int C21 = 2;
+    private static final int C22 = 3;
+
+    /**
+     * Factores de los siete productos. Cada fila indica el factor izquierdo y el derecho como
+     * {@code {cuadrante, cuadrante, signo}}: el factor es el primer cuadrante más (o menos) el segundo, o solo el
+     * primero si el signo es cero.
+     */
+    private static final int[][][] PRODUCTOS = {
+            {{C11, C22, 1}, {C11, C22, 1}},     // M1 = (A11 + A22)(B11 + B22)
+            {{C21, C22, 1}, {C11, 0, 0}},       // M2 = (A21 + A22) B11
+            {{C11, 0, 0}, {C12, C22, -1}},      // M3 = A11 (B12 - B22)
+            {{C22, 0, 0}, {C21, C11, -1}},      // M4 = A22 (B21 - B11)
+            {{C11, C12, 1}, {C22, 0, 0}},       // M5 = (A11 + A12) B22
+            {{C21, C11, -1}, {C11, C12, 1}},    // M6 = (A21 - A11)(B11 + B12)
+            {{C12, C22, -1}, {C21, C22, 1}},    // M7 = (A12 - A22)(B21 + B22)
+    };
+
+    /**
+     * Signo con que cada uno de los siete productos se suma a cada cuadrante del resultado.
+     */
+    private static final int[][] APORTES = {
+            {1, 0, 0, 1},
+            {0, 0, 1, -1},
+            {0, 1, 0, 1},
+            {1, 0, 1, 0},
+            {-1, 1, 0, 0},
+            {0, 0, 0, 1},
+            {1, 0, 0, 0},
+    };
+
+    /**
+     * Lado a partir del cual se usa el núcleo por bloques.
+     */
+    private final int corte;
+
+    /**
+     * Pool donde se ejecutan los productos de los primeros niveles.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Vectores auxiliares libres, por tamaño.
+     */
+    private final Map<Integer, Queue<long[]>> reserva = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor de la clase con el corte por defecto y el pool común.
+     */
+    public Strassen() {
+        this(CORTE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param corte Lado a partir del cual se usa el núcleo por bloques. Debe ser al menos 2.
+     * @param pool  Pool donde se ejecutan los productos en paralelo. Con paralelismo 1 todo se calcula en el hilo
+     *              que llama.
+     * @throws IllegalArgumentException Si el corte es menor que 2.
+     */
+    public Strassen(int corte, ForkJoinPool pool) throws IllegalArgumentException {
+        if (corte < 2) {
+            throw new IllegalArgumentException("El corte debe ser al menos 2: %d.".formatted(corte));
+        }
+
+        this.corte = corte;
+        this.pool = pool;
+    }
+
+    /**
+     * Multiplica dos matrices cuadradas del mismo tamaño. Si el lado no supera el corte, se usa directamente
+     * {@link Multiplicador#multiplicar(Almacenamiento, Almacenamiento, ForkJoinPool, long)}.
+     *
+     * @param a Factor izquierdo, de {@code n x n}.
+     * @param b Factor derecho, de {@code n x n}.
+     * @return Producto de {@code n x n} por filas: el elemento {@code (i, j)} está en la posición {@code i * n + j}.
+     * @throws IllegalArgumentException Si los factores no son cuadrados del mismo tamaño o el producto, con el
+     *                                  relleno, no cabe en un vector.
+     * @throws ArithmeticException      Si un elemento del producto no cabe en un {@code long}.
+     */
+    public long[] multiplicar(Almacenamiento a, Almacenamiento b) throws IllegalArgumentException, ArithmeticException {
+        var n = a.filas();
+
+        if (a.columnas() != n || b.filas() != n || b.columnas() != n) {
+            throw new IllegalArgumentException("Strassen requiere dos matrices cuadradas del mismo tamaño: %dx%d y %dx%d."
+                    .formatted(a.filas(), a.columnas(), b.filas(), b.columnas()));
+        }
+
+        // Si alguna suma del producto ordinario puede desbordar, el resultado módulo 2^64 no sería confiable
+        if (n <= corte || !Multiplicador.acotado(a, b)) {
+            return Multiplicador.multiplicar(a, b, pool, Multiplicador.UMBRAL_PARALELO);
+        }
+
+        var niveles = 0;
+        var hoja = n;
+
+        while (hoja > corte) {
+            hoja = (hoja + 1) / 2;
+            niveles++;
+        }
+
+        var lado = hoja << niveles;
+
+        if ((long) lado * lado > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Un producto de %dx%d (%dx%d con relleno) no cabe en un vector."
+                    .formatted(n, n, lado, lado));
+        }
+
+        var nivelesParalelos = 0;
+
+        for (long tareas = 1; tareas < pool.getParallelism() && nivelesParalelos < niveles; tareas *= 7) {
+            nivelesParalelos++;
+        }
+
+        var c = new long[lado * lado];
+        var tarea = new TareaProducto(rellenar(a, lado), rellenar(b, lado), new Bloque(c, 0, lado), lado,
+                nivelesParalelos);
+
+        if (nivelesParalelos == 0) {
+            tarea.compute();
+        } else {
+            pool.invoke(tarea);
+        }
+
+        if (lado == n) {
+            return c;
+        }
+
+        var producto = new long[n * n];
+
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(c, i * lado, producto, i * n, n);
+        }
+
+        return producto;
+    }
+
+    /**
+     * Descarta los vectores auxiliares guardados en la reserva.
+     */
+    public void vaciar() {
+        reserva.clear();
+    }
+
+    /**
+     * Copia un factor a un bloque de {@code lado x lado}, rellenando con ceros las filas y columnas que sobran.
+     */
+    private static Bloque rellenar(Almacenamiento matriz, int lado) {
+        var datos = new long[lado * lado];
+
+        for (int i = 0; i < matriz.filas(); i++) {
+            for (int j = 0; j < matriz.columnas(); j++) {
+                datos[i * lado + j] = matriz.getLong(i, j);
+            }
+        }
+
+        return new Bloque(datos, 0, lado);
+    }
+
+    /**
+     * Acumula en {@code c} el producto de {@code a} por {@code b}, de {@code n x n}, en el hilo actual.
+     */
+    private void acumular(Bloque a, Bloque b, Bloque c, int n) {
+        if (n <= corte) {
+            Multiplicador.acumular(a.datos(), a.inicio(), a.salto(), b.datos(), b.inicio(), b.salto(),
+                    c.datos(), c.inicio(), c.salto(), n, n, n);
+            return;
+        }
+
+        var h = n / 2;
+        var izquierdo = tomar(h * h);
+        var derecho = tomar(h * h);
+        var producto = tomar(h * h);
+
+        try {
+            for (int k = 0; k < PRODUCTOS.length; k++) {
+                Arrays.fill(producto, 0);
+                acumular(factor(a, PRODUCTOS[k][0], izquierdo, h), factor(b, PRODUCTOS[k][1], derecho, h),
+                        new Bloque(producto, 0, h), h);
+
+                for (int cuadrante = 0; cuadrante < 4; cuadrante++) {
+                    if (APORTES[k][cuadrante] != 0) {
+                        sumar(producto, APORTES[k][cuadrante], c.cuadrante(cuadrante, h), h);
+                    }
+                }
+            }
+        } finally {
+            devolver(izquierdo);
+            devolver(derecho);
+            devolver(producto);
+        }
+    }
+
+    /**
+     * Obtiene un factor de uno de los siete productos: el cuadrante indicado si el signo es cero, o la suma (o
+     * diferencia) de los dos cuadrantes escrita en {@code auxiliar}.
+     */
+    private static Bloque factor(Bloque matriz, int[] definicion, long[] auxiliar, int h) {
+        var primero = matriz.cuadrante(definicion[0], h);
+
+        if (definicion[2] == 0) {
+            return primero;
+        }
+
+        var segundo = matriz.cuadrante(definicion[1], h);
+        var negativo = definicion[2] < 0;
+
+        for (int i = 0; i < h; i++) {
+            var x = primero.inicio() + i * primero.salto();
+            var y = segundo.inicio() + i * segundo.salto();
+            var destino = i * h;
+
+            if (negativo) {
+                for (int j = 0; j < h; j++) {
+                    auxiliar[destino + j] = primero.datos()[x + j] - segundo.datos()[y + j];
+                }
+            } else {
+                for (int j = 0; j < h; j++) {
+                    auxiliar[destino + j] = primero.datos()[x + j] + segundo.datos()[y + j];
+                }
+            }
+        }
+
+        return new Bloque(auxiliar, 0, h);
+    }
+
+    /**
+     * Suma (o resta, si el signo es negativo) un producto de {@code h x h} a un cuadrante del resultado.
+     */
+    private static void sumar(long[] producto, int signo, Bloque destino, int h) {
+        var datos = destino.datos();
+
+        for (int i = 0; i < h; i++) {
+            var base = destino.inicio() + i * destino.salto();
+            var origen = i * h;
+
+            if (signo < 0) {
+                for (int j = 0; j < h; j++) {
+                    datos[base + j] -= producto[origen + j];
+                }
+            } else {
+                for (int j = 0; j < h; j++) {
+                    datos[base + j] += producto[origen + j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Toma de la reserva un vector de {@code tamano} elementos, o reserva uno nuevo si no hay. Su contenido es
+     * indefinido.
+     */
+    private long[] tomar(int tamano) {
+        var libres = reserva.get(tamano);
+        var vector = libres == null ? null : libres.poll();
+        return vector != null ? vector : new long[tamano];
+    }
+
+    /**
+     * Devuelve un vector a la reserva.
+     */
+    private void devolver(long[] vector) {
+        reserva.computeIfAbsent(vector.length, tamano -> new ConcurrentLinkedQueue<>()).offer(vector);
+    }
+
+    /**
+     * Bloque cuadrado dentro de un vector de {@code long} guardado por filas: la celda {@code (i, j)} está en
+     * {@code datos[inicio + i * salto + j]}.
+     */
+    private record Bloque(long[] datos, int inicio, int salto) {
+        /**
+         * Obtiene uno de los cuadrantes de lado {@code h}.
+         */
+        Bloque cuadrante(int cuadrante, int h) {
+            var fila = cuadrante >= C21 ? h : 0;
+            var columna = (cuadrante & 1) == 1 ? h : 0;
+            return new Bloque(datos, inicio + fila * salto + columna, salto);
+        }
+    }
+
+    /**
+     * Tarea que acumula en {@code c} el producto de {@code a} por {@code b}. Mientras queden niveles paralelos,
+     * calcula los siete productos en tareas separadas y los suma al resultado cuando terminan todos; en otro caso
+     * llama a {@link #acumular(Bloque, Bloque, Bloque, int)}.
+     */
+    private final class TareaProducto extends RecursiveAction {
+        private final Bloque a;
+        private final Bloque b;
+        private final Bloque c;
+        private final int n;
+        private final int nivelesParalelos;
+
+        TareaProducto(Bloque a, Bloque b, Bloque c, int n, int nivelesParalelos) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.n = n;
+            this.nivelesParalelos = nivelesParalelos;
+        }
+
+        @Override
+        protected void compute() {
+            if (nivelesParalelos == 0 || n <= corte) {
+                acumular(a, b, c, n);
+                return;
+            }
+
+            var h = n / 2;
+            var productos = new long[PRODUCTOS.length][];
+            var tareas = new TareaFactores[PRODUCTOS.length];
+
+            try {
+                for (int k = 0; k < PRODUCTOS.length; k++) {
+                    productos[k] = tomar(h * h);
+                    Arrays.fill(productos[k], 0);
+                    tareas[k] = new TareaFactores(PRODUCTOS[k], new Bloque(productos[k], 0, h), h,
+                            nivelesParalelos - 1);
+                }
+
+                invokeAll(tareas);
+
+                for (int k = 0; k < PRODUCTOS.length; k++) {
+                    for (int cuadrante = 0; cuadrante < 4; cuadrante++) {
+                        if (APORTES[k][cuadrante] != 0) {
+                            sumar(productos[k], APORTES[k][cuadrante], c.cuadrante(cuadrante, h), h);
+                        }
+                    }
+                }
+            } finally {
+                for (var producto : productos) {
+                    if (producto != null) {
+                        devolver(producto);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Tarea que forma los factores de uno de los siete productos y lo calcula.
+         */
+        private final class TareaFactores extends RecursiveAction {
+            private final int[][] definicion;
+            private final Bloque producto;
+            private final int h;
+            private final int nivelesParalelos;
+
+            TareaFactores(int[][] definicion, Bloque producto, int h, int nivelesParalelos) {
+                this.definicion = definicion;
+                this.producto = producto;
+                this.h = h;
+                this.nivelesParalelos = nivelesParalelos;
+            }
+
+            @Override
+            protected void compute() {
+                var izquierdo = definicion[0][2] == 0 ? null : tomar(h * h);
+                var derecho = definicion[1][2] == 0 ? null : tomar(h * h);
+
+                try {
+                    new TareaProducto(factor(a, definicion[0], izquierdo, h), factor(b, definicion[1], derecho, h),
+                            producto, h, nivelesParalelos).compute();
+                } finally {
+                    if (izquierdo != null) {
+                        devolver(izquierdo);
+                    }
+
+                    if (derecho != null) {
+                        devolver(derecho);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoCsr;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoDisperso;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPorFilas;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Clase con los algoritmos para sumar las filas y columnas de una matriz.
+ */
+public final class Sumador {
+    /**
+     * Número de celdas a partir del cual se usa el algoritmo paralelo por defecto.
+     */
+    public static final long UMBRAL_PARALELO = 1L << 18;
+
+    /**
+     * Indica si se usan las versiones SIMD de {@link SumadorVectorial}. Requiere ejecutar con
+     * {@code --add-modules jdk.incubator.vector}; se puede desactivar con {@code -Dmatrices.vectorial=false}.
+     */
+    public static final boolean VECTORIAL = vectorialDisponible();
+
+    private Sumador() {
+    }
+
+    private static boolean vectorialDisponible() {
+        if (!Boolean.parseBoolean(System.getProperty("matrices.vectorial", "true"))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+
+        try {
+            return SumadorVectorial.soportado();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Calcula la suma de los elementos de la diagonal principal.
+     *
+     * @param matriz Almacenamiento de la matriz.
+     * @return Suma de la diagonal principal.
+     */
+    public static long sumarDiagonal(Almacenamiento matriz) {
+        if (VECTORIAL && matriz instanceof AlmacenamientoPlano plano) {
+            return SumadorVectorial.sumarDiagonal(plano);
+        }
+
+        var n = Math.min(matriz.filas(), matriz.columnas());
+        long suma = 0;
+
+        for (int i = 0; i < n; i++) {
+            suma += matriz.getLong(i, i);
+        }
+
+        return suma;
+    }
+
+    /**
+     * Calcula la suma de cada fila y de cada columna, en paralelo si la matriz tiene al menos {@code umbral}
+     * celdas y de forma secuencial en caso contrario. En un almacenamiento disperso se cuentan solo las celdas
+     * distintas de cero, y solo el formato CSR, que permite recorrer bandas de filas, se suma en paralelo.
+     *
+     * @param matriz Almacenamiento de la matriz.
+     * @param pool   Pool donde se ejecutan las tareas paralelas.
+     * @param umbral Número mínimo de celdas para usar el algoritmo paralelo.
+     * @return Sumas de filas y columnas.
+     */
+    public static Sumas sumar(Almacenamiento matriz, ForkJoinPool pool, long umbral) {
+        var celdas = matriz instanceof AlmacenamientoDisperso disperso ? disperso.noCeros() : matriz.celdas();
+
+        if (celdas < umbral || pool.getParallelism() == 1
+                || matriz instanceof AlmacenamientoDisperso && !(matriz instanceof AlmacenamientoCsr)) {
+            return sumar(matriz);
+        }
+
+        // Los vectores de columnas se reservan según las hojas que corren a la vez y no según su número, así que
+        // se crean varias hojas por hilo para repartir mejor la carga.
+        var filasPorTarea = Math.max(1, matriz.filas() / (pool.getParallelism() * 8));
+        var filas = new long[matriz.filas()];
+        var acumuladores = new ConcurrentLinkedQueue<long[]>();
+        pool.invoke(new TareaSuma(matriz, 0, matriz.filas(), filasPorTarea, filas, acumuladores));
+
+        var columnas = acumuladores.poll();
+
+        for (long[] otras; (otras = acumuladores.poll()) != null; ) {
+            for (int j = 0; j < columnas.length; j++) {
+                columnas[j] += otras[j];
+            }
+        }
+
+        return new Sumas(filas, columnas);
+    }
+
+    /**
+     * Calcula la suma de cada fila y de cada columna en un único recorrido por filas.
+     *
+     * @param matriz Almacenamiento de la matriz.
+     * @return Sumas de filas y columnas.
+     */
+    public static Sumas sumar(Almacenamiento matriz) {
+        var sumas = new Sumas(new long[matriz.filas()], new long[matriz.columnas()]);
+
+        if (matriz instanceof AlmacenamientoDisperso disperso && !(matriz instanceof AlmacenamientoCsr)) {
+            disperso.recorrer((fila, columna, valor) -> {
+                sumas.filas()[fila] += valor;
+                sumas.columnas()[columna] += valor;
+            });
+
+            return sumas;
+        }
+
+        sumarFilas(matriz, 0, matriz.filas(), sumas.filas(), sumas.columnas());
+
+        return sumas;
+    }
+
+    /**
+     * Suma las filas {@code [desde, hasta)} de la matriz. La suma de cada fila se escribe en {@code filas} y cada
+     * elemento se acumula en la posición de su columna en {@code columnas}.
+     *
+     * @param matriz   Almacenamiento de la matriz.
+     * @param desde    Primera fila a sumar.
+     * @param hasta    Fila siguiente a la última a sumar.
+     * @param filas    Vector donde se escriben las sumas de las filas.
+     * @param columnas Vector donde se acumulan las sumas de las columnas.
+     */
+    static void sumarFilas(Almacenamiento matriz, int desde, int hasta, long[] filas, long[] columnas) {
+        var m = matriz.columnas();
+
+        if (VECTORIAL && matriz instanceof AlmacenamientoPlano plano) {
+            SumadorVectorial.sumarFilas(plano, desde, hasta, filas, columnas);
+            return;
+        }
+
+        if (matriz instanceof AlmacenamientoCsr csr) {
+            var indices = csr.indices();
+            var valores = csr.valores();
+
+            for (int i = desde; i < hasta; i++) {
+                long suma = 0;
+
+                for (int k = csr.inicio(i); k < csr.inicio(i + 1); k++) {
+                    suma += valores[k];
+                    columnas[indices[k]] += valores[k];
+                }
+
+                filas[i] = suma;
+            }
+
+            return;
+        }
+
+        // Cada almacenamiento contiguo recorre su propio vector, sea de byte, short, int o long
+        if (matriz instanceof AlmacenamientoPorFilas porFilas) {
+            for (int i = desde; i < hasta; i++) {
+                filas[i] = porFilas.sumarFila(i, columnas);
+            }
+
+            return;
+        }
+
+        for (int i = desde; i < hasta; i++) {
+            long suma = 0;
+
+            for (int j = 0; j < m; j++) {
+                var dato = matriz.getLong(i, j);
+                suma += dato;
+                columnas[j] += dato;
+            }
+
+            filas[i] = suma;
+        }
+    }
+
+    /**
+     * Tarea que suma una banda de filas. Las sumas de las filas se escriben directamente en el vector compartido,
+     * ya que cada tarea escribe posiciones distintas. Para las sumas de las columnas, cada hoja toma un vector
+     * libre de {@code acumuladores}, o crea uno si no hay, y lo devuelve al terminar; así cada hilo reutiliza el
+     * mismo vector en todas sus hojas y al final solo queda combinar un vector por hilo.
+     */
+    private static final class TareaSuma extends RecursiveAction {
+        private final Almacenamiento matriz;
+        private final int desde;
+        private final int hasta;
+        private final int filasPorTarea;
+        private final long[] filas;
+        private final Queue<long[]> acumuladores;
+
+        TareaSuma(Almacenamiento matriz, int desde, int hasta, int filasPorTarea, long[] filas,
+                  Queue<long[]> acumuladores) {
+            this.matriz = matriz;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.filasPorTarea = filasPorTarea;
+            this.filas = filas;
+            this.acumuladores = acumuladores;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= filasPorTarea) {
+                var columnas = acumuladores.poll();
+
+                if (columnas == null) {
+                    columnas = new long[matriz.columnas()];
+                }
+
+                sumarFilas(matriz, desde, hasta, filas, columnas);
+                acumuladores.offer(columnas);
+                return;
+            }
+
+            var mitad = (desde + hasta) >>> 1;
+            invokeAll(new TareaSuma(matriz, desde, mitad, filasPorTarea, filas, acumuladores),
+                    new TareaSuma(matriz, mitad, hasta, filasPorTarea, filas, acumuladores));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Versión SIMD de las sumas de {@link Sumador} usando la API de vectores de Java ({@code jdk.incubator.vector}).
+ * <p>
+ * Los enteros se cargan en vectores con la mitad del ancho preferido y se amplían a {@code long}, de modo que
+ * las sumas no se desbordan. Esta clase solo debe cargarse si el módulo está disponible; ver
+ * {@link Sumador#VECTORIAL}.
+ */
+final class SumadorVectorial {
+    /**
+     * Especie de los acumuladores de tipo {@code long}.
+     */
+    private static final VectorSpecies<Long> LARGOS = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * Especie de los datos de tipo {@code int}, con la misma cantidad de carriles que {@link #LARGOS}.
+     */
+    private static final VectorSpecies<Integer> ENTEROS =
+            IntVector.SPECIES_PREFERRED.withShape(VectorShape.forBitSize(LARGOS.vectorBitSize() / 2));
+
+    private SumadorVectorial() {
+    }
+
+    /**
+     * Indica si el procesador permite vectores de al menos dos carriles {@code long}.
+     *
+     * @return true si la versión vectorial es útil en este procesador.
+     */
+    static boolean soportado() {
+        return LARGOS.length() >= 2;
+    }
+
+    /**
+     * Suma las filas {@code [desde, hasta)} de la matriz, igual que {@link Sumador#sumarFilas}.
+     *
+     * @param matriz   Almacenamiento de la matriz.
+     * @param desde    Primera fila a sumar.
+     * @param hasta    Fila siguiente a la última a sumar.
+     * @param filas    Vector donde se escriben las sumas de las filas.
+     * @param columnas Vector donde se acumulan las sumas de las columnas.
+     */
+    static void sumarFilas(AlmacenamientoPlano matriz, int desde, int hasta, long[] filas, long[] columnas) {
+        var datos = matriz.datos();
+        var m = matriz.columnas();
+        var limite = ENTEROS.loopBound(m);
+
+        for (int i = desde; i < hasta; i++) {
+            var base = matriz.offset() + i * matriz.stride();
+            var acumulado = LongVector.zero(LARGOS);
+            var j = 0;
+
+            for (; j < limite; j += ENTEROS.length()) {
+                var dato = (LongVector) IntVector.fromArray(ENTEROS, datos, base + j)
+                        .convertShape(VectorOperators.I2L, LARGOS, 0);
+
+                acumulado = acumulado.add(dato);
+                LongVector.fromArray(LARGOS, columnas, j).add(dato).intoArray(columnas, j);
+            }
+
+            var suma = acumulado.reduceLanes(VectorOperators.ADD);
+
+            for (; j < m; j++) {
+                var dato = datos[base + j];
+                suma += dato;
+                columnas[j] += dato;
+            }
+
+            filas[i] = suma;
+        }
+    }
+
+    /**
+     * Suma los elementos de la diagonal principal usando lecturas dispersas ({@code gather}).
+     *
+     * @param matriz Almacenamiento de la matriz.
+     * @return Suma de la diagonal principal.
+     */
+    static long sumarDiagonal(AlmacenamientoPlano matriz) {
+        var datos = matriz.datos();
+        var n = Math.min(matriz.filas(), matriz.columnas());
+        var salto = matriz.stride() + 1;
+        var limite = ENTEROS.loopBound(n);
+
+        var indices = new int[ENTEROS.length()];
+        for (int k = 0; k < indices.length; k++) {
+            indices[k] = k * salto;
+        }
+
+        var acumulado = LongVector.zero(LARGOS);
+        var i = 0;
+
+        for (; i < limite; i += ENTEROS.length()) {
+            acumulado = acumulado.add(IntVector.fromArray(ENTEROS, datos, matriz.offset() + i * salto, indices, 0)
+                    .convertShape(VectorOperators.I2L, LARGOS, 0));
+        }
+
+        var suma = acumulado.reduceLanes(VectorOperators.ADD);
+
+        for (; i < n; i++) {
+            suma += datos[matriz.offset() + i * salto];
+        }
+
+        return suma;
+    }
+}
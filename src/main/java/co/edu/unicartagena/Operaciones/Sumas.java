@@ -0,0 +1,18 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Sumas de las filas y de las columnas de una matriz.
+ *
+ * @param filas    Suma de cada fila, indexada por fila.
+ * @param columnas Suma de cada columna, indexada por columna.
+ */
+public record Sumas(long[] filas, long[] columnas) {
+}
@@ -0,0 +1,336 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+
+/**
+ * Transformaciones de la matriz completa: transponer, voltear y rotar.
+ * <p>
+ * La transpuesta y el cuarto de vuelta recorren la matriz por bloques de {@link #BLOQUE}x{@link #BLOQUE} celdas,
+ * de modo que tanto las filas como las columnas que se tocan permanecen en caché. Los volteos y la media vuelta
+ * recorren la matriz por filas.
+ */
+public final class Transformador {
+    /**
+     * Lado de los bloques en que se recorre la matriz. Los cuatro bloques que toca una rotación ocupan 16 KiB.
+     */
+    static final int BLOQUE = 32;
+
+    private Transformador() {
+    }
+
+    /**
+     * Escribe en {@code destino} la transpuesta de {@code origen}.
+     *
+     * @param origen  Almacenamiento de la matriz a transponer.
+     * @param destino Almacenamiento de {@code columnas x filas} donde se escribe la transpuesta. No debe
+     *                compartir datos con {@code origen}.
+     * @throws IllegalArgumentException Si las dimensiones del destino no corresponden con las del origen.
+     */
+    public static void transponer(Almacenamiento origen, Almacenamiento destino) throws IllegalArgumentException {
+        var filas = origen.filas();
+        var columnas = origen.columnas();
+
+        if (destino.filas() != columnas || destino.columnas() != filas) {
+            throw new IllegalArgumentException("El destino debe ser de %dx%d, no de %dx%d."
+                    .formatted(columnas, filas, destino.filas(), destino.columnas()));
+        }
+
+        if (origen instanceof AlmacenamientoPlano o && destino instanceof AlmacenamientoPlano d) {
+            transponer(o, d);
+            return;
+        }
+
+        for (int ib = 0; ib < filas; ib += BLOQUE) {
+            var iFin = Math.min(ib + BLOQUE, filas);
+
+            for (int jb = 0; jb < columnas; jb += BLOQUE) {
+                var jFin = Math.min(jb + BLOQUE, columnas);
+
+                for (int i = ib; i < iFin; i++) {
+                    for (int j = jb; j < jFin; j++) {
+                        destino.setLong(j, i, origen.getLong(i, j));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void transponer(AlmacenamientoPlano origen, AlmacenamientoPlano destino) {
+        var o = origen.datos();
+        var d = destino.datos();
+        var filas = origen.filas();
+        var columnas = origen.columnas();
+
+        for (int ib = 0; ib < filas; ib += BLOQUE) {
+            var iFin = Math.min(ib + BLOQUE, filas);
+
+            for (int jb = 0; jb < columnas; jb += BLOQUE) {
+                var jFin = Math.min(jb + BLOQUE, columnas);
+
+                for (int i = ib; i < iFin; i++) {
+                    var base = origen.offset() + i * origen.stride();
+
+                    for (int j = jb; j < jFin; j++) {
+                        d[destino.offset() + j * destino.stride() + i] = o[base + j];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Transpone una matriz cuadrada en el lugar, intercambiando cada bloque sobre la diagonal con su bloque
+     * simétrico.
+     *
+     * @param matriz Almacenamiento de una matriz cuadrada.
+     * @throws IllegalArgumentException Si la matriz no es cuadrada.
+     */
+    public static void transponerEnSitio(Almacenamiento matriz) throws IllegalArgumentException {
+        var n = lado(matriz);
+
+        if (matriz instanceof AlmacenamientoPlano plano) {
+            transponerEnSitio(plano);
+            return;
+        }
+
+        for (int ib = 0; ib < n; ib += BLOQUE) {
+            var iFin = Math.min(ib + BLOQUE, n);
+
+            for (int jb = ib; jb < n; jb += BLOQUE) {
+                var jFin = Math.min(jb + BLOQUE, n);
+
+                for (int i = ib; i < iFin; i++) {
+                    for (int j = Math.max(jb, i + 1); j < jFin; j++) {
+                        var temp = matriz.getLong(i, j);
+                        matriz.setLong(i, j, matriz.getLong(j, i));
+                        matriz.setLong(j, i, temp);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void transponerEnSitio(AlmacenamientoPlano matriz) {
+        var datos = matriz.datos();
+        var n = matriz.filas();
+        var offset = matriz.offset();
+        var stride = matriz.stride();
+
+        for (int ib = 0; ib < n; ib += BLOQUE) {
+            var iFin = Math.min(ib + BLOQUE, n);
+
+            for (int jb = ib; jb < n; jb += BLOQUE) {
+                var jFin = Math.min(jb + BLOQUE, n);
+
+                for (int i = ib; i < iFin; i++) {
+                    var fila = offset + i * stride;
+
+                    for (int j = Math.max(jb, i + 1); j < jFin; j++) {
+                        var simetrica = offset + j * stride + i;
+                        var temp = datos[fila + j];
+                        datos[fila + j] = datos[simetrica];
+                        datos[simetrica] = temp;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Voltea la matriz horizontalmente en el lugar: invierte el orden de las columnas, como un espejo respecto
+     * al eje vertical.
+     *
+     * @param matriz Almacenamiento de la matriz.
+     */
+    public static void voltearHorizontal(Almacenamiento matriz) {
+        var columnas = matriz.columnas();
+
+        if (matriz instanceof AlmacenamientoPlano plano) {
+            var datos = plano.datos();
+
+            for (int i = 0; i < plano.filas(); i++) {
+                var base = plano.offset() + i * plano.stride();
+
+                for (int a = base, b = base + columnas - 1; a < b; a++, b--) {
+                    var temp = datos[a];
+                    datos[a] = datos[b];
+                    datos[b] = temp;
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < matriz.filas(); i++) {
+            for (int a = 0, b = columnas - 1; a < b; a++, b--) {
+                var temp = matriz.getLong(i, a);
+                matriz.setLong(i, a, matriz.getLong(i, b));
+                matriz.setLong(i, b, temp);
+            }
+        }
+    }
+
+    /**
+     * Voltea la matriz verticalmente en el lugar: invierte el orden de las filas, como un espejo respecto al
+     * eje horizontal.
+     *
+     * @param matriz Almacenamiento de la matriz.
+     */
+    public static void voltearVertical(Almacenamiento matriz) {
+        var columnas = matriz.columnas();
+
+        if (matriz instanceof AlmacenamientoPlano plano) {
+            var datos = plano.datos();
+
+            for (int a = 0, b = plano.filas() - 1; a < b; a++, b--) {
+                var filaA = plano.offset() + a * plano.stride();
+                var filaB = plano.offset() + b * plano.stride();
+
+                for (int j = 0; j < columnas; j++) {
+                    var temp = datos[filaA + j];
+                    datos[filaA + j] = datos[filaB + j];
+                    datos[filaB + j] = temp;
+                }
+            }
+            return;
+        }
+
+        for (int a = 0, b = matriz.filas() - 1; a < b; a++, b--) {
+            for (int j = 0; j < columnas; j++) {
+                var temp = matriz.getLong(a, j);
+                matriz.setLong(a, j, matriz.getLong(b, j));
+                matriz.setLong(b, j, temp);
+            }
+        }
+    }
+
+    /**
+     * Rota la matriz 180 grados en el lugar, intercambiando cada celda {@code (i, j)} con
+     * {@code (filas - 1 - i, columnas - 1 - j)} en un solo recorrido.
+     *
+     * @param matriz Almacenamiento de la matriz.
+     */
+    public static void rotarMedia(Almacenamiento matriz) {
+        var filas = matriz.filas();
+        var columnas = matriz.columnas();
+
+        if (matriz instanceof AlmacenamientoPlano plano) {
+            var datos = plano.datos();
+
+            // Cada fila se intercambia invertida con su opuesta; la fila central, si existe, consigo misma
+            for (int a = 0, b = filas - 1; a <= b; a++, b--) {
+                var filaA = plano.offset() + a * plano.stride();
+                var finB = plano.offset() + b * plano.stride() + columnas - 1;
+                var hasta = a == b ? columnas / 2 : columnas;
+
+                for (int j = 0; j < hasta; j++) {
+                    var temp = datos[filaA + j];
+                    datos[filaA + j] = datos[finB - j];
+                    datos[finB - j] = temp;
+                }
+            }
+            return;
+        }
+
+        for (int a = 0, b = filas - 1; a <= b; a++, b--) {
+            var hasta = a == b ? columnas / 2 : columnas;
+
+            for (int j = 0; j < hasta; j++) {
+                var temp = matriz.getLong(a, j);
+                matriz.setLong(a, j, matriz.getLong(b, columnas - 1 - j));
+                matriz.setLong(b, columnas - 1 - j, temp);
+            }
+        }
+    }
+
+    /**
+     * Rota una matriz cuadrada en el lugar un número de cuartos de vuelta. En un almacenamiento plano el cuarto
+     * de vuelta se hace en un solo recorrido por bloques; en otros, como la transpuesta seguida de un volteo.
+     *
+     * @param matriz  Almacenamiento de una matriz cuadrada.
+     * @param cuartos Cuartos de vuelta en sentido horario; si es negativo la rotación es antihoraria.
+     * @throws IllegalArgumentException Si la matriz no es cuadrada.
+     */
+    public static void rotar(Almacenamiento matriz, int cuartos) throws IllegalArgumentException {
+        var n = lado(matriz);
+        var q = Math.floorMod(cuartos, 4);
+
+        if (matriz instanceof AlmacenamientoPlano plano && q % 2 == 1) {
+            rotarCuarto(plano, n, q == 1);
+            return;
+        }
+
+        switch (q) {
+            case 1 -> {
+                transponerEnSitio(matriz);
+                voltearHorizontal(matriz);
+            }
+            case 2 -> rotarMedia(matriz);
+            case 3 -> {
+                transponerEnSitio(matriz);
+                voltearVertical(matriz);
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Rota un cuarto de vuelta una matriz plana en un solo recorrido. Cada celda {@code (i, j)} del cuadrante
+     * superior forma un ciclo de cuatro celdas con {@code (j, n-1-i)}, {@code (n-1-i, n-1-j)} y {@code (n-1-j, i)};
+     * recorriendo el cuadrante por bloques, los cuatro bloques que toca cada bloque permanecen en caché.
+     */
+    private static void rotarCuarto(AlmacenamientoPlano matriz, int n, boolean horario) {
+        var datos = matriz.datos();
+        var offset = matriz.offset();
+        var stride = matriz.stride();
+        var mitad = n / 2;
+
+        for (int ib = 0; ib < mitad; ib += BLOQUE) {
+            var iFin = Math.min(ib + BLOQUE, mitad);
+
+            for (int jb = ib; jb < n - 1 - ib; jb += BLOQUE) {
+                for (int i = ib; i < iFin; i++) {
+                    var jFin = Math.min(jb + BLOQUE, n - 1 - i);
+
+                    for (int j = Math.max(jb, i); j < jFin; j++) {
+                        var a = offset + i * stride + j;
+                        var b = offset + j * stride + n - 1 - i;
+                        var c = offset + (n - 1 - i) * stride + n - 1 - j;
+                        var d = offset + (n - 1 - j) * stride + i;
+                        var temp = datos[a];
+
+                        if (horario) {
+                            datos[a] = datos[d];
+                            datos[d] = datos[c];
+                            datos[c] = datos[b];
+                            datos[b] = temp;
+                        } else {
+                            datos[a] = datos[b];
+                            datos[b] = datos[c];
+                            datos[c] = datos[d];
+                            datos[d] = temp;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static int lado(Almacenamiento matriz) {
+        if (matriz.filas() != matriz.columnas()) {
+            throw new IllegalArgumentException("La matriz debe ser cuadrada (%dx%d)."
+                    .formatted(matriz.filas(), matriz.columnas()));
+        }
+
+        return matriz.filas();
+    }
+}
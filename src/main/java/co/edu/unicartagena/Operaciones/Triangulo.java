@@ -0,0 +1,34 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+/**
+ * Triángulo de una matriz cuadrada, sin incluir la diagonal principal.
+ */
+public enum Triangulo {
+    /**
+     * Elementos por encima de la diagonal principal ({@code j > i}).
+     */
+    SUPERIOR,
+
+    /**
+     * Elementos por debajo de la diagonal principal ({@code j < i}).
+     */
+    INFERIOR;
+
+    /**
+     * Obtiene el número de elementos del triángulo en una matriz de tamaño {@code n x n}.
+     *
+     * @param n Tamaño de la matriz.
+     * @return Número de elementos del triángulo.
+     */
+    public static int tamano(int n) {
+        return Math.toIntExact((long) n * (n - 1) / 2);
+    }
+}
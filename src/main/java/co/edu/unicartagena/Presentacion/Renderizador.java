@@ -0,0 +1,317 @@
+package co.edu.unicartagena.Presentacion;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Operaciones.Diagonal;
+import co.edu.unicartagena.Operaciones.Sumas;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * Escribe las matrices en forma de tabla directamente sobre un {@link Appendable} o un {@link OutputStream}.
+ * <p>
+ * Los números se formatean a mano con ancho fijo dentro de un búfer propio, sin {@code String.format} ni
+ * objetos por celda; el búfer se vacía en el destino cada vez que se llena. El texto producido es idéntico al
+ * de los formatos {@code "%14d "} para el índice de la fila y {@code " %8d "} para cada celda. Un renderizador
+ * no es seguro para varios hilos.
+ */
+public final class Renderizador {
+    /**
+     * Ancho de las columnas de datos.
+     */
+    public static final int ANCHO = 8;
+
+    /**
+     * Ancho de los índices de fila y de las sumas de las filas.
+     */
+    public static final int ANCHO_ESPECIAL = 14;
+
+    /**
+     * Capacidad del búfer interno, en caracteres.
+     */
+    private static final int CAPACIDAD = 8192;
+
+    /**
+     * Espacio que se reserva en el búfer antes de escribir una celda: el {@code long} más largo (20 caracteres)
+     * con sus separadores, o el mayor ancho.
+     */
+    private static final int RESERVA = 64;
+
+    private final Appendable destino;
+    private final OutputStream flujo;
+    private final char[] buffer = new char[CAPACIDAD];
+    private byte[] bytes;
+    private int posicion;
+
+    /**
+     * Constructor de la clase. Si el destino es un {@link Writer}, un {@link StringBuilder} o un
+     * {@link OutputStream} (por ejemplo {@code System.out}), el búfer se le entrega sin copias intermedias.
+     *
+     * @param destino Destino del texto.
+     */
+    public Renderizador(Appendable destino) {
+        this.destino = Objects.requireNonNull(destino);
+        this.flujo = destino instanceof OutputStream salida ? salida : null;
+    }
+
+    private Renderizador(OutputStream flujo) {
+        this.destino = null;
+        this.flujo = Objects.requireNonNull(flujo);
+    }
+
+    /**
+     * Crea un renderizador que escribe los caracteres como bytes en un flujo. El texto es ASCII, por lo que
+     * el resultado es el mismo en cualquier codificación compatible.
+     *
+     * @param flujo Flujo de salida.
+     * @return Renderizador sobre el flujo.
+     */
+    public static Renderizador sobre(OutputStream flujo) {
+        return new Renderizador(flujo);
+    }
+
+    /**
+     * Estima el número de caracteres de la tabla de una matriz, para dimensionar un {@link StringBuilder}.
+     *
+     * @param matriz Almacenamiento de la matriz.
+     * @return Número aproximado de caracteres.
+     */
+    public static int estimarLargo(Almacenamiento matriz) {
+        var largo = (matriz.filas() + 2L) * ((ANCHO + 2L) * matriz.columnas() + 2L * ANCHO_ESPECIAL + 4);
+        return (int) Math.min(largo, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Escribe la matriz con su encabezado de columnas y el índice de cada fila.
+     *
+     * @param matriz Almacenamiento de la matriz.
+     * @throws IOException Si el destino no se puede escribir.
+     */
+    public void matriz(Almacenamiento matriz) throws IOException {
+        encabezado(matriz.columnas());
+        nuevaLinea();
+
+        for (int i = 0; i < matriz.filas(); i++) {
+            indice(i);
+
+            for (int j = 0; j < matriz.columnas(); j++) {
+                celda(matriz.getLong(i, j));
+            }
+
+            nuevaLinea();
+        }
+
+        vaciar();
+    }
+
+    /**
+     * Escribe la matriz con la suma de cada fila en una columna adicional y la suma de cada columna al pie.
+     *
+     * @param matriz Almacenamiento de la matriz.
+     * @param sumas  Sumas de las filas y columnas de la matriz.
+     * @throws IOException Si el destino no se puede escribir.
+     */
+    public void sumas(Almacenamiento matriz, Sumas sumas) throws IOException {
+        encabezado(matriz.columnas());
+        caracter(' ');
+        texto("Suma", ANCHO_ESPECIAL);
+        nuevaLinea();
+
+        for (int i = 0; i < matriz.filas(); i++) {
+            indice(i);
+
+            for (int j = 0; j < matriz.columnas(); j++) {
+                celda(matriz.getLong(i, j));
+            }
+
+            caracter(' ');
+            numero(sumas.filas()[i], ANCHO_ESPECIAL);
+            caracter(' ');
+            nuevaLinea();
+        }
+
+        texto("Suma", ANCHO_ESPECIAL);
+        caracter(' ');
+
+        for (long suma : sumas.columnas()) {
+            celda(suma);
+        }
+
+        caracter(' ');
+        texto("---", ANCHO_ESPECIAL);
+        vaciar();
+    }
+
+    /**
+     * Escribe una matriz cuadrada mostrando solo los elementos de una diagonal; las demás celdas se muestran
+     * como cero.
+     *
+     * @param matriz   Almacenamiento de una matriz cuadrada.
+     * @param diagonal Diagonal a mostrar.
+     * @throws IOException Si el destino no se puede escribir.
+     */
+    public void diagonal(Almacenamiento matriz, Diagonal diagonal) throws IOException {
+        var n = matriz.filas();
+
+        encabezado(matriz.columnas());
+        nuevaLinea();
+
+        for (int i = 0; i < n; i++) {
+            indice(i);
+
+            for (int j = 0; j < matriz.columnas(); j++) {
+                celda(diagonal.contiene(n, i, j) ? matriz.getLong(i, j) : 0);
+            }
+
+            nuevaLinea();
+        }
+
+        vaciar();
+    }
+
+    private void encabezado(int columnas) throws IOException {
+        reservar(RESERVA);
+        texto("Filas/Columnas ", 0);
+
+        for (int j = 0; j < columnas; j++) {
+            celda(j);
+        }
+    }
+
+    private void indice(int fila) throws IOException {
+        reservar(RESERVA);
+        numero(fila, ANCHO_ESPECIAL);
+        buffer[posicion++] = ' ';
+    }
+
+    private void celda(long valor) throws IOException {
+        reservar(RESERVA);
+        buffer[posicion++] = ' ';
+        numero(valor, ANCHO);
+        buffer[posicion++] = ' ';
+    }
+
+    private void nuevaLinea() throws IOException {
+        caracter('\n');
+    }
+
+    private void caracter(char c) throws IOException {
+        reservar(1);
+        buffer[posicion++] = c;
+    }
+
+    /**
+     * Escribe un texto alineado a la derecha en el ancho indicado. El texto debe caber en {@link #RESERVA}.
+     */
+    private void texto(String texto, int ancho) throws IOException {
+        reservar(RESERVA);
+        espacios(ancho - texto.length());
+        texto.getChars(0, texto.length(), buffer, posicion);
+        posicion += texto.length();
+    }
+
+    /**
+     * Escribe un número alineado a la derecha en el ancho indicado. Los dígitos se escriben directamente en el
+     * búfer, de derecha a izquierda, y se calculan sobre el valor negativo para admitir {@code Long.MIN_VALUE}.
+     * Debe haber espacio reservado en el búfer.
+     */
+    private void numero(long valor, int ancho) {
+        var largo = largo(valor);
+        espacios(ancho - largo);
+
+        var k = posicion + largo;
+        posicion = k;
+
+        var v = valor < 0 ? valor : -valor;
+
+        while (v < Integer.MIN_VALUE) {
+            buffer[--k] = (char) ('0' - v % 10);
+            v /= 10;
+        }
+
+        // El resto cabe en un int, cuya división es más barata
+        var w = (int) v;
+
+        do {
+            buffer[--k] = (char) ('0' - w % 10);
+            w /= 10;
+        } while (w != 0);
+
+        if (valor < 0) {
+            buffer[--k] = '-';
+        }
+    }
+
+    /**
+     * Obtiene el número de caracteres de un número en base 10, incluyendo el signo.
+     */
+    private static int largo(long valor) {
+        var signo = valor < 0 ? 1 : 0;
+        var v = valor < 0 ? valor : -valor;
+        var potencia = -10L;
+
+        for (int i = 1; i < 19; i++) {
+            if (v > potencia) {
+                return i + signo;
+            }
+
+            potencia *= 10;
+        }
+
+        return 19 + signo;
+    }
+
+    private void espacios(int cantidad) {
+        for (int i = 0; i < cantidad; i++) {
+            buffer[posicion++] = ' ';
+        }
+    }
+
+    private void reservar(int cantidad) throws IOException {
+        if (posicion + cantidad > CAPACIDAD) {
+            vaciar();
+        }
+    }
+
+    /**
+     * Entrega al destino el contenido del búfer. No llama a {@code flush()} sobre el destino.
+     *
+     * @throws IOException Si el destino no se puede escribir.
+     */
+    private void vaciar() throws IOException {
+        if (posicion == 0) {
+            return;
+        }
+
+        if (flujo != null) {
+            if (bytes == null) {
+                bytes = new byte[CAPACIDAD];
+            }
+
+            for (int i = 0; i < posicion; i++) {
+                bytes[i] = (byte) buffer[i];
+            }
+
+            flujo.write(bytes, 0, posicion);
+        } else if (destino instanceof Writer writer) {
+            writer.write(buffer, 0, posicion);
+        } else if (destino instanceof StringBuilder sb) {
+            sb.append(buffer, 0, posicion);
+        } else {
+            destino.append(CharBuffer.wrap(buffer, 0, posicion));
+        }
+
+        posicion = 0;
+    }
+}
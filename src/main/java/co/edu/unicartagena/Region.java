@@ -0,0 +1,186 @@
+package co.edu.unicartagena;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.TipoElemento;
+import co.edu.unicartagena.Operaciones.Orden;
+import co.edu.unicartagena.Operaciones.Ordenador;
+import co.edu.unicartagena.Operaciones.Secuencia;
+import co.edu.unicartagena.Operaciones.SecuenciaCeldas;
+
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Vista sobre un conjunto de celdas de una matriz (un anillo, un triángulo, una diagonal o todas las celdas de
+ * un bloque) que comparte sus datos, sin copiarlos.
+ * <p>
+ * {@link #get(int)} y {@link #set(int, int)} pasan por la matriz, por lo que respetan la rotación diferida y
+ * mantienen sus sumas y diagonales. Las operaciones sobre toda la región ({@link #sumar()},
+ * {@link #recorrer(IntConsumer)}, {@link #ordenar(Orden)}, {@link #desplazar(int)}) aplican antes los cambios
+ * diferidos de la matriz y trabajan directamente sobre el almacenamiento; las que modifican datos registran un
+ * cambio masivo al terminar.
+ * <p>
+ * Regiones que no comparten celdas, como los anillos de una matriz, pueden recorrerse desde varios hilos a la vez
+ * si la matriz no tiene rotaciones diferidas pendientes.
+ */
+public final class Region implements Secuencia {
+    private final Matriz matriz;
+    private final SecuenciaCeldas celdas;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param matriz Matriz a la que pertenecen las celdas.
+     * @param celdas Secuencia con las celdas sobre el almacenamiento de la matriz.
+     */
+    Region(Matriz matriz, SecuenciaCeldas celdas) {
+        this.matriz = matriz;
+        this.celdas = celdas;
+    }
+
+    @Override
+    public int tamano() {
+        return celdas.tamano();
+    }
+
+    @Override
+    public int get(int k) {
+        return matriz.get(celdas.fila(k), celdas.columna(k));
+    }
+
+    @Override
+    public void set(int k, int valor) {
+        matriz.set(celdas.fila(k), celdas.columna(k), valor);
+    }
+
+    @Override
+    public long getLong(int k) {
+        return matriz.getLong(celdas.fila(k), celdas.columna(k));
+    }
+
+    @Override
+    public void setLong(int k, long valor) {
+        matriz.setLong(celdas.fila(k), celdas.columna(k), valor);
+    }
+
+    /**
+     * Obtiene la fila de la matriz en la que está un elemento de la región.
+     *
+     * @param k Posición del elemento.
+     * @return Índice de la fila.
+     */
+    public int fila(int k) {
+        return celdas.fila(k);
+    }
+
+    /**
+     * Obtiene la columna de la matriz en la que está un elemento de la región.
+     *
+     * @param k Posición del elemento.
+     * @return Índice de la columna.
+     */
+    public int columna(int k) {
+        return celdas.columna(k);
+    }
+
+    /**
+     * Suma los elementos de la región.
+     *
+     * @return Suma de los elementos.
+     */
+    public long sumar() {
+        matriz.sincronizar();
+
+        long suma = 0;
+        for (int k = 0; k < celdas.tamano(); k++) {
+            suma += celdas.getLong(k);
+        }
+
+        return suma;
+    }
+
+    /**
+     * Entrega cada elemento de la región, en orden, a una función.
+     *
+     * @param accion Función que recibe cada valor.
+     * @throws ArithmeticException Si un valor no cabe en un {@code int}; en ese caso se puede recorrer con
+     *                             {@link #recorrerLong(LongConsumer)}.
+     */
+    public void recorrer(IntConsumer accion) throws ArithmeticException {
+        Objects.requireNonNull(accion);
+        matriz.sincronizar();
+
+        for (int k = 0; k < celdas.tamano(); k++) {
+            accion.accept(celdas.get(k));
+        }
+    }
+
+    /**
+     * Entrega cada elemento de la región, en orden y como {@code long}, a una función.
+     *
+     * @param accion Función que recibe cada valor.
+     */
+    public void recorrerLong(LongConsumer accion) {
+        Objects.requireNonNull(accion);
+        matriz.sincronizar();
+
+        for (int k = 0; k < celdas.tamano(); k++) {
+            accion.accept(celdas.getLong(k));
+        }
+    }
+
+    /**
+     * Ordena los elementos de la región en el lugar, con los algoritmos de {@link Ordenador}.
+     *
+     * @param orden Orden deseado.
+     * @throws UnsupportedOperationException Si las celdas de la matriz son {@link TipoElemento#LONG}.
+     */
+    public void ordenar(Orden orden) throws UnsupportedOperationException {
+        if (matriz.getTipoElemento() == TipoElemento.LONG) {
+            throw new UnsupportedOperationException("No se pueden ordenar matrices con celdas long.");
+        }
+
+        matriz.sincronizar();
+        Ordenador.ordenar(celdas, orden);
+        matriz.datosModificados();
+    }
+
+    /**
+     * Desplaza circularmente los elementos de la región hacia posiciones mayores; el último pasa a la primera
+     * posición. Sobre un anillo equivale a desplazarlo en sentido horario. Se hace en el lugar con tres
+     * inversiones, en tiempo proporcional al tamaño de la región.
+     *
+     * @param pasos Número de posiciones; si es negativo el desplazamiento es hacia posiciones menores.
+     */
+    public void desplazar(int pasos) {
+        var tamano = celdas.tamano();
+
+        if (tamano == 0 || pasos % tamano == 0) {
+            return;
+        }
+
+        var corte = tamano - Math.floorMod(pasos, tamano);
+
+        matriz.sincronizar();
+        invertir(0, corte);
+        invertir(corte, tamano);
+        invertir(0, tamano);
+        matriz.datosModificados();
+    }
+
+    private void invertir(int desde, int hasta) {
+        for (int a = desde, b = hasta - 1; a < b; a++, b--) {
+            var temp = celdas.getLong(a);
+            celdas.setLong(a, celdas.getLong(b));
+            celdas.setLong(b, temp);
+        }
+    }
+}
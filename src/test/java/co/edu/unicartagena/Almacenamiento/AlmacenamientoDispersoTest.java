@@ -0,0 +1,247 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Matriz;
+import co.edu.unicartagena.MatrizCuadrada;
+import co.edu.unicartagena.Operaciones.Direccion;
+import co.edu.unicartagena.Operaciones.Orden;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AlmacenamientoDispersoTest {
+    static int[][] dispersa(Random aleatorio, int filas, int columnas, double densidad, int limite) {
+        var datos = new int[filas][columnas];
+
+        for (var fila : datos) {
+            for (int j = 0; j < columnas; j++) {
+                if (aleatorio.nextDouble() < densidad) {
+                    fila[j] = (int) aleatorio.nextLong(-limite, limite + 1L);
+                }
+            }
+        }
+
+        return datos;
+    }
+
+    static int[][] leer(Almacenamiento almacenamiento) {
+        var datos = new int[almacenamiento.filas()][almacenamiento.columnas()];
+
+        for (int i = 0; i < datos.length; i++) {
+            for (int j = 0; j < datos[i].length; j++) {
+                datos[i][j] = almacenamiento.get(i, j);
+            }
+        }
+
+        return datos;
+    }
+
+    static int[][] leer(Matriz matriz) {
+        var datos = new int[matriz.getFilas()][matriz.getColumnas()];
+
+        for (int i = 0; i < datos.length; i++) {
+            for (int j = 0; j < datos[i].length; j++) {
+                datos[i][j] = matriz.get(i, j);
+            }
+        }
+
+        return datos;
+    }
+
+    static long noCeros(int[][] datos) {
+        long noCeros = 0;
+
+        for (var fila : datos) {
+            for (var valor : fila) {
+                if (valor != 0) {
+                    noCeros++;
+                }
+            }
+        }
+
+        return noCeros;
+    }
+
+    /**
+     * Comprueba que un almacenamiento disperso tenga los mismos datos que uno denso, celda por celda y con
+     * {@code recorrer}.
+     */
+    static void comparar(Almacenamiento denso, AlmacenamientoDisperso disperso, String mensaje) {
+        var esperado = leer(denso);
+        assertArrayEquals(esperado, leer(disperso), mensaje);
+        assertEquals(noCeros(esperado), disperso.noCeros(), mensaje);
+
+        var recorrido = new int[disperso.filas()][disperso.columnas()];
+        disperso.recorrer((fila, columna, valor) -> {
+            assertEquals(0, recorrido[fila][columna], mensaje);
+            recorrido[fila][columna] = valor;
+        });
+        assertArrayEquals(esperado, recorrido, mensaje);
+    }
+
+    @Test
+    void setYGetCoincidenConElAlmacenamientoDenso() {
+        var aleatorio = new Random(23);
+
+        for (int prueba = 0; prueba < 40; prueba++) {
+            var filas = 1 + aleatorio.nextInt(30);
+            var columnas = 1 + aleatorio.nextInt(30);
+            var denso = new AlmacenamientoPlano(filas, columnas);
+            var coo = new AlmacenamientoCoo(filas, columnas, aleatorio.nextInt(4));
+            var csr = new AlmacenamientoCsr(filas, columnas);
+
+            // Se alternan fases de llenado y de vaciado para que la tabla de COO crezca, tenga colisiones y
+            // quite celdas en cualquier posición.
+            for (int fase = 0; fase < 6; fase++) {
+                var probabilidadCero = fase % 2 == 0 ? 0.2 : 0.8;
+
+                for (int paso = 0; paso < filas * columnas; paso++) {
+                    var fila = aleatorio.nextInt(filas);
+                    var columna = aleatorio.nextInt(columnas);
+                    var valor = aleatorio.nextDouble() < probabilidadCero ? 0 : aleatorio.nextInt(-50, 51);
+
+                    denso.set(fila, columna, valor);
+                    coo.set(fila, columna, valor);
+                    csr.set(fila, columna, valor);
+                }
+
+                var mensaje = "%dx%d, fase %d".formatted(filas, columnas, fase);
+                comparar(denso, coo, mensaje);
+                comparar(denso, csr, mensaje);
+                comparar(denso, coo.comprimir(), mensaje);
+            }
+
+            // Vaciar por completo deja ambos formatos sin celdas.
+            for (int i = 0; i < filas; i++) {
+                for (int j = 0; j < columnas; j++) {
+                    denso.set(i, j, 0);
+                    coo.set(i, j, 0);
+                    csr.set(i, j, 0);
+                }
+            }
+
+            assertEquals(0, coo.noCeros());
+            assertEquals(0, csr.noCeros());
+        }
+    }
+
+    @Test
+    void transpuestaCoincideConElAlmacenamientoDenso() {
+        var aleatorio = new Random(24);
+
+        for (int prueba = 0; prueba < 30; prueba++) {
+            var datos = dispersa(aleatorio, 1 + aleatorio.nextInt(25), 1 + aleatorio.nextInt(25), 0.15, 100);
+            var esperado = leer(new Matriz(datos).transponer());
+            var csr = AlmacenamientoCsr.desde(datos);
+            var coo = new AlmacenamientoCoo(csr.filas(), csr.columnas());
+            csr.recorrer(coo::set);
+
+            assertArrayEquals(esperado, leer(csr.transpuesta()));
+            assertArrayEquals(esperado, leer(coo.transpuesta()));
+            assertArrayEquals(esperado, leer(new Matriz(csr).transponer()));
+        }
+    }
+
+    @Test
+    void sumasCoincidenConLaMatrizDensa() {
+        var aleatorio = new Random(25);
+
+        for (int prueba = 0; prueba < 30; prueba++) {
+            var datos = dispersa(aleatorio, 1 + aleatorio.nextInt(40), 1 + aleatorio.nextInt(40), 0.08,
+                    Integer.MAX_VALUE);
+            var esperado = new Matriz(datos).calcularSumas();
+            var csr = AlmacenamientoCsr.desde(datos);
+            var coo = new AlmacenamientoCoo(csr.filas(), csr.columnas());
+            csr.recorrer(coo::set);
+
+            for (var almacenamiento : new Almacenamiento[]{csr, coo}) {
+                var sumas = new Matriz(almacenamiento).calcularSumas();
+                assertArrayEquals(esperado.filas(), sumas.filas());
+                assertArrayEquals(esperado.columnas(), sumas.columnas());
+            }
+        }
+    }
+
+    @Test
+    void productoCoincideConLaMatrizDensa() {
+        var aleatorio = new Random(26);
+
+        for (int prueba = 0; prueba < 30; prueba++) {
+            var filas = 1 + aleatorio.nextInt(25);
+            var comun = 1 + aleatorio.nextInt(25);
+            var columnas = 1 + aleatorio.nextInt(25);
+            var a = dispersa(aleatorio, filas, comun, 0.1, 1000);
+            var b = dispersa(aleatorio, comun, columnas, aleatorio.nextBoolean() ? 0.1 : 0.9, 1000);
+            var vector = dispersa(aleatorio, 1, comun, 1, 1000)[0];
+
+            var esperado = leer(new Matriz(a).multiplicar(new Matriz(b)));
+            var esperadoVector = new Matriz(a).multiplicar(vector);
+
+            var coo = new AlmacenamientoCoo(filas, comun);
+            AlmacenamientoCsr.desde(a).recorrer(coo::set);
+
+            assertArrayEquals(esperado, leer(new Matriz(AlmacenamientoCsr.desde(a)).multiplicar(new Matriz(b))));
+            assertArrayEquals(esperado, leer(new Matriz(a).multiplicar(new Matriz(AlmacenamientoCsr.desde(b)))));
+            assertArrayEquals(esperado, leer(new Matriz(coo).multiplicar(Matriz.compacta(b))));
+            assertArrayEquals(esperadoVector, new Matriz(AlmacenamientoCsr.desde(a)).multiplicar(vector));
+            assertArrayEquals(esperadoVector, new Matriz(coo).multiplicar(vector));
+        }
+    }
+
+    @Test
+    void lasOperacionesParalelasSobreMatricesDispersasCoincidenConLaDensa() {
+        var aleatorio = new Random(27);
+        var pool = new ForkJoinPool(4);
+
+        try {
+            for (int prueba = 0; prueba < 20; prueba++) {
+                var n = 2 + aleatorio.nextInt(60);
+                var datos = dispersa(aleatorio, n, n, 0.05, 1000);
+                var pasos = new int[(n + 1) / 2];
+
+                for (int k = 0; k < pasos.length; k++) {
+                    pasos[k] = aleatorio.nextInt(-3 * n, 3 * n);
+                }
+
+                var csr = AlmacenamientoCsr.desde(datos);
+                var coo = new AlmacenamientoCoo(n, n);
+                csr.recorrer(coo::set);
+                var densa = new MatrizCuadrada(datos);
+                var mensaje = "n=%d, prueba %d".formatted(n, prueba);
+
+                for (var matriz : new MatrizCuadrada[]{densa, new MatrizCuadrada(csr), new MatrizCuadrada(coo)}) {
+                    matriz.setUmbralParalelo(1);
+                    matriz.ordenarTriangulosParalelo(Orden.ASCENDENTE, Orden.DESCENDENTE, pool);
+                    matriz.rotarAnillos(Direccion.DERECHA, pasos);
+                }
+
+                var esperado = AlmacenamientoPlano.desde(leer(densa));
+                comparar(esperado, csr, mensaje);
+                comparar(esperado, coo, mensaje);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void crecerNoSeDesbordaCercaDelMaximo() {
+        assertEquals(16, AlmacenamientoCsr.crecer(0));
+        assertEquals(150, AlmacenamientoCsr.crecer(100));
+        assertEquals(Integer.MAX_VALUE - 8, AlmacenamientoCsr.crecer(1_500_000_000));
+        assertEquals(Integer.MAX_VALUE - 8, AlmacenamientoCsr.crecer(Integer.MAX_VALUE - 9));
+        assertThrows(IllegalStateException.class, () -> AlmacenamientoCsr.crecer(Integer.MAX_VALUE - 8));
+    }
+}
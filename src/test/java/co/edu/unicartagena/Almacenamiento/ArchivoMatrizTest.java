@@ -0,0 +1,137 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Lote;
+import co.edu.unicartagena.Matriz;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArchivoMatrizTest {
+    @TempDir
+    Path directorio;
+
+    private static int[][] leer(Almacenamiento almacenamiento) {
+        var datos = new int[almacenamiento.filas()][almacenamiento.columnas()];
+
+        for (int i = 0; i < datos.length; i++) {
+            for (int j = 0; j < datos[i].length; j++) {
+                datos[i][j] = almacenamiento.get(i, j);
+            }
+        }
+
+        return datos;
+    }
+
+    @Test
+    void guardarYAbrirConservaLosDatos() throws IOException {
+        var datos = new int[][]{{1, -2, 3}, {Integer.MAX_VALUE, Integer.MIN_VALUE, 0}};
+        var archivo = directorio.resolve("m.bin");
+
+        ArchivoMatriz.guardar(AlmacenamientoPlano.desde(datos), archivo);
+
+        try (var abierto = ArchivoMatriz.abrir(archivo, true)) {
+            assertArrayEquals(datos, leer(abierto));
+        }
+
+        assertArrayEquals(datos, leer(ArchivoMatriz.cargar(archivo, Ubicacion.HEAP)));
+    }
+
+    @Test
+    void guardarSobreElArchivoProyectadoNoPierdeLosDatos() throws IOException {
+        var datos = new int[][]{{1, 2}, {3, 4}};
+        var archivo = directorio.resolve("m.bin");
+        ArchivoMatriz.guardar(AlmacenamientoPlano.desde(datos), archivo);
+
+        try (var matriz = new Matriz(ArchivoMatriz.abrir(archivo))) {
+            matriz.guardar(archivo);
+            assertEquals(4, matriz.get(1, 1));
+        }
+
+        try (var abierto = ArchivoMatriz.abrir(archivo, true)) {
+            assertArrayEquals(datos, leer(abierto));
+        }
+
+        try (var archivos = Files.list(directorio)) {
+            assertEquals(1, archivos.count(), "No deben quedar archivos temporales");
+        }
+    }
+
+    @Test
+    void loteGuardaSobreElArchivoDeEntrada() throws IOException {
+        var archivo = directorio.resolve("g.bin");
+        ArchivoMatriz.guardar(AlmacenamientoPlano.desde(new int[][]{{5, 6}, {7, 8}}), archivo);
+
+        var codigo = Lote.ejecutar(new String[]{"--archivo", archivo.toString(), "guardar", archivo.toString()},
+                new ByteArrayInputStream(new byte[0]), new PrintStream(new ByteArrayOutputStream()),
+                new PrintStream(new ByteArrayOutputStream()));
+        assertEquals(Lote.EXITO, codigo);
+
+        var salida = new ByteArrayOutputStream();
+        codigo = Lote.ejecutar(new String[]{"--archivo", archivo.toString(), "--formato", "json", "sumas"},
+                new ByteArrayInputStream(new byte[0]), new PrintStream(salida), new PrintStream(new ByteArrayOutputStream()));
+        assertEquals(Lote.EXITO, codigo);
+        assertTrue(salida.toString(StandardCharsets.UTF_8).contains("\"filas\":[11,15]"), salida::toString);
+    }
+
+    /**
+     * Guarda una matriz e invierte un bit de su último dato.
+     */
+    private Path archivoDanado() throws IOException {
+        var archivo = directorio.resolve("danado.bin");
+        ArchivoMatriz.guardar(AlmacenamientoPlano.desde(new int[][]{{1, 2}, {3, 4}}), archivo);
+
+        var bytes = Files.readAllBytes(archivo);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(archivo, bytes);
+
+        return archivo;
+    }
+
+    private static int lote(String... args) {
+        return Lote.ejecutar(args, new ByteArrayInputStream(new byte[0]),
+                new PrintStream(new ByteArrayOutputStream()), new PrintStream(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void cargarRechazaDatosDanados() throws IOException {
+        var archivo = archivoDanado();
+
+        assertThrows(IOException.class, () -> ArchivoMatriz.cargar(archivo, Ubicacion.HEAP));
+        assertThrows(IOException.class, () -> ArchivoMatriz.cargar(archivo, Ubicacion.FUERA_DEL_HEAP));
+        assertThrows(IOException.class, () -> ArchivoMatriz.abrir(archivo, true));
+
+        // Sin verificar, abrir solo comprueba el encabezado.
+        try (var abierto = ArchivoMatriz.abrir(archivo)) {
+            assertEquals(2, abierto.filas());
+        }
+    }
+
+    @Test
+    void loteRechazaDatosDanados() throws IOException {
+        var archivo = archivoDanado().toString();
+
+        assertEquals(Lote.EXITO, lote("--archivo", archivo, "sumas"));
+        assertEquals(Lote.ERROR_ENTRADA, lote("--archivo", archivo, "--verificar", "sumas"));
+        assertEquals(Lote.ERROR_ENTRADA, lote("--archivo", archivo, "rotar", "1", "derecha", "90"));
+    }
+}
@@ -0,0 +1,277 @@
+package co.edu.unicartagena.Almacenamiento;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Matriz;
+import co.edu.unicartagena.MatrizCuadrada;
+import co.edu.unicartagena.Operaciones.Diagonal;
+import co.edu.unicartagena.Operaciones.Direccion;
+import co.edu.unicartagena.Operaciones.Orden;
+import co.edu.unicartagena.Operaciones.Strassen;
+import co.edu.unicartagena.Operaciones.Sumador;
+import co.edu.unicartagena.Operaciones.Triangulo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TipoElementoTest {
+    static long[][] aleatoria(Random aleatorio, int filas, int columnas) {
+        var datos = new long[filas][columnas];
+
+        for (var fila : datos) {
+            for (int j = 0; j < columnas; j++) {
+                fila[j] = aleatorio.nextLong(-(1L << 40), 1L << 40);
+            }
+        }
+
+        return datos;
+    }
+
+    static long[][] leer(Matriz matriz) {
+        var datos = new long[matriz.getFilas()][matriz.getColumnas()];
+
+        for (int i = 0; i < datos.length; i++) {
+            for (int j = 0; j < datos[i].length; j++) {
+                datos[i][j] = matriz.getLong(i, j);
+            }
+        }
+
+        return datos;
+    }
+
+    @Test
+    void elTipoEsElMasPequenoQueAdmiteElIntervalo() {
+        assertEquals(TipoElemento.BYTE, TipoElemento.para(25, 75));
+        assertEquals(TipoElemento.SHORT, TipoElemento.para(-1000, 1000));
+        assertEquals(TipoElemento.INT, TipoElemento.para(Integer.MIN_VALUE, 0));
+        assertEquals(TipoElemento.LONG, TipoElemento.para(0, Integer.MAX_VALUE + 1L));
+        assertThrows(IllegalArgumentException.class, () -> TipoElemento.para(1, 0));
+
+        for (var tipo : TipoElemento.values()) {
+            assertEquals(tipo, TipoElemento.de(tipo.crear(2, 3)));
+        }
+    }
+
+    @Test
+    void todosLosTiposCompartenLaDisposicionPorFilas() {
+        var aleatorio = new Random(25);
+        var datos = new int[9][7];
+
+        for (var fila : datos) {
+            for (int j = 0; j < fila.length; j++) {
+                fila[j] = aleatorio.nextInt(-100, 100);
+            }
+        }
+
+        for (var tipo : TipoElemento.values()) {
+            var almacenamiento = (AlmacenamientoPorFilas) tipo.desde(datos);
+            var vista = almacenamiento.subVista(2, 3, 5, 4);
+
+            assertEquals(almacenamiento.stride(), vista.stride(), tipo.name());
+            assertEquals(almacenamiento.indice(2, 3), vista.offset(), tipo.name());
+
+            for (int i = 0; i < 5; i++) {
+                for (int j = 0; j < 4; j++) {
+                    assertEquals(datos[2 + i][3 + j], vista.get(i, j), tipo.name());
+                }
+            }
+
+            vista.set(4, 3, -7);
+            assertEquals(-7, almacenamiento.get(6, 6), tipo.name());
+            assertThrows(IndexOutOfBoundsException.class, () -> almacenamiento.subVista(5, 0, 5, 1), tipo.name());
+            assertThrows(IndexOutOfBoundsException.class, () -> vista.get(5, 0), tipo.name());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new AlmacenamientoLong(new long[10], 0, 3, 4, 3));
+        assertThrows(IllegalArgumentException.class, () -> TipoElemento.LONG.desde(new int[][]{{1, 2}, {3}}));
+    }
+
+    @Test
+    void lasCeldasLongGuardanValoresQueNoCabenEnUnInt() {
+        var almacenamiento = new AlmacenamientoLong(2, 2);
+        almacenamiento.setLong(0, 1, Long.MAX_VALUE);
+        almacenamiento.set(1, 0, Integer.MIN_VALUE);
+
+        assertEquals(Long.MAX_VALUE, almacenamiento.getLong(0, 1));
+        assertEquals(Integer.MIN_VALUE, almacenamiento.get(1, 0));
+        assertThrows(ArithmeticException.class, () -> almacenamiento.get(0, 1));
+
+        var enteros = new AlmacenamientoPlano(1, 1);
+        assertThrows(IllegalArgumentException.class, () -> enteros.setLong(0, 0, 1L << 32));
+        assertThrows(IllegalArgumentException.class, () -> new AlmacenamientoShort(1, 1).setLong(0, 0, 1 << 16));
+        enteros.setLong(0, 0, -5);
+        assertEquals(-5L, enteros.getLong(0, 0));
+    }
+
+    @Test
+    void lasSumasConCeldasLongCoincidenConLasIngenuas() {
+        var aleatorio = new Random(26);
+        var datos = aleatoria(aleatorio, 40, 30);
+        var matriz = new Matriz(AlmacenamientoLong.desde(datos));
+        var filas = new long[40];
+        var columnas = new long[30];
+
+        for (int i = 0; i < 40; i++) {
+            for (int j = 0; j < 30; j++) {
+                filas[i] += datos[i][j];
+                columnas[j] += datos[i][j];
+            }
+        }
+
+        var sumas = matriz.calcularSumas();
+        assertArrayEquals(filas, sumas.filas());
+        assertArrayEquals(columnas, sumas.columnas());
+
+        matriz.setLong(3, 4, datos[3][4] + (1L << 50));
+        sumas = matriz.calcularSumas();
+        assertEquals(filas[3] + (1L << 50), sumas.filas()[3]);
+        assertEquals(columnas[4] + (1L << 50), sumas.columnas()[4]);
+
+        long diagonal = 0;
+        for (int i = 0; i < 30; i++) {
+            diagonal += datos[i][i];
+        }
+        assertEquals(diagonal, Sumador.sumarDiagonal(AlmacenamientoLong.desde(datos)));
+    }
+
+    @Test
+    void lasTransformacionesConservanLosValoresLong() {
+        var aleatorio = new Random(27);
+        var n = 9;
+        var datos = aleatoria(aleatorio, n, n);
+
+        var transpuesta = new Matriz(AlmacenamientoLong.desde(datos)).transponer();
+        assertEquals(TipoElemento.LONG, transpuesta.getTipoElemento());
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals(datos[i][j], transpuesta.getLong(j, i));
+            }
+        }
+
+        for (var diferida : new boolean[]{false, true}) {
+            var matriz = new MatrizCuadrada(AlmacenamientoLong.desde(datos));
+            matriz.setRotacionDiferida(diferida);
+            matriz.rotarAnillo(1, "derecha", 90);
+            assertEquals(datos[0][0], matriz.getLong(0, n - 1), "diferida=" + diferida);
+            matriz.rotarAnillo(2, "izquierda", 180);
+            matriz.rotarAnillo(2, "derecha", 180);
+            matriz.rotarAnillo(1, "izquierda", 90);
+            matriz.rotar(Direccion.DERECHA, 90);
+            matriz.rotar(Direccion.IZQUIERDA, 90);
+
+            assertArrayEquals(datos, leer(matriz), "diferida=" + diferida);
+        }
+    }
+
+    @Test
+    void lasRegionesYLasVistasConservanLosValoresLong() {
+        var aleatorio = new Random(28);
+        var n = 7;
+        var datos = aleatoria(aleatorio, n, n);
+        var matriz = new MatrizCuadrada(AlmacenamientoLong.desde(datos));
+        var anillo = matriz.vistaAnillo(1);
+        var valores = new ArrayList<Long>();
+        long suma = 0;
+
+        for (int k = 0; k < anillo.tamano(); k++) {
+            assertEquals(datos[anillo.fila(k)][anillo.columna(k)], anillo.getLong(k));
+            suma += anillo.getLong(k);
+        }
+
+        anillo.recorrerLong(valores::add);
+        assertEquals(anillo.tamano(), valores.size());
+        assertEquals(suma, anillo.sumar());
+        assertThrows(ArithmeticException.class, () -> anillo.recorrer(valor -> { }));
+
+        var rotada = new MatrizCuadrada(AlmacenamientoLong.desde(datos));
+        rotada.rotarAnillo(1, Direccion.DERECHA, 3);
+        anillo.desplazar(3);
+        assertArrayEquals(leer(rotada), leer(matriz));
+
+        var producto = BigInteger.ONE;
+        for (int i = 0; i < n; i++) {
+            producto = producto.multiply(BigInteger.valueOf(matriz.getLong(i, n - 1 - i)));
+        }
+        assertEquals(producto, matriz.getProductoDiagonalSecundariaExacto());
+        assertEquals(matriz.getLong(2, 2), matriz.vistaDiagonal(Diagonal.PRINCIPAL).getLong(2));
+
+        var base = new AlmacenamientoLong(4, 4);
+        var vista = new Vista(base, 1, 1, 2, 2);
+        vista.setLong(1, 1, 1L << 40);
+        assertEquals(1L << 40, base.getLong(2, 2));
+        assertEquals(1L << 40, vista.getLong(1, 1));
+        assertThrows(ArithmeticException.class, () -> vista.get(1, 1));
+    }
+
+    @Test
+    void elProductoConCeldasLongEsLong() {
+        var aleatorio = new Random(29);
+        var n = 37;
+        var a = new long[n][n];
+        var b = new int[n][n];
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                a[i][j] = aleatorio.nextLong(-(1L << 36), 1L << 36);
+                b[i][j] = aleatorio.nextInt(-1000, 1000);
+            }
+        }
+
+        var esperado = new long[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < n; k++) {
+                for (int j = 0; j < n; j++) {
+                    esperado[i][j] += a[i][k] * b[k][j];
+                }
+            }
+        }
+
+        var izquierdo = new MatrizCuadrada(AlmacenamientoLong.desde(a));
+        var producto = izquierdo.multiplicar(new MatrizCuadrada(b));
+        assertEquals(TipoElemento.LONG, producto.getTipoElemento());
+        assertArrayEquals(esperado, leer(producto));
+        assertArrayEquals(esperado, leer(izquierdo.multiplicar(new MatrizCuadrada(b),
+                new Strassen(4, new ForkJoinPool(2)))));
+
+        var vector = b[0];
+        var columna = izquierdo.multiplicar(vector);
+        for (int i = 0; i < n; i++) {
+            long suma = 0;
+            for (int j = 0; j < n; j++) {
+                suma += a[i][j] * vector[j];
+            }
+            assertEquals(suma, columna[i]);
+        }
+    }
+
+    @Test
+    void ordenarYGuardarNoAdmitenCeldasLong(@TempDir Path directorio) {
+        var matriz = new MatrizCuadrada(AlmacenamientoLong.desde(aleatoria(new Random(30), 5, 5)));
+        var antes = leer(matriz);
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> matriz.ordenarTriangulo(Triangulo.INFERIOR, Orden.ASCENDENTE));
+        assertThrows(UnsupportedOperationException.class,
+                () -> matriz.ordenarTriangulosParalelo(Orden.ASCENDENTE, Orden.DESCENDENTE));
+        assertThrows(UnsupportedOperationException.class,
+                () -> matriz.vistaTriangulo(Triangulo.SUPERIOR).ordenar(Orden.ASCENDENTE));
+        assertThrows(UnsupportedOperationException.class, () -> matriz.guardar(directorio.resolve("m.bin")));
+        assertArrayEquals(antes, leer(matriz));
+    }
+}
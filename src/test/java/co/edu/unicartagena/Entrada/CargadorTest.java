@@ -0,0 +1,204 @@
+package co.edu.unicartagena.Entrada;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoSegmento;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CargadorTest {
+    @TempDir
+    Path directorio;
+
+    /**
+     * Canal que entrega el texto en lecturas de pocos bytes, para que los números queden partidos entre bloques.
+     */
+    static final class CanalLento implements ReadableByteChannel {
+        private final byte[] bytes;
+        private final Random aleatorio;
+        private int posicion;
+
+        CanalLento(byte[] bytes, Random aleatorio) {
+            this.bytes = bytes;
+            this.aleatorio = aleatorio;
+        }
+
+        @Override
+        public int read(ByteBuffer destino) {
+            if (posicion == bytes.length) {
+                return -1;
+            }
+
+            var cantidad = Math.min(Math.min(1 + aleatorio.nextInt(7), destino.remaining()), bytes.length - posicion);
+            destino.put(bytes, posicion, cantidad);
+            posicion += cantidad;
+            return cantidad;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    static int[][] leer(Almacenamiento almacenamiento) {
+        var datos = new int[almacenamiento.filas()][almacenamiento.columnas()];
+
+        for (int i = 0; i < datos.length; i++) {
+            for (int j = 0; j < datos[i].length; j++) {
+                datos[i][j] = almacenamiento.get(i, j);
+            }
+        }
+
+        if (almacenamiento instanceof AlmacenamientoSegmento segmento) {
+            segmento.close();
+        }
+
+        return datos;
+    }
+
+    static int valor(Random aleatorio) {
+        return switch (aleatorio.nextInt(4)) {
+            case 0 -> aleatorio.nextBoolean() ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            case 1 -> aleatorio.nextInt(-9, 10);
+            default -> aleatorio.nextInt();
+        };
+    }
+
+    /**
+     * Escribe una matriz como texto con separadores, signos, finales de línea y líneas en blanco variados.
+     */
+    static String texto(int[][] datos, Random aleatorio) {
+        var texto = new StringBuilder();
+        String[] separadores = {" ", "\t", "  ", " \t ", "\r"};
+
+        for (var fila : datos) {
+            if (aleatorio.nextInt(5) == 0) {
+                texto.append(aleatorio.nextBoolean() ? "\n" : " \t\r\n");
+            }
+
+            if (aleatorio.nextBoolean()) {
+                texto.append(separadores[aleatorio.nextInt(separadores.length)]);
+            }
+
+            for (int j = 0; j < fila.length; j++) {
+                if (j > 0) {
+                    texto.append(separadores[aleatorio.nextInt(separadores.length)]);
+                }
+
+                if (fila[j] >= 0 && aleatorio.nextInt(4) == 0) {
+                    texto.append('+');
+                }
+
+                texto.append(fila[j]);
+            }
+
+            texto.append(aleatorio.nextBoolean() ? "\n" : "\r\n");
+        }
+
+        if (aleatorio.nextBoolean()) {
+            texto.setLength(texto.length() - 1);
+        }
+
+        return texto.toString();
+    }
+
+    @Test
+    void cargarCoincideConLosDatosEscritos() throws IOException {
+        var aleatorio = new Random(17);
+
+        for (int prueba = 0; prueba < 60; prueba++) {
+            var filas = 1 + aleatorio.nextInt(30);
+            var columnas = 1 + aleatorio.nextInt(30);
+            var datos = new int[filas][columnas];
+
+            for (var fila : datos) {
+                for (int j = 0; j < columnas; j++) {
+                    fila[j] = valor(aleatorio);
+                }
+            }
+
+            var bytes = texto(datos, aleatorio).getBytes(StandardCharsets.US_ASCII);
+            var ubicacion = Ubicacion.values()[prueba % Ubicacion.values().length];
+            var mensaje = "%dx%d en %s".formatted(filas, columnas, ubicacion);
+
+            assertArrayEquals(datos, leer(Cargador.cargar(new CanalLento(bytes, aleatorio), false, ubicacion)),
+                    mensaje);
+            assertArrayEquals(datos, leer(Cargador.cargar(new CanalLento(bytes, aleatorio), filas, columnas, false,
+                    ubicacion)), mensaje);
+
+            var archivo = directorio.resolve("matriz.txt");
+            Files.write(archivo, bytes);
+            assertArrayEquals(datos, leer(Cargador.cargar(archivo, false, ubicacion)), mensaje);
+        }
+    }
+
+    @Test
+    void cargarArchivoDeVariosBloques() throws IOException {
+        var aleatorio = new Random(170);
+        var datos = new int[300][300];
+
+        for (var fila : datos) {
+            for (int j = 0; j < fila.length; j++) {
+                fila[j] = aleatorio.nextInt();
+            }
+        }
+
+        var archivo = directorio.resolve("grande.txt");
+        Files.writeString(archivo, texto(datos, aleatorio), StandardCharsets.US_ASCII);
+
+        assertArrayEquals(datos, leer(Cargador.cargar(archivo, 300, 300, false, Ubicacion.HEAP)));
+        assertArrayEquals(datos, leer(Cargador.cargar(archivo, false, Ubicacion.FUERA_DEL_HEAP)));
+    }
+
+    static void comprobarError(String texto, boolean excluirCero, long linea, long columna) {
+        var bytes = texto.getBytes(StandardCharsets.US_ASCII);
+        var error = assertThrows(FormatoInvalidoException.class,
+                () -> Cargador.cargar(new CanalLento(bytes, new Random(0)), excluirCero, Ubicacion.HEAP), texto);
+        assertEquals(linea, error.getLinea(), texto);
+        assertEquals(columna, error.getColumna(), texto);
+    }
+
+    @Test
+    void erroresIndicanLaLineaYLaColumna() {
+        comprobarError("1 2\n3 x\n", false, 2, 3);
+        comprobarError("1 2\n3\n", false, 2, 0);
+        comprobarError("1 2\n3 4 5\n", false, 2, 5);
+        comprobarError("1 -\n", false, 1, 3);
+        comprobarError("1 2+\n", false, 1, 4);
+        comprobarError("\n\n  2147483648\n", false, 3, 3);
+        comprobarError("-2147483649", false, 1, 1);
+        comprobarError("99999999999999999999999", false, 1, 1);
+        comprobarError("5 0 5\n", true, 1, 3);
+        comprobarError("\n \t\r\n", false, 3, 0);
+
+        var error = assertThrows(FormatoInvalidoException.class, () -> Cargador.cargar(
+                new CanalLento("1 2\n3 4\n".getBytes(StandardCharsets.US_ASCII), new Random(0)), 3, 2, false,
+                Ubicacion.HEAP));
+        assertEquals(3, error.getLinea());
+    }
+}
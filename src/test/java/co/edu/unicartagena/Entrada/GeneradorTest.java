@@ -0,0 +1,131 @@
+package co.edu.unicartagena.Entrada;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoSegmento;
+import co.edu.unicartagena.Almacenamiento.TipoElemento;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeneradorTest {
+    @Test
+    void mismaSemillaProduceLaMismaMatrizConCualquierPool() {
+        var generador = Generador.cerrado(-1000, 1000).sinCero();
+        // La última tiene más celdas que Generador.UMBRAL_PARALELO, por lo que se llena en paralelo.
+        int[][] dimensiones = {{1, 1}, {3, 70_000}, {257, 513}, {700, 600}};
+
+        for (var dimension : dimensiones) {
+            var filas = dimension[0];
+            var columnas = dimension[1];
+            var esperado = new AlmacenamientoPlano(filas, columnas);
+            try (var pool = new ForkJoinPool(1)) {
+                generador.llenar(esperado, 42, pool);
+            }
+
+            for (var hilos : new int[]{2, 3, 4, 8}) {
+                try (var pool = new ForkJoinPool(hilos)) {
+                    var plano = new AlmacenamientoPlano(filas, columnas);
+                    generador.llenar(plano, 42, pool);
+                    assertArrayEquals(esperado.datos(), plano.datos(),
+                            "%dx%d con %d hilos".formatted(filas, columnas, hilos));
+                }
+            }
+
+            try (var segmento = (AlmacenamientoSegmento) generador.generar(filas, columnas, 42,
+                    Ubicacion.FUERA_DEL_HEAP)) {
+                assertIguales(esperado, segmento);
+            }
+
+            var otra = new AlmacenamientoPlano(filas, columnas);
+            generador.llenar(otra, 43);
+            if (filas * columnas > 1) {
+                assertFalse(Arrays.equals(esperado.datos(), otra.datos()));
+            }
+        }
+    }
+
+    @Test
+    void tiposDeCeldasPequenosProducenLosMismosValores() {
+        var generador = Generador.cerrado(25, 75);
+        assertEquals(TipoElemento.BYTE, generador.tipo());
+
+        var bytes = generador.generar(600, 600, 9);
+        assertEquals(TipoElemento.BYTE, TipoElemento.de(bytes));
+
+        var plano = new AlmacenamientoPlano(600, 600);
+        generador.llenar(plano, 9);
+        assertIguales(plano, bytes);
+
+        var shorts = TipoElemento.SHORT.crear(600, 600);
+        generador.llenar(shorts, 9);
+        assertIguales(plano, shorts);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Generador.cerrado(0, 1000).llenar(TipoElemento.BYTE.crear(2, 2), 1));
+    }
+
+    @Test
+    void valoresQuedanDentroDelIntervalo() {
+        assertIntervalo(Generador.cerrado(5, 25), 5, 25, false);
+        assertIntervalo(Generador.semiabierto(5, 25), 5, 24, false);
+        assertIntervalo(Generador.cerrado(-3, 3).sinCero(), -3, 3, true);
+        assertIntervalo(Generador.cerrado(0, 4).sinCero(), 1, 4, true);
+        assertIntervalo(Generador.cerrado(1, 6).conNegativos(), -6, 6, true);
+        assertIntervalo(Generador.cerrado(Integer.MIN_VALUE, Integer.MAX_VALUE).sinCero(), Integer.MIN_VALUE,
+                Integer.MAX_VALUE, true);
+
+        assertThrows(IllegalArgumentException.class, () -> Generador.cerrado(0, 0).sinCero());
+        assertThrows(IllegalArgumentException.class, () -> Generador.cerrado(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> Generador.semiabierto(1, 1));
+    }
+
+    /**
+     * Comprueba que los valores estén en {@code [minimo, maximo]} y, en intervalos pequeños, que aparezcan todos
+     * los valores permitidos.
+     */
+    static void assertIntervalo(Generador generador, int minimo, int maximo, boolean sinCero) {
+        var plano = new AlmacenamientoPlano(300, 300);
+        generador.llenar(plano, 7);
+        var pequeno = (long) maximo - minimo < 100;
+        var vistos = new boolean[pequeno ? maximo - minimo + 1 : 0];
+
+        for (var valor : plano.datos()) {
+            assertTrue(valor >= minimo && valor <= maximo, "valor %d".formatted(valor));
+            assertTrue(!sinCero || valor != 0, "cero no permitido");
+
+            if (pequeno) {
+                vistos[valor - minimo] = true;
+            }
+        }
+
+        for (int k = 0; k < vistos.length; k++) {
+            var valor = minimo + k;
+            assertEquals(!(sinCero && valor == 0), vistos[k], "valor %d".formatted(valor));
+        }
+    }
+
+    static void assertIguales(Almacenamiento esperado, Almacenamiento almacenamiento) {
+        for (int i = 0; i < esperado.filas(); i++) {
+            for (int j = 0; j < esperado.columnas(); j++) {
+                assertEquals(esperado.get(i, j), almacenamiento.get(i, j), "(%d, %d)".formatted(i, j));
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package co.edu.unicartagena;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoteTest {
+    /**
+     * Matriz cuadrada de texto con dos anillos.
+     */
+    static final String CUADRADA = """
+            1 2 3 4
+            5 6 7 8
+            9 10 11 12
+            13 14 15 16
+            """;
+
+    @TempDir
+    Path directorio;
+
+    /**
+     * Resultado de una ejecución del lote.
+     *
+     * @param codigo  Código de salida.
+     * @param salida  Texto escrito en la salida.
+     * @param errores Texto escrito en la salida de errores.
+     */
+    record Ejecucion(int codigo, String salida, String errores) {
+    }
+
+    static Ejecucion lote(String entrada, String... args) {
+        var salida = new ByteArrayOutputStream();
+        var errores = new ByteArrayOutputStream();
+        var codigo = Lote.ejecutar(args, new ByteArrayInputStream(entrada.getBytes(StandardCharsets.UTF_8)),
+                new PrintStream(salida, true, StandardCharsets.UTF_8),
+                new PrintStream(errores, true, StandardCharsets.UTF_8));
+
+        return new Ejecucion(codigo, salida.toString(StandardCharsets.UTF_8), errores.toString(StandardCharsets.UTF_8));
+    }
+
+    static void assertUsoIncorrecto(Ejecucion ejecucion, String mensaje) {
+        assertEquals(Lote.USO_INCORRECTO, ejecucion.codigo(), ejecucion::errores);
+        assertEquals("", ejecucion.salida());
+        assertTrue(ejecucion.errores().contains(mensaje), ejecucion::errores);
+        assertTrue(ejecucion.errores().contains(Lote.USO), ejecucion::errores);
+    }
+
+    @Test
+    void lasOperacionesSeEjecutanEnOrden() {
+        var ejecucion = lote(CUADRADA, "--archivo", "-", "--formato", "json", "sumas", "rotar", "1", "derecha", "90",
+                "ORDENAR", "inferior", "descendente", "diagonales");
+
+        assertEquals(Lote.EXITO, ejecucion.codigo(), ejecucion::errores);
+        assertEquals("""
+                {"operacion":"sumas","filas":[10,26,42,58],"columnas":[28,32,36,40]}
+                {"operacion":"rotar","version":1}
+                {"operacion":"ordenar","version":2}
+                {"operacion":"diagonales","sumaPrincipal":34,"productoSecundaria":1176,"division":0.0289}
+                """, ejecucion.salida());
+        assertEquals("", ejecucion.errores());
+    }
+
+    @Test
+    void elGuionIgnoraComentariosYLineasEnBlanco() throws IOException {
+        var guion = directorio.resolve("guion.txt");
+        Files.writeString(guion, """
+                # Sumas antes y después de rotar
+                sumas
+
+                   rotar matriz izquierda 180   # media vuelta
+                sumas#sin espacio antes del comentario
+                """);
+
+        var ejecucion = lote(CUADRADA, "--archivo", "-", "--formato", "json", "--guion", guion.toString(), "mostrar");
+
+        assertEquals(Lote.EXITO, ejecucion.codigo(), ejecucion::errores);
+        assertEquals("""
+                {"operacion":"mostrar","filas":4,"columnas":4,"datos":[[1,2,3,4],[5,6,7,8],[9,10,11,12],[13,14,15,16]]}
+                {"operacion":"sumas","filas":[10,26,42,58],"columnas":[28,32,36,40]}
+                {"operacion":"rotar","version":1}
+                {"operacion":"sumas","filas":[58,42,26,10],"columnas":[40,36,32,28]}
+                """, ejecucion.salida());
+
+        // El guion también se puede leer de la entrada estándar cuando la matriz se genera
+        var generada = lote("sumas # comentario\n", "--generar", "3x2", "--guion", "-");
+        assertEquals(Lote.EXITO, generada.codigo(), generada::errores);
+        assertTrue(generada.salida().contains("Suma"), generada::salida);
+    }
+
+    @Test
+    void losArgumentosNoValidosTerminanConUsoIncorrecto() {
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-"), "No se indicó ninguna operación.");
+        assertUsoIncorrecto(lote(CUADRADA, "sumas"), "exactamente una entrada");
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "--generar", "2x2", "sumas"), "exactamente una entrada");
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "--color", "sumas"), "Opción desconocida: --color.");
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "sumas", "--formato"), "Falta el valor de la opción");
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "--formato", "xml", "sumas"), "Formato no válido");
+        assertUsoIncorrecto(lote(CUADRADA, "--generar", "3y3", "sumas"), "Dimensiones no válidas");
+        assertUsoIncorrecto(lote(CUADRADA, "--generar", "0x3", "sumas"), "deben ser positivas");
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "transponer"), "Operación desconocida: 'transponer'.");
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "rotar", "1", "derecha"), "necesita 3 argumentos");
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "ordenar", "diagonal", "ascendente"),
+                "Triángulo no válido: 'diagonal'.");
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "ordenar", "inferior", "creciente"),
+                "Orden no válido: 'creciente'.");
+    }
+
+    @Test
+    void losAnillosYLosGradosNoValidosTerminanConUsoIncorrecto() {
+        for (var anillo : new String[]{"0", "-1", "uno", "2147483648"}) {
+            assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "rotar", anillo, "derecha", "90"),
+                    "Anillo no válido: '%s'.".formatted(anillo));
+        }
+
+        for (var grados : new String[]{"0", "45", "360", "-90"}) {
+            assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "rotar", "1", "derecha", grados),
+                    "Grados no válidos: %s.".formatted(grados));
+        }
+
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "rotar", "1", "derecha", "noventa"),
+                "Grados no válido: 'noventa'.");
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "rotar", "1", "arriba", "90"), "arriba");
+    }
+
+    @Test
+    void losErroresDelGuionIndicanLaLinea() throws IOException {
+        var guion = directorio.resolve("guion.txt");
+        Files.writeString(guion, "# comentario\nsumas\nrotar 1 derecha 45\n");
+
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "--guion", guion.toString()),
+                "Guion, línea 3: Grados no válidos: 45.");
+
+        Files.writeString(guion, "sumas\n\nordenar inferior # sin orden\n");
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "--guion", guion.toString()),
+                "Guion, línea 3: la operación 'ordenar' necesita 2 argumentos.");
+    }
+
+    @Test
+    void laMatrizYElGuionNoSeLeenAmbosDeLaEntradaEstandar() {
+        assertUsoIncorrecto(lote(CUADRADA, "--archivo", "-", "--guion", "-"),
+                "La matriz y el guion no pueden leerse ambos de la entrada estándar.");
+        assertUsoIncorrecto(lote(CUADRADA, "--guion", "-", "--archivo", "-", "sumas"),
+                "La matriz y el guion no pueden leerse ambos de la entrada estándar.");
+    }
+
+    @Test
+    void unaOperacionQueNoSePuedeAplicarTerminaConFalloDeOperacion() {
+        var rectangular = "1 2 3\n4 5 6\n";
+        var ejecucion = lote(rectangular, "--archivo", "-", "--formato", "json", "sumas", "diagonales", "mostrar");
+
+        // Las operaciones anteriores ya se escribieron y las posteriores no se ejecutan
+        assertEquals(Lote.FALLO_OPERACION, ejecucion.codigo(), ejecucion::errores);
+        assertEquals("{\"operacion\":\"sumas\",\"filas\":[6,15],\"columnas\":[5,7,9]}\n", ejecucion.salida());
+        assertTrue(ejecucion.errores().contains("Error en la operación 2 (diagonales): La matriz debe ser cuadrada "
+                + "(2x3)."), ejecucion::errores);
+
+        for (var operacion : new String[][]{{"ordenar", "superior", "ascendente"}, {"rotar", "1", "derecha", "90"},
+                {"rotar", "matriz", "izquierda", "180"}}) {
+            var args = new String[operacion.length + 2];
+            args[0] = "--archivo";
+            args[1] = "-";
+            System.arraycopy(operacion, 0, args, 2, operacion.length);
+
+            assertEquals(Lote.FALLO_OPERACION, lote(rectangular, args).codigo(), String.join(" ", operacion));
+        }
+
+        // La matriz de 4x4 solo tiene dos anillos
+        var anillo = lote(CUADRADA, "--archivo", "-", "rotar", "3", "derecha", "90");
+        assertEquals(Lote.FALLO_OPERACION, anillo.codigo(), anillo::errores);
+        assertTrue(anillo.errores().contains("Anillo no válido: 3. Debe estar entre 1 y 2."), anillo::errores);
+    }
+
+    @Test
+    void unaEntradaOSalidaInaccesibleTerminaConErrorDeEntrada() throws IOException {
+        var inexistente = directorio.resolve("no-existe.txt").toString();
+
+        var matriz = lote("", "--archivo", inexistente, "sumas");
+        assertEquals(Lote.ERROR_ENTRADA, matriz.codigo(), matriz::errores);
+        assertTrue(matriz.errores().contains("No existe el archivo"), matriz::errores);
+
+        var guion = lote(CUADRADA, "--archivo", "-", "--guion", inexistente);
+        assertEquals(Lote.ERROR_ENTRADA, guion.codigo(), guion::errores);
+        assertTrue(guion.errores().contains("no se pudo leer el guion"), guion::errores);
+
+        var formato = lote("1 2\n3 x\n", "--archivo", "-", "sumas");
+        assertEquals(Lote.ERROR_ENTRADA, formato.codigo(), formato::errores);
+
+        var sinDirectorio = directorio.resolve("falta/r.txt").toString();
+        var salida = lote(CUADRADA, "--archivo", "-", "--salida", sinDirectorio, "sumas");
+        assertEquals(Lote.ERROR_ENTRADA, salida.codigo(), salida::errores);
+        assertTrue(salida.errores().contains("no se pudo escribir el resultado"), salida::errores);
+
+        var archivo = directorio.resolve("m.txt");
+        Files.writeString(archivo, CUADRADA);
+        var resultado = directorio.resolve("r.txt");
+        var exito = lote("", "--archivo", archivo.toString(), "--salida", resultado.toString(), "--formato", "json",
+                "sumas");
+        assertEquals(Lote.EXITO, exito.codigo(), exito::errores);
+        assertEquals("", exito.salida());
+        assertEquals("{\"operacion\":\"sumas\",\"filas\":[10,26,42,58],\"columnas\":[28,32,36,40]}\n",
+                Files.readString(resultado));
+    }
+}
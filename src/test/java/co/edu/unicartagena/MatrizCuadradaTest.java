@@ -0,0 +1,496 @@
+package co.edu.unicartagena;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Operaciones.Diagonal;
+import co.edu.unicartagena.Operaciones.Direccion;
+import co.edu.unicartagena.Operaciones.Orden;
+import co.edu.unicartagena.Operaciones.Rotador;
+import co.edu.unicartagena.Operaciones.Triangulo;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatrizCuadradaTest {
+    private static final String[] DIRECCIONES = {"derecha", "izquierda", "DERECHA", "Izquierda"};
+
+    static int[][] aleatoria(Random aleatorio, int n) {
+        var datos = new int[n][n];
+
+        for (var fila : datos) {
+            for (int j = 0; j < n; j++) {
+                fila[j] = aleatorio.nextInt(-1000, 1000);
+            }
+        }
+
+        return datos;
+    }
+
+    static int[][] leer(Matriz matriz) {
+        var datos = new int[matriz.getFilas()][matriz.getColumnas()];
+
+        for (int i = 0; i < datos.length; i++) {
+            for (int j = 0; j < datos[i].length; j++) {
+                datos[i][j] = matriz.get(i, j);
+            }
+        }
+
+        return datos;
+    }
+
+    static int[][] copiar(int[][] datos) {
+        var copia = new int[datos.length][];
+
+        for (int i = 0; i < datos.length; i++) {
+            copia[i] = datos[i].clone();
+        }
+
+        return copia;
+    }
+
+    /**
+     * Rotación original de un anillo con cuatro vectores auxiliares, que se usa como referencia.
+     */
+    static void rotarAnilloOriginal(int[][] matriz, int anillo, String direction, int grados) {
+        var n = matriz.length;
+
+        int[] top = new int[n - 2 * anillo + 2];
+        int[] right = new int[n - 2 * anillo + 2];
+        int[] bottom = new int[n - 2 * anillo + 2];
+        int[] left = new int[n - 2 * anillo + 2];
+
+        int idx = 0;
+        for (int i = anillo - 1; i < n - anillo + 1; i++) {
+            top[idx] = matriz[anillo - 1][i];
+            right[idx] = matriz[i][n - anillo];
+            bottom[idx] = matriz[n - anillo][n - i - 1];
+            left[idx] = matriz[n - i - 1][anillo - 1];
+            idx++;
+        }
+
+        // Girar a la izquierda 90 o 270 grados equivale a girar a la derecha 270 o 90
+        int cuartos;
+        if (direction.equalsIgnoreCase("derecha")) {
+            cuartos = grados / 90;
+        } else if (direction.equalsIgnoreCase("izquierda")) {
+            cuartos = 4 - grados / 90;
+        } else {
+            return;
+        }
+
+        if (grados != 90 && grados != 180 && grados != 270) {
+            return;
+        }
+
+        idx = 0;
+        for (int i = anillo - 1; i < n - anillo + 1; i++) {
+            switch (cuartos) {
+                case 1 -> {
+                    matriz[anillo - 1][i] = left[idx];
+                    matriz[i][n - anillo] = top[idx];
+                    matriz[n - anillo][n - i - 1] = right[idx];
+                    matriz[n - i - 1][anillo - 1] = bottom[idx];
+                }
+                case 2 -> {
+                    matriz[anillo - 1][i] = bottom[idx];
+                    matriz[i][n - anillo] = left[idx];
+                    matriz[n - anillo][n - i - 1] = top[idx];
+                    matriz[n - i - 1][anillo - 1] = right[idx];
+                }
+                case 3 -> {
+                    matriz[anillo - 1][i] = right[idx];
+                    matriz[i][n - anillo] = bottom[idx];
+                    matriz[n - anillo][n - i - 1] = left[idx];
+                    matriz[n - i - 1][anillo - 1] = top[idx];
+                }
+            }
+            idx++;
+        }
+    }
+
+    static long sumaDiagonal(int[][] datos) {
+        long suma = 0;
+
+        for (int i = 0; i < datos.length; i++) {
+            suma += datos[i][i];
+        }
+
+        return suma;
+    }
+
+    static BigInteger productoSecundaria(int[][] datos) {
+        var producto = BigInteger.ONE;
+
+        for (int i = 0; i < datos.length; i++) {
+            producto = producto.multiply(BigInteger.valueOf(datos[i][datos.length - 1 - i]));
+        }
+
+        return producto;
+    }
+
+    @Test
+    void rotarAnilloCoincideConElAlgoritmoOriginal() {
+        var aleatorio = new Random(20231010);
+        int[] angulos = {90, 180, 270, 0, 45, 360, -90, 450};
+
+        for (int n = 1; n <= 40; n++) {
+            var esperado = aleatoria(aleatorio, n);
+            var matriz = new MatrizCuadrada(copiar(esperado));
+
+            for (int paso = 0; paso < 60; paso++) {
+                var anillo = 1 + aleatorio.nextInt(Rotador.anillos(n));
+                var direccion = DIRECCIONES[aleatorio.nextInt(DIRECCIONES.length)];
+                var grados = angulos[aleatorio.nextInt(angulos.length)];
+
+                rotarAnilloOriginal(esperado, anillo, direccion, grados);
+                matriz.rotarAnillo(anillo, direccion, grados);
+
+                assertArrayEquals(esperado, leer(matriz),
+                        "n=%d, anillo %d, %s %d".formatted(n, anillo, direccion, grados));
+            }
+
+            assertEquals(sumaDiagonal(esperado), matriz.getSumaDiagonalPrincipalLong(), "n=%d".formatted(n));
+        }
+    }
+
+    @Test
+    void rotarAnilloConTodosLosAngulosYDirecciones() {
+        var aleatorio = new Random(7);
+
+        for (int n = 1; n <= 40; n++) {
+            var original = aleatoria(aleatorio, n);
+
+            for (int anillo = 1; anillo <= Rotador.anillos(n); anillo++) {
+                for (var direccion : DIRECCIONES) {
+                    for (var grados : new int[]{90, 180, 270}) {
+                        var esperado = copiar(original);
+                        var matriz = new MatrizCuadrada(copiar(original));
+
+                        rotarAnilloOriginal(esperado, anillo, direccion, grados);
+                        matriz.rotarAnillo(anillo, direccion, grados);
+
+                        assertArrayEquals(esperado, leer(matriz),
+                                "n=%d, anillo %d, %s %d".formatted(n, anillo, direccion, grados));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void angulosYDireccionesNoValidosNoCambianLaMatriz() {
+        var aleatorio = new Random(11);
+
+        for (int n = 1; n <= 12; n++) {
+            var original = aleatoria(aleatorio, n);
+            var matriz = new MatrizCuadrada(copiar(original));
+
+            for (var grados : new int[]{0, 1, 45, 89, 91, 360, -90, -180, 450, Integer.MIN_VALUE}) {
+                matriz.rotarAnillo(1, "derecha", grados);
+                matriz.rotarAnillo(1, "izquierda", grados);
+            }
+
+            matriz.rotarAnillo(1, "arriba", 90);
+            matriz.rotarAnillo(1, "", 180);
+            matriz.rotarAnillo(n, "arriba", 90);
+            matriz.rotarAnillo(-1, "derecha", 45);
+
+            assertArrayEquals(original, leer(matriz), "n=%d".formatted(n));
+        }
+    }
+
+    @Test
+    void lasSumasGuardadasSeCorrigenAlRotarUnAnillo() {
+        var aleatorio = new Random(15);
+
+        for (int n = 1; n <= 16; n++) {
+            for (var diferida : new boolean[]{false, true}) {
+                var datos = aleatoria(aleatorio, n);
+                var matriz = new MatrizCuadrada(copiar(datos));
+                matriz.setRotacionDiferida(diferida);
+                matriz.calcularSumas();
+
+                for (int paso = 0; paso < 30; paso++) {
+                    var anillo = 1 + aleatorio.nextInt(Rotador.anillos(n));
+                    var pasos = aleatorio.nextInt(-4 * n, 4 * n + 1);
+                    var direccion = aleatorio.nextBoolean() ? Direccion.DERECHA : Direccion.IZQUIERDA;
+                    matriz.rotarAnillo(anillo, direccion, pasos);
+
+                    var mensaje = "n=%d, diferida=%b, paso %d".formatted(n, diferida, paso);
+                    var esperado = leer(matriz);
+                    var sumas = matriz.calcularSumas();
+                    var filas = new long[n];
+                    var columnas = new long[n];
+
+                    for (int i = 0; i < n; i++) {
+                        for (int j = 0; j < n; j++) {
+                            filas[i] += esperado[i][j];
+                            columnas[j] += esperado[i][j];
+                        }
+                    }
+
+                    assertArrayEquals(filas, sumas.filas(), mensaje);
+                    assertArrayEquals(columnas, sumas.columnas(), mensaje);
+                    assertEquals(sumaDiagonal(esperado), matriz.getSumaDiagonalPrincipalLong(), mensaje);
+                }
+            }
+        }
+    }
+
+    @Test
+    void laRotacionDiferidaNoRecorreElAnilloParaCorregirLasSumas() {
+        var n = 64;
+        var datos = new AlmacenamientoPlano(n, n);
+        var lecturas = new long[1];
+        var contador = new Almacenamiento() {
+            @Override
+            public int filas() {
+                return n;
+            }
+
+            @Override
+            public int columnas() {
+                return n;
+            }
+
+            @Override
+            public int get(int fila, int columna) {
+                lecturas[0]++;
+                return datos.get(fila, columna);
+            }
+
+            @Override
+            public void set(int fila, int columna, int valor) {
+                datos.set(fila, columna, valor);
+            }
+
+            @Override
+            public Almacenamiento subVista(int fila, int columna, int filas, int columnas) {
+                return datos.subVista(fila, columna, filas, columnas);
+            }
+        };
+
+        var matriz = new MatrizCuadrada(contador);
+        matriz.set(0, 5, 7);
+        matriz.setRotacionDiferida(true);
+        matriz.calcularSumas();
+
+        lecturas[0] = 0;
+        matriz.rotarAnillo(1, Direccion.DERECHA, 3);
+        matriz.rotarAnillo(1, Direccion.IZQUIERDA, 1);
+
+        // Solo se leen las esquinas para actualizar las diagonales, no las 4 * (n - 1) celdas del anillo
+        assertTrue(lecturas[0] <= 16, "lecturas=" + lecturas[0]);
+        assertEquals(7, matriz.calcularSumas().columnas()[7]);
+        assertEquals(7, matriz.calcularSumas().filas()[0]);
+    }
+
+    @Test
+    void losPasosExtremosNoDesbordanAlCambiarDeDireccion() {
+        var datos = aleatoria(new Random(11), 7);
+
+        // El anillo exterior de 7x7 tiene 24 celdas: 2^31 es 8 módulo 24, y -2^31 es 16
+        for (var diferida : new boolean[]{false, true}) {
+            var esperada = new MatrizCuadrada(copiar(datos));
+            var matriz = new MatrizCuadrada(copiar(datos));
+            matriz.setRotacionDiferida(diferida);
+            matriz.calcularSumas();
+
+            esperada.rotarAnillo(1, Direccion.DERECHA, 8);
+            matriz.rotarAnillo(1, Direccion.IZQUIERDA, Integer.MIN_VALUE);
+            assertArrayEquals(leer(esperada), leer(matriz), "diferida=" + diferida);
+
+            esperada.rotarAnillo(1, Direccion.DERECHA, 16);
+            matriz.rotarAnillo(1, Direccion.DERECHA, Integer.MIN_VALUE);
+            assertArrayEquals(leer(esperada), leer(matriz), "diferida=" + diferida);
+
+            esperada.rotarAnillos(Direccion.DERECHA, new int[]{8, 0, Math.floorMod(-Integer.MAX_VALUE, 8)});
+            matriz.rotarAnillos(Direccion.IZQUIERDA,
+                    new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE});
+            assertArrayEquals(leer(esperada), leer(matriz), "diferida=" + diferida);
+            assertArrayEquals(esperada.calcularSumas().filas(), matriz.calcularSumas().filas());
+            assertEquals(esperada.getSumaDiagonalPrincipalLong(), matriz.getSumaDiagonalPrincipalLong());
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> matriz.rotarAnillo(Integer.MIN_VALUE, Direccion.IZQUIERDA, Integer.MIN_VALUE));
+            assertThrows(IllegalArgumentException.class, () -> matriz.rotarAnillo(5, Direccion.IZQUIERDA, 1));
+        }
+    }
+
+    @Test
+    void laSumaDeLaDiagonalNoSeTrunca() {
+        var matriz = new MatrizCuadrada(new int[][]{
+                {Integer.MAX_VALUE, 1, 1},
+                {1, Integer.MAX_VALUE, 1},
+                {1, 1, Integer.MAX_VALUE}});
+
+        assertEquals(3L * Integer.MAX_VALUE, matriz.getSumaDiagonalPrincipalLong());
+        assertThrows(ArithmeticException.class, matriz::getSumaDiagonalPrincipal);
+
+        matriz.set(1, 1, -5);
+        assertEquals(2L * Integer.MAX_VALUE - 5, matriz.getSumaDiagonalPrincipalLong());
+    }
+
+    @Test
+    void anillosFueraDeLaMatrizNoSonValidos() {
+        for (int n = 1; n <= 12; n++) {
+            for (var diferida : new boolean[]{false, true}) {
+                var original = aleatoria(new Random(n), n);
+                var matriz = new MatrizCuadrada(copiar(original));
+                matriz.setRotacionDiferida(diferida);
+
+                for (var anillo : new int[]{0, -1, Rotador.anillos(n) + 1, n, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+                    if (anillo >= 1 && anillo <= Rotador.anillos(n)) {
+                        continue;
+                    }
+
+                    assertThrows(IllegalArgumentException.class, () -> matriz.rotarAnillo(anillo, "derecha", 90));
+                    assertThrows(IllegalArgumentException.class, () -> matriz.rotarAnillo(anillo, "izquierda", 270));
+                    assertThrows(IllegalArgumentException.class,
+                            () -> matriz.rotarAnillo(anillo, Direccion.DERECHA, 1));
+                    assertThrows(IllegalArgumentException.class, () -> matriz.vistaAnillo(anillo));
+                }
+
+                assertArrayEquals(original, leer(matriz), "n=%d".formatted(n));
+            }
+        }
+    }
+
+    /**
+     * Aplica una operación elegida al azar a las dos matrices. La diferida además activa y desactiva la rotación
+     * diferida de vez en cuando.
+     */
+    static String operar(Random aleatorio, MatrizCuadrada inmediata, MatrizCuadrada diferida) {
+        var n = inmediata.getFilas();
+        var anillo = 1 + aleatorio.nextInt(Rotador.anillos(n));
+
+        switch (aleatorio.nextInt(14)) {
+            case 0, 1 -> {
+                var direccion = aleatorio.nextBoolean() ? "derecha" : "izquierda";
+                var grados = 90 * (1 + aleatorio.nextInt(3));
+                inmediata.rotarAnillo(anillo, direccion, grados);
+                diferida.rotarAnillo(anillo, direccion, grados);
+                return "rotarAnillo(%d, %s, %d)".formatted(anillo, direccion, grados);
+            }
+            case 2, 3 -> {
+                var direccion = aleatorio.nextBoolean() ? Direccion.DERECHA : Direccion.IZQUIERDA;
+                var pasos = aleatorio.nextInt(-3 * n, 3 * n + 1);
+                inmediata.rotarAnillo(anillo, direccion, pasos);
+                diferida.rotarAnillo(anillo, direccion, pasos);
+                return "rotarAnillo(%d, %s, %d)".formatted(anillo, direccion, pasos);
+            }
+            case 4 -> {
+                var pasos = new int[1 + aleatorio.nextInt(Rotador.anillos(n))];
+                for (int k = 0; k < pasos.length; k++) {
+                    pasos[k] = aleatorio.nextInt(-2 * n, 2 * n + 1);
+                }
+                inmediata.rotarAnillos(Direccion.DERECHA, pasos);
+                diferida.rotarAnillos(Direccion.DERECHA, pasos);
+                return "rotarAnillos";
+            }
+            case 5, 6 -> {
+                var fila = aleatorio.nextInt(n);
+                var columna = aleatorio.nextInt(n);
+                var valor = aleatorio.nextInt(-1000, 1000);
+                inmediata.set(fila, columna, valor);
+                diferida.set(fila, columna, valor);
+                return "set(%d, %d, %d)".formatted(fila, columna, valor);
+            }
+            case 7 -> {
+                var triangulo = aleatorio.nextBoolean() ? Triangulo.SUPERIOR : Triangulo.INFERIOR;
+                var orden = Orden.values()[aleatorio.nextInt(Orden.values().length)];
+                inmediata.ordenarTriangulo(triangulo, orden);
+                diferida.ordenarTriangulo(triangulo, orden);
+                return "ordenarTriangulo(%s, %s)".formatted(triangulo, orden);
+            }
+            case 8 -> {
+                var pasos = aleatorio.nextInt(-2 * n, 2 * n + 1);
+                inmediata.vistaAnillo(anillo).desplazar(pasos);
+                diferida.vistaAnillo(anillo).desplazar(pasos);
+                assertEquals(inmediata.vistaAnillo(anillo).sumar(), diferida.vistaAnillo(anillo).sumar());
+                return "vistaAnillo(%d).desplazar(%d)".formatted(anillo, pasos);
+            }
+            case 9 -> {
+                var lado = 1 + aleatorio.nextInt(n);
+                var fila = aleatorio.nextInt(n - lado + 1);
+                var columna = aleatorio.nextInt(n - lado + 1);
+                var i = aleatorio.nextInt(lado);
+                var j = aleatorio.nextInt(lado);
+                var valor = aleatorio.nextInt(-1000, 1000);
+                inmediata.bloque(fila, columna, lado, lado).set(i, j, valor);
+                diferida.bloque(fila, columna, lado, lado).set(i, j, valor);
+                return "bloque(%d, %d, %d).set(%d, %d, %d)".formatted(fila, columna, lado, i, j, valor);
+            }
+            case 10 -> {
+                var diagonal = aleatorio.nextBoolean() ? Diagonal.PRINCIPAL : Diagonal.SECUNDARIA;
+                inmediata.vistaDiagonal(diagonal).ordenar(Orden.ASCENDENTE);
+                diferida.vistaDiagonal(diagonal).ordenar(Orden.ASCENDENTE);
+                return "vistaDiagonal(%s).ordenar".formatted(diagonal);
+            }
+            case 11 -> {
+                var esperadas = inmediata.calcularSumas();
+                var sumas = diferida.calcularSumas();
+                assertArrayEquals(esperadas.filas(), sumas.filas());
+                assertArrayEquals(esperadas.columnas(), sumas.columnas());
+                return "calcularSumas";
+            }
+            case 12 -> {
+                diferida.setRotacionDiferida(!diferida.isRotacionDiferida());
+                return "setRotacionDiferida(%b)".formatted(diferida.isRotacionDiferida());
+            }
+            default -> {
+                diferida.materializar();
+                return "materializar";
+            }
+        }
+    }
+
+    @Test
+    void rotacionDiferidaCoincideConLaInmediata() {
+        var aleatorio = new Random(12);
+
+        for (int n = 1; n <= 24; n++) {
+            var datos = aleatoria(aleatorio, n);
+            var inmediata = new MatrizCuadrada(copiar(datos));
+            var diferida = new MatrizCuadrada(copiar(datos));
+            diferida.setRotacionDiferida(true);
+
+            for (int paso = 0; paso < 200; paso++) {
+                var operacion = operar(aleatorio, inmediata, diferida);
+                var mensaje = "n=%d, paso %d: %s".formatted(n, paso, operacion);
+
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j < n; j++) {
+                        assertEquals(inmediata.get(i, j), diferida.get(i, j), mensaje);
+                    }
+                }
+
+                assertEquals(inmediata.getSumaDiagonalPrincipalLong(), diferida.getSumaDiagonalPrincipalLong(),
+                        mensaje);
+                assertEquals(inmediata.getProductoDiagonalSecundaria(), diferida.getProductoDiagonalSecundaria(),
+                        mensaje);
+            }
+
+            diferida.setRotacionDiferida(false);
+            var esperado = leer(inmediata);
+            assertArrayEquals(esperado, leer(diferida), "n=%d".formatted(n));
+            assertEquals(sumaDiagonal(esperado), diferida.getSumaDiagonalPrincipalLong(), "n=%d".formatted(n));
+            assertEquals(productoSecundaria(esperado), diferida.getProductoDiagonalSecundariaExacto(),
+                    "n=%d".formatted(n));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package co.edu.unicartagena;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Operaciones.Direccion;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MatrizTest {
+    static int[][] recortar(int[][] datos, int fila, int columna, int filas, int columnas) {
+        var recorte = new int[filas][];
+
+        for (int i = 0; i < filas; i++) {
+            recorte[i] = Arrays.copyOfRange(datos[fila + i], columna, columna + columnas);
+        }
+
+        return recorte;
+    }
+
+    @Test
+    void vistasCompartenLosDatosYMantienenSusSumas() {
+        var aleatorio = new Random(2400);
+
+        for (int prueba = 0; prueba < 30; prueba++) {
+            var filas = 1 + aleatorio.nextInt(25);
+            var columnas = 1 + aleatorio.nextInt(25);
+            var datos = new int[filas][columnas];
+
+            for (var fila : datos) {
+                for (int j = 0; j < columnas; j++) {
+                    fila[j] = aleatorio.nextInt(-1000, 1000);
+                }
+            }
+
+            var matriz = new Matriz(MatrizCuadradaTest.copiar(datos));
+
+            // Un bloque, una banda de filas, una de columnas y un bloque dentro del primero
+            var fila = aleatorio.nextInt(filas);
+            var columna = aleatorio.nextInt(columnas);
+            var alto = 1 + aleatorio.nextInt(filas - fila);
+            var ancho = 1 + aleatorio.nextInt(columnas - columna);
+            var bloque = matriz.bloque(fila, columna, alto, ancho);
+
+            var desde = aleatorio.nextInt(filas);
+            var hasta = desde + 1 + aleatorio.nextInt(filas - desde);
+            var bandaFilas = matriz.bandaFilas(desde, hasta);
+
+            var izquierda = aleatorio.nextInt(columnas);
+            var derecha = izquierda + 1 + aleatorio.nextInt(columnas - izquierda);
+            var bandaColumnas = matriz.bandaColumnas(izquierda, derecha);
+
+            var subFila = aleatorio.nextInt(alto);
+            var subColumna = aleatorio.nextInt(ancho);
+            var subAlto = 1 + aleatorio.nextInt(alto - subFila);
+            var subAncho = 1 + aleatorio.nextInt(ancho - subColumna);
+            var subBloque = bloque.bloque(subFila, subColumna, subAlto, subAncho);
+
+            // Se calculan las sumas antes de modificar para comprobar que se mantienen y no solo que se calculan
+            for (var vista : new Matriz[]{matriz, bloque, bandaFilas, bandaColumnas, subBloque}) {
+                vista.calcularSumas();
+            }
+
+            for (int paso = 0; paso < 100; paso++) {
+                var valor = aleatorio.nextInt(-1000, 1000);
+
+                switch (aleatorio.nextInt(5)) {
+                    case 0 -> {
+                        var i = aleatorio.nextInt(filas);
+                        var j = aleatorio.nextInt(columnas);
+                        matriz.set(i, j, valor);
+                        datos[i][j] = valor;
+                    }
+                    case 1 -> {
+                        var i = aleatorio.nextInt(alto);
+                        var j = aleatorio.nextInt(ancho);
+                        bloque.set(i, j, valor);
+                        datos[fila + i][columna + j] = valor;
+                    }
+                    case 2 -> {
+                        var i = aleatorio.nextInt(hasta - desde);
+                        var j = aleatorio.nextInt(columnas);
+                        bandaFilas.set(i, j, valor);
+                        datos[desde + i][j] = valor;
+                    }
+                    case 3 -> {
+                        var i = aleatorio.nextInt(filas);
+                        var j = aleatorio.nextInt(derecha - izquierda);
+                        bandaColumnas.set(i, j, valor);
+                        datos[i][izquierda + j] = valor;
+                    }
+                    default -> {
+                        var i = aleatorio.nextInt(subAlto);
+                        var j = aleatorio.nextInt(subAncho);
+                        subBloque.set(i, j, valor);
+                        datos[fila + subFila + i][columna + subColumna + j] = valor;
+                    }
+                }
+
+                if (paso % 10 == 0) {
+                    var mensaje = "prueba %d, paso %d".formatted(prueba, paso);
+                    RegionTest.assertIguales(datos, matriz, mensaje);
+                    RegionTest.assertIguales(recortar(datos, fila, columna, alto, ancho), bloque, mensaje);
+                    RegionTest.assertIguales(recortar(datos, desde, 0, hasta - desde, columnas), bandaFilas, mensaje);
+                    RegionTest.assertIguales(recortar(datos, 0, izquierda, filas, derecha - izquierda), bandaColumnas,
+                            mensaje);
+                    RegionTest.assertIguales(recortar(datos, fila + subFila, columna + subColumna, subAlto, subAncho),
+                            subBloque, mensaje);
+                }
+            }
+        }
+    }
+
+    @Test
+    void vistasFueraDeLaMatrizNoSonValidas() {
+        var matriz = new Matriz(new int[3][4]);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> matriz.bloque(2, 2, 2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> matriz.bloque(-1, 0, 1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> matriz.bandaFilas(1, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> matriz.bandaColumnas(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> matriz.bandaFilas(1, 1));
+    }
+
+    @Test
+    void sobreUsaElVectorSinCopiarlo() {
+        var datos = new int[]{1, 2, 3, 4, 5, 6};
+        var matriz = Matriz.sobre(datos, 2, 3);
+
+        assertEquals(6, matriz.get(1, 2));
+        assertArrayEquals(new long[]{6, 15}, matriz.calcularSumas().filas());
+
+        matriz.set(0, 1, 20);
+        assertEquals(20, datos[1]);
+        assertArrayEquals(new long[]{24, 15}, matriz.calcularSumas().filas());
+
+        var cuadrada = MatrizCuadrada.sobre(new int[]{1, 2, 3, 4}, 2);
+        cuadrada.rotar(Direccion.DERECHA, 90);
+        assertEquals(3, cuadrada.get(0, 0));
+        assertEquals(5, cuadrada.getSumaDiagonalPrincipalLong());
+
+        assertThrows(IllegalArgumentException.class, () -> Matriz.sobre(datos, 2, 2));
+        assertThrows(IllegalArgumentException.class, () -> Matriz.sobre(datos, 3, 3));
+        assertThrows(IllegalArgumentException.class, () -> Matriz.sobre(new int[0], 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> MatrizCuadrada.sobre(datos, 2));
+    }
+}
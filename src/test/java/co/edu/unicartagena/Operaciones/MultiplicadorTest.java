@@ -0,0 +1,239 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoLong;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Almacenamiento.TipoElemento;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import co.edu.unicartagena.Matriz;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MultiplicadorTest {
+    /**
+     * Tamaños alrededor de los bloques del núcleo (4), de {@link Multiplicador#MC}, {@link Multiplicador#KC} y
+     * {@link Multiplicador#NC}.
+     */
+    private static final int[] FILAS = {1, 3, 4, 5, 63, 64, 65, 131};
+    private static final int[] COMUNES = {1, 2, 7, 255, 256, 257, 300};
+    private static final int[] COLUMNAS = {1, 4, 6, 17, 511, 512, 513};
+
+    /**
+     * Mayor valor absoluto de los factores aleatorios: con él, ninguna suma de un producto con dimensión común de
+     * hasta 512 desborda un {@code long} y se usa el núcleo sin comprobaciones.
+     */
+    static final int LIMITE = 1 << 27;
+
+    /**
+     * Producto con el algoritmo de tres ciclos, en {@code long}.
+     */
+    static long[] ingenuo(Almacenamiento a, Almacenamiento b) {
+        var m = a.filas();
+        var n = a.columnas();
+        var p = b.columnas();
+        var c = new long[m * p];
+
+        for (int i = 0; i < m; i++) {
+            for (int k = 0; k < n; k++) {
+                long valor = a.get(i, k);
+
+                for (int j = 0; j < p; j++) {
+                    c[i * p + j] += valor * b.get(k, j);
+                }
+            }
+        }
+
+        return c;
+    }
+
+    /**
+     * Producto con el algoritmo de tres ciclos, comprobando cada operación en el mismo orden que el núcleo.
+     *
+     * @throws ArithmeticException Si un producto o una suma parcial no cabe en un {@code long}.
+     */
+    static long[] ingenuoExacto(Almacenamiento a, Almacenamiento b) {
+        var m = a.filas();
+        var n = a.columnas();
+        var p = b.columnas();
+        var c = new long[m * p];
+
+        for (int i = 0; i < m; i++) {
+            for (int k = 0; k < n; k++) {
+                for (int j = 0; j < p; j++) {
+                    c[i * p + j] = Math.addExact(c[i * p + j], Math.multiplyExact(a.getLong(i, k), b.getLong(k, j)));
+                }
+            }
+        }
+
+        return c;
+    }
+
+    static Almacenamiento aleatoria(Random aleatorio, int filas, int columnas) {
+        Almacenamiento almacenamiento = switch (aleatorio.nextInt(4)) {
+            case 0 -> Ubicacion.FUERA_DEL_HEAP.crear(filas, columnas);
+            case 1 -> new AlmacenamientoPlano(filas + 1, columnas + 2).subVista(1, 1, filas, columnas);
+            case 2 -> TipoElemento.SHORT.crear(filas, columnas);
+            default -> new AlmacenamientoPlano(filas, columnas);
+        };
+
+        var limite = TipoElemento.de(almacenamiento) == TipoElemento.SHORT ? Short.MAX_VALUE : LIMITE;
+        SumadorTest.llenar(almacenamiento, aleatorio, -limite, limite);
+        return almacenamiento;
+    }
+
+    @Test
+    void productoCoincideConElIngenuo() {
+        var aleatorio = new Random(21);
+
+        try (var pool = new ForkJoinPool(4)) {
+            for (int prueba = 0; prueba < 30; prueba++) {
+                var m = FILAS[aleatorio.nextInt(FILAS.length)];
+                var n = COMUNES[aleatorio.nextInt(COMUNES.length)];
+                var p = COLUMNAS[aleatorio.nextInt(COLUMNAS.length)];
+                var a = aleatoria(aleatorio, m, n);
+                var b = aleatoria(aleatorio, n, p);
+                var esperado = ingenuo(a, b);
+                var mensaje = "%dx%d por %dx%d".formatted(m, n, n, p);
+
+                assertArrayEquals(esperado, Multiplicador.multiplicar(a, b, pool, Long.MAX_VALUE), mensaje);
+                assertArrayEquals(esperado, Multiplicador.multiplicar(a, b, pool, 1), mensaje);
+
+                SumadorTest.cerrar(List.of(a, b));
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Multiplicador.multiplicar(new AlmacenamientoPlano(2, 3), new AlmacenamientoPlano(2, 3)));
+
+        // El producto se acumula en long, pero Matriz lo guarda en int
+        var matriz = new Matriz(new int[][]{{Integer.MAX_VALUE, Integer.MAX_VALUE}});
+        assertThrows(ArithmeticException.class, () -> matriz.multiplicar(new Matriz(new int[][]{{1}, {1}})));
+    }
+
+    @Test
+    void productoPorVectorCoincideConElIngenuo() {
+        var aleatorio = new Random(210);
+
+        try (var pool = new ForkJoinPool(4)) {
+            for (int prueba = 0; prueba < 30; prueba++) {
+                var m = 1 + aleatorio.nextInt(700);
+                var n = 1 + aleatorio.nextInt(300);
+                var a = aleatoria(aleatorio, m, n);
+                var vector = new int[n];
+
+                for (int k = 0; k < n; k++) {
+                    vector[k] = aleatorio.nextInt(-LIMITE, LIMITE + 1);
+                }
+
+                var columna = new AlmacenamientoPlano(vector, 0, 1, n, 1);
+                var esperado = ingenuo(a, columna);
+
+                assertArrayEquals(esperado, Multiplicador.multiplicar(a, vector, pool, Long.MAX_VALUE));
+                assertArrayEquals(esperado, Multiplicador.multiplicar(a, vector, pool, 1));
+
+                SumadorTest.cerrar(List.of(a));
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Multiplicador.multiplicar(new AlmacenamientoPlano(2, 3), new int[2]));
+    }
+
+    @Test
+    void lasSumasQueNoCabenEnUnLongSeDetectan() {
+        var aleatorio = new Random(211);
+
+        // Con valores de todo el rango de int no se puede acotar el producto y cada operación se comprueba: el
+        // resultado debe coincidir con el ingenuo o fallar igual que él, sin truncarse en silencio
+        try (var pool = new ForkJoinPool(4)) {
+            for (int prueba = 0; prueba < 40; prueba++) {
+                var m = 1 + aleatorio.nextInt(70);
+                var n = 1 + aleatorio.nextInt(12);
+                var p = 1 + aleatorio.nextInt(70);
+                var a = new AlmacenamientoPlano(m, n);
+                var b = new AlmacenamientoPlano(n, p);
+                SumadorTest.llenar(a, aleatorio, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                SumadorTest.llenar(b, aleatorio, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                var mensaje = "%dx%d por %dx%d".formatted(m, n, n, p);
+
+                long[] esperado;
+                try {
+                    esperado = ingenuoExacto(a, b);
+                } catch (ArithmeticException e) {
+                    esperado = null;
+                }
+
+                for (var umbral : new long[]{1, Long.MAX_VALUE}) {
+                    if (esperado == null) {
+                        assertThrows(ArithmeticException.class, () -> Multiplicador.multiplicar(a, b, pool, umbral),
+                                mensaje);
+                    } else {
+                        assertArrayEquals(esperado, Multiplicador.multiplicar(a, b, pool, umbral), mensaje);
+                    }
+                }
+            }
+        }
+
+        // (-2^31)^2 + (-2^31)^2 = 2^63 no cabe en un long, pero (-2^31)^2 + (-2^31) (2^31 - 1) = 2^31 sí
+        var minimos = AlmacenamientoPlano.desde(new int[][]{{Integer.MIN_VALUE, Integer.MIN_VALUE}});
+        var columna = AlmacenamientoPlano.desde(new int[][]{{Integer.MIN_VALUE}, {Integer.MIN_VALUE}});
+        var opuesta = AlmacenamientoPlano.desde(new int[][]{{Integer.MIN_VALUE}, {Integer.MAX_VALUE}});
+
+        assertThrows(ArithmeticException.class, () -> Multiplicador.multiplicar(minimos, columna));
+        assertArrayEquals(new long[]{1L << 31}, Multiplicador.multiplicar(minimos, opuesta));
+        assertThrows(ArithmeticException.class,
+                () -> Multiplicador.multiplicar(minimos, new int[]{Integer.MIN_VALUE, Integer.MIN_VALUE}));
+        assertArrayEquals(new long[]{1L << 31},
+                Multiplicador.multiplicar(minimos, new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE}));
+
+        // Con celdas long el resultado se guarda en long, pero tampoco se trunca
+        var largos = new Matriz(AlmacenamientoLong.desde(new long[][]{{Long.MAX_VALUE / 2, Long.MAX_VALUE / 2}}));
+        assertThrows(ArithmeticException.class, () -> largos.multiplicar(new Matriz(new int[][]{{2}, {1}})));
+        assertEquals(Long.MAX_VALUE - 1, largos.multiplicar(new Matriz(new int[][]{{1}, {1}})).getLong(0, 0));
+        assertThrows(ArithmeticException.class, () -> largos.multiplicar(new int[]{2, 1}));
+    }
+
+    @Test
+    void elProductoSeEscribeEnElDestino() {
+        var aleatorio = new Random(212);
+        var a = aleatoria(aleatorio, 70, 30);
+        var b = aleatoria(aleatorio, 30, 520);
+        var esperado = ingenuo(a, b);
+
+        try (var pool = new ForkJoinPool(3)) {
+            for (var destino : new Almacenamiento[]{new AlmacenamientoLong(70, 520),
+                    new AlmacenamientoLong(72, 523).subVista(1, 2, 70, 520)}) {
+                Multiplicador.multiplicar(a, b, destino, pool, 1);
+
+                for (int i = 0; i < 70; i++) {
+                    for (int j = 0; j < 520; j++) {
+                        assertEquals(esperado[i * 520 + j], destino.getLong(i, j));
+                    }
+                }
+            }
+
+            // En celdas int, un elemento que no cabe se rechaza al escribir el bloque
+            var entero = new AlmacenamientoPlano(70, 520);
+            assertThrows(ArithmeticException.class, () -> Multiplicador.multiplicar(a, b, entero, pool, 1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> Multiplicador.multiplicar(a, b, new AlmacenamientoLong(70, 519), pool, 1));
+        }
+
+        SumadorTest.cerrar(List.of(a, b));
+    }
+}
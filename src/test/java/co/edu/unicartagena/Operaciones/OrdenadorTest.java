@@ -0,0 +1,276 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrdenadorTest {
+    /**
+     * Secuencia sobre un vector.
+     */
+    record Vector(int[] datos) implements Secuencia {
+        @Override
+        public int tamano() {
+            return datos.length;
+        }
+
+        @Override
+        public int get(int k) {
+            return datos[k];
+        }
+
+        @Override
+        public void set(int k, int valor) {
+            datos[k] = valor;
+        }
+    }
+
+    /**
+     * Rangos de valores a ambos lados del límite del ordenamiento por conteo, además de uno con pocos valores
+     * distintos y uno con todo el rango de {@code int}.
+     */
+    static final long[] RANGOS = {1, 51, Ordenador.RANGO_CONTEO, Ordenador.RANGO_CONTEO + 1L, 1L << 32};
+
+    static int[] aleatorio(Random aleatorio, int tamano, long rango) {
+        var minimo = rango == 1L << 32 ? Integer.MIN_VALUE : aleatorio.nextInt(-1000, 1000);
+        var datos = new int[tamano];
+
+        for (int k = 0; k < tamano; k++) {
+            datos[k] = (int) (minimo + aleatorio.nextLong(rango));
+        }
+
+        // Se fijan los extremos para que el rango sea exactamente el indicado
+        if (tamano >= 2) {
+            datos[aleatorio.nextInt(tamano)] = minimo;
+            datos[aleatorio.nextInt(tamano)] = (int) (minimo + rango - 1);
+        }
+
+        return datos;
+    }
+
+    static int[] ordenado(int[] datos, int desde, int hasta, Orden orden) {
+        var esperado = datos.clone();
+        Arrays.sort(esperado, desde, hasta);
+
+        if (orden == Orden.DESCENDENTE) {
+            for (int i = desde, j = hasta - 1; i < j; i++, j--) {
+                var temp = esperado[i];
+                esperado[i] = esperado[j];
+                esperado[j] = temp;
+            }
+        }
+
+        return esperado;
+    }
+
+    /**
+     * Copia los elementos de un triángulo recorriéndolo por filas, de izquierda a derecha.
+     */
+    static int[] triangulo(Almacenamiento matriz, Triangulo triangulo) {
+        var n = matriz.filas();
+        var datos = new int[n * (n - 1) / 2];
+        var k = 0;
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (triangulo == Triangulo.SUPERIOR ? j > i : j < i) {
+                    datos[k++] = matriz.get(i, j);
+                }
+            }
+        }
+
+        return datos;
+    }
+
+    static int[][] leer(Almacenamiento matriz) {
+        var datos = new int[matriz.filas()][matriz.columnas()];
+
+        for (int i = 0; i < datos.length; i++) {
+            for (int j = 0; j < datos[i].length; j++) {
+                datos[i][j] = matriz.get(i, j);
+            }
+        }
+
+        return datos;
+    }
+
+    /**
+     * Calcula el resultado esperado de ordenar un triángulo: sus elementos ordenados por separado y escritos de
+     * vuelta en el mismo recorrido, sin tocar el resto de la matriz.
+     */
+    static int[][] trianguloOrdenado(Almacenamiento matriz, Triangulo triangulo, Orden orden) {
+        var valores = triangulo(matriz, triangulo);
+        valores = ordenado(valores, 0, valores.length, orden);
+        var esperado = leer(matriz);
+        var n = matriz.filas();
+        var k = 0;
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (triangulo == Triangulo.SUPERIOR ? j > i : j < i) {
+                    esperado[i][j] = valores[k++];
+                }
+            }
+        }
+
+        return esperado;
+    }
+
+    /**
+     * Crea una matriz de {@code n x n} con valores del rango indicado. Según {@code forma} los datos quedan en el
+     * heap, fuera del heap o en una sub-vista con stride mayor que su ancho.
+     */
+    static Almacenamiento matriz(Random aleatorio, int n, long rango, int forma) {
+        var valores = aleatorio(aleatorio, n * n, rango);
+        var matriz = switch (forma) {
+            case 0 -> new AlmacenamientoPlano(n, n);
+            case 1 -> Ubicacion.FUERA_DEL_HEAP.crear(n, n);
+            default -> new AlmacenamientoPlano(n + 2, n + 3).subVista(1, 2, n, n);
+        };
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                matriz.set(i, j, valores[i * n + j]);
+            }
+        }
+
+        return matriz;
+    }
+
+    @Test
+    void elConteoSeUsaSoloConRangosPequenos() {
+        assertTrue(Ordenador.usarConteo(Ordenador.RANGO_CONTEO, 2));
+        assertFalse(Ordenador.usarConteo(Ordenador.RANGO_CONTEO + 1L, 2));
+        assertTrue(Ordenador.usarConteo(Ordenador.RANGO_CONTEO + 1L, Ordenador.RANGO_CONTEO + 1));
+        assertFalse(Ordenador.usarConteo(1L << 32, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void ordenarVectoresCoincideConArraysSort() {
+        var aleatorio = new Random(7);
+
+        for (var rango : RANGOS) {
+            for (var tamano : new int[]{0, 1, 2, 3, 16, 17, 33, 1001, Ordenador.RANGO_CONTEO + 7}) {
+                for (var orden : Orden.values()) {
+                    var datos = aleatorio(aleatorio, tamano, rango);
+                    var mensaje = "tamaño %d, rango %d, %s".formatted(tamano, rango, orden);
+
+                    var esperado = ordenado(datos, 0, tamano, orden);
+                    var completo = datos.clone();
+                    Ordenador.ordenar(completo, orden);
+                    assertArrayEquals(esperado, completo, mensaje);
+
+                    // Un rango interno no toca las posiciones de afuera
+                    var desde = tamano == 0 ? 0 : aleatorio.nextInt(tamano);
+                    var hasta = desde + aleatorio.nextInt(tamano - desde + 1);
+                    var parcial = datos.clone();
+                    Ordenador.ordenar(parcial, desde, hasta, orden);
+                    assertArrayEquals(ordenado(datos, desde, hasta, orden), parcial, mensaje);
+                }
+            }
+        }
+    }
+
+    @Test
+    void ordenarSecuenciasCoincideConArraysSort() {
+        var aleatorio = new Random(8);
+
+        for (var rango : RANGOS) {
+            for (var tamano : new int[]{0, 1, 2, 15, 16, 17, 18, 31, 257, 4099}) {
+                for (var orden : Orden.values()) {
+                    // Datos al azar, ya ordenados, invertidos y en forma de pirámide, que son los casos difíciles
+                    // para la partición
+                    var aleatorios = aleatorio(aleatorio, tamano, rango);
+                    var ascendentes = ordenado(aleatorios, 0, tamano, Orden.ASCENDENTE);
+                    var descendentes = ordenado(aleatorios, 0, tamano, Orden.DESCENDENTE);
+                    var piramide = new int[tamano];
+
+                    for (int k = 0; k < tamano; k++) {
+                        piramide[k] = k % 2 == 0 ? ascendentes[k / 2] : ascendentes[tamano - 1 - k / 2];
+                    }
+
+                    for (var datos : new int[][]{aleatorios, ascendentes, descendentes, piramide}) {
+                        var secuencia = new Vector(datos.clone());
+                        Ordenador.ordenar(secuencia, orden);
+                        assertArrayEquals(ordenado(datos, 0, tamano, orden), secuencia.datos(),
+                                "tamaño %d, rango %d, %s".formatted(tamano, rango, orden));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void ordenarTrianguloCoincideConOrdenarLosElementosDelTriangulo() {
+        var aleatorio = new Random(9);
+
+        for (var rango : RANGOS) {
+            for (var n : new int[]{1, 2, 3, 6, 7, 19, 64, 101}) {
+                for (var forma = 0; forma < 3; forma++) {
+                    for (var triangulo : Triangulo.values()) {
+                        for (var orden : Orden.values()) {
+                            var matriz = matriz(aleatorio, n, rango, forma);
+                            var esperado = trianguloOrdenado(matriz, triangulo, orden);
+                            Ordenador.ordenarTriangulo(matriz, triangulo, orden);
+
+                            assertArrayEquals(esperado, leer(matriz), "n=%d, rango %d, forma %d, %s, %s"
+                                    .formatted(n, rango, forma, triangulo, orden));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void ordenarTriangulosParaleloCoincideConOrdenarCadaTriangulo() {
+        var aleatorio = new Random(10);
+
+        for (var hilos : new int[]{1, 2, 4}) {
+            var pool = new ForkJoinPool(hilos);
+
+            try {
+                for (var rango : RANGOS) {
+                    for (var n : new int[]{1, 2, 5, 8, 33, 90}) {
+                        // Con umbral 1 los triángulos de rango amplio se copian y se ordenan con parallelSort; con
+                        // el máximo se ordenan en el lugar
+                        for (var umbral : new long[]{1, Long.MAX_VALUE}) {
+                            for (var inferior : Orden.values()) {
+                                for (var superior : Orden.values()) {
+                                    var matriz = matriz(aleatorio, n, rango, aleatorio.nextInt(3));
+                                    var esperado = trianguloOrdenado(AlmacenamientoPlano.desde(
+                                            trianguloOrdenado(matriz, Triangulo.INFERIOR, inferior)),
+                                            Triangulo.SUPERIOR, superior);
+                                    Ordenador.ordenarTriangulosParalelo(matriz, inferior, superior, pool, umbral);
+
+                                    assertArrayEquals(esperado, leer(matriz),
+                                            "%d hilos, n=%d, rango %d, umbral %d, %s, %s"
+                                                    .formatted(hilos, n, rango, umbral, inferior, superior));
+                                }
+                            }
+                        }
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
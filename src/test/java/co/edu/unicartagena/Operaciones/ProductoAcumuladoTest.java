@@ -0,0 +1,84 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProductoAcumuladoTest {
+    static BigInteger exacto(Iterable<Long> factores) {
+        var producto = BigInteger.ONE;
+
+        for (var factor : factores) {
+            producto = producto.multiply(BigInteger.valueOf(factor));
+        }
+
+        return producto;
+    }
+
+    static long factor(Random aleatorio) {
+        return switch (aleatorio.nextInt(6)) {
+            case 0 -> 0;
+            case 1 -> aleatorio.nextInt(-3, 4);
+            case 2 -> (long) aleatorio.nextInt(-64, 65) << aleatorio.nextInt(8);
+            case 3 -> aleatorio.nextInt();
+            case 4 -> aleatorio.nextBoolean() ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            default -> aleatorio.nextInt(-1000, 1001);
+        };
+    }
+
+    @Test
+    void agregarYQuitarCoincidenConElProductoExacto() {
+        var aleatorio = new Random(16);
+
+        for (int prueba = 0; prueba < 200; prueba++) {
+            var producto = new ProductoAcumulado();
+            var factores = new ArrayList<Long>();
+
+            for (int paso = 0; paso < 100; paso++) {
+                var operacion = factores.isEmpty() ? 0 : aleatorio.nextInt(3);
+
+                if (operacion == 0) {
+                    var nuevo = factor(aleatorio);
+                    producto.agregar(nuevo);
+                    factores.add(nuevo);
+                } else if (operacion == 1) {
+                    producto.quitar(factores.remove(aleatorio.nextInt(factores.size())));
+                } else {
+                    var posicion = aleatorio.nextInt(factores.size());
+                    var nuevo = factor(aleatorio);
+                    producto.reemplazar(factores.get(posicion), nuevo);
+                    factores.set(posicion, nuevo);
+                }
+
+                var esperado = exacto(factores);
+                assertEquals(esperado.longValue(), producto.valor(), "factores %s".formatted(factores));
+
+                if (producto.esExacto()) {
+                    assertEquals(esperado, BigInteger.valueOf(producto.valor()), "factores %s".formatted(factores));
+                }
+
+                if (esperado.bitLength() >= Long.SIZE) {
+                    assertFalse(producto.esExacto(), "factores %s".formatted(factores));
+                }
+            }
+
+            producto.reiniciar();
+            assertEquals(1, producto.valor());
+            assertTrue(producto.esExacto());
+        }
+    }
+}
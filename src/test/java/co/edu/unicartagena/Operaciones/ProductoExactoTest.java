@@ -0,0 +1,111 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.MatrizCuadrada;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProductoExactoTest {
+    /**
+     * Secuencia de solo lectura sobre un vector.
+     */
+    record Vector(int[] datos) implements Secuencia {
+        @Override
+        public int tamano() {
+            return datos.length;
+        }
+
+        @Override
+        public int get(int k) {
+            return datos[k];
+        }
+
+        @Override
+        public void set(int k, int valor) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    static BigInteger enCadena(int[] datos) {
+        var producto = BigInteger.ONE;
+
+        for (var dato : datos) {
+            producto = producto.multiply(BigInteger.valueOf(dato));
+        }
+
+        return producto;
+    }
+
+    @Test
+    void productoCoincideConLaMultiplicacionEnCadena() {
+        var aleatorio = new Random(160);
+
+        try (var pool = new ForkJoinPool(4)) {
+            for (var tamano : new int[]{0, 1, 2, ProductoExacto.HOJA - 1, ProductoExacto.HOJA, ProductoExacto.HOJA + 1,
+                    3 * ProductoExacto.HOJA + 7, 10_000}) {
+                var datos = new int[tamano];
+
+                for (int k = 0; k < tamano; k++) {
+                    datos[k] = aleatorio.nextBoolean() ? aleatorio.nextInt() : aleatorio.nextInt(-50, 51) | 1;
+                }
+
+                var esperado = enCadena(datos);
+                var secuencia = new Vector(datos);
+
+                assertEquals(esperado, ProductoExacto.multiplicar(secuencia), "tamaño %d".formatted(tamano));
+                assertEquals(esperado, ProductoExacto.multiplicar(secuencia, pool, 1), "tamaño %d".formatted(tamano));
+
+                if (tamano > 0) {
+                    datos[aleatorio.nextInt(tamano)] = 0;
+                    assertEquals(BigInteger.ZERO, ProductoExacto.multiplicar(secuencia, pool, 1));
+                }
+            }
+        }
+    }
+
+    @Test
+    void productoDeLaDiagonalSecundariaEsExacto() {
+        var aleatorio = new Random(161);
+
+        for (var n : new int[]{1, 2, 5, 20, 64}) {
+            var datos = new int[n][n];
+
+            for (var fila : datos) {
+                for (int j = 0; j < n; j++) {
+                    fila[j] = aleatorio.nextInt(-100_000, 100_001);
+                }
+            }
+
+            var matriz = new MatrizCuadrada(datos);
+
+            for (int paso = 0; paso < 50; paso++) {
+                var i = aleatorio.nextInt(n);
+                var valor = paso % 10 == 0 ? 0 : aleatorio.nextInt();
+                matriz.set(i, n - 1 - i, valor);
+                datos[i][n - 1 - i] = valor;
+
+                var secundaria = new int[n];
+                for (int k = 0; k < n; k++) {
+                    secundaria[k] = datos[k][n - 1 - k];
+                }
+
+                var esperado = enCadena(secundaria);
+                var mensaje = "n=%d, paso %d".formatted(n, paso);
+                assertEquals(esperado, matriz.getProductoDiagonalSecundariaExacto(), mensaje);
+                assertEquals(esperado.longValue(), matriz.getProductoDiagonalSecundaria(), mensaje);
+            }
+        }
+    }
+}
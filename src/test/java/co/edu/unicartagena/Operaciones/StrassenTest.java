@@ -0,0 +1,103 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.MatrizCuadrada;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StrassenTest {
+    @Test
+    void productoCoincideConElIngenuo() {
+        var aleatorio = new Random(22);
+
+        try (var pool = new ForkJoinPool(4); var secuencial = new ForkJoinPool(1)) {
+            // Cortes pequeños para recorrer varios niveles, con y sin relleno; cada instancia se reutiliza en toda
+            // la serie de productos
+            for (var strassen : new Strassen[]{new Strassen(2, secuencial), new Strassen(3, pool),
+                    new Strassen(8, pool), new Strassen(16, secuencial)}) {
+                for (int prueba = 0; prueba < 25; prueba++) {
+                    var n = 1 + aleatorio.nextInt(70);
+                    var a = MultiplicadorTest.aleatoria(aleatorio, n, n);
+                    var b = MultiplicadorTest.aleatoria(aleatorio, n, n);
+
+                    assertArrayEquals(MultiplicadorTest.ingenuo(a, b), strassen.multiplicar(a, b),
+                            "n=%d".formatted(n));
+
+                    SumadorTest.cerrar(List.of(a, b));
+                }
+
+                strassen.vaciar();
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new Strassen().multiplicar(new AlmacenamientoPlano(2, 2), new AlmacenamientoPlano(3, 3)));
+        assertThrows(IllegalArgumentException.class, () -> new Strassen(1, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void productoDeMatricesCuadradasCoincideConElPorBloques() {
+        var aleatorio = new Random(220);
+        var strassen = new Strassen(4, ForkJoinPool.commonPool());
+
+        for (var n : new int[]{1, 4, 5, 33, 64}) {
+            var a = new int[n][n];
+            var b = new int[n][n];
+
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    a[i][j] = aleatorio.nextInt(-1000, 1001);
+                    b[i][j] = aleatorio.nextInt(-1000, 1001);
+                }
+            }
+
+            var esperado = new MatrizCuadrada(a).multiplicar(new MatrizCuadrada(b));
+            var producto = new MatrizCuadrada(a).multiplicar(new MatrizCuadrada(b), strassen);
+
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    assertEquals(esperado.get(i, j), producto.get(i, j), "n=%d, (%d, %d)".formatted(n, i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    void sinPoderAcotarElProductoSeUsaElMultiplicadorExacto() {
+        var strassen = new Strassen(2, ForkJoinPool.commonPool());
+
+        // Ningún elemento del producto cabe en un long, y módulo 2^64 el resultado sería 0
+        var n = 8;
+        var minimos = new AlmacenamientoPlano(n, n);
+        SumadorTest.llenar(minimos, new Random(221), Integer.MIN_VALUE, Integer.MIN_VALUE);
+        assertThrows(ArithmeticException.class, () -> strassen.multiplicar(minimos, minimos));
+
+        // Con columnas de signos alternos los productos se cancelan de dos en dos: el resultado cabe y coincide
+        // con el ingenuo
+        var alternos = new AlmacenamientoPlano(n, n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                alternos.set(i, j, j % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE);
+            }
+        }
+
+        var producto = strassen.multiplicar(alternos, minimos);
+        assertArrayEquals(MultiplicadorTest.ingenuoExacto(alternos, minimos), producto);
+        assertEquals(n / 2 * (1L << 31), producto[0]);
+    }
+}
@@ -0,0 +1,132 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoCoo;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoCsr;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoSegmento;
+import co.edu.unicartagena.Almacenamiento.TipoElemento;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SumadorTest {
+    static void llenar(Almacenamiento almacenamiento, Random aleatorio, int minimo, int maximo) {
+        for (int i = 0; i < almacenamiento.filas(); i++) {
+            for (int j = 0; j < almacenamiento.columnas(); j++) {
+                almacenamiento.set(i, j, (int) aleatorio.nextLong(minimo, maximo + 1L));
+            }
+        }
+    }
+
+    static Sumas sumasIngenuas(Almacenamiento matriz) {
+        var filas = new long[matriz.filas()];
+        var columnas = new long[matriz.columnas()];
+
+        for (int i = 0; i < matriz.filas(); i++) {
+            for (int j = 0; j < matriz.columnas(); j++) {
+                filas[i] += matriz.get(i, j);
+                columnas[j] += matriz.get(i, j);
+            }
+        }
+
+        return new Sumas(filas, columnas);
+    }
+
+    static long diagonalIngenua(Almacenamiento matriz) {
+        long suma = 0;
+
+        for (int i = 0; i < Math.min(matriz.filas(), matriz.columnas()); i++) {
+            suma += matriz.get(i, i);
+        }
+
+        return suma;
+    }
+
+    /**
+     * Crea almacenamientos de todos los tipos con datos aleatorios: planos, fuera del heap, de bytes y shorts,
+     * subvistas y dispersos.
+     */
+    static List<Almacenamiento> almacenamientos(Random aleatorio, int filas, int columnas) {
+        var lista = new ArrayList<Almacenamiento>();
+
+        for (var ubicacion : Ubicacion.values()) {
+            var almacenamiento = ubicacion.crear(filas, columnas);
+            llenar(almacenamiento, aleatorio, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            lista.add(almacenamiento);
+
+            var fila = aleatorio.nextInt(filas);
+            var columna = aleatorio.nextInt(columnas);
+            lista.add(almacenamiento.subVista(fila, columna, 1 + aleatorio.nextInt(filas - fila),
+                    1 + aleatorio.nextInt(columnas - columna)));
+        }
+
+        var bytes = TipoElemento.BYTE.crear(filas, columnas);
+        llenar(bytes, aleatorio, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        lista.add(bytes);
+
+        var shorts = TipoElemento.SHORT.crear(filas, columnas);
+        llenar(shorts, aleatorio, Short.MIN_VALUE, Short.MAX_VALUE);
+        lista.add(shorts);
+
+        var coo = new AlmacenamientoCoo(filas, columnas);
+        for (int k = 0; k < filas * columnas / 10; k++) {
+            coo.set(aleatorio.nextInt(filas), aleatorio.nextInt(columnas), aleatorio.nextInt());
+        }
+        lista.add(coo);
+        lista.add(AlmacenamientoCsr.desde(coo));
+
+        return lista;
+    }
+
+    static void cerrar(List<Almacenamiento> almacenamientos) {
+        for (var almacenamiento : almacenamientos) {
+            if (almacenamiento instanceof AlmacenamientoSegmento segmento) {
+                segmento.close();
+            }
+        }
+    }
+
+    @Test
+    void sumasCoincidenConLaSumaIngenua() {
+        var aleatorio = new Random(3);
+
+        try (var pool = new ForkJoinPool(3)) {
+            for (int prueba = 0; prueba < 40; prueba++) {
+                var almacenamientos = almacenamientos(aleatorio, 1 + aleatorio.nextInt(70), 1 + aleatorio.nextInt(70));
+
+                for (var almacenamiento : almacenamientos) {
+                    var esperadas = sumasIngenuas(almacenamiento);
+                    var mensaje = "%s de %dx%d".formatted(almacenamiento.getClass().getSimpleName(),
+                            almacenamiento.filas(), almacenamiento.columnas());
+
+                    var secuenciales = Sumador.sumar(almacenamiento);
+                    var paralelas = Sumador.sumar(almacenamiento, pool, 1);
+
+                    for (var sumas : new Sumas[]{secuenciales, paralelas}) {
+                        assertArrayEquals(esperadas.filas(), sumas.filas(), mensaje);
+                        assertArrayEquals(esperadas.columnas(), sumas.columnas(), mensaje);
+                    }
+
+                    assertEquals(diagonalIngenua(almacenamiento), Sumador.sumarDiagonal(almacenamiento), mensaje);
+                }
+
+                cerrar(almacenamientos);
+            }
+        }
+    }
+}
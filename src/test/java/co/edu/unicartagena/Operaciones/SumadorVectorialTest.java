@@ -0,0 +1,75 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SumadorVectorialTest {
+    @Test
+    void sumasVectorialesCoincidenConLasEscalares() {
+        assumeTrue(Sumador.VECTORIAL, "La versión vectorial no está disponible");
+        var aleatorio = new Random(5);
+
+        // Tamaños alrededor de múltiplos de los carriles para probar las colas de los ciclos
+        for (int filas = 1; filas <= 20; filas++) {
+            for (int columnas = 1; columnas <= 40; columnas++) {
+                var plano = new AlmacenamientoPlano(filas + 3, columnas + 5);
+                SumadorTest.llenar(plano, aleatorio, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+                var fila = aleatorio.nextInt(4);
+                var columna = aleatorio.nextInt(6);
+                var vista = plano.subVista(fila, columna, filas, columnas);
+
+                for (var matriz : new AlmacenamientoPlano[]{plano, vista}) {
+                    var esperadas = SumadorTest.sumasIngenuas(matriz);
+                    var sumasFilas = new long[matriz.filas()];
+                    var sumasColumnas = new long[matriz.columnas()];
+                    var mensaje = "%dx%d".formatted(matriz.filas(), matriz.columnas());
+
+                    SumadorVectorial.sumarFilas(matriz, 0, matriz.filas(), sumasFilas, sumasColumnas);
+
+                    assertArrayEquals(esperadas.filas(), sumasFilas, mensaje);
+                    assertArrayEquals(esperadas.columnas(), sumasColumnas, mensaje);
+                    assertEquals(SumadorTest.diagonalIngenua(matriz), SumadorVectorial.sumarDiagonal(matriz), mensaje);
+                }
+            }
+        }
+    }
+
+    @Test
+    void sumasVectorialesNoSeDesbordan() {
+        assumeTrue(Sumador.VECTORIAL, "La versión vectorial no está disponible");
+        var n = 67;
+        var plano = new AlmacenamientoPlano(n, n);
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                plano.set(i, j, Integer.MAX_VALUE);
+            }
+        }
+
+        var filas = new long[n];
+        var columnas = new long[n];
+        SumadorVectorial.sumarFilas(plano, 0, n, filas, columnas);
+
+        for (int k = 0; k < n; k++) {
+            assertEquals((long) n * Integer.MAX_VALUE, filas[k]);
+            assertEquals((long) n * Integer.MAX_VALUE, columnas[k]);
+        }
+
+        assertEquals((long) n * Integer.MAX_VALUE, SumadorVectorial.sumarDiagonal(plano));
+    }
+}
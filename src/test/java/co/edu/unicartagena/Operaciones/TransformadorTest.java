@@ -0,0 +1,205 @@
+package co.edu.unicartagena.Operaciones;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.Almacenamiento;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoSegmento;
+import co.edu.unicartagena.Almacenamiento.TipoElemento;
+import co.edu.unicartagena.Almacenamiento.Ubicacion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransformadorTest {
+    /**
+     * Tamaños pequeños y alrededor de los múltiplos de {@link Transformador#BLOQUE}.
+     */
+    private static final int[] TAMANOS = {1, 2, 3, 4, 5, 7, 8, 15, 16, 17, 31, 32, 33, 47, 63, 64, 65, 96, 97};
+
+    static int[][] leer(Almacenamiento almacenamiento) {
+        var datos = new int[almacenamiento.filas()][almacenamiento.columnas()];
+
+        for (int i = 0; i < datos.length; i++) {
+            for (int j = 0; j < datos[i].length; j++) {
+                datos[i][j] = almacenamiento.get(i, j);
+            }
+        }
+
+        return datos;
+    }
+
+    /**
+     * Crea almacenamientos de {@code filas x columnas} con los mismos datos aleatorios: plano, subvista de uno
+     * plano más grande, fuera del heap y de bytes.
+     */
+    static List<Almacenamiento> almacenamientos(Random aleatorio, int filas, int columnas) {
+        var lista = new ArrayList<Almacenamiento>();
+        var plano = new AlmacenamientoPlano(filas, columnas);
+        SumadorTest.llenar(plano, aleatorio, Byte.MIN_VALUE, Byte.MAX_VALUE);
+
+        var grande = new AlmacenamientoPlano(filas + 2, columnas + 3);
+        var vista = grande.subVista(1, 2, filas, columnas);
+        var segmento = Ubicacion.FUERA_DEL_HEAP.crear(filas, columnas);
+        var bytes = TipoElemento.BYTE.crear(filas, columnas);
+
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                vista.set(i, j, plano.get(i, j));
+                segmento.set(i, j, plano.get(i, j));
+                bytes.set(i, j, plano.get(i, j));
+            }
+        }
+
+        lista.add(plano);
+        lista.add(vista);
+        lista.add(segmento);
+        lista.add(bytes);
+
+        return lista;
+    }
+
+    static void cerrar(List<Almacenamiento> almacenamientos) {
+        for (var almacenamiento : almacenamientos) {
+            if (almacenamiento instanceof AlmacenamientoSegmento segmento) {
+                segmento.close();
+            }
+        }
+    }
+
+    static int[][] transpuesta(int[][] datos) {
+        var resultado = new int[datos[0].length][datos.length];
+
+        for (int i = 0; i < datos.length; i++) {
+            for (int j = 0; j < datos[0].length; j++) {
+                resultado[j][i] = datos[i][j];
+            }
+        }
+
+        return resultado;
+    }
+
+    static int[][] cuartoHorario(int[][] datos) {
+        var n = datos.length;
+        var resultado = new int[n][n];
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                resultado[i][j] = datos[n - 1 - j][i];
+            }
+        }
+
+        return resultado;
+    }
+
+    static int[][] voltearHorizontal(int[][] datos) {
+        var resultado = new int[datos.length][];
+
+        for (int i = 0; i < datos.length; i++) {
+            resultado[i] = new int[datos[i].length];
+
+            for (int j = 0; j < datos[i].length; j++) {
+                resultado[i][j] = datos[i][datos[i].length - 1 - j];
+            }
+        }
+
+        return resultado;
+    }
+
+    static int[][] voltearVertical(int[][] datos) {
+        var resultado = new int[datos.length][];
+
+        for (int i = 0; i < datos.length; i++) {
+            resultado[i] = datos[datos.length - 1 - i].clone();
+        }
+
+        return resultado;
+    }
+
+    /**
+     * Aplica una transformación en el lugar sobre almacenamientos de todos los tipos y compara el resultado.
+     */
+    static void comprobar(int filas, int columnas, Consumer<Almacenamiento> transformacion,
+                          UnaryOperator<int[][]> esperada, String nombre) {
+        var almacenamientos = almacenamientos(new Random(filas * 131L + columnas), filas, columnas);
+        var esperado = esperada.apply(leer(almacenamientos.getFirst()));
+
+        for (var almacenamiento : almacenamientos) {
+            transformacion.accept(almacenamiento);
+            assertArrayEquals(esperado, leer(almacenamiento), "%s de %s %dx%d".formatted(nombre,
+                    almacenamiento.getClass().getSimpleName(), filas, columnas));
+        }
+
+        cerrar(almacenamientos);
+    }
+
+    @Test
+    void transponerCoincideConLaTranspuestaIngenua() {
+        var aleatorio = new Random(13);
+
+        for (var filas : TAMANOS) {
+            for (int prueba = 0; prueba < 3; prueba++) {
+                var columnas = TAMANOS[aleatorio.nextInt(TAMANOS.length)];
+                var almacenamientos = almacenamientos(aleatorio, filas, columnas);
+                var esperado = transpuesta(leer(almacenamientos.getFirst()));
+
+                for (var origen : almacenamientos) {
+                    for (var destino : new Almacenamiento[]{new AlmacenamientoPlano(columnas, filas),
+                            TipoElemento.BYTE.crear(columnas, filas)}) {
+                        Transformador.transponer(origen, destino);
+                        assertArrayEquals(esperado, leer(destino), "%dx%d".formatted(filas, columnas));
+                    }
+                }
+
+                cerrar(almacenamientos);
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Transformador.transponer(new AlmacenamientoPlano(2, 3), new AlmacenamientoPlano(2, 3)));
+    }
+
+    @Test
+    void transformacionesEnSitioCoincidenConLasIngenuas() {
+        for (var n : TAMANOS) {
+            comprobar(n, n, Transformador::transponerEnSitio, TransformadorTest::transpuesta, "transponerEnSitio");
+            comprobar(n, n, Transformador::rotarMedia, d -> cuartoHorario(cuartoHorario(d)), "rotarMedia");
+
+            for (int cuartos = -5; cuartos <= 5; cuartos++) {
+                var horarios = Math.floorMod(cuartos, 4);
+                var vueltas = cuartos;
+                comprobar(n, n, m -> Transformador.rotar(m, vueltas), d -> {
+                    for (int k = 0; k < horarios; k++) {
+                        d = cuartoHorario(d);
+                    }
+                    return d;
+                }, "rotar(%d)".formatted(cuartos));
+            }
+
+            var columnas = TAMANOS[(n * 7) % TAMANOS.length];
+            comprobar(n, columnas, Transformador::voltearHorizontal, TransformadorTest::voltearHorizontal,
+                    "voltearHorizontal");
+            comprobar(n, columnas, Transformador::voltearVertical, TransformadorTest::voltearVertical,
+                    "voltearVertical");
+            comprobar(n, columnas, Transformador::rotarMedia, d -> voltearVertical(voltearHorizontal(d)),
+                    "rotarMedia");
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Transformador.transponerEnSitio(new AlmacenamientoPlano(2, 3)));
+        assertThrows(IllegalArgumentException.class, () -> Transformador.rotar(new AlmacenamientoPlano(3, 2), 1));
+    }
+}
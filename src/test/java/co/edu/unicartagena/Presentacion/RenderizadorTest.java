@@ -0,0 +1,181 @@
+package co.edu.unicartagena.Presentacion;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoLong;
+import co.edu.unicartagena.Almacenamiento.AlmacenamientoPlano;
+import co.edu.unicartagena.Matriz;
+import co.edu.unicartagena.MatrizCuadrada;
+import co.edu.unicartagena.Operaciones.Diagonal;
+import co.edu.unicartagena.Operaciones.Sumador;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RenderizadorTest {
+    /**
+     * Valores de distintos anchos: más cortos, iguales y más largos que la columna, negativos y los extremos.
+     */
+    private static final long[] VALORES = {0, 7, -7, 12345678, -1234567, 123456789, -12345678, 1_000_000_000,
+            Integer.MAX_VALUE, Integer.MIN_VALUE};
+
+    static int[][] aleatoria(Random aleatorio, int filas, int columnas) {
+        var datos = new int[filas][columnas];
+
+        for (var fila : datos) {
+            for (int j = 0; j < columnas; j++) {
+                fila[j] = aleatorio.nextBoolean()
+                        ? (int) VALORES[aleatorio.nextInt(VALORES.length)]
+                        : aleatorio.nextInt();
+            }
+        }
+
+        return datos;
+    }
+
+    /**
+     * Tabla de una matriz con el formato anterior a {@link Renderizador}, hecho con {@code String.format}. Si
+     * {@code diagonal} no es null, las celdas fuera de ella se muestran como cero.
+     */
+    static String conFormato(long[][] datos, int columnas, Diagonal diagonal) {
+        var texto = new StringBuilder(encabezado(columnas)).append("\n");
+
+        for (int i = 0; i < datos.length; i++) {
+            texto.append(String.format("%14d ", i));
+
+            for (int j = 0; j < columnas; j++) {
+                var visible = diagonal == null || diagonal.contiene(datos.length, i, j);
+                texto.append(String.format(" %8d ", visible ? datos[i][j] : 0));
+            }
+
+            texto.append("\n");
+        }
+
+        return texto.toString();
+    }
+
+    static String encabezado(int columnas) {
+        var texto = new StringBuilder("Filas/Columnas ");
+
+        for (int j = 0; j < columnas; j++) {
+            texto.append(String.format(" %8d ", j));
+        }
+
+        return texto.toString();
+    }
+
+    /**
+     * Tabla con las sumas de filas y columnas con el formato anterior a {@link Renderizador}.
+     */
+    static String sumasConFormato(long[][] datos, int columnas) {
+        var texto = new StringBuilder(encabezado(columnas)).append(" ").append(String.format("%14s", "Suma"))
+                .append("\n");
+        var sumasColumnas = new long[columnas];
+
+        for (int i = 0; i < datos.length; i++) {
+            long sumaFila = 0;
+            texto.append(String.format("%14d ", i));
+
+            for (int j = 0; j < columnas; j++) {
+                texto.append(String.format(" %8d ", datos[i][j]));
+                sumaFila += datos[i][j];
+                sumasColumnas[j] += datos[i][j];
+            }
+
+            texto.append(String.format(" %14d ", sumaFila)).append("\n");
+        }
+
+        var pie = new StringBuilder();
+        for (var suma : sumasColumnas) {
+            pie.append(String.format(" %8d ", suma));
+        }
+
+        return texto.append(String.format("%14s %s %14s", "Suma", pie, "---")).toString();
+    }
+
+    static long[][] ampliar(int[][] datos) {
+        var largos = new long[datos.length][];
+
+        for (int i = 0; i < datos.length; i++) {
+            largos[i] = new long[datos[i].length];
+
+            for (int j = 0; j < datos[i].length; j++) {
+                largos[i][j] = datos[i][j];
+            }
+        }
+
+        return largos;
+    }
+
+    @Test
+    void laTablaCoincideConStringFormat() throws IOException {
+        var aleatorio = new Random(14);
+
+        // Los tamaños mayores superan el búfer de 8 KiB, que se vacía en medio de una fila
+        for (var dimensiones : new int[][]{{1, 1}, {1, 5}, {4, 1}, {3, 7}, {17, 9}, {60, 45}}) {
+            var filas = dimensiones[0];
+            var columnas = dimensiones[1];
+            var datos = aleatoria(aleatorio, filas, columnas);
+            var matriz = new Matriz(datos);
+            var esperado = conFormato(ampliar(datos), columnas, null);
+            var mensaje = "%dx%d".formatted(filas, columnas);
+
+            assertEquals(esperado, matriz.toString(), mensaje);
+            assertEquals(sumasConFormato(ampliar(datos), columnas), matriz.procesarSuma(), mensaje);
+
+            var escritor = new StringWriter();
+            matriz.escribir(escritor);
+            assertEquals(esperado, escritor.toString(), mensaje);
+
+            var bytes = new ByteArrayOutputStream();
+            try (var impresora = new PrintStream(bytes, false, StandardCharsets.US_ASCII)) {
+                matriz.escribir(impresora);
+            }
+            assertEquals(esperado, bytes.toString(StandardCharsets.US_ASCII), mensaje);
+
+            bytes.reset();
+            Renderizador.sobre(bytes).matriz(AlmacenamientoPlano.desde(datos));
+            assertEquals(esperado, bytes.toString(StandardCharsets.US_ASCII), mensaje);
+        }
+    }
+
+    @Test
+    void lasDiagonalesCoincidenConStringFormat() {
+        var aleatorio = new Random(15);
+
+        for (var n : new int[]{1, 2, 5, 30}) {
+            var datos = aleatoria(aleatorio, n, n);
+            var matriz = new MatrizCuadrada(datos);
+
+            assertEquals(conFormato(ampliar(datos), n, Diagonal.PRINCIPAL), matriz.getDiagonalPrincipal());
+            assertEquals(conFormato(ampliar(datos), n, Diagonal.SECUNDARIA), matriz.getDiagonalSecundaria());
+        }
+    }
+
+    @Test
+    void lasCeldasLongUsanElMismoFormato() throws IOException {
+        var datos = new long[][]{{Long.MIN_VALUE, Long.MAX_VALUE, -1}, {1L << 40, 0, -(1L << 33)}};
+        var texto = new StringBuilder();
+        new Renderizador(texto).matriz(AlmacenamientoLong.desde(datos));
+
+        assertEquals(conFormato(datos, 3, null), texto.toString());
+
+        var almacenamiento = AlmacenamientoLong.desde(datos);
+        texto.setLength(0);
+        new Renderizador(texto).sumas(almacenamiento, Sumador.sumar(almacenamiento));
+        assertEquals(sumasConFormato(datos, 3), texto.toString());
+    }
+}
@@ -0,0 +1,250 @@
+package co.edu.unicartagena;
+/*
+;==========================================
+; NOMBRE:                   CÓDIGO
+; PABLO HERNÁNDEZ MELÉNDEZ  0221910052
+; JHOY CASTRO CASANOVA      0221910044
+; GABRIEL LARA MONTIEL      0222110057
+;==========================================
+*/
+
+import co.edu.unicartagena.Operaciones.Diagonal;
+import co.edu.unicartagena.Operaciones.Orden;
+import co.edu.unicartagena.Operaciones.Rotador;
+import co.edu.unicartagena.Operaciones.Triangulo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RegionTest {
+    /**
+     * Celdas esperadas de un anillo, en sentido horario desde la esquina superior izquierda.
+     */
+    static List<int[]> anillo(int n, int anillo) {
+        var celdas = new ArrayList<int[]>();
+        var inicio = anillo - 1;
+        var fin = n - anillo;
+
+        if (inicio == fin) {
+            celdas.add(new int[]{inicio, inicio});
+            return celdas;
+        }
+
+        for (int j = inicio; j <= fin; j++) {
+            celdas.add(new int[]{inicio, j});
+        }
+        for (int i = inicio + 1; i <= fin; i++) {
+            celdas.add(new int[]{i, fin});
+        }
+        for (int j = fin - 1; j >= inicio; j--) {
+            celdas.add(new int[]{fin, j});
+        }
+        for (int i = fin - 1; i > inicio; i--) {
+            celdas.add(new int[]{i, inicio});
+        }
+
+        return celdas;
+    }
+
+    static List<int[]> triangulo(int n, Triangulo triangulo) {
+        var celdas = new ArrayList<int[]>();
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (triangulo == Triangulo.SUPERIOR ? j > i : j < i) {
+                    celdas.add(new int[]{i, j});
+                }
+            }
+        }
+
+        return celdas;
+    }
+
+    static List<int[]> diagonal(int n, Diagonal diagonal) {
+        var celdas = new ArrayList<int[]>();
+
+        for (int i = 0; i < n; i++) {
+            celdas.add(new int[]{i, diagonal == Diagonal.PRINCIPAL ? i : n - 1 - i});
+        }
+
+        return celdas;
+    }
+
+    static List<int[]> bloque(int fila, int columna, int filas, int columnas) {
+        var celdas = new ArrayList<int[]>();
+
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                celdas.add(new int[]{fila + i, columna + j});
+            }
+        }
+
+        return celdas;
+    }
+
+    static void comprobar(Random aleatorio, MatrizCuadrada matriz, int[][] datos, Region region, List<int[]> celdas,
+                          String nombre) {
+        comprobar(aleatorio, matriz, datos, region, celdas, 0, 0, nombre);
+    }
+
+    /**
+     * Comprueba que la región recorra las celdas esperadas, en orden, y que sus operaciones coincidan con las
+     * mismas operaciones sobre una copia de sus valores. Al final compara la matriz completa y sus sumas. Las
+     * posiciones que informa la región son relativas a su matriz, que empieza en {@code (fila, columna)} de la
+     * matriz completa si es un bloque.
+     */
+    static void comprobar(Random aleatorio, MatrizCuadrada matriz, int[][] datos, Region region, List<int[]> celdas,
+                          int fila, int columna, String nombre) {
+        assertEquals(celdas.size(), region.tamano(), nombre);
+
+        var valores = new int[celdas.size()];
+        long suma = 0;
+
+        for (int k = 0; k < valores.length; k++) {
+            var celda = celdas.get(k);
+            assertEquals(celda[0] - fila, region.fila(k), nombre);
+            assertEquals(celda[1] - columna, region.columna(k), nombre);
+            assertEquals(datos[celda[0]][celda[1]], region.get(k), nombre);
+            valores[k] = datos[celda[0]][celda[1]];
+            suma += valores[k];
+        }
+
+        assertEquals(suma, region.sumar(), nombre);
+
+        var recorridos = new ArrayList<Integer>();
+        region.recorrer(recorridos::add);
+        assertArrayEquals(valores, recorridos.stream().mapToInt(Integer::intValue).toArray(), nombre);
+
+        if (valores.length > 0) {
+            var k = aleatorio.nextInt(valores.length);
+            var valor = aleatorio.nextInt(-1000, 1000);
+            region.set(k, valor);
+            valores[k] = valor;
+        }
+
+        var pasos = aleatorio.nextInt(-50, 51);
+        region.desplazar(pasos);
+
+        var desplazados = new int[valores.length];
+        for (int k = 0; k < valores.length; k++) {
+            desplazados[Math.floorMod(k + pasos, valores.length)] = valores[k];
+        }
+
+        escribir(datos, celdas, desplazados);
+        assertIguales(datos, matriz, nombre + " desplazada %d".formatted(pasos));
+
+        var orden = aleatorio.nextBoolean() ? Orden.ASCENDENTE : Orden.DESCENDENTE;
+        region.ordenar(orden);
+
+        var ordenados = desplazados.clone();
+        Arrays.sort(ordenados);
+        if (orden == Orden.DESCENDENTE) {
+            for (int a = 0, b = ordenados.length - 1; a < b; a++, b--) {
+                var temp = ordenados[a];
+                ordenados[a] = ordenados[b];
+                ordenados[b] = temp;
+            }
+        }
+
+        escribir(datos, celdas, ordenados);
+        assertIguales(datos, matriz, nombre + " ordenada " + orden);
+    }
+
+    static void escribir(int[][] datos, List<int[]> celdas, int[] valores) {
+        for (int k = 0; k < valores.length; k++) {
+            datos[celdas.get(k)[0]][celdas.get(k)[1]] = valores[k];
+        }
+    }
+
+    /**
+     * Compara los datos, las sumas y la diagonal principal de la matriz con los valores esperados.
+     */
+    static void assertIguales(int[][] datos, Matriz matriz, String mensaje) {
+        assertArrayEquals(datos, MatrizCuadradaTest.leer(matriz), mensaje);
+
+        var sumas = matriz.calcularSumas();
+        for (int i = 0; i < datos.length; i++) {
+            assertEquals(Arrays.stream(datos[i]).asLongStream().sum(), sumas.filas()[i], mensaje);
+        }
+
+        for (int j = 0; j < datos[0].length; j++) {
+            long suma = 0;
+            for (var fila : datos) {
+                suma += fila[j];
+            }
+            assertEquals(suma, sumas.columnas()[j], mensaje);
+        }
+
+        if (matriz instanceof MatrizCuadrada cuadrada) {
+            assertEquals(MatrizCuadradaTest.sumaDiagonal(datos), cuadrada.getSumaDiagonalPrincipalLong(), mensaje);
+        }
+    }
+
+    @Test
+    void regionesCoincidenConSusCeldas() {
+        var aleatorio = new Random(24);
+
+        for (int n = 1; n <= 20; n++) {
+            for (var diferida : new boolean[]{false, true}) {
+                var datos = MatrizCuadradaTest.aleatoria(aleatorio, n);
+                var matriz = new MatrizCuadrada(MatrizCuadradaTest.copiar(datos));
+                matriz.setRotacionDiferida(diferida);
+                var mensaje = "n=%d%s".formatted(n, diferida ? " diferida" : "");
+
+                for (int anillo = 1; anillo <= Rotador.anillos(n); anillo++) {
+                    // Con rotación diferida la región debe ver los desplazamientos pendientes
+                    matriz.rotarAnillo(anillo, "derecha", 90);
+                    MatrizCuadradaTest.rotarAnilloOriginal(datos, anillo, "derecha", 90);
+
+                    comprobar(aleatorio, matriz, datos, matriz.vistaAnillo(anillo), anillo(n, anillo),
+                            mensaje + ", anillo %d".formatted(anillo));
+                }
+
+                for (var triangulo : Triangulo.values()) {
+                    comprobar(aleatorio, matriz, datos, matriz.vistaTriangulo(triangulo), triangulo(n, triangulo),
+                            mensaje + ", " + triangulo);
+                }
+
+                for (var diagonal : Diagonal.values()) {
+                    comprobar(aleatorio, matriz, datos, matriz.vistaDiagonal(diagonal), diagonal(n, diagonal),
+                            mensaje + ", " + diagonal);
+                }
+
+                comprobar(aleatorio, matriz, datos, matriz.celdas(), bloque(0, 0, n, n), mensaje + ", celdas");
+            }
+        }
+    }
+
+    @Test
+    void regionDeUnBloqueModificaLaMatrizOriginal() {
+        var aleatorio = new Random(240);
+
+        for (int prueba = 0; prueba < 40; prueba++) {
+            var n = 1 + aleatorio.nextInt(20);
+            var datos = MatrizCuadradaTest.aleatoria(aleatorio, n);
+            var matriz = new MatrizCuadrada(MatrizCuadradaTest.copiar(datos));
+            var fila = aleatorio.nextInt(n);
+            var columna = aleatorio.nextInt(n);
+            var filas = 1 + aleatorio.nextInt(n - fila);
+            var columnas = 1 + aleatorio.nextInt(n - columna);
+
+            var bloque = matriz.bloque(fila, columna, filas, columnas);
+
+            comprobar(aleatorio, matriz, datos, bloque.celdas(), bloque(fila, columna, filas, columnas), fila, columna,
+                    "bloque %d,%d de %dx%d".formatted(fila, columna, filas, columnas));
+
+            // El bloque también mantiene sus propias sumas
+            var esperado = new int[filas][];
+            for (int i = 0; i < filas; i++) {
+                esperado[i] = Arrays.copyOfRange(datos[fila + i], columna, columna + columnas);
+            }
+            assertIguales(esperado, bloque, "bloque %d,%d de %dx%d".formatted(fila, columna, filas, columnas));
+        }
+    }
+}